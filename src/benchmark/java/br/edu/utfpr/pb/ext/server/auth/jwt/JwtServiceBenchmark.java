@@ -0,0 +1,77 @@
+package br.edu.utfpr.pb.ext.server.auth.jwt;
+
+import br.edu.utfpr.pb.ext.server.usuario.Usuario;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.HashSet;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compara o custo por verificação de token JWT:
+ *
+ * <ul>
+ *   <li>{@code legado}: decodifica a chave e constrói um novo parser a cada token (comportamento
+ *       anterior do {@link JwtService});
+ *   <li>{@code parserPreConstruido}: reutiliza a chave derivada e o parser imutável;
+ *   <li>{@code comCache}: caminho completo do filtro, servido pelo {@link JwtClaimsCache}.
+ * </ul>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtServiceBenchmark {
+
+  private String secret;
+  private String token;
+  private JwtService jwtService;
+
+  @Setup
+  public void setUp() {
+    byte[] chave = new byte[64];
+    new SecureRandom().nextBytes(chave);
+    secret = Base64.getEncoder().encodeToString(chave);
+    jwtService =
+        new JwtService(new JwtClaimsCache(10_000, new SimpleMeterRegistry()), secret, 60_000L, null);
+
+    Usuario usuario = Usuario.builder().email("aluno@alunos.utfpr.edu.br").build();
+    usuario.setAuthorities(new HashSet<>());
+    token = jwtService.generateToken(usuario);
+  }
+
+  @Benchmark
+  public Claims legado() {
+    return Jwts.parser()
+        .verifyWith(Keys.hmacShaKeyFor(Decoders.BASE64.decode(secret)))
+        .build()
+        .parseSignedClaims(token)
+        .getPayload();
+  }
+
+  @Benchmark
+  public Claims parserPreConstruido() {
+    return jwtService.verifyAndParseClaims(token);
+  }
+
+  @Benchmark
+  public String comCache() {
+    return jwtService.extractUsername(token);
+  }
+}
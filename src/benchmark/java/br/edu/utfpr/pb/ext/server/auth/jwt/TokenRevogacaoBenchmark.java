@@ -0,0 +1,59 @@
+package br.edu.utfpr.pb.ext.server.auth.jwt;
+
+import static org.mockito.Mockito.mock;
+
+import java.util.Date;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Mede o custo da verificação de revogação feita pelo filtro a cada requisição, com dezenas de
+ * milhares de tokens revogados em memória.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TokenRevogacaoBenchmark {
+
+  @Param({"0", "50000"})
+  private int revogados;
+
+  private TokenRevogacaoService tokenRevogacaoService;
+  private String jtiRevogado;
+  private String jtiValido;
+
+  @Setup
+  public void setUp() {
+    tokenRevogacaoService = new TokenRevogacaoService(mock(TokenRevogadoRepository.class));
+    Date expiracao = new Date(System.currentTimeMillis() + TimeUnit.HOURS.toMillis(2));
+    for (int i = 0; i < revogados; i++) {
+      jtiRevogado = UUID.randomUUID().toString();
+      tokenRevogacaoService.revogar(jtiRevogado, expiracao);
+    }
+    jtiValido = UUID.randomUUID().toString();
+  }
+
+  @Benchmark
+  public boolean tokenValido() {
+    return tokenRevogacaoService.isRevogado(jtiValido);
+  }
+
+  @Benchmark
+  public boolean tokenRevogado() {
+    return tokenRevogacaoService.isRevogado(jtiRevogado == null ? jtiValido : jtiRevogado);
+  }
+}
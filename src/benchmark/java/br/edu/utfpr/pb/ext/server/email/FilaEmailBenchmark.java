@@ -0,0 +1,89 @@
+package br.edu.utfpr.pb.ext.server.email;
+
+import static org.mockito.Mockito.mock;
+
+import br.edu.utfpr.pb.ext.server.email.impl.EmailServiceImpl;
+import br.edu.utfpr.pb.ext.server.ratelimit.RateLimiter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.thymeleaf.spring6.SpringTemplateEngine;
+
+/**
+ * Compara o envio de uma notificação para vários destinatários com uma requisição por destinatário
+ * e pela {@link FilaEmail}, usando o {@link SendGridStub} com latência simulada de 5 ms.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+@Fork(1)
+public class FilaEmailBenchmark {
+
+  @Param({"10", "200"})
+  private int destinatarios;
+
+  private EmailServiceImpl emailService;
+  private FilaEmail filaEmail;
+  private Counter enviadas;
+  private List<String> enderecos;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    emailService =
+        new EmailServiceImpl(
+            mock(EmailCodeRepository.class),
+            new SendGridStub(Duration.ofMillis(5)),
+            mock(SpringTemplateEngine.class),
+            mock(RateLimiter.class));
+    SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    filaEmail =
+        new FilaEmail(
+            emailService, 10_000, 4, 1000, Duration.ofSeconds(5), Duration.ofSeconds(5), meterRegistry);
+    filaEmail.iniciar();
+    enviadas = meterRegistry.get("email.fila.mensagens").tag("resultado", "enviada").counter();
+    enderecos =
+        IntStream.range(0, destinatarios)
+            .mapToObj(i -> "aluno" + i + "@alunos.utfpr.edu.br")
+            .toList();
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws InterruptedException {
+    filaEmail.encerrar();
+  }
+
+  @Benchmark
+  public void requisicaoPorDestinatario() throws IOException {
+    for (String endereco : enderecos) {
+      emailService.sendEmail(endereco, "Projeto atualizado", "<p>conteudo</p>", "text/html");
+    }
+  }
+
+  @Benchmark
+  public void filaComPersonalizations() throws InterruptedException {
+    double esperado = enviadas.count() + destinatarios;
+    filaEmail.enfileirar(enderecos, "Projeto atualizado", "<p>conteudo</p>", "text/html");
+    while (enviadas.count() < esperado) {
+      Thread.sleep(0, 100_000);
+    }
+  }
+}
@@ -0,0 +1,152 @@
+package br.edu.utfpr.pb.ext.server.notificacao;
+
+import br.edu.utfpr.pb.ext.server.notificacao.enums.TipoNotificacao;
+import br.edu.utfpr.pb.ext.server.notificacao.enums.TipoReferencia;
+import br.edu.utfpr.pb.ext.server.usuario.Usuario;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Compara a criação de uma notificação para vários destinatários com um INSERT por linha, como o
+ * {@code saveAll} faz com identificadores {@code IDENTITY}, e pelo {@link NotificacaoJdbcWriter}.
+ *
+ * <p>Usa o H2 em memória no modo PostgreSQL; o contador {@code linhas} informa as linhas inseridas
+ * por segundo. Contra o PostgreSQL a diferença é maior, pois cada INSERT individual custa também a
+ * latência de rede.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+@Fork(1)
+public class NotificacaoJdbcWriterBenchmark {
+
+  private static final String INSERT =
+      "INSERT INTO tb_notificacao (titulo, descricao, tipo_notificacao, tipo_referencia,"
+          + " referencia_id, data_criacao, lida, usuario_id) VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+
+  @Param({"10", "1000", "50000"})
+  private int destinatarios;
+
+  private JdbcTemplate jdbcTemplate;
+  private TransactionTemplate transactionTemplate;
+  private NotificacaoJdbcWriter writer;
+  private List<Notificacao> notificacoes;
+
+  /** Linhas inseridas, reportadas pelo JMH como taxa por segundo. */
+  @State(Scope.Thread)
+  @AuxCounters(AuxCounters.Type.OPERATIONS)
+  public static class Linhas {
+    public long linhas;
+  }
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    DriverManagerDataSource dataSource =
+        new DriverManagerDataSource(
+            "jdbc:h2:mem:notificacao-benchmark;DB_CLOSE_DELAY=-1;MODE=PostgreSQL", "sa", "");
+    jdbcTemplate = new JdbcTemplate(dataSource);
+    transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+    jdbcTemplate.execute("CREATE TABLE tb_usuario (id BIGINT PRIMARY KEY)");
+    jdbcTemplate.execute(
+        """
+        CREATE TABLE tb_notificacao (
+            id               BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+            titulo           VARCHAR(100) NOT NULL,
+            descricao        TEXT         NOT NULL,
+            tipo_notificacao VARCHAR(255) NOT NULL,
+            tipo_referencia  VARCHAR(255),
+            referencia_id    BIGINT,
+            data_criacao     TIMESTAMP    NOT NULL,
+            lida             BOOLEAN      NOT NULL DEFAULT FALSE,
+            usuario_id       BIGINT       NOT NULL REFERENCES tb_usuario (id)
+        )""");
+    jdbcTemplate.execute("CREATE INDEX idx_notificacao_usuario_id ON tb_notificacao (usuario_id)");
+    jdbcTemplate.batchUpdate(
+        "INSERT INTO tb_usuario (id) VALUES (?)",
+        LongStream.rangeClosed(1, destinatarios).mapToObj(id -> new Object[] {id}).toList());
+
+    writer = new NotificacaoJdbcWriter(jdbcTemplate, 500);
+    LocalDateTime agora = LocalDateTime.now();
+    notificacoes =
+        LongStream.rangeClosed(1, destinatarios)
+            .<Notificacao>mapToObj(
+                id ->
+                    Notificacao.builder()
+                        .titulo("Projeto atualizado")
+                        .descricao("O projeto em que você participa foi atualizado.")
+                        .tipoNotificacao(TipoNotificacao.INFO)
+                        .tipoReferencia(TipoReferencia.PROJETO)
+                        .referenciaId(1L)
+                        .dataCriacao(agora)
+                        .usuario(Usuario.builder().id(id).build())
+                        .build())
+            .toList();
+  }
+
+  @TearDown(Level.Invocation)
+  public void limpar() {
+    jdbcTemplate.execute("TRUNCATE TABLE tb_notificacao");
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    jdbcTemplate.execute("SHUTDOWN");
+  }
+
+  @Benchmark
+  public void insertPorLinha(Linhas contador) {
+    transactionTemplate.executeWithoutResult(
+        status -> {
+          for (Notificacao notificacao : notificacoes) {
+            jdbcTemplate.update(
+                conexao -> {
+                  PreparedStatement ps =
+                      conexao.prepareStatement(INSERT, Statement.RETURN_GENERATED_KEYS);
+                  ps.setString(1, notificacao.getTitulo());
+                  ps.setString(2, notificacao.getDescricao());
+                  ps.setString(3, notificacao.getTipoNotificacao().name());
+                  ps.setString(4, notificacao.getTipoReferencia().name());
+                  ps.setLong(5, notificacao.getReferenciaId());
+                  ps.setTimestamp(6, Timestamp.valueOf(notificacao.getDataCriacao()));
+                  ps.setBoolean(7, false);
+                  ps.setLong(8, notificacao.getUsuario().getId());
+                  return ps;
+                },
+                new GeneratedKeyHolder());
+          }
+        });
+    contador.linhas += destinatarios;
+  }
+
+  @Benchmark
+  public void insertMultiplasLinhas(Linhas contador) {
+    contador.linhas +=
+        transactionTemplate.execute(status -> writer.inserir(notificacoes));
+  }
+}
@@ -11,8 +11,11 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.modelmapper.ModelMapper;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
 
 @Tag(
     name = "Autenticação",
@@ -21,6 +24,7 @@ import org.springframework.web.bind.annotation.*;
 @RequestMapping("/api/auth")
 @RequiredArgsConstructor
 public class AuthController {
+  private static final String BEARER_TOKEN_PREFIX = "Bearer ";
   private final JwtService jwtService;
   private final AuthService authService;
   private final ModelMapper modelMapper;
@@ -104,4 +108,28 @@ public class AuthController {
             .build();
     return ResponseEntity.ok(respostaLoginDTO);
   }
+
+  /**
+   * Revoga o token JWT utilizado na requisição, de modo que ele deixe de ser aceito antes de sua
+   * expiração.
+   *
+   * @param authorization cabeçalho Authorization contendo o token no formato {@code Bearer <token>}
+   * @return resposta HTTP 204 sem conteúdo
+   * @throws ResponseStatusException com status 400 se o cabeçalho não estiver no formato {@code
+   *     Bearer <token>}
+   */
+  @Operation(summary = "Revoga o token JWT atual (logout)")
+  @ApiResponse(responseCode = "204", description = "Token revogado com sucesso")
+  @ApiResponse(responseCode = "400", description = "Cabeçalho Authorization sem token Bearer")
+  @ApiResponse(responseCode = "401", description = "Token ausente, inválido ou já revogado")
+  @PostMapping("/logout")
+  public ResponseEntity<Void> logout(
+      @RequestHeader(HttpHeaders.AUTHORIZATION) String authorization) {
+    if (!authorization.startsWith(BEARER_TOKEN_PREFIX)) {
+      throw new ResponseStatusException(
+          HttpStatus.BAD_REQUEST, "Cabeçalho Authorization deve conter um token Bearer");
+    }
+    authService.logout(authorization.substring(BEARER_TOKEN_PREFIX.length()));
+    return ResponseEntity.noContent().build();
+  }
 }
@@ -2,16 +2,21 @@ package br.edu.utfpr.pb.ext.server.auth;
 
 import br.edu.utfpr.pb.ext.server.auth.dto.CadastroUsuarioDTO;
 import br.edu.utfpr.pb.ext.server.auth.dto.EmailOtpAuthRequestDTO;
+import br.edu.utfpr.pb.ext.server.auth.jwt.JwtService;
+import br.edu.utfpr.pb.ext.server.auth.jwt.TokenRevogacaoService;
 import br.edu.utfpr.pb.ext.server.auth.otp.EmailOtpAuthenticationProvider;
 import br.edu.utfpr.pb.ext.server.auth.otp.EmailOtpAuthenticationToken;
 import br.edu.utfpr.pb.ext.server.email.enums.TipoCodigo;
 import br.edu.utfpr.pb.ext.server.email.impl.EmailServiceImpl;
 import br.edu.utfpr.pb.ext.server.usuario.Usuario;
+import br.edu.utfpr.pb.ext.server.usuario.UsuarioCache;
 import br.edu.utfpr.pb.ext.server.usuario.UsuarioRepository;
 import br.edu.utfpr.pb.ext.server.usuario.authority.Authority;
 import br.edu.utfpr.pb.ext.server.usuario.authority.AuthorityRepository;
+import io.jsonwebtoken.Claims;
 import io.swagger.v3.oas.annotations.Operation;
 import jakarta.persistence.EntityNotFoundException;
+import java.util.Date;
 import java.util.HashSet;
 import java.util.Set;
 import lombok.RequiredArgsConstructor;
@@ -34,9 +39,12 @@ public class AuthService {
   public static final String UTFPR_EDU_BR = "@utfpr.edu.br";
   public static final String EMAIL_NAO_CADASTRADO = "Email não cadastrado";
   private final UsuarioRepository usuarioRepository;
+  private final UsuarioCache usuarioCache;
   private final AuthorityRepository authorityRepository;
   private final EmailServiceImpl emailService;
   private final EmailOtpAuthenticationProvider emailOtpAuthenticationProvider;
+  private final JwtService jwtService;
+  private final TokenRevogacaoService tokenRevogacaoService;
 
   /**
    * Cadastra um novo usuário, atribuindo automaticamente a autoridade conforme o domínio do e-mail.
@@ -50,7 +58,7 @@ public class AuthService {
    */
   @Operation(summary = "Cadastra um novo usuário")
   public Usuario cadastro(CadastroUsuarioDTO dto) {
-    if (usuarioRepository.findByEmail(dto.getEmail()).isPresent()) {
+    if (usuarioCache.findByEmail(dto.getEmail()).isPresent()) {
       throw new ResponseStatusException(HttpStatus.CONFLICT, "Usuário já cadastrado");
     }
 
@@ -109,7 +117,7 @@ public class AuthService {
     logger.info("Solicitação de código para validação de email");
     try {
       // Verificar se o usuário existe
-      usuarioRepository
+      usuarioCache
           .findByEmail(email)
           .orElseThrow(() -> new EntityNotFoundException(EMAIL_NAO_CADASTRADO));
       emailService.generateAndSendCode(email, TipoCodigo.OTP_AUTENTICACAO);
@@ -142,7 +150,7 @@ public class AuthService {
           new EmailOtpAuthenticationToken(dto.getEmail(), dto.getCode());
       Authentication authentication = emailOtpAuthenticationProvider.authenticate(authToken);
       SecurityContextHolder.getContext().setAuthentication(authentication);
-      return usuarioRepository
+      return usuarioCache
           .findByEmail(dto.getEmail())
           .orElseThrow(() -> new UsernameNotFoundException(EMAIL_NAO_CADASTRADO));
     } catch (BadCredentialsException ex) {
@@ -150,4 +158,22 @@ public class AuthService {
           HttpStatus.UNPROCESSABLE_ENTITY, "Código inválido ou expirado");
     }
   }
+
+  /**
+   * Revoga o token JWT informado, encerrando a sessão antes da expiração do token.
+   *
+   * @param token token JWT a ser revogado
+   * @throws ResponseStatusException com status 400 se o token não possuir identificador ({@code
+   *     jti}) ou data de expiração
+   */
+  @Operation(summary = "Revoga o token JWT do usuário (logout)")
+  public void logout(String token) {
+    String jti = jwtService.extractClaim(token, Claims::getId);
+    Date expiracao = jwtService.extractClaim(token, Claims::getExpiration);
+    if (jti == null || expiracao == null) {
+      throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Token não pode ser revogado");
+    }
+    tokenRevogacaoService.revogar(jti, expiracao);
+    SecurityContextHolder.clearContext();
+  }
 }
@@ -1,5 +1,8 @@
 package br.edu.utfpr.pb.ext.server.auth.jwt;
 
+import br.edu.utfpr.pb.ext.server.usuario.Usuario;
+import br.edu.utfpr.pb.ext.server.usuario.VersaoSegurancaCache;
+import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.MalformedJwtException;
 import jakarta.servlet.FilterChain;
@@ -7,10 +10,11 @@ import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import java.io.IOException;
-import lombok.RequiredArgsConstructor;
+import java.util.Objects;
 import org.jetbrains.annotations.NotNull;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -22,7 +26,6 @@ import org.springframework.web.filter.OncePerRequestFilter;
 import org.springframework.web.servlet.HandlerExceptionResolver;
 
 @Component
-@RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
   private static final String AUTHORIZATION_HEADER = "Authorization";
   private static final String BEARER_TOKEN_PREFIX = "Bearer ";
@@ -30,15 +33,44 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
   private final HandlerExceptionResolver handlerExceptionResolver;
   private final JwtService jwtService;
   private final UserDetailsService userDetailsService;
+  private final VersaoSegurancaCache versaoSegurancaCache;
+  private final TokenRevogacaoService tokenRevogacaoService;
+  private final boolean statelessPrincipal;
+
+  /**
+   * Cria o filtro de autenticação JWT.
+   *
+   * @param handlerExceptionResolver resolvedor usado para exceções não tratadas pelo filtro
+   * @param jwtService serviço de validação e leitura dos tokens
+   * @param userDetailsService serviço usado para carregar o usuário do banco de dados
+   * @param versaoSegurancaCache cache das versões de segurança dos usuários
+   * @param tokenRevogacaoService lista de tokens revogados
+   * @param statelessPrincipal se {@code true}, o principal é reconstruído a partir dos claims do
+   *     token enquanto a versão de segurança nele gravada for a atual
+   */
+  public JwtAuthenticationFilter(
+      HandlerExceptionResolver handlerExceptionResolver,
+      JwtService jwtService,
+      UserDetailsService userDetailsService,
+      VersaoSegurancaCache versaoSegurancaCache,
+      TokenRevogacaoService tokenRevogacaoService,
+      @Value("${app.security.jwt.stateless-principal.enabled:true}") boolean statelessPrincipal) {
+    this.handlerExceptionResolver = handlerExceptionResolver;
+    this.jwtService = jwtService;
+    this.userDetailsService = userDetailsService;
+    this.versaoSegurancaCache = versaoSegurancaCache;
+    this.tokenRevogacaoService = tokenRevogacaoService;
+    this.statelessPrincipal = statelessPrincipal;
+  }
 
   /**
    * Realiza a autenticação de requisições HTTP utilizando token JWT.
    *
    * <p>Extrai o token JWT do cabeçalho Authorization, valida e autentica o usuário no contexto de
-   * segurança do Spring caso o token seja válido. Se o token estiver ausente, inválido, expirado ou
-   * se já houver autenticação, a requisição segue normalmente pela cadeia de filtros. Tokens
-   * expirados ou malformados resultam em resposta HTTP 401 com mensagem apropriada. Outras exceções
-   * são delegadas ao HandlerExceptionResolver.
+   * segurança do Spring caso o token seja válido e não tenha sido revogado. Se o token estiver
+   * ausente, inválido, expirado ou se já houver autenticação, a requisição segue normalmente pela
+   * cadeia de filtros. Tokens expirados, revogados ou malformados resultam em resposta HTTP 401 com
+   * mensagem apropriada. Outras exceções são delegadas ao HandlerExceptionResolver.
    *
    * @param request requisição HTTP recebida
    * @param response resposta HTTP a ser enviada
@@ -68,10 +100,17 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         return;
       }
 
+      if (tokenRevogacaoService.isRevogado(jwtService.extractClaim(jwt, Claims::getId))) {
+        LOGGER.debug("Tentativa de login com token revogado");
+        response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
+        response.getWriter().write("Token revogado");
+        return;
+      }
+
       Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
 
       if (authentication == null) {
-        UserDetails userdetails = this.userDetailsService.loadUserByUsername(username);
+        UserDetails userdetails = resolverUsuario(jwt, username);
 
         if (jwtService.isTokenValid(jwt, userdetails)) {
           UsernamePasswordAuthenticationToken authToken =
@@ -95,4 +134,28 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
       handlerExceptionResolver.resolveException(request, response, null, e);
     }
   }
+
+  /**
+   * Obtém o usuário autenticado pelo token.
+   *
+   * <p>Com o modo stateless habilitado, o usuário é reconstruído a partir dos claims do token e o
+   * banco só é consultado quando a versão de segurança gravada no token não for mais a atual (por
+   * exemplo, após uma alteração de permissões) ou quando o token não possuir esses claims.
+   *
+   * @param jwt token JWT da requisição
+   * @param username nome de usuário (email) presente no token
+   * @return os detalhes do usuário autenticado
+   */
+  private UserDetails resolverUsuario(String jwt, String username) {
+    if (statelessPrincipal) {
+      Usuario principal = jwtService.extractPrincipal(jwt);
+      if (principal != null
+          && Objects.equals(
+              versaoSegurancaCache.versaoAtual(principal.getId()),
+              principal.getVersaoSeguranca())) {
+        return principal;
+      }
+    }
+    return userDetailsService.loadUserByUsername(username);
+  }
 }
@@ -0,0 +1,118 @@
+package br.edu.utfpr.pb.ext.server.auth.jwt;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Cache limitado de claims JWT cuja assinatura já foi verificada.
+ *
+ * <p>As entradas são indexadas pelo hash SHA-256 do token (o token em si nunca é armazenado) e
+ * expiram exatamente no instante de expiração do próprio token, de modo que cada token é verificado
+ * uma única vez durante sua vida útil. As estatísticas de acerto/erro são publicadas no Micrometer
+ * com o nome de cache {@value #CACHE_NAME}.
+ */
+@Component
+public class JwtClaimsCache {
+  static final String CACHE_NAME = "jwt.claims";
+
+  private final Cache<String, Claims> cache;
+
+  /**
+   * Cria o cache de claims com o tamanho máximo configurado e registra suas métricas.
+   *
+   * @param maximumSize número máximo de tokens mantidos em memória
+   * @param meterRegistry registro de métricas onde as estatísticas do cache serão publicadas
+   */
+  public JwtClaimsCache(
+      @Value("${app.security.jwt.claims-cache.maximum-size:10000}") long maximumSize,
+      MeterRegistry meterRegistry) {
+    this.cache =
+        Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfter(new ExpiracaoDoToken())
+            .recordStats()
+            .build();
+    CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+  }
+
+  /**
+   * Retorna os claims do token a partir do cache ou, em caso de ausência, executa a verificação e
+   * armazena o resultado.
+   *
+   * <p>Se a função de verificação retornar {@code null} (token inválido), nada é armazenado.
+   *
+   * @param token token JWT compactado
+   * @param verificador função que valida a assinatura e extrai os claims do token
+   * @return os claims verificados, ou {@code null} se o token for inválido
+   */
+  public Claims get(String token, Function<String, Claims> verificador) {
+    return cache.get(hash(token), key -> verificador.apply(token));
+  }
+
+  /**
+   * Remove os claims de um token do cache.
+   *
+   * @param token token JWT compactado
+   */
+  public void invalidate(String token) {
+    cache.invalidate(hash(token));
+  }
+
+  /** Remove todas as entradas do cache. */
+  public void invalidateAll() {
+    cache.invalidateAll();
+  }
+
+  /**
+   * Calcula o hash SHA-256 do token, codificado em Base64, para uso como chave do cache.
+   *
+   * @param token token JWT compactado
+   * @return hash do token codificado em Base64
+   */
+  static String hash(String token) {
+    try {
+      MessageDigest digest = MessageDigest.getInstance("SHA-256");
+      return Base64.getEncoder()
+          .encodeToString(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("Algoritmo SHA-256 indisponível", e);
+    }
+  }
+
+  /** Política de expiração que mantém cada entrada apenas até a expiração do token. */
+  private static final class ExpiracaoDoToken implements Expiry<String, Claims> {
+    @Override
+    public long expireAfterCreate(String key, Claims claims, long currentTime) {
+      Date expiration = claims.getExpiration();
+      if (expiration == null) {
+        return 0;
+      }
+      long restante = expiration.getTime() - System.currentTimeMillis();
+      return TimeUnit.MILLISECONDS.toNanos(Math.max(0, restante));
+    }
+
+    @Override
+    public long expireAfterUpdate(
+        String key, Claims claims, long currentTime, long currentDuration) {
+      return currentDuration;
+    }
+
+    @Override
+    public long expireAfterRead(String key, Claims claims, long currentTime, long currentDuration) {
+      return currentDuration;
+    }
+  }
+}
@@ -0,0 +1,116 @@
+package br.edu.utfpr.pb.ext.server.auth.jwt;
+
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Map;
+import javax.crypto.SecretKey;
+
+/**
+ * Conjunto imutável de chaves HMAC utilizadas pelo {@link JwtService}.
+ *
+ * <p>Mantém a chave atual, usada para assinar novos tokens, e a chave anterior, que ainda é aceita
+ * na verificação enquanto estiver configurada. Cada chave é identificada pelo cabeçalho {@code kid}
+ * gravado nos tokens que ela assina.
+ */
+final class JwtKeyRing {
+  private static final int MIN_KEY_BYTES = 64;
+  private static final int KEY_ID_BYTES = 8;
+
+  private final ChaveAssinatura atual;
+  private final Map<String, SecretKey> anteriores;
+
+  private JwtKeyRing(ChaveAssinatura atual, Map<String, SecretKey> anteriores) {
+    this.atual = atual;
+    this.anteriores = Map.copyOf(anteriores);
+  }
+
+  /**
+   * Cria o conjunto de chaves a partir de uma chave secreta codificada em Base64.
+   *
+   * @param secretKeyBase64 chave secreta HS512 codificada em Base64
+   * @return conjunto contendo apenas a chave informada
+   * @throws IllegalStateException se a chave decodificada possuir menos de 64 bytes
+   */
+  static JwtKeyRing of(String secretKeyBase64) {
+    return of(secretKeyBase64, null);
+  }
+
+  /**
+   * Cria o conjunto de chaves com a chave atual e, se informada, a chave anterior.
+   *
+   * @param secretKeyBase64 chave secreta HS512 codificada em Base64, usada para assinar
+   * @param anteriorBase64 chave secreta anterior, aceita apenas na verificação; vazia ou {@code
+   *     null} se não houver
+   * @return o conjunto de chaves
+   * @throws IllegalStateException se alguma das chaves decodificadas possuir menos de 64 bytes
+   */
+  static JwtKeyRing of(String secretKeyBase64, String anteriorBase64) {
+    ChaveAssinatura atual = derivarChave(secretKeyBase64);
+    Map<String, SecretKey> anteriores = new HashMap<>();
+    if (anteriorBase64 != null && !anteriorBase64.isBlank()) {
+      ChaveAssinatura anterior = derivarChave(anteriorBase64);
+      if (!anterior.kid().equals(atual.kid())) {
+        anteriores.put(anterior.kid(), anterior.chave());
+      }
+    }
+    return new JwtKeyRing(atual, anteriores);
+  }
+
+  /**
+   * Localiza a chave de verificação correspondente ao {@code kid} de um token.
+   *
+   * <p>Tokens sem {@code kid} (emitidos antes da rotação de chaves existir) são verificados com a
+   * chave atual.
+   *
+   * @param kid identificador da chave presente no cabeçalho do token, ou {@code null}
+   * @return a chave correspondente, ou {@code null} se for desconhecida
+   */
+  SecretKey localizar(String kid) {
+    if (kid == null || kid.equals(atual.kid())) {
+      return atual.chave();
+    }
+    return anteriores.get(kid);
+  }
+
+  /** Retorna a chave usada para assinar novos tokens. */
+  SecretKey chaveAtual() {
+    return atual.chave();
+  }
+
+  /** Retorna o identificador ({@code kid}) da chave atual. */
+  String kidAtual() {
+    return atual.kid();
+  }
+
+  private static ChaveAssinatura derivarChave(String secretKeyBase64) {
+    if (secretKeyBase64 == null || secretKeyBase64.isBlank()) {
+      throw new IllegalStateException(
+          "Secret inválida. Deve ser formatado no padrão HS12 convertido em base64");
+    }
+    byte[] keyBytes = Decoders.BASE64.decode(secretKeyBase64);
+    if (keyBytes.length < MIN_KEY_BYTES) {
+      throw new IllegalStateException(
+          "Secret inválida. Deve ser formatado no padrão HS12 convertido em base64");
+    }
+    return new ChaveAssinatura(calcularKid(keyBytes), Keys.hmacShaKeyFor(keyBytes));
+  }
+
+  private static String calcularKid(byte[] keyBytes) {
+    try {
+      byte[] digest = MessageDigest.getInstance("SHA-256").digest(keyBytes);
+      byte[] prefixo = new byte[KEY_ID_BYTES];
+      System.arraycopy(digest, 0, prefixo, 0, KEY_ID_BYTES);
+      return new String(
+          Base64.getUrlEncoder().withoutPadding().encode(prefixo), StandardCharsets.US_ASCII);
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("Algoritmo SHA-256 indisponível", e);
+    }
+  }
+
+  private record ChaveAssinatura(String kid, SecretKey chave) {}
+}
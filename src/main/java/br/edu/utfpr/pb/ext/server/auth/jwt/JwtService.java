@@ -1,47 +1,80 @@
 package br.edu.utfpr.pb.ext.server.auth.jwt;
 
+import br.edu.utfpr.pb.ext.server.usuario.Usuario;
+import br.edu.utfpr.pb.ext.server.usuario.authority.Authority;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwsHeader;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
-import io.jsonwebtoken.io.Decoders;
-import io.jsonwebtoken.security.Keys;
-import jakarta.annotation.PostConstruct;
+import io.jsonwebtoken.LocatorAdapter;
+import io.jsonwebtoken.security.SignatureException;
+import java.security.Key;
+import java.util.Collection;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
 import java.util.function.Function;
-import javax.crypto.SecretKey;
 import lombok.Getter;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
 
 @Service
 public class JwtService {
-  @Value("${app.security.jwt.secret-key}")
-  private String secretKey;
+  static final String CLAIM_USUARIO_ID = "uid";
+  static final String CLAIM_NOME = "nome";
+  static final String CLAIM_AUTHORITIES = "authorities";
+  static final String CLAIM_VERSAO_SEGURANCA = "sv";
 
-  @Getter
-  @Value("${app.security.jwt.expiration-time}")
-  private long expirationTime;
+  private final JwtClaimsCache claimsCache;
+
+  /** Chaves de assinatura e verificação, fixadas na configuração da aplicação. */
+  private final JwtKeyRing keyRing;
+
+  /** Parser imutável, construído uma única vez e compartilhado entre todas as requisições. */
+  private final JwtParser parser;
+
+  @Getter private final long expirationTime;
 
   Logger logger = LoggerFactory.getLogger(JwtService.class.getName());
 
   /**
-   * Valida se a chave secreta decodificada possui pelo menos 64 bytes, requisito para uso seguro do
-   * algoritmo HS512.
+   * Cria o serviço de tokens derivando as chaves e o parser uma única vez.
+   *
+   * <p>A rotação da chave é feita por configuração, para que todas as instâncias usem o mesmo
+   * conjunto de chaves e ele sobreviva a reinícios:
    *
-   * <p>Lança uma {@link IllegalStateException} se a chave for inválida.
+   * <ol>
+   *   <li>publicar a nova chave em {@code previous-secret-key}, mantendo a atual em {@code
+   *       secret-key}, até que todas as instâncias a aceitem;
+   *   <li>trocar as duas: a nova chave passa a {@code secret-key} e a antiga a {@code
+   *       previous-secret-key};
+   *   <li>após {@code expiration-time}, remover {@code previous-secret-key}.
+   * </ol>
+   *
+   * @param claimsCache cache de claims já verificados
+   * @param secretKey chave secreta HS512 codificada em base64, usada para assinar os tokens
+   * @param expirationTime tempo de expiração dos tokens em milissegundos
+   * @param previousSecretKey chave secreta anterior, aceita apenas na verificação; vazia se não
+   *     houver
+   * @throws IllegalStateException se alguma chave decodificada possuir menos de 64 bytes
    */
-  @PostConstruct
-  private void validateSecretKey() {
-    byte[] keyBytes = Decoders.BASE64.decode(secretKey);
-    if (keyBytes.length < 64) {
-      throw new IllegalStateException(
-          "Secret inválida. Deve ser formatado no padrão HS12 convertido em base64");
-    }
+  public JwtService(
+      JwtClaimsCache claimsCache,
+      @Value("${app.security.jwt.secret-key}") String secretKey,
+      @Value("${app.security.jwt.expiration-time}") long expirationTime,
+      @Value("${app.security.jwt.previous-secret-key:}") String previousSecretKey) {
+    this.claimsCache = claimsCache;
+    this.keyRing = JwtKeyRing.of(secretKey, previousSecretKey);
+    this.expirationTime = expirationTime;
+    this.parser = Jwts.parser().keyLocator(new KeyRingLocator()).build();
   }
 
   /**
@@ -85,12 +118,57 @@ public class JwtService {
   /**
    * Gera um token JWT assinado para o usuário especificado, incluindo claims extras fornecidos.
    *
+   * <p>Quando o usuário é um {@link Usuario} persistido, o token também recebe seu id, nome,
+   * permissões e versão de segurança, permitindo reconstruir o principal sem consultar o banco
+   * (veja {@link #extractPrincipal(String)}).
+   *
    * @param extraClaims mapa de claims adicionais a serem inseridos no token
    * @param userDetails detalhes do usuário para quem o token será emitido
    * @return o token JWT gerado como string
    */
   public String generateToken(Map<String, Object> extraClaims, UserDetails userDetails) {
-    return buildToken(extraClaims, userDetails, expirationTime);
+    Map<String, Object> claims = new HashMap<>(extraClaims);
+    if (userDetails instanceof Usuario usuario && usuario.getId() != null) {
+      claims.put(CLAIM_USUARIO_ID, usuario.getId());
+      claims.put(CLAIM_NOME, usuario.getNome());
+      claims.put(
+          CLAIM_AUTHORITIES,
+          usuario.getAuthorities().stream().map(GrantedAuthority::getAuthority).toList());
+      claims.put(CLAIM_VERSAO_SEGURANCA, usuario.getVersaoSeguranca());
+    }
+    return buildToken(claims, userDetails, expirationTime);
+  }
+
+  /**
+   * Reconstrói o usuário autenticado a partir dos claims do token, sem consultar o banco de dados.
+   *
+   * <p>O usuário retornado é {@linkplain Usuario#isResumido() resumido}: contém apenas id, nome,
+   * email, permissões e a versão de segurança vigente quando o token foi emitido.
+   *
+   * @param token token JWT a ser analisado
+   * @return o usuário resumido, ou {@code null} se o token for inválido ou não possuir os claims do
+   *     usuário (tokens emitidos antes desses claims existirem)
+   */
+  public Usuario extractPrincipal(String token) {
+    Claims claims = extractAllClaims(token);
+    if (!(claims.get(CLAIM_USUARIO_ID) instanceof Number id)
+        || !(claims.get(CLAIM_VERSAO_SEGURANCA) instanceof Number versao)
+        || !(claims.get(CLAIM_AUTHORITIES) instanceof Collection<?> nomesAuthorities)
+        || claims.getSubject() == null) {
+      return null;
+    }
+    Set<Authority> authorities = new HashSet<>();
+    nomesAuthorities.forEach(
+        nome -> authorities.add(Authority.builder().authority(String.valueOf(nome)).build()));
+    return Usuario.builder()
+        .id(id.longValue())
+        .nome(claims.get(CLAIM_NOME, String.class))
+        .email(claims.getSubject())
+        .ativo(true)
+        .authorities(authorities)
+        .versaoSeguranca(versao.longValue())
+        .resumido(true)
+        .build();
   }
 
   /**
@@ -106,13 +184,17 @@ public class JwtService {
       Map<String, Object> extraClaims, UserDetails userDetails, long expirationTime) {
     return Jwts.builder()
         .claims()
+        .id(UUID.randomUUID().toString())
         .issuer("utfpr-pb-ext-server")
         .subject(userDetails.getUsername())
         .issuedAt(new java.util.Date(System.currentTimeMillis()))
         .expiration(new java.util.Date(System.currentTimeMillis() + expirationTime))
         .add(extraClaims)
         .and()
-        .signWith(getSignInKey(), Jwts.SIG.HS512)
+        .header()
+        .keyId(keyRing.kidAtual())
+        .and()
+        .signWith(keyRing.chaveAtual(), Jwts.SIG.HS512)
         .compact();
   }
 
@@ -162,28 +244,48 @@ public class JwtService {
   /**
    * Extrai todos os claims de um token JWT após validar sua assinatura.
    *
+   * <p>Tokens já verificados são servidos pelo {@link JwtClaimsCache}, evitando repetir a análise e
+   * a verificação da assinatura a cada chamada.
+   *
    * @param token o token JWT a ser analisado
    * @return os claims extraídos do token; retorna um objeto vazio se o token for inválido ou
    *     ocorrer erro na extração
    */
   private Claims extractAllClaims(String token) {
+    if (token == null || token.isBlank()) {
+      logger.error("Formato de claims inválido: token vazio");
+      return Jwts.claims().build();
+    }
+    Claims claims = claimsCache.get(token, this::verifyAndParseClaims);
+    return claims != null ? claims : Jwts.claims().build();
+  }
+
+  /**
+   * Analisa o token e valida sua assinatura, sem consultar o cache.
+   *
+   * @param token o token JWT a ser analisado
+   * @return os claims extraídos do token, ou {@code null} se o token for inválido
+   */
+  Claims verifyAndParseClaims(String token) {
     try {
-      return Jwts.parser().verifyWith(getSignInKey()).build().parseSignedClaims(token).getPayload();
+      return parser.parseSignedClaims(token).getPayload();
     } catch (JwtException e) {
       logger.error("Erro ao extrair claims do token: {}", e.getMessage(), e);
     } catch (IllegalArgumentException e) {
       logger.error("Formato de claims inválido: {}", e.getMessage(), e);
     }
-    return Jwts.claims().build();
+    return null;
   }
 
-  /**
-   * Decodifica a chave secreta em base64 e retorna uma instância de {@link SecretKey} para
-   * assinatura HMAC SHA.
-   *
-   * @return a chave secreta derivada da configuração, utilizada para assinar e validar tokens JWT
-   */
-  private SecretKey getSignInKey() {
-    return Keys.hmacShaKeyFor(Decoders.BASE64.decode(secretKey));
+  /** Localiza a chave de verificação de cada token a partir do seu cabeçalho {@code kid}. */
+  private final class KeyRingLocator extends LocatorAdapter<Key> {
+    @Override
+    protected Key locate(JwsHeader header) {
+      Key key = keyRing.localizar(header.getKeyId());
+      if (key == null) {
+        throw new SignatureException("Chave de assinatura desconhecida");
+      }
+      return key;
+    }
   }
 }
@@ -0,0 +1,148 @@
+package br.edu.utfpr.pb.ext.server.auth.jwt;
+
+import jakarta.annotation.PostConstruct;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Date;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Lista de revogação de tokens JWT.
+ *
+ * <p>As revogações são persistidas em {@code tb_token_revogado} e mantidas em memória como um
+ * conjunto de hashes de 64 bits do {@code jti}, associados ao instante de expiração do token. A
+ * verificação feita a cada requisição é uma consulta O(1) a esse conjunto, sem acesso ao banco; as
+ * revogações registradas por outras instâncias são incorporadas periodicamente por uma
+ * sincronização incremental, e as entradas de tokens já expirados são descartadas.
+ */
+@Service
+public class TokenRevogacaoService {
+  private static final Logger logger = LoggerFactory.getLogger(TokenRevogacaoService.class);
+
+  /**
+   * Margem aplicada à sincronização incremental para incluir revogações cuja transação foi
+   * confirmada depois da sincronização anterior.
+   */
+  private static final Duration MARGEM_SINCRONIZACAO = Duration.ofMinutes(1);
+
+  private final TokenRevogadoRepository tokenRevogadoRepository;
+
+  /** Hash de 64 bits do jti associado ao instante de expiração do token (epoch em ms). */
+  private final Map<Long, Long> revogados = new ConcurrentHashMap<>();
+
+  /** Instante da última sincronização; {@code null} até a carga inicial. */
+  private volatile LocalDateTime ultimaSincronizacao;
+
+  public TokenRevogacaoService(TokenRevogadoRepository tokenRevogadoRepository) {
+    this.tokenRevogadoRepository = tokenRevogadoRepository;
+  }
+
+  /** Carrega as revogações ainda vigentes ao iniciar a aplicação. */
+  @PostConstruct
+  void carregar() {
+    sincronizar();
+  }
+
+  /**
+   * Verifica se o token com o identificador informado foi revogado.
+   *
+   * @param jti identificador do token (claim {@code jti}), ou {@code null}
+   * @return {@code true} se o token tiver sido revogado
+   */
+  public boolean isRevogado(String jti) {
+    if (jti == null || revogados.isEmpty()) {
+      return false;
+    }
+    return revogados.containsKey(hash(jti));
+  }
+
+  /**
+   * Revoga o token informado até sua expiração. Revogar um token já revogado não tem efeito.
+   *
+   * @param jti identificador do token (claim {@code jti})
+   * @param expiraEm instante de expiração do token
+   */
+  @Transactional
+  public void revogar(String jti, Date expiraEm) {
+    revogados.put(hash(jti), expiraEm.getTime());
+    if (tokenRevogadoRepository.existsByJti(jti)) {
+      return;
+    }
+    tokenRevogadoRepository.save(
+        TokenRevogado.builder()
+            .jti(jti)
+            .expiraEm(LocalDateTime.ofInstant(expiraEm.toInstant(), ZoneId.systemDefault()))
+            .revogadoEm(LocalDateTime.now())
+            .build());
+  }
+
+  /**
+   * Incorpora as revogações registradas desde a última sincronização e descarta da memória as
+   * entradas de tokens já expirados.
+   */
+  @Scheduled(
+      fixedDelayString = "${app.security.jwt.revocation.refresh-interval:30s}",
+      initialDelayString = "${app.security.jwt.revocation.refresh-interval:30s}")
+  public void sincronizar() {
+    LocalDateTime agora = LocalDateTime.now();
+    LocalDateTime desde =
+        ultimaSincronizacao == null
+            ? LocalDateTime.of(1970, 1, 1, 0, 0)
+            : ultimaSincronizacao.minus(MARGEM_SINCRONIZACAO);
+    tokenRevogadoRepository
+        .findByRevogadoEmGreaterThanEqualAndExpiraEmAfter(desde, agora)
+        .forEach(
+            token ->
+                revogados.put(
+                    hash(token.getJti()),
+                    token.getExpiraEm().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli()));
+    ultimaSincronizacao = agora;
+
+    long agoraMillis = System.currentTimeMillis();
+    revogados.values().removeIf(expiraEm -> expiraEm <= agoraMillis);
+  }
+
+  /** Remove do banco as revogações de tokens que já expiraram. */
+  @Scheduled(
+      fixedDelayString = "${app.security.jwt.revocation.cleanup-interval:1h}",
+      initialDelayString = "${app.security.jwt.revocation.cleanup-interval:1h}")
+  @Transactional
+  public void removerExpirados() {
+    int removidos = tokenRevogadoRepository.deleteExpirados(LocalDateTime.now());
+    if (removidos > 0) {
+      logger.info("{} revogações de tokens expirados removidas", removidos);
+    }
+  }
+
+  /** Retorna a quantidade de tokens revogados mantidos em memória. */
+  int quantidadeEmMemoria() {
+    return revogados.size();
+  }
+
+  /**
+   * Calcula o hash de 64 bits do jti a partir dos primeiros bytes do seu SHA-256.
+   *
+   * @param jti identificador do token
+   * @return hash do identificador
+   */
+  static long hash(String jti) {
+    try {
+      byte[] digest =
+          MessageDigest.getInstance("SHA-256").digest(jti.getBytes(StandardCharsets.UTF_8));
+      return ByteBuffer.wrap(digest).getLong();
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("Algoritmo SHA-256 indisponível", e);
+    }
+  }
+}
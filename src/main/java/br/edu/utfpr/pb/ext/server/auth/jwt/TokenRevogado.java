@@ -0,0 +1,28 @@
+package br.edu.utfpr.pb.ext.server.auth.jwt;
+
+import br.edu.utfpr.pb.ext.server.generics.BaseEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.*;
+import lombok.experimental.SuperBuilder;
+
+/** Token JWT revogado antes de sua expiração, identificado pelo claim {@code jti}. */
+@Entity
+@Table(name = "tb_token_revogado")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@SuperBuilder
+public class TokenRevogado extends BaseEntity {
+  @Column(nullable = false, unique = true, length = 64, name = "jti")
+  private String jti;
+
+  @Column(nullable = false, name = "expira_em")
+  private LocalDateTime expiraEm;
+
+  @Column(nullable = false, name = "revogado_em")
+  private LocalDateTime revogadoEm;
+}
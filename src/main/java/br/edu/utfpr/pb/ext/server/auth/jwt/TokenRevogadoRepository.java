@@ -0,0 +1,41 @@
+package br.edu.utfpr.pb.ext.server.auth.jwt;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface TokenRevogadoRepository extends JpaRepository<TokenRevogado, Long> {
+  /**
+   * Verifica se o token com o identificador informado já foi revogado.
+   *
+   * @param jti identificador do token
+   * @return {@code true} se já existir uma revogação para o token
+   */
+  boolean existsByJti(String jti);
+
+  /**
+   * Retorna as revogações registradas a partir do instante informado cujos tokens ainda não
+   * expiraram.
+   *
+   * @param revogadoEm instante a partir do qual as revogações serão retornadas
+   * @param agora instante de referência para a expiração dos tokens
+   * @return lista de revogações ainda relevantes
+   */
+  List<TokenRevogado> findByRevogadoEmGreaterThanEqualAndExpiraEmAfter(
+      LocalDateTime revogadoEm, LocalDateTime agora);
+
+  /**
+   * Remove as revogações de tokens que já expiraram.
+   *
+   * @param agora instante de referência para a expiração dos tokens
+   * @return quantidade de registros removidos
+   */
+  @Modifying
+  @Query("delete from TokenRevogado t where t.expiraEm <= :agora")
+  int deleteExpirados(@Param("agora") LocalDateTime agora);
+}
@@ -56,8 +56,8 @@ public class EmailOtpAuthenticationProvider implements AuthenticationProvider {
       throw new BadCredentialsException("Código de verificação inválido ou expirado");
     }
 
-    UserDetails userDetails = detailsService.loadUserByUsername(email);
     detailsService.ativarUsuario(email);
+    UserDetails userDetails = detailsService.loadUserByUsername(email);
     return new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
   }
 
@@ -94,7 +94,8 @@ public class CandidaturaController {
             responseCode = "200",
             description = "Status das candidaturas atualizado com sucesso"),
         @ApiResponse(responseCode = "400", description = "Lista de candidaturas vazia ou inválida"),
-        @ApiResponse(responseCode = "404", description = "Candidatura não encontrada")
+        @ApiResponse(responseCode = "404", description = "Candidatura não encontrada"),
+        @ApiResponse(responseCode = "409", description = "Projeto sem vagas para as aprovações")
       })
   public ResponseEntity<String> atualizarStatusCandidaturas(
       @PathVariable Long projetoId, @RequestBody List<CandidaturaDTO> candidaturaDTOs) {
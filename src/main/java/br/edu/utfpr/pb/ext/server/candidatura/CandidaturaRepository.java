@@ -1,8 +1,13 @@
 package br.edu.utfpr.pb.ext.server.candidatura;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface CandidaturaRepository extends JpaRepository<Candidatura, Long> {
   Optional<Candidatura> findByProjetoIdAndAlunoId(Long projetoId, Long alunoId);
@@ -10,4 +15,26 @@ public interface CandidaturaRepository extends JpaRepository<Candidatura, Long>
   Optional<List<Candidatura>> findAllByProjetoIdAndStatus(Long projetoId, StatusCandidatura status);
 
   Optional<List<Candidatura>> findAllByAlunoId(Long alunoId);
+
+  /** Carrega as candidaturas com o projeto e o aluno, usados na validação e nos eventos. */
+  @Override
+  @EntityGraph(attributePaths = {"projeto", "aluno"})
+  List<Candidatura> findAllById(Iterable<Long> ids);
+
+  /**
+   * Altera o status das candidaturas que ainda não foram aprovadas nem rejeitadas, em uma única
+   * instrução. As candidaturas finalizadas por uma transação concorrente depois de lidas não são
+   * alteradas, e o retorno fica menor que a quantidade de identificadores.
+   *
+   * <p>Limpa o contexto de persistência: as candidaturas carregadas antes ficam desanexadas, e
+   * alterá-las em memória não gera novas instruções de atualização.
+   */
+  @Modifying(flushAutomatically = true, clearAutomatically = true)
+  @Query(
+      "UPDATE Candidatura c SET c.status = :status WHERE c.id IN :ids"
+          + " AND c.status NOT IN :finalizados")
+  int atualizarStatus(
+      @Param("ids") Collection<Long> ids,
+      @Param("status") StatusCandidatura status,
+      @Param("finalizados") Collection<StatusCandidatura> finalizados);
 }
@@ -3,12 +3,23 @@ package br.edu.utfpr.pb.ext.server.candidatura;
 import br.edu.utfpr.pb.ext.server.event.EventPublisher;
 import br.edu.utfpr.pb.ext.server.projeto.IProjetoService;
 import br.edu.utfpr.pb.ext.server.projeto.Projeto;
+import br.edu.utfpr.pb.ext.server.projeto.ProjetoVagas;
 import br.edu.utfpr.pb.ext.server.projeto.enums.StatusProjeto;
 import br.edu.utfpr.pb.ext.server.usuario.IUsuarioService;
 import br.edu.utfpr.pb.ext.server.usuario.Usuario;
 import jakarta.transaction.Transactional;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
@@ -17,11 +28,15 @@ import org.springframework.web.server.ResponseStatusException;
 @Service
 @RequiredArgsConstructor
 public class CandidaturaServiceImpl implements ICandidaturaService {
+  /** Status a partir dos quais a candidatura não pode mais ser alterada. */
+  private static final Set<StatusCandidatura> FINALIZADOS =
+      EnumSet.of(StatusCandidatura.APROVADA, StatusCandidatura.REJEITADA);
 
   private final CandidaturaRepository candidaturaRepository;
   private final IUsuarioService usuarioService;
   private final IProjetoService projetoService;
   private final EventPublisher eventPublisher;
+  private final ProjetoVagas projetoVagas;
 
   @Override
   @Transactional
@@ -34,6 +49,13 @@ public class CandidaturaServiceImpl implements ICandidaturaService {
           HttpStatus.BAD_REQUEST, "Projeto não está aberto para candidaturas");
     }
 
+    if (projeto.getQtdeVagas() != null
+        && projeto.getVagasOcupadas() != null
+        && projeto.getVagasOcupadas() >= projeto.getQtdeVagas()) {
+      throw new ResponseStatusException(
+          HttpStatus.BAD_REQUEST, "Projeto não possui vagas disponíveis");
+    }
+
     Candidatura candidatura =
         candidaturaRepository.findByProjetoIdAndAlunoId(projetoId, aluno.getId()).orElse(null);
 
@@ -70,6 +92,22 @@ public class CandidaturaServiceImpl implements ICandidaturaService {
     return candidaturaBD;
   }
 
+  /**
+   * Atualiza o status das candidaturas e reserva uma vaga no projeto para cada aprovação. Se algum
+   * projeto não tiver vagas para todas as aprovações, nenhuma candidatura é alterada.
+   *
+   * <p>As candidaturas são carregadas em uma consulta e validadas em memória; o novo status é
+   * gravado com uma instrução por status, que só altera candidaturas ainda não finalizadas, e as
+   * alterações são publicadas em um único evento por projeto. As vagas são reservadas depois das
+   * candidaturas, em ordem de projeto, para que requisições concorrentes não se bloqueiem
+   * mutuamente.
+   *
+   * @param candidaturas candidaturas com o novo status
+   * @throws ResponseStatusException se a lista estiver vazia, repetir uma candidatura ou incluir
+   *     uma candidatura já aprovada ou rejeitada (400), se uma candidatura não existir (404) ou se
+   *     outra requisição alterar as candidaturas ao mesmo tempo ou faltarem vagas em algum projeto
+   *     (409)
+   */
   @Override
   @Transactional
   public void atualizarStatusCandidaturas(List<Candidatura> candidaturas) {
@@ -77,15 +115,19 @@ public class CandidaturaServiceImpl implements ICandidaturaService {
       throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Lista de candidaturas vazia");
     }
 
+    Map<Long, Candidatura> candidaturasBD =
+        candidaturaRepository
+            .findAllById(candidaturas.stream().map(Candidatura::getId).toList())
+            .stream()
+            .collect(Collectors.toMap(Candidatura::getId, Function.identity()));
+
+    Map<Long, StatusCandidatura> novoStatus = new LinkedHashMap<>();
     for (Candidatura candidatura : candidaturas) {
-      Candidatura candidaturaBD =
-          candidaturaRepository
-              .findById(candidatura.getId())
-              .orElseThrow(
-                  () ->
-                      new ResponseStatusException(
-                          HttpStatus.NOT_FOUND,
-                          "Candidatura com ID " + candidatura.getId() + " não encontrada"));
+      Candidatura candidaturaBD = candidaturasBD.get(candidatura.getId());
+      if (candidaturaBD == null) {
+        throw new ResponseStatusException(
+            HttpStatus.NOT_FOUND, "Candidatura com ID " + candidatura.getId() + " não encontrada");
+      }
 
       if (StatusCandidatura.APROVADA.equals(candidaturaBD.getStatus())) {
         throw new ResponseStatusException(
@@ -97,10 +139,57 @@ public class CandidaturaServiceImpl implements ICandidaturaService {
             HttpStatus.BAD_REQUEST, "Candidatura " + candidatura.getId() + " já foi rejeitada");
       }
 
-      candidaturaBD.setStatus(candidatura.getStatus());
-      candidaturaRepository.save(candidaturaBD);
-      eventPublisher.publishCandidaturaAtualizada(candidaturaBD);
+      if (novoStatus.putIfAbsent(candidatura.getId(), candidatura.getStatus()) != null) {
+        throw new ResponseStatusException(
+            HttpStatus.BAD_REQUEST,
+            "Candidatura " + candidatura.getId() + " informada mais de uma vez");
+      }
     }
+
+    Map<StatusCandidatura, List<Long>> idsPorStatus =
+        novoStatus.entrySet().stream()
+            .collect(
+                Collectors.groupingBy(
+                    Map.Entry::getValue,
+                    () -> new EnumMap<>(StatusCandidatura.class),
+                    Collectors.mapping(Map.Entry::getKey, Collectors.toList())));
+    idsPorStatus.forEach(
+        (status, ids) -> {
+          if (candidaturaRepository.atualizarStatus(ids, status, FINALIZADOS) != ids.size()) {
+            throw new ResponseStatusException(
+                HttpStatus.CONFLICT,
+                "Candidaturas alteradas por outra requisição; tente novamente");
+          }
+        });
+
+    SortedMap<Long, Integer> aprovacoesPorProjeto = new TreeMap<>();
+    idsPorStatus
+        .getOrDefault(StatusCandidatura.APROVADA, List.of())
+        .forEach(
+            id ->
+                aprovacoesPorProjeto.merge(
+                    candidaturasBD.get(id).getProjeto().getId(), 1, Integer::sum));
+    aprovacoesPorProjeto.forEach(
+        (projetoId, aprovacoes) -> {
+          if (!projetoVagas.ocupar(projetoId, aprovacoes)) {
+            throw new ResponseStatusException(
+                HttpStatus.CONFLICT,
+                "Projeto "
+                    + projetoId
+                    + " não possui vagas para "
+                    + aprovacoes
+                    + " aprovação(ões)");
+          }
+        });
+
+    List<Candidatura> atualizadas = new ArrayList<>(novoStatus.size());
+    novoStatus.forEach(
+        (id, status) -> {
+          Candidatura candidaturaBD = candidaturasBD.get(id);
+          candidaturaBD.setStatus(status);
+          atualizadas.add(candidaturaBD);
+        });
+    eventPublisher.publishCandidaturasAtualizadas(atualizadas);
   }
 
   @Override
@@ -0,0 +1,158 @@
+package br.edu.utfpr.pb.ext.server.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * Executores dedicados à entrega dos eventos de domínio, isolados entre si para que a lentidão de
+ * um consumidor não atrase o outro, e às respostas assíncronas do Spring MVC.
+ *
+ * <p>Todos têm fila limitada e, no encerramento da aplicação, concluem as tarefas em andamento
+ * dentro do tempo configurado. As métricas {@code executor.active}, {@code executor.queued} e
+ * {@code executor.completed} são publicadas pelo Actuator com a tag {@code name} igual ao nome do
+ * bean; as rejeições são contadas em {@code executor.rejected}.
+ */
+@Configuration
+@Slf4j
+public class ExecutorConfig {
+
+  public static final String EMAIL_EXECUTOR = "emailExecutor";
+  public static final String NOTIFICACAO_EXECUTOR = "notificacaoExecutor";
+  public static final String MVC_EXECUTOR = "mvcExecutor";
+
+  /**
+   * Executor dos e-mails de notificação, limitado por I/O (renderização e envio à fila de e-mails).
+   *
+   * <p>Quando a fila está cheia a tarefa é rejeitada, e o evento é reagendado pelo outbox em vez de
+   * ocupar a thread que o entregou. Com {@code virtual-threads} habilitado, as threads do pool são
+   * virtuais: o limite de concorrência continua o mesmo, mas uma espera por I/O não ocupa uma
+   * thread de plataforma.
+   *
+   * @param tamanho quantidade de threads do executor
+   * @param capacidade quantidade máxima de tarefas aguardando
+   * @param threadsVirtuais se {@code true}, usa threads virtuais
+   * @param timeoutEncerramento tempo máximo para concluir as tarefas ao encerrar
+   * @param meterRegistry registro de métricas
+   * @return executor de e-mails
+   */
+  @Bean(name = EMAIL_EXECUTOR)
+  public ThreadPoolTaskExecutor emailExecutor(
+      @Value("${app.executors.email.pool-size:8}") int tamanho,
+      @Value("${app.executors.email.queue-capacity:1000}") int capacidade,
+      @Value("${app.executors.email.virtual-threads:false}") boolean threadsVirtuais,
+      @Value("${app.executors.email.shutdown-timeout:30s}") Duration timeoutEncerramento,
+      MeterRegistry meterRegistry) {
+    ThreadPoolTaskExecutor executor =
+        criar(
+            EMAIL_EXECUTOR,
+            "email-",
+            tamanho,
+            capacidade,
+            timeoutEncerramento,
+            new ThreadPoolExecutor.AbortPolicy(),
+            meterRegistry);
+    if (threadsVirtuais) {
+      executor.setThreadFactory(Thread.ofVirtual().name("email-", 1).factory());
+    }
+    return executor;
+  }
+
+  /**
+   * Executor das notificações, limitado pelo banco de dados: cada tarefa ocupa uma conexão, por
+   * isso o número de threads nunca excede o tamanho do pool de conexões.
+   *
+   * <p>Quando a fila está cheia a tarefa é executada pela própria thread que a submeteu, reduzindo
+   * o ritmo com que novos eventos são reservados.
+   *
+   * @param tamanho quantidade de threads desejada
+   * @param tamanhoPoolConexoes tamanho máximo do pool de conexões do Hikari
+   * @param capacidade quantidade máxima de tarefas aguardando
+   * @param timeoutEncerramento tempo máximo para concluir as tarefas ao encerrar
+   * @param meterRegistry registro de métricas
+   * @return executor de notificações
+   */
+  @Bean(name = NOTIFICACAO_EXECUTOR)
+  public ThreadPoolTaskExecutor notificacaoExecutor(
+      @Value("${app.executors.notificacao.pool-size:4}") int tamanho,
+      @Value("${spring.datasource.hikari.maximum-pool-size:10}") int tamanhoPoolConexoes,
+      @Value("${app.executors.notificacao.queue-capacity:500}") int capacidade,
+      @Value("${app.executors.notificacao.shutdown-timeout:30s}") Duration timeoutEncerramento,
+      MeterRegistry meterRegistry) {
+    if (tamanho > tamanhoPoolConexoes) {
+      log.warn(
+          "app.executors.notificacao.pool-size ({}) maior que o pool de conexões ({}); usando {}",
+          tamanho,
+          tamanhoPoolConexoes,
+          tamanhoPoolConexoes);
+    }
+    return criar(
+        NOTIFICACAO_EXECUTOR,
+        "notificacao-",
+        Math.min(tamanho, tamanhoPoolConexoes),
+        capacidade,
+        timeoutEncerramento,
+        new ThreadPoolExecutor.CallerRunsPolicy(),
+        meterRegistry);
+  }
+
+  /**
+   * Executor das respostas assíncronas do Spring MVC, como as transmitidas com {@code
+   * StreamingResponseBody}. Sem ele, o Spring MVC criaria uma thread nova por requisição, sem
+   * limite, já que os executores acima impedem a criação do executor padrão do Spring Boot.
+   *
+   * <p>Quando a fila está cheia a requisição é rejeitada e respondida com 503.
+   *
+   * @param tamanho quantidade de threads do executor
+   * @param capacidade quantidade máxima de respostas aguardando
+   * @param timeoutEncerramento tempo máximo para concluir as respostas ao encerrar
+   * @param meterRegistry registro de métricas
+   * @return executor das respostas assíncronas
+   */
+  @Bean(name = MVC_EXECUTOR)
+  public ThreadPoolTaskExecutor mvcExecutor(
+      @Value("${app.executors.mvc.pool-size:16}") int tamanho,
+      @Value("${app.executors.mvc.queue-capacity:100}") int capacidade,
+      @Value("${app.executors.mvc.shutdown-timeout:30s}") Duration timeoutEncerramento,
+      MeterRegistry meterRegistry) {
+    return criar(
+        MVC_EXECUTOR,
+        "mvc-",
+        tamanho,
+        capacidade,
+        timeoutEncerramento,
+        new ThreadPoolExecutor.AbortPolicy(),
+        meterRegistry);
+  }
+
+  private ThreadPoolTaskExecutor criar(
+      String nome,
+      String prefixo,
+      int tamanho,
+      int capacidade,
+      Duration timeoutEncerramento,
+      RejectedExecutionHandler politica,
+      MeterRegistry meterRegistry) {
+    Counter rejeitadas = meterRegistry.counter("executor.rejected", "name", nome);
+    ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+    executor.setThreadNamePrefix(prefixo);
+    executor.setCorePoolSize(tamanho);
+    executor.setMaxPoolSize(tamanho);
+    executor.setQueueCapacity(capacidade);
+    executor.setRejectedExecutionHandler(
+        (tarefa, pool) -> {
+          rejeitadas.increment();
+          politica.rejectedExecution(tarefa, pool);
+        });
+    executor.setWaitForTasksToCompleteOnShutdown(true);
+    executor.setAwaitTerminationMillis(timeoutEncerramento.toMillis());
+    return executor;
+  }
+}
@@ -2,6 +2,8 @@ package br.edu.utfpr.pb.ext.server.config;
 
 import br.edu.utfpr.pb.ext.server.auth.jwt.JwtAuthenticationFilter;
 import br.edu.utfpr.pb.ext.server.auth.otp.EmailOtpAuthenticationProvider;
+import br.edu.utfpr.pb.ext.server.ratelimit.RateLimitFilter;
+import jakarta.servlet.DispatcherType;
 import java.util.Arrays;
 import java.util.List;
 import org.springframework.beans.factory.annotation.Value;
@@ -67,16 +69,21 @@ public class SecurityConfig {
    *
    * <p>Define regras de acesso público e restrito para diferentes endpoints, considerando métodos
    * HTTP, perfis ativos e configuração do Swagger. Adiciona o filtro de autenticação JWT antes do
-   * filtro padrão de autenticação por usuário e senha.
+   * filtro padrão de autenticação por usuário e senha, precedido pelo filtro de limite de
+   * requisições por IP.
    *
    * @param http configuração de segurança HTTP do Spring
    * @param jwtAuthenticationFilter filtro de autenticação JWT a ser adicionado à cadeia
+   * @param rateLimitFilter filtro de limite de requisições por IP
    * @return cadeia de filtros de segurança configurada
    * @throws Exception se ocorrer erro na configuração da segurança
    */
   @Bean
   public SecurityFilterChain securityFilterChain(
-      HttpSecurity http, JwtAuthenticationFilter jwtAuthenticationFilter) throws Exception {
+      HttpSecurity http,
+      JwtAuthenticationFilter jwtAuthenticationFilter,
+      RateLimitFilter rateLimitFilter)
+      throws Exception {
     http.cors(c -> c.configurationSource(corsConfigurationSource()))
         .csrf(csrf -> csrf.ignoringRequestMatchers("/api/**", "/h2-console/**"))
         .headers(h -> h.frameOptions(HeadersConfigurer.FrameOptionsConfig::sameOrigin))
@@ -85,10 +92,15 @@ public class SecurityConfig {
         .authorizeHttpRequests(
             authorize ->
                 authorize
+                    // despacho assíncrono de respostas já autorizadas (stream de notificações)
+                    .dispatcherTypeMatchers(DispatcherType.ASYNC)
+                    .permitAll()
                     .requestMatchers(HttpMethod.GET, "/api/projeto/meusprojetos")
                     .authenticated()
                     .requestMatchers(HttpMethod.GET, "/api/projeto/**")
                     .permitAll()
+                    .requestMatchers(HttpMethod.POST, "/api/auth/logout")
+                    .authenticated()
                     .requestMatchers("/api/auth/**")
                     .permitAll()
                     .requestMatchers("/h2-console/**")
@@ -120,7 +132,8 @@ public class SecurityConfig {
         .sessionManagement(
             session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
         .authenticationProvider(emailOtpAuthenticationProvider)
-        .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class);
+        .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class)
+        .addFilterBefore(rateLimitFilter, JwtAuthenticationFilter.class);
     return http.build();
   }
 
@@ -152,7 +165,8 @@ public class SecurityConfig {
    * Cria e retorna a configuração de CORS para a aplicação.
    *
    * <p>Permite apenas as origens, métodos HTTP e cabeçalhos especificados nas propriedades da
-   * aplicação, além de suportar o envio de credenciais.
+   * aplicação, além de suportar o envio de credenciais. Expõe o cabeçalho {@code X-Total-Count},
+   * com o total da busca paginada de projetos.
    *
    * @return a configuração de CORS aplicada a todos os endpoints
    */
@@ -163,6 +177,7 @@ public class SecurityConfig {
     configuration.setAllowedMethods(List.of("GET", "POST", "PUT", "DELETE", "OPTIONS"));
     configuration.setAllowedHeaders(
         Arrays.asList("Authorization", "Content-Type", "X-Requested-With", "Accept"));
+    configuration.setExposedHeaders(List.of("X-Total-Count"));
     configuration.setAllowCredentials(true);
 
     UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
@@ -1,19 +1,41 @@
 package br.edu.utfpr.pb.ext.server.config;
 
 import br.edu.utfpr.pb.ext.server.generics.CrudController;
+import java.time.Duration;
 import java.util.List;
 import org.modelmapper.ModelMapper;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.AsyncTaskExecutor;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.web.PageableHandlerMethodArgumentResolver;
 import org.springframework.web.method.HandlerTypePredicate;
 import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
 import org.springframework.web.servlet.config.annotation.PathMatchConfigurer;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
 @Configuration
 public class WebConfig implements WebMvcConfigurer {
+
+  private final AsyncTaskExecutor mvcExecutor;
+  private final Duration timeoutAssincrono;
+
+  /**
+   * Cria a configuração do Spring MVC.
+   *
+   * @param mvcExecutor executor das respostas assíncronas
+   * @param timeoutAssincrono tempo máximo de uma resposta assíncrona
+   */
+  public WebConfig(
+      @Qualifier(ExecutorConfig.MVC_EXECUTOR) AsyncTaskExecutor mvcExecutor,
+      @Value("${app.mvc.async.request-timeout:5m}") Duration timeoutAssincrono) {
+    this.mvcExecutor = mvcExecutor;
+    this.timeoutAssincrono = timeoutAssincrono;
+  }
+
   /**
    * Cria e fornece um bean ModelMapper para mapeamento automático de objetos entre tipos distintos.
    *
@@ -68,4 +90,17 @@ public class WebConfig implements WebMvcConfigurer {
     resolver.setFallbackPageable(PageRequest.of(0, 20));
     resolvers.add(resolver);
   }
+
+  /**
+   * Executa as respostas assíncronas, como as transmitidas com {@code StreamingResponseBody}, no
+   * executor limitado {@link ExecutorConfig#MVC_EXECUTOR} e encerra as que excederem o tempo
+   * configurado. Emissores com tempo próprio, como os de SSE, mantêm o seu.
+   *
+   * @param configurer configuração do processamento assíncrono
+   */
+  @Override
+  public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+    configurer.setTaskExecutor(mvcExecutor);
+    configurer.setDefaultTimeout(timeoutAssincrono.toMillis());
+  }
 }
@@ -27,17 +27,4 @@ public interface EmailCodeRepository extends JpaRepository<EmailCode, Long> {
    * @return um Optional contendo o EmailCode válido, se encontrado
    */
   Optional<EmailCode> findByCodeAndExpirationAfterAndUsedFalse(String code, LocalDateTime now);
-
-  /**
-   * Conta a quantidade de códigos de e-mail de um determinado tipo associados a um endereço,
-   * gerados estritamente após a data e hora especificadas.
-   *
-   * @param email endereço de e-mail a ser consultado
-   * @param type tipo do código de e-mail
-   * @param generatedAt data e hora limite exclusiva para considerar os códigos gerados
-   *     posteriormente
-   * @return número de códigos de e-mail encontrados conforme os critérios
-   */
-  Long countByEmailAndTypeAndGeneratedAtAfter(
-      String email, TipoCodigo type, LocalDateTime generatedAt);
 }
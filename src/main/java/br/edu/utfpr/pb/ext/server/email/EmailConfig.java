@@ -1,23 +1,38 @@
 package br.edu.utfpr.pb.ext.server.email;
 
 import com.sendgrid.SendGrid;
+import java.time.Duration;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
 @Configuration
 public class EmailConfig {
+  private static final Logger logger = LoggerFactory.getLogger(EmailConfig.class);
+
   @Value("${spring.sendgrid.api-key:sendgridkey}")
   private String apiKey;
 
+  @Value("${app.email.stub-transport.enabled:false}")
+  private boolean stubTransport;
+
+  @Value("${app.email.stub-transport.latency:50ms}")
+  private Duration stubLatency;
+
   /**
    * Cria e fornece um bean SendGrid configurado com a chave de API definida nas propriedades da
-   * aplicação.
+   * aplicação, ou o transporte local {@link SendGridStub} quando habilitado.
    *
    * @return uma instância de SendGrid pronta para envio de e-mails
    */
   @Bean
   public SendGrid sendGrid() {
+    if (stubTransport) {
+      logger.warn("Transporte local do SendGrid habilitado: nenhum e-mail será enviado");
+      return new SendGridStub(stubLatency);
+    }
     return new SendGrid(apiKey);
   }
 }
@@ -0,0 +1,257 @@
+package br.edu.utfpr.pb.ext.server.email;
+
+import br.edu.utfpr.pb.ext.server.email.impl.EmailServiceImpl;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Fila de envio assíncrono de e-mails de notificação.
+ *
+ * <p>As mensagens são consumidas por um número fixo de workers. Cada worker retira da fila um lote
+ * de mensagens, agrupa as que têm o mesmo assunto e conteúdo e envia cada grupo em uma única
+ * requisição ao SendGrid, com uma personalization por destinatário (até {@value
+ * EmailServiceImpl#MAX_PERSONALIZATIONS} por requisição).
+ *
+ * <p>A fila é limitada: quando cheia, {@link #enfileirar} aguarda até o tempo configurado e então
+ * descarta as mensagens que não couberam, aplicando contrapressão a quem produz os e-mails. Ao
+ * encerrar a aplicação, as mensagens pendentes são enviadas dentro do tempo de encerramento
+ * configurado.
+ *
+ * <p>A fila fica em memória: uma mensagem aceita é enviada no máximo uma vez e se perde se a
+ * aplicação parar antes do envio ou se a requisição ao SendGrid falhar.
+ *
+ * <p>Métricas publicadas: {@code email.fila.tamanho} (mensagens aguardando), {@code
+ * email.fila.latencia} (tempo entre enfileirar e enviar), {@code email.fila.envio} (duração de cada
+ * requisição) e {@code email.fila.mensagens} com a tag {@code resultado} ({@code enviada}, {@code
+ * falha} ou {@code rejeitada}).
+ */
+@Component
+public class FilaEmail {
+  private static final Logger logger = LoggerFactory.getLogger(FilaEmail.class);
+
+  private final EmailServiceImpl emailService;
+  private final BlockingQueue<MensagemEmail> fila;
+  private final int workers;
+  private final int tamanhoLote;
+  private final Duration timeoutEnfileiramento;
+  private final Duration timeoutEncerramento;
+
+  private final Timer latencia;
+  private final Timer envio;
+  private final Counter enviadas;
+  private final Counter falhas;
+  private final Counter rejeitadas;
+
+  private ExecutorService executor;
+  private volatile boolean ativa;
+
+  /**
+   * Cria a fila com os limites configurados e registra suas métricas.
+   *
+   * @param emailService serviço usado para enviar os e-mails
+   * @param capacidade quantidade máxima de mensagens aguardando envio
+   * @param workers quantidade de workers que consomem a fila
+   * @param tamanhoLote quantidade máxima de mensagens retiradas da fila de uma vez
+   * @param timeoutEnfileiramento tempo máximo de espera por espaço na fila
+   * @param timeoutEncerramento tempo máximo para enviar as mensagens pendentes ao encerrar
+   * @param meterRegistry registro de métricas
+   */
+  public FilaEmail(
+      EmailServiceImpl emailService,
+      @Value("${app.email.queue.capacity:10000}") int capacidade,
+      @Value("${app.email.queue.workers:4}") int workers,
+      @Value("${app.email.queue.batch-size:1000}") int tamanhoLote,
+      @Value("${app.email.queue.offer-timeout:5s}") Duration timeoutEnfileiramento,
+      @Value("${app.email.queue.shutdown-timeout:30s}") Duration timeoutEncerramento,
+      MeterRegistry meterRegistry) {
+    this.emailService = emailService;
+    this.fila = new ArrayBlockingQueue<>(capacidade);
+    this.workers = workers;
+    this.tamanhoLote = tamanhoLote;
+    this.timeoutEnfileiramento = timeoutEnfileiramento;
+    this.timeoutEncerramento = timeoutEncerramento;
+
+    Gauge.builder("email.fila.tamanho", fila, BlockingQueue::size).register(meterRegistry);
+    this.latencia = Timer.builder("email.fila.latencia").register(meterRegistry);
+    this.envio = Timer.builder("email.fila.envio").register(meterRegistry);
+    this.enviadas = meterRegistry.counter("email.fila.mensagens", "resultado", "enviada");
+    this.falhas = meterRegistry.counter("email.fila.mensagens", "resultado", "falha");
+    this.rejeitadas = meterRegistry.counter("email.fila.mensagens", "resultado", "rejeitada");
+  }
+
+  /** Inicia os workers que consomem a fila. */
+  @PostConstruct
+  void iniciar() {
+    ativa = true;
+    AtomicInteger sequencia = new AtomicInteger();
+    executor =
+        Executors.newFixedThreadPool(
+            workers,
+            tarefa -> {
+              Thread thread = new Thread(tarefa, "email-fila-" + sequencia.incrementAndGet());
+              thread.setDaemon(true);
+              return thread;
+            });
+    for (int i = 0; i < workers; i++) {
+      executor.execute(this::consumir);
+    }
+  }
+
+  /** Deixa de consumir a fila depois de enviar as mensagens pendentes ou esgotar o tempo limite. */
+  @PreDestroy
+  void encerrar() throws InterruptedException {
+    ativa = false;
+    if (executor == null) {
+      return;
+    }
+    executor.shutdown();
+    if (!executor.awaitTermination(timeoutEncerramento.toMillis(), TimeUnit.MILLISECONDS)) {
+      executor.shutdownNow();
+      logger.warn("{} e-mails pendentes descartados no encerramento da fila", fila.size());
+    }
+  }
+
+  /**
+   * Enfileira o mesmo e-mail para cada destinatário informado. O tempo de espera por espaço na fila
+   * vale para a chamada inteira, e não para cada destinatário: esgotado o prazo, as mensagens
+   * restantes só são aceitas se houver espaço imediato.
+   *
+   * @param destinatarios endereços dos destinatários
+   * @param assunto assunto do e-mail
+   * @param conteudo conteúdo do e-mail
+   * @param tipo tipo do conteúdo, como "text/html"
+   * @return quantidade de mensagens aceitas pela fila
+   */
+  public int enfileirar(
+      Collection<String> destinatarios, String assunto, String conteudo, String tipo) {
+    long prazo = System.nanoTime() + timeoutEnfileiramento.toNanos();
+    boolean interrompida = false;
+    int aceitas = 0;
+    for (String destinatario : destinatarios) {
+      MensagemEmail mensagem =
+          new MensagemEmail(destinatario, assunto, conteudo, tipo, System.nanoTime());
+      if (!interrompida) {
+        try {
+          long restante = Math.max(0, prazo - System.nanoTime());
+          if (fila.offer(mensagem, restante, TimeUnit.NANOSECONDS)) {
+            aceitas++;
+            continue;
+          }
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+          interrompida = true;
+        }
+      }
+      rejeitadas.increment();
+      logger.error("Fila de e-mails cheia, mensagem para {} descartada: {}", destinatario, assunto);
+    }
+    return aceitas;
+  }
+
+  /** Retorna a quantidade de mensagens aguardando envio. */
+  public int tamanho() {
+    return fila.size();
+  }
+
+  private void consumir() {
+    try {
+      while (ativa || !fila.isEmpty()) {
+        processarLote(200);
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  /**
+   * Retira da fila um lote de mensagens, aguardando pela primeira até o tempo informado, e o envia.
+   *
+   * @param esperaMillis tempo máximo de espera pela primeira mensagem
+   * @return quantidade de mensagens processadas
+   */
+  int processarLote(long esperaMillis) throws InterruptedException {
+    MensagemEmail primeira = fila.poll(esperaMillis, TimeUnit.MILLISECONDS);
+    if (primeira == null) {
+      return 0;
+    }
+    List<MensagemEmail> lote = new ArrayList<>();
+    lote.add(primeira);
+    fila.drainTo(lote, tamanhoLote - 1);
+
+    Map<Conteudo, List<MensagemEmail>> grupos = new LinkedHashMap<>();
+    for (MensagemEmail mensagem : lote) {
+      grupos.computeIfAbsent(mensagem.conteudo(), c -> new ArrayList<>()).add(mensagem);
+    }
+    grupos.forEach(this::enviar);
+    return lote.size();
+  }
+
+  private void enviar(Conteudo conteudo, List<MensagemEmail> mensagens) {
+    Set<String> destinatarios = new LinkedHashSet<>();
+    mensagens.forEach(mensagem -> destinatarios.add(mensagem.destinatario()));
+    List<String> lista = new ArrayList<>(destinatarios);
+
+    for (int inicio = 0; inicio < lista.size(); inicio += EmailServiceImpl.MAX_PERSONALIZATIONS) {
+      List<String> parte =
+          lista.subList(
+              inicio, Math.min(inicio + EmailServiceImpl.MAX_PERSONALIZATIONS, lista.size()));
+      Timer.Sample amostra = Timer.start();
+      try {
+        emailService.sendEmail(parte, conteudo.assunto(), conteudo.texto(), conteudo.tipo());
+        enviadas.increment(parte.size());
+        logger.info(
+            "Email enviado para {} destinatários com assunto: {}",
+            parte.size(),
+            conteudo.assunto());
+      } catch (Exception e) {
+        falhas.increment(parte.size());
+        logger.error(
+            "Erro ao enviar email para {} com assunto {}: {}",
+            parte,
+            conteudo.assunto(),
+            e.getMessage(),
+            e);
+      } finally {
+        amostra.stop(envio);
+      }
+    }
+
+    long agora = System.nanoTime();
+    mensagens.forEach(
+        mensagem -> latencia.record(agora - mensagem.enfileiradaEm(), TimeUnit.NANOSECONDS));
+  }
+
+  /** Assunto e conteúdo que identificam e-mails que podem ser enviados na mesma requisição. */
+  private record Conteudo(String assunto, String texto, String tipo) {}
+
+  /** E-mail aguardando envio para um destinatário. */
+  private record MensagemEmail(
+      String destinatario, String assunto, String texto, String tipo, long enfileiradaEm) {
+
+    Conteudo conteudo() {
+      return new Conteudo(assunto, texto, tipo);
+    }
+  }
+}
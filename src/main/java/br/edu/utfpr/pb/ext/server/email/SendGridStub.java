@@ -0,0 +1,48 @@
+package br.edu.utfpr.pb.ext.server.email;
+
+import com.sendgrid.Request;
+import com.sendgrid.Response;
+import com.sendgrid.SendGrid;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Transporte local que substitui a API do SendGrid, aceitando todas as requisições sem enviar
+ * e-mails.
+ *
+ * <p>Simula a latência da API para permitir testes de carga do envio de e-mails sem acesso à rede.
+ * Habilitado pela propriedade {@code app.email.stub-transport.enabled}.
+ */
+public class SendGridStub extends SendGrid {
+  private final long latenciaMillis;
+  private final AtomicLong requisicoes = new AtomicLong();
+
+  /**
+   * Cria o transporte local.
+   *
+   * @param latencia tempo de resposta simulado de cada requisição
+   */
+  public SendGridStub(Duration latencia) {
+    super("stub");
+    this.latenciaMillis = latencia.toMillis();
+  }
+
+  @Override
+  public Response api(Request request) {
+    if (latenciaMillis > 0) {
+      try {
+        Thread.sleep(latenciaMillis);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    }
+    requisicoes.incrementAndGet();
+    return new Response(202, "", Map.of());
+  }
+
+  /** Retorna a quantidade de requisições recebidas. */
+  public long getRequisicoes() {
+    return requisicoes.get();
+  }
+}
@@ -4,12 +4,18 @@ import br.edu.utfpr.pb.ext.server.email.EmailCode;
 import br.edu.utfpr.pb.ext.server.email.EmailCodeRepository;
 import br.edu.utfpr.pb.ext.server.email.enums.TipoCodigo;
 import br.edu.utfpr.pb.ext.server.email.enums.TipoDeNotificacao;
+import br.edu.utfpr.pb.ext.server.ratelimit.Limite;
+import br.edu.utfpr.pb.ext.server.ratelimit.RateLimiter;
 import com.sendgrid.*;
 import com.sendgrid.helpers.mail.Mail;
 import com.sendgrid.helpers.mail.objects.Content;
 import com.sendgrid.helpers.mail.objects.Email;
+import com.sendgrid.helpers.mail.objects.Personalization;
 import java.io.IOException;
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 import java.util.regex.Pattern;
 import org.slf4j.Logger;
@@ -22,11 +28,21 @@ import org.thymeleaf.spring6.SpringTemplateEngine;
 @Service
 public class EmailServiceImpl {
 
+  private static final String REMETENTE = "webprojeto2@gmail.com";
   private static final int CODE_EXPIRATION_MINUTES = 10;
   private static final int MAX_CODES_PER_DAY = 30;
   private static final int MAX_CODES_IN_SHORT_PERIOD = 5;
   private static final int SHORT_PERIOD_REST_IN_MINUTES = 15;
+  private static final Limite LIMITE_DIARIO =
+      new Limite("otp-diario", MAX_CODES_PER_DAY, Duration.ofHours(24));
+  private static final Limite LIMITE_CURTO =
+      new Limite(
+          "otp-curto", MAX_CODES_IN_SHORT_PERIOD, Duration.ofMinutes(SHORT_PERIOD_REST_IN_MINUTES));
   private static final Pattern EMAIL_REGEX = Pattern.compile("^[\\w-.]+@([\\w-]+\\.)+[\\w-]{2,4}$");
+
+  /** Quantidade máxima de personalizations aceita pelo SendGrid em uma única requisição. */
+  public static final int MAX_PERSONALIZATIONS = 1000;
+
   public static final String ERRO_LIMITE_DIARIO =
       "Quantidade de solicitações ultrapassa o limite das últimas 24 horas.";
   public static final String ERRO_LIMITE_CURTO =
@@ -38,17 +54,21 @@ public class EmailServiceImpl {
 
   private final SpringTemplateEngine springTemplateEngine;
 
+  private final RateLimiter rateLimiter;
+
   /**
-   * Cria uma instância do serviço de e-mail com o repositório de códigos e o cliente SendGrid
-   * fornecidos.
+   * Cria uma instância do serviço de e-mail com o repositório de códigos, o cliente SendGrid e o
+   * limitador de envios fornecidos.
    */
   public EmailServiceImpl(
       EmailCodeRepository repository,
       SendGrid sendGrid,
-      SpringTemplateEngine springTemplateEngine) {
+      SpringTemplateEngine springTemplateEngine,
+      RateLimiter rateLimiter) {
     this.repository = repository;
     this.sendGrid = sendGrid;
     this.springTemplateEngine = springTemplateEngine;
+    this.rateLimiter = rateLimiter;
   }
 
   /**
@@ -93,29 +113,27 @@ public class EmailServiceImpl {
   }
 
   /**
-   * Verifica se o envio de códigos para o e-mail e tipo especificados excede os limites diário e de
-   * curto prazo.
+   * Registra a solicitação de código para o e-mail e tipo especificados, verificando os limites
+   * diário e de curto prazo.
    *
-   * <p>Lança uma exceção se o número de códigos enviados nas últimas 24 horas ou nos últimos
-   * minutos ultrapassar o permitido.
+   * <p>As solicitações são contabilizadas pelo {@link RateLimiter}, sem consultar os códigos já
+   * gerados. Uma solicitação que ultrapasse algum dos limites não é contabilizada.
    *
    * @param email endereço de e-mail a ser verificado
    * @param type tipo de código relacionado ao envio
    * @throws IllegalArgumentException se algum dos limites de envio for atingido
    */
   private void verificarLimiteEnvio(String email, TipoCodigo type) {
-    LocalDateTime limiteDiario = LocalDateTime.now().minusHours(24);
-    Long codigos = repository.countByEmailAndTypeAndGeneratedAtAfter(email, type, limiteDiario);
-    if (codigos > MAX_CODES_PER_DAY) {
-      throw new IllegalArgumentException(ERRO_LIMITE_DIARIO);
+    Optional<Limite> atingido =
+        rateLimiter.tentarConsumir(
+            "otp:" + type.name() + ":" + email.toLowerCase(), LIMITE_DIARIO, LIMITE_CURTO);
+    if (atingido.isEmpty()) {
+      return;
     }
-
-    LocalDateTime limiteCurto = LocalDateTime.now().minusMinutes(SHORT_PERIOD_REST_IN_MINUTES);
-    codigos = repository.countByEmailAndTypeAndGeneratedAtAfter(email, type, limiteCurto);
-
-    if (codigos > MAX_CODES_IN_SHORT_PERIOD) {
-      throw new IllegalArgumentException(ERRO_LIMITE_CURTO.formatted(SHORT_PERIOD_REST_IN_MINUTES));
+    if (atingido.get().equals(LIMITE_DIARIO)) {
+      throw new IllegalArgumentException(ERRO_LIMITE_DIARIO);
     }
+    throw new IllegalArgumentException(ERRO_LIMITE_CURTO.formatted(SHORT_PERIOD_REST_IN_MINUTES));
   }
 
   /**
@@ -254,11 +272,51 @@ public class EmailServiceImpl {
    */
   public Response sendEmail(String to, String subject, String contentText, String tipo)
       throws IOException {
-    Email from = new Email("webprojeto2@gmail.com");
+    Email from = new Email(REMETENTE);
     Email toEmail = new Email(to);
     Content content = new Content(tipo, contentText);
     Mail mail = new Mail(from, subject, toEmail, content);
+    return enviar(mail);
+  }
+
+  /**
+   * Envia o mesmo e-mail a vários destinatários em uma única requisição ao SendGrid, com uma
+   * personalization por destinatário, de modo que cada um veja apenas o próprio endereço.
+   *
+   * @param to endereços dos destinatários; no máximo {@value #MAX_PERSONALIZATIONS}
+   * @param subject assunto do e-mail
+   * @param contentText conteúdo do e-mail, podendo ser texto simples ou HTML
+   * @param tipo tipo do conteúdo do e-mail, como "text/plain" ou "text/html"
+   * @return resposta da API SendGrid em caso de envio bem-sucedido
+   * @throws IllegalArgumentException se não houver destinatários ou se exceder o limite da API
+   * @throws IOException se o envio do e-mail falhar ou se a resposta da API não for 202
+   */
+  public Response sendEmail(List<String> to, String subject, String contentText, String tipo)
+      throws IOException {
+    if (to.isEmpty() || to.size() > MAX_PERSONALIZATIONS) {
+      throw new IllegalArgumentException(
+          "A quantidade de destinatários deve estar entre 1 e " + MAX_PERSONALIZATIONS + ".");
+    }
+    Mail mail = new Mail();
+    mail.setFrom(new Email(REMETENTE));
+    mail.setSubject(subject);
+    mail.addContent(new Content(tipo, contentText));
+    for (String destinatario : to) {
+      Personalization personalization = new Personalization();
+      personalization.addTo(new Email(destinatario));
+      mail.addPersonalization(personalization);
+    }
+    return enviar(mail);
+  }
 
+  /**
+   * Envia o e-mail montado pela API do SendGrid.
+   *
+   * @param mail e-mail a ser enviado
+   * @return resposta da API SendGrid em caso de envio bem-sucedido
+   * @throws IOException se o envio do e-mail falhar ou se a resposta da API não for 202
+   */
+  private Response enviar(Mail mail) throws IOException {
     Request request = new Request();
     request.setMethod(Method.POST);
     request.setEndpoint("mail/send");
@@ -5,6 +5,7 @@ import jakarta.servlet.http.HttpServletRequest;
 import java.util.HashMap;
 import java.util.Map;
 import org.slf4j.Logger;
+import org.springframework.core.task.TaskRejectedException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
@@ -14,6 +15,7 @@ import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.context.request.async.AsyncRequestTimeoutException;
 import org.springframework.web.server.ResponseStatusException;
 
 @RestControllerAdvice
@@ -99,6 +101,17 @@ public class ExceptionHandlerAdvice {
     return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(apiError);
   }
 
+  @ExceptionHandler({TaskRejectedException.class, AsyncRequestTimeoutException.class})
+  @ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+  public ApiError handleServidorOcupado(Exception exception, HttpServletRequest request) {
+    logger.warn("Resposta assíncrona não concluída: {}", exception.toString());
+    return ApiError.builder()
+        .status(503)
+        .message("Servidor ocupado. Por favor, tente novamente mais tarde.")
+        .url(request.getServletPath())
+        .build();
+  }
+
   @ExceptionHandler(Exception.class)
   @ResponseStatus(HttpStatus.INTERNAL_SERVER_ERROR)
   public ApiError handleException(Exception exception, HttpServletRequest request) {
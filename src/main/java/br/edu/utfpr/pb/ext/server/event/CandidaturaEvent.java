@@ -1,9 +1,7 @@
 package br.edu.utfpr.pb.ext.server.event;
 
-import br.edu.utfpr.pb.ext.server.candidatura.Candidatura;
-
-public class CandidaturaEvent extends EntityEvent<Candidatura> {
-  public CandidaturaEvent(Candidatura candidatura, EventType eventType) {
+public class CandidaturaEvent extends EntityEvent<CandidaturaSnapshot> {
+  public CandidaturaEvent(CandidaturaSnapshot candidatura, EventType eventType) {
     super(candidatura, eventType);
   }
 }
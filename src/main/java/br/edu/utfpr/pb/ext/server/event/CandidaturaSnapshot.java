@@ -0,0 +1,42 @@
+package br.edu.utfpr.pb.ext.server.event;
+
+import br.edu.utfpr.pb.ext.server.candidatura.Candidatura;
+import br.edu.utfpr.pb.ext.server.candidatura.StatusCandidatura;
+import br.edu.utfpr.pb.ext.server.projeto.Projeto;
+
+/**
+ * Estado de uma candidatura no momento da publicação do evento, incluindo os dados do projeto
+ * necessários para notificar o seu responsável.
+ *
+ * @param id identificador da candidatura
+ * @param status status da candidatura
+ * @param projetoId identificador do projeto, ou {@code null}
+ * @param projetoTitulo título do projeto, ou {@code null}
+ * @param aluno aluno candidato, ou {@code null}
+ * @param responsavelProjeto responsável pelo projeto, ou {@code null}
+ */
+public record CandidaturaSnapshot(
+    Long id,
+    StatusCandidatura status,
+    Long projetoId,
+    String projetoTitulo,
+    UsuarioSnapshot aluno,
+    UsuarioSnapshot responsavelProjeto) {
+
+  /**
+   * Copia os dados da candidatura usados pelos listeners.
+   *
+   * @param candidatura candidatura a copiar
+   * @return cópia imutável da candidatura
+   */
+  public static CandidaturaSnapshot de(Candidatura candidatura) {
+    Projeto projeto = candidatura.getProjeto();
+    return new CandidaturaSnapshot(
+        candidatura.getId(),
+        candidatura.getStatus(),
+        projeto != null ? projeto.getId() : null,
+        projeto != null ? projeto.getTitulo() : null,
+        UsuarioSnapshot.de(candidatura.getAluno()),
+        projeto != null ? UsuarioSnapshot.de(projeto.getResponsavel()) : null);
+  }
+}
@@ -1,20 +1,12 @@
 package br.edu.utfpr.pb.ext.server.event;
 
-import br.edu.utfpr.pb.ext.server.candidatura.Candidatura;
-import br.edu.utfpr.pb.ext.server.email.impl.EmailServiceImpl;
-import br.edu.utfpr.pb.ext.server.projeto.Projeto;
-import br.edu.utfpr.pb.ext.server.sugestaoprojeto.SugestaoDeProjeto;
-import br.edu.utfpr.pb.ext.server.usuario.Usuario;
+import br.edu.utfpr.pb.ext.server.email.FilaEmail;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.context.event.EventListener;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.event.TransactionPhase;
-import org.springframework.transaction.event.TransactionalEventListener;
 import org.thymeleaf.TemplateEngine;
 import org.thymeleaf.context.Context;
 
@@ -26,35 +18,26 @@ public class EmailEventListener {
   public static final String ENTITY_TITLE = "entityTitle";
   public static final String DATA_HORA = "dataHora";
   public static final String PROJETO = "Projeto";
-  private final EmailServiceImpl emailService;
+  private final FilaEmail filaEmail;
   private final TemplateEngine templateEngine;
 
-  @Async
-  @EventListener
   public void handleProjetoEvent(ProjetoEvent event) {
-    Projeto projeto = event.getEntity();
+    ProjetoSnapshot projeto = event.getEntity();
     List<String> recipients = new ArrayList<>();
 
     // Add responsavel if exists
-    if (projeto.getResponsavel() != null && projeto.getResponsavel().getEmail() != null) {
-      recipients.add(projeto.getResponsavel().getEmail());
-    }
+    adicionarEmail(recipients, projeto.responsavel());
 
     // Add all team members
-    if (projeto.getEquipeExecutora() != null) {
-      projeto.getEquipeExecutora().stream()
-          .filter(usuario -> usuario != null && usuario.getEmail() != null)
-          .map(Usuario::getEmail)
-          .forEach(recipients::add);
-    }
+    projeto.equipeExecutora().forEach(usuario -> adicionarEmail(recipients, usuario));
 
     if (recipients.isEmpty()) {
-      log.warn("Nenhum destinatário encontrado para o projeto: {}", projeto.getTitulo());
+      log.warn("Nenhum destinatário encontrado para o projeto: {}", projeto.titulo());
       return;
     }
 
     Context context = new Context();
-    context.setVariable(ENTITY_TITLE, projeto.getTitulo());
+    context.setVariable(ENTITY_TITLE, projeto.titulo());
     context.setVariable(DATA_HORA, LocalDateTime.now());
 
     if (event.getEventType() == EntityEvent.EventType.CREATED) {
@@ -62,45 +45,33 @@ public class EmailEventListener {
       context.setVariable("subtitulo", "Um projeto foi criado com sucesso");
       context.setVariable("mensagem", "O projeto foi registrado com sucesso no sistema.");
       sendTemplateEmailToMultipleRecipients(
-          recipients,
-          "Novo projeto criado: " + projeto.getTitulo(),
-          "notification-template",
-          context);
+          recipients, "Novo projeto criado: " + projeto.titulo(), "notification-template", context);
     } else if (event.getEventType() == EntityEvent.EventType.UPDATED) {
       context.setVariable("titulo", "Projeto Atualizado");
       context.setVariable("subtitulo", "Um projeto foi atualizado");
       context.setVariable("mensagem", "As alterações no projeto foram salvas com sucesso.");
       sendTemplateEmailToMultipleRecipients(
-          recipients,
-          "Projeto atualizado: " + projeto.getTitulo(),
-          "notification-template",
-          context);
+          recipients, "Projeto atualizado: " + projeto.titulo(), "notification-template", context);
     }
   }
 
-  @Async
-  @EventListener
   public void handleSugestaoEvent(SugestaoEvent event) {
-    SugestaoDeProjeto sugestao = event.getEntity();
+    SugestaoSnapshot sugestao = event.getEntity();
     List<String> recipients = new ArrayList<>();
 
     // Add aluno if exists
-    if (sugestao.getAluno() != null && sugestao.getAluno().getEmail() != null) {
-      recipients.add(sugestao.getAluno().getEmail());
-    }
+    adicionarEmail(recipients, sugestao.aluno());
 
     // Add professor if exists
-    if (sugestao.getProfessor() != null && sugestao.getProfessor().getEmail() != null) {
-      recipients.add(sugestao.getProfessor().getEmail());
-    }
+    adicionarEmail(recipients, sugestao.professor());
 
     if (recipients.isEmpty()) {
-      log.warn("Nenhum destinatário encontrado para a sugestão: {}", sugestao.getTitulo());
+      log.warn("Nenhum destinatário encontrado para a sugestão: {}", sugestao.titulo());
       return;
     }
 
     Context context = new Context();
-    context.setVariable(ENTITY_TITLE, sugestao.getTitulo());
+    context.setVariable(ENTITY_TITLE, sugestao.titulo());
     context.setVariable(DATA_HORA, LocalDateTime.now());
 
     if (event.getEventType() == EntityEvent.EventType.CREATED) {
@@ -109,7 +80,7 @@ public class EmailEventListener {
       context.setVariable("mensagem", "A sugestão foi compartilhada com sucesso no sistema.");
       sendTemplateEmailToMultipleRecipients(
           recipients,
-          "Nova sugestão registrada: " + sugestao.getTitulo(),
+          "Nova sugestão registrada: " + sugestao.titulo(),
           "notification-template",
           context);
     } else if (event.getEventType() == EntityEvent.EventType.UPDATED) {
@@ -118,71 +89,126 @@ public class EmailEventListener {
       context.setVariable("mensagem", "As alterações na sugestão foram salvas com sucesso.");
       sendTemplateEmailToMultipleRecipients(
           recipients,
-          "Sugestão atualizada: " + sugestao.getTitulo(),
+          "Sugestão atualizada: " + sugestao.titulo(),
           "notification-template",
           context);
     }
   }
 
-  @Async
-  @EventListener
-  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
   public void handleCandidaturaEvent(CandidaturaEvent event) {
-    Candidatura candidatura = event.getEntity();
+    CandidaturaSnapshot candidatura = event.getEntity();
     List<String> recipients = new ArrayList<>();
 
-    if (candidatura.getAluno() != null && candidatura.getAluno().getEmail() != null) {
-      recipients.add(candidatura.getAluno().getEmail());
-    }
+    adicionarEmail(recipients, candidatura.aluno());
+    adicionarEmail(recipients, candidatura.responsavelProjeto());
 
-    if (candidatura.getProjeto() != null
-        && candidatura.getProjeto().getResponsavel() != null
-        && candidatura.getProjeto().getResponsavel().getEmail() != null) {
-      recipients.add(candidatura.getProjeto().getResponsavel().getEmail());
-    }
+    String tituloProjeto =
+        candidatura.projetoTitulo() != null ? candidatura.projetoTitulo() : PROJETO;
 
     if (recipients.isEmpty()) {
       log.warn(
           "Nenhum destinatário encontrado para a candidatura do projeto: {}",
-          candidatura.getProjeto() != null ? candidatura.getProjeto().getTitulo() : "N/A");
+          candidatura.projetoTitulo() != null ? candidatura.projetoTitulo() : "N/A");
       return;
     }
 
     Context context = new Context();
+    context.setVariable(ENTITY_TITLE, tituloProjeto);
     context.setVariable(
-        ENTITY_TITLE,
-        candidatura.getProjeto() != null ? candidatura.getProjeto().getTitulo() : PROJETO);
-    context.setVariable(
-        "nomeAluno", candidatura.getAluno() != null ? candidatura.getAluno().getNome() : "N/A");
-    context.setVariable("statusCandidatura", candidatura.getStatus());
+        "nomeAluno", candidatura.aluno() != null ? candidatura.aluno().nome() : "N/A");
+    context.setVariable("statusCandidatura", candidatura.status());
     context.setVariable(DATA_HORA, LocalDateTime.now());
 
     if (event.getEventType() == EntityEvent.EventType.CREATED) {
-      String subject =
-          "Nova candidatura recebida - "
-              + (candidatura.getProjeto() != null ? candidatura.getProjeto().getTitulo() : PROJETO);
+      String subject = "Nova candidatura recebida - " + tituloProjeto;
       sendTemplateEmailToMultipleRecipients(recipients, subject, "candidatura-created", context);
       log.info("Email de nova candidatura enviado para: {}", recipients);
     } else if (event.getEventType() == EntityEvent.EventType.UPDATED) {
-      String subject =
-          "Status da candidatura atualizado - "
-              + (candidatura.getProjeto() != null ? candidatura.getProjeto().getTitulo() : PROJETO);
+      String subject = "Status da candidatura atualizado - " + tituloProjeto;
       sendTemplateEmailToMultipleRecipients(recipients, subject, "candidatura-updated", context);
       log.info("Email de atualização de candidatura enviado para: {}", recipients);
     }
   }
 
+  /**
+   * Envia a cada aluno o e-mail da sua candidatura e ao responsável pelo projeto um único e-mail
+   * com o resumo do lote. Um lote com uma só candidatura é tratado como o evento dessa candidatura.
+   */
+  public void handleLoteCandidaturasEvent(LoteCandidaturasEvent event) {
+    LoteCandidaturasSnapshot lote = event.getEntity();
+    if (lote.candidaturas().size() == 1) {
+      handleCandidaturaEvent(
+          new CandidaturaEvent(lote.candidaturas().getFirst(), event.getEventType()));
+      return;
+    }
+
+    String tituloProjeto = lote.projetoTitulo() != null ? lote.projetoTitulo() : PROJETO;
+    for (CandidaturaSnapshot candidatura : lote.candidaturas()) {
+      List<String> recipients = new ArrayList<>();
+      adicionarEmail(recipients, candidatura.aluno());
+      if (recipients.isEmpty()) {
+        continue;
+      }
+      Context context = new Context();
+      context.setVariable(ENTITY_TITLE, tituloProjeto);
+      context.setVariable("nomeAluno", candidatura.aluno().nome());
+      context.setVariable("statusCandidatura", candidatura.status());
+      context.setVariable(DATA_HORA, LocalDateTime.now());
+      sendTemplateEmailToMultipleRecipients(
+          recipients,
+          "Status da candidatura atualizado - " + tituloProjeto,
+          "candidatura-updated",
+          context);
+    }
+
+    List<String> recipients = new ArrayList<>();
+    adicionarEmail(recipients, lote.responsavelProjeto());
+    if (recipients.isEmpty()) {
+      return;
+    }
+    Context context = new Context();
+    context.setVariable(ENTITY_TITLE, tituloProjeto);
+    context.setVariable(DATA_HORA, LocalDateTime.now());
+    context.setVariable("titulo", "Candidaturas Atualizadas");
+    context.setVariable(
+        "subtitulo", lote.candidaturas().size() + " candidaturas foram atualizadas");
+    context.setVariable("mensagem", "Situação das candidaturas: " + lote.resumoPorStatus() + ".");
+    sendTemplateEmailToMultipleRecipients(
+        recipients,
+        "Candidaturas atualizadas - " + tituloProjeto,
+        "notification-template",
+        context);
+    log.info("Email de resumo do lote de candidaturas enviado para: {}", recipients);
+  }
+
+  /** Adiciona o e-mail do usuário, exceto se ele recebe as notificações no resumo diário. */
+  private static void adicionarEmail(List<String> recipients, UsuarioSnapshot usuario) {
+    if (usuario != null && usuario.email() != null && !usuario.resumoDiario()) {
+      recipients.add(usuario.email());
+    }
+  }
+
+  /**
+   * Processa o template uma única vez e enfileira o e-mail para todos os destinatários; a {@link
+   * FilaEmail} agrupa os destinatários em requisições ao SendGrid.
+   *
+   * <p>Se a fila não aceitar todas as mensagens, lança exceção para que o outbox entregue o evento
+   * novamente; os destinatários já aceitos podem então receber o e-mail em duplicidade. Depois de
+   * aceito pela fila, que fica em memória, o envio é no máximo uma vez: um e-mail ainda na fila se
+   * perde se a aplicação parar.
+   *
+   * @throws IllegalStateException se a fila rejeitar alguma das mensagens
+   */
   private void sendTemplateEmailToMultipleRecipients(
       List<String> recipients, String subject, String templateName, Context context) {
     String content = templateEngine.process(templateName, context);
-
-    for (String recipient : recipients) {
-      try {
-        emailService.sendEmail(recipient, subject, content, "text/html");
-        log.info("Email enviado para {} com assunto: {}", recipient, subject);
-      } catch (Exception e) {
-        log.error("Erro ao enviar email para {}: {}", recipient, e.getMessage(), e);
-      }
+    int enfileirados = filaEmail.enfileirar(recipients, subject, content, "text/html");
+    if (enfileirados < recipients.size()) {
+      throw new IllegalStateException(
+          String.format(
+              "Fila de e-mails cheia: %d de %d mensagens com assunto '%s' aceitas",
+              enfileirados, recipients.size(), subject));
     }
+    log.info("Email com assunto '{}' enfileirado para {} destinatários", subject, enfileirados);
   }
 }
@@ -6,6 +6,10 @@ import org.springframework.context.ApplicationEvent;
 /**
  * Evento genérico para entidades persistidas que precisam disparar notificações
  *
+ * <p>Os eventos de domínio carregam uma cópia imutável da entidade feita na publicação (veja {@link
+ * ProjetoSnapshot}, {@link SugestaoSnapshot} e {@link CandidaturaSnapshot}), e não a entidade
+ * gerenciada, para que os listeners não dependam da sessão em que ela foi carregada.
+ *
  * @param <T> Tipo da entidade associada ao evento
  */
 @Getter
@@ -1,39 +1,211 @@
 package br.edu.utfpr.pb.ext.server.event;
 
 import br.edu.utfpr.pb.ext.server.candidatura.Candidatura;
+import br.edu.utfpr.pb.ext.server.event.outbox.EventoOutbox;
+import br.edu.utfpr.pb.ext.server.event.outbox.EventoOutboxRepository;
+import br.edu.utfpr.pb.ext.server.event.outbox.OutboxDispatcher;
+import br.edu.utfpr.pb.ext.server.event.outbox.TipoAgregado;
 import br.edu.utfpr.pb.ext.server.projeto.Projeto;
 import br.edu.utfpr.pb.ext.server.sugestaoprojeto.SugestaoDeProjeto;
-import lombok.RequiredArgsConstructor;
-import org.springframework.context.ApplicationEventPublisher;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+/**
+ * Publica os eventos de domínio registrando-os no outbox ({@code tb_evento_outbox}) na mesma
+ * transação da alteração que os originou. A entrega aos listeners é feita pelo {@link
+ * OutboxDispatcher} após o commit, de modo que nenhum evento se perde se a aplicação for encerrada
+ * antes de processá-lo.
+ *
+ * <p>Cada evento guarda, em JSON, uma cópia imutável da entidade com os destinatários já
+ * resolvidos, para que a entrega não precise consultar o banco de dados.
+ *
+ * <p>Os eventos de atualização são agrupados por entidade: o primeiro fica disponível para entrega
+ * somente após {@code app.outbox.coalescing-window}, e as atualizações seguintes da mesma entidade
+ * nesse intervalo apenas substituem a cópia gravada nele. Assim, uma sequência de edições gera uma
+ * única notificação e um único e-mail por destinatário, com o estado final da entidade. Com janela
+ * zero, cada atualização gera o seu evento.
+ *
+ * <p>Métrica publicada: {@code outbox.eventos.agrupados} (atualizações incorporadas a um evento
+ * pendente).
+ */
 @Service
-@RequiredArgsConstructor
+@Transactional
 public class EventPublisher {
 
-  private final ApplicationEventPublisher publisher;
+  private final EventoOutboxRepository eventoOutboxRepository;
+  private final ObjectMapper objectMapper;
+  private final Duration janelaAgrupamento;
+  private final Counter agrupados;
+
+  /**
+   * Cria o publicador com a janela de agrupamento configurada.
+   *
+   * @param janelaAgrupamento tempo durante o qual as atualizações de uma entidade são agrupadas em
+   *     um único evento; zero desativa o agrupamento
+   */
+  public EventPublisher(
+      EventoOutboxRepository eventoOutboxRepository,
+      ObjectMapper objectMapper,
+      MeterRegistry meterRegistry,
+      @Value("${app.outbox.coalescing-window:2m}") Duration janelaAgrupamento) {
+    if (janelaAgrupamento.isNegative()) {
+      throw new IllegalArgumentException("app.outbox.coalescing-window não pode ser negativo");
+    }
+    this.eventoOutboxRepository = eventoOutboxRepository;
+    this.objectMapper = objectMapper;
+    this.janelaAgrupamento = janelaAgrupamento;
+    this.agrupados = meterRegistry.counter("outbox.eventos.agrupados");
+  }
 
   public void publishProjetoCriado(Projeto projeto) {
-    publisher.publishEvent(new ProjetoEvent(projeto, EntityEvent.EventType.CREATED));
+    registrar(
+        TipoAgregado.PROJETO,
+        projeto.getId(),
+        ProjetoSnapshot.de(projeto),
+        EntityEvent.EventType.CREATED);
   }
 
   public void publishProjetoAtualizado(Projeto projeto) {
-    publisher.publishEvent(new ProjetoEvent(projeto, EntityEvent.EventType.UPDATED));
+    registrar(
+        TipoAgregado.PROJETO,
+        projeto.getId(),
+        ProjetoSnapshot.de(projeto),
+        EntityEvent.EventType.UPDATED);
   }
 
   public void publishSugestaoCriada(SugestaoDeProjeto sugestao) {
-    publisher.publishEvent(new SugestaoEvent(sugestao, EntityEvent.EventType.CREATED));
+    registrar(
+        TipoAgregado.SUGESTAO_PROJETO,
+        sugestao.getId(),
+        SugestaoSnapshot.de(sugestao),
+        EntityEvent.EventType.CREATED);
   }
 
   public void publishSugestaoAtualizada(SugestaoDeProjeto sugestao) {
-    publisher.publishEvent(new SugestaoEvent(sugestao, EntityEvent.EventType.UPDATED));
+    registrar(
+        TipoAgregado.SUGESTAO_PROJETO,
+        sugestao.getId(),
+        SugestaoSnapshot.de(sugestao),
+        EntityEvent.EventType.UPDATED);
   }
 
   public void publishCandidaturaCriada(Candidatura candidatura) {
-    publisher.publishEvent(new CandidaturaEvent(candidatura, EntityEvent.EventType.CREATED));
+    registrar(
+        TipoAgregado.CANDIDATURA,
+        candidatura.getId(),
+        CandidaturaSnapshot.de(candidatura),
+        EntityEvent.EventType.CREATED);
   }
 
   public void publishCandidaturaAtualizada(Candidatura candidatura) {
-    publisher.publishEvent(new CandidaturaEvent(candidatura, EntityEvent.EventType.UPDATED));
+    registrar(
+        TipoAgregado.CANDIDATURA,
+        candidatura.getId(),
+        CandidaturaSnapshot.de(candidatura),
+        EntityEvent.EventType.UPDATED);
+  }
+
+  /**
+   * Publica as candidaturas atualizadas em uma mesma operação como um único evento por projeto, que
+   * gera uma notificação para cada aluno e um resumo para o responsável.
+   *
+   * <p>Os lotes não são agrupados como as demais atualizações: cada um traz candidaturas
+   * diferentes, e substituir a cópia de um lote pendente descartaria as do anterior.
+   *
+   * @param candidaturas candidaturas atualizadas, já com o novo status
+   */
+  public void publishCandidaturasAtualizadas(List<Candidatura> candidaturas) {
+    candidaturas.stream()
+        .collect(
+            Collectors.groupingBy(
+                candidatura -> candidatura.getProjeto().getId(),
+                LinkedHashMap::new,
+                Collectors.toList()))
+        .forEach(
+            (projetoId, doProjeto) ->
+                inserir(
+                    TipoAgregado.LOTE_CANDIDATURAS,
+                    projetoId,
+                    serializar(
+                        TipoAgregado.LOTE_CANDIDATURAS, LoteCandidaturasSnapshot.de(doProjeto)),
+                    EntityEvent.EventType.UPDATED));
+  }
+
+  private void registrar(
+      TipoAgregado tipoAgregado,
+      Long agregadoId,
+      Object snapshot,
+      EntityEvent.EventType tipoEvento) {
+    String payload = serializar(tipoAgregado, snapshot);
+    if (tipoEvento == EntityEvent.EventType.UPDATED && !janelaAgrupamento.isZero()) {
+      String chave = tipoAgregado + ":" + agregadoId;
+      if (agrupar(chave, payload)) {
+        return;
+      }
+      LocalDateTime agora = LocalDateTime.now();
+      if (eventoOutboxRepository.inserirAgrupavel(
+              UUID.randomUUID().toString(),
+              tipoAgregado.name(),
+              agregadoId,
+              tipoEvento.name(),
+              payload,
+              agora,
+              agora.plus(janelaAgrupamento),
+              chave)
+          > 0) {
+        return;
+      }
+      // outra transação registrou o evento da entidade depois da primeira tentativa; se ele já foi
+      // reservado para entrega, esta atualização gera um evento próprio
+      if (agrupar(chave, payload)) {
+        return;
+      }
+    }
+    inserir(tipoAgregado, agregadoId, payload, tipoEvento);
+  }
+
+  private String serializar(TipoAgregado tipoAgregado, Object snapshot) {
+    try {
+      return objectMapper.writeValueAsString(snapshot);
+    } catch (JsonProcessingException e) {
+      throw new IllegalStateException("Erro ao serializar o evento de " + tipoAgregado, e);
+    }
+  }
+
+  private void inserir(
+      TipoAgregado tipoAgregado,
+      Long agregadoId,
+      String payload,
+      EntityEvent.EventType tipoEvento) {
+    LocalDateTime agora = LocalDateTime.now();
+    eventoOutboxRepository.save(
+        EventoOutbox.builder()
+            .chaveIdempotencia(UUID.randomUUID().toString())
+            .tipoAgregado(tipoAgregado)
+            .agregadoId(agregadoId)
+            .tipoEvento(tipoEvento)
+            .payload(payload)
+            .criadoEm(agora)
+            .disponivelEm(agora)
+            .build());
+  }
+
+  private boolean agrupar(String chave, String payload) {
+    if (eventoOutboxRepository.agrupar(chave, payload) == 0) {
+      return false;
+    }
+    agrupados.increment();
+    return true;
   }
 }
@@ -0,0 +1,7 @@
+package br.edu.utfpr.pb.ext.server.event;
+
+public class LoteCandidaturasEvent extends EntityEvent<LoteCandidaturasSnapshot> {
+  public LoteCandidaturasEvent(LoteCandidaturasSnapshot lote, EventType eventType) {
+    super(lote, eventType);
+  }
+}
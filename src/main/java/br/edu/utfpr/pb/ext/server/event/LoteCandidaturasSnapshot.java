@@ -0,0 +1,61 @@
+package br.edu.utfpr.pb.ext.server.event;
+
+import br.edu.utfpr.pb.ext.server.candidatura.Candidatura;
+import br.edu.utfpr.pb.ext.server.candidatura.StatusCandidatura;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+/**
+ * Candidaturas de um projeto atualizadas em uma mesma operação, como a aprovação de vários
+ * candidatos de uma vez, publicadas como um único evento.
+ *
+ * @param projetoId identificador do projeto
+ * @param projetoTitulo título do projeto, ou {@code null}
+ * @param responsavelProjeto responsável pelo projeto, ou {@code null}
+ * @param candidaturas estado de cada candidatura após a atualização
+ */
+public record LoteCandidaturasSnapshot(
+    Long projetoId,
+    String projetoTitulo,
+    UsuarioSnapshot responsavelProjeto,
+    List<CandidaturaSnapshot> candidaturas) {
+
+  /**
+   * Copia os dados das candidaturas usados pelos listeners.
+   *
+   * @param candidaturas candidaturas de um mesmo projeto, já com o novo status
+   * @return cópia imutável do lote
+   */
+  public static LoteCandidaturasSnapshot de(List<Candidatura> candidaturas) {
+    CandidaturaSnapshot primeira = CandidaturaSnapshot.de(candidaturas.getFirst());
+    return new LoteCandidaturasSnapshot(
+        primeira.projetoId(),
+        primeira.projetoTitulo(),
+        primeira.responsavelProjeto(),
+        candidaturas.stream().map(CandidaturaSnapshot::de).toList());
+  }
+
+  /**
+   * Descreve quantas candidaturas do lote ficaram em cada status, como em {@code "APROVADA: 3,
+   * REJEITADA: 1"}.
+   *
+   * @return contagem por status, na ordem de {@link StatusCandidatura}
+   */
+  public String resumoPorStatus() {
+    Map<StatusCandidatura, Long> porStatus =
+        candidaturas.stream()
+            .map(CandidaturaSnapshot::status)
+            .filter(Objects::nonNull)
+            .collect(
+                Collectors.groupingBy(
+                    status -> status,
+                    () -> new EnumMap<>(StatusCandidatura.class),
+                    Collectors.counting()));
+    return porStatus.entrySet().stream()
+        .map(entrada -> entrada.getKey() + ": " + entrada.getValue())
+        .collect(Collectors.joining(", "));
+  }
+}
@@ -1,23 +1,19 @@
 package br.edu.utfpr.pb.ext.server.event;
 
-import br.edu.utfpr.pb.ext.server.candidatura.Candidatura;
 import br.edu.utfpr.pb.ext.server.notificacao.NotificacaoService;
 import br.edu.utfpr.pb.ext.server.notificacao.enums.TipoNotificacao;
 import br.edu.utfpr.pb.ext.server.notificacao.enums.TipoReferencia;
-import br.edu.utfpr.pb.ext.server.projeto.Projeto;
-import br.edu.utfpr.pb.ext.server.sugestaoprojeto.SugestaoDeProjeto;
-import br.edu.utfpr.pb.ext.server.usuario.Usuario;
 import java.util.ArrayList;
-import java.util.HashSet;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Set;
+import java.util.Map;
+import java.util.Objects;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.event.TransactionPhase;
-import org.springframework.transaction.event.TransactionalEventListener;
 
 /**
  * Listener responsável por criar notificações baseadas em eventos do sistema.
@@ -25,11 +21,11 @@ import org.springframework.transaction.event.TransactionalEventListener;
  * <p>Este componente escuta eventos de entidades (criação, atualização) e gera notificações
  * apropriadas para os usuários relevantes, seguindo o mesmo padrão do sistema de emails.
  *
- * <p>As notificações são processadas de forma assíncrona e transacional para garantir performance e
- * consistência dos dados.
- *
- * <p>Os eventos são processados após o commit da transação principal para garantir que as
- * notificações só sejam criadas quando as operações principais foram bem-sucedidas.
+ * <p>Os eventos são entregues pelo {@link br.edu.utfpr.pb.ext.server.event.outbox.OutboxDispatcher}
+ * a partir do outbox, gravado na mesma transação da operação principal; assim, as notificações só
+ * são criadas quando a operação foi bem-sucedida e não se perdem se a aplicação parar antes da
+ * entrega. Os erros não são tratados aqui: eles chegam ao dispatcher, que desfaz a transação do
+ * consumo e reagenda o evento.
  *
  * @author Sistema de Extensão UTFPR-PB
  * @since 1.0
@@ -50,45 +46,35 @@ public class NotificacaoEventListener {
    *   <li>Membros da equipe executora
    * </ul>
    *
-   * <p>Usa {@link TransactionalEventListener} para garantir que as notificações só sejam criadas
-   * após o commit da transação principal.
-   *
    * @param event evento de projeto contendo a entidade e o tipo de operação
    */
-  @Async
-  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
   public void handleProjetoEvent(ProjetoEvent event) {
-    try {
-      var projeto = event.getEntity();
-
-      if (projeto == null) {
-        log.warn("Evento de projeto recebido com entidade nula");
-        return;
-      }
+    var projeto = event.getEntity();
 
-      Set<Usuario> destinatarios = coletarDestinatariosProjeto(projeto);
+    if (projeto == null) {
+      log.warn("Evento de projeto recebido com entidade nula");
+      return;
+    }
 
-      if (destinatarios.isEmpty()) {
-        log.debug(
-            "Nenhum membro da equipe para notificar no projeto: {} (ID: {})",
-            projeto.getTitulo(),
-            projeto.getId());
-        return;
-      }
+    List<UsuarioSnapshot> destinatarios = coletarDestinatariosProjeto(projeto);
 
-      var configuracaoNotificacao = criarConfiguracaoNotificacaoProjeto(event, projeto);
+    if (destinatarios.isEmpty()) {
+      log.debug(
+          "Nenhum membro da equipe para notificar no projeto: {} (ID: {})",
+          projeto.titulo(),
+          projeto.id());
+      return;
+    }
 
-      criarNotificacoes(
-          new ArrayList<>(destinatarios),
-          configuracaoNotificacao,
-          TipoReferencia.PROJETO,
-          projeto.getId(),
-          "projeto",
-          projeto.getTitulo());
+    var configuracaoNotificacao = criarConfiguracaoNotificacaoProjeto(event, projeto);
 
-    } catch (Exception e) {
-      log.error("Erro ao processar evento de projeto: {}", e.getMessage(), e);
-    }
+    criarNotificacoes(
+        destinatarios,
+        configuracaoNotificacao,
+        TipoReferencia.PROJETO,
+        projeto.id(),
+        "projeto",
+        projeto.titulo());
   }
 
   /**
@@ -103,40 +89,33 @@ public class NotificacaoEventListener {
    *
    * @param event evento de sugestão contendo a entidade e o tipo de operação
    */
-  @Async
-  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
   public void handleSugestaoEvent(SugestaoEvent event) {
-    try {
-      var sugestao = event.getEntity();
+    var sugestao = event.getEntity();
 
-      if (sugestao == null) {
-        log.warn("Evento de sugestão recebido com entidade nula");
-        return;
-      }
+    if (sugestao == null) {
+      log.warn("Evento de sugestão recebido com entidade nula");
+      return;
+    }
 
-      Set<Usuario> destinatarios = coletarDestinatariosSugestao(sugestao);
+    List<UsuarioSnapshot> destinatarios = coletarDestinatariosSugestao(sugestao);
 
-      if (destinatarios.isEmpty()) {
-        log.debug(
-            "Nenhum destinatário encontrado para notificar na sugestão: {} (ID: {})",
-            sugestao.getTitulo(),
-            sugestao.getId());
-        return;
-      }
+    if (destinatarios.isEmpty()) {
+      log.debug(
+          "Nenhum destinatário encontrado para notificar na sugestão: {} (ID: {})",
+          sugestao.titulo(),
+          sugestao.id());
+      return;
+    }
 
-      var configuracaoNotificacao = criarConfiguracaoNotificacaoSugestao(event, sugestao);
+    var configuracaoNotificacao = criarConfiguracaoNotificacaoSugestao(event, sugestao);
 
-      criarNotificacoes(
-          new ArrayList<>(destinatarios),
-          configuracaoNotificacao,
-          TipoReferencia.SUGESTAO_PROJETO,
-          sugestao.getId(),
-          "sugestão",
-          sugestao.getTitulo());
-
-    } catch (Exception e) {
-      log.error("Erro ao processar evento de sugestão: {}", e.getMessage(), e);
-    }
+    criarNotificacoes(
+        destinatarios,
+        configuracaoNotificacao,
+        TipoReferencia.SUGESTAO_PROJETO,
+        sugestao.id(),
+        "sugestão",
+        sugestao.titulo());
   }
 
   /**
@@ -151,41 +130,90 @@ public class NotificacaoEventListener {
    *
    * @param event evento de candidatura contendo a entidade e o tipo de operação
    */
-  @Async
-  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
   public void handleCandidaturaEvent(CandidaturaEvent event) {
-    try {
-      var candidatura = event.getEntity();
+    var candidatura = event.getEntity();
 
-      if (candidatura == null) {
-        log.warn("Evento de candidatura recebido com entidade nula");
-        return;
-      }
+    if (candidatura == null) {
+      log.warn("Evento de candidatura recebido com entidade nula");
+      return;
+    }
 
-      Set<Usuario> destinatarios = coletarDestinatariosCandidatura(candidatura);
+    List<UsuarioSnapshot> destinatarios = coletarDestinatariosCandidatura(candidatura);
 
-      if (destinatarios.isEmpty()) {
-        log.debug(
-            "Nenhum destinatário encontrado para notificar na candidatura do projeto: {} (ID: {})",
-            candidatura.getProjeto() != null ? candidatura.getProjeto().getTitulo() : "N/A",
-            candidatura.getId());
-        return;
-      }
+    if (destinatarios.isEmpty()) {
+      log.debug(
+          "Nenhum destinatário encontrado para notificar na candidatura do projeto: {} (ID: {})",
+          candidatura.projetoTitulo() != null ? candidatura.projetoTitulo() : "N/A",
+          candidatura.id());
+      return;
+    }
 
-      var configuracaoNotificacao = criarConfiguracaoNotificacaoCandidatura(event, candidatura);
-      String nomeProjeto =
-          candidatura.getProjeto() != null ? candidatura.getProjeto().getTitulo() : "Projeto";
+    var configuracaoNotificacao = criarConfiguracaoNotificacaoCandidatura(event, candidatura);
+    String nomeProjeto =
+        candidatura.projetoTitulo() != null ? candidatura.projetoTitulo() : "Projeto";
+
+    criarNotificacoes(
+        destinatarios,
+        configuracaoNotificacao,
+        TipoReferencia.CANDIDATURA,
+        candidatura.id(),
+        "candidatura",
+        nomeProjeto);
+  }
 
+  /**
+   * Processa as candidaturas de um projeto atualizadas em uma mesma operação.
+   *
+   * <p>Cada aluno recebe a notificação da sua candidatura, e o responsável pelo projeto recebe uma
+   * única notificação com o resumo do lote, em vez de uma por candidatura. Um lote com uma só
+   * candidatura é tratado como o evento dessa candidatura.
+   *
+   * @param event evento com as candidaturas atualizadas
+   */
+  public void handleLoteCandidaturasEvent(LoteCandidaturasEvent event) {
+    var lote = event.getEntity();
+
+    if (lote == null || lote.candidaturas() == null || lote.candidaturas().isEmpty()) {
+      log.warn("Evento de lote de candidaturas recebido sem candidaturas");
+      return;
+    }
+
+    if (lote.candidaturas().size() == 1) {
+      handleCandidaturaEvent(
+          new CandidaturaEvent(lote.candidaturas().getFirst(), event.getEventType()));
+      return;
+    }
+
+    String nomeProjeto = lote.projetoTitulo() != null ? lote.projetoTitulo() : "Projeto";
+    for (CandidaturaSnapshot candidatura : lote.candidaturas()) {
+      List<UsuarioSnapshot> aluno = semRepeticao(Collections.singletonList(candidatura.aluno()));
+      if (!aluno.isEmpty()) {
+        criarNotificacoes(
+            aluno,
+            criarConfiguracaoNotificacaoCandidatura(
+                new CandidaturaEvent(candidatura, event.getEventType()), candidatura),
+            TipoReferencia.CANDIDATURA,
+            candidatura.id(),
+            "candidatura",
+            nomeProjeto);
+      }
+    }
+
+    List<UsuarioSnapshot> responsavel =
+        semRepeticao(Collections.singletonList(lote.responsavelProjeto()));
+    if (!responsavel.isEmpty()) {
       criarNotificacoes(
-          new ArrayList<>(destinatarios),
-          configuracaoNotificacao,
-          TipoReferencia.CANDIDATURA,
-          candidatura.getId(),
-          "candidatura",
+          responsavel,
+          new ConfiguracaoNotificacao(
+              "Candidaturas Atualizadas",
+              String.format(
+                  "%d candidaturas do projeto '%s' foram atualizadas (%s).",
+                  lote.candidaturas().size(), nomeProjeto, lote.resumoPorStatus()),
+              TipoNotificacao.INFO),
+          TipoReferencia.PROJETO,
+          lote.projetoId(),
+          "lote de candidaturas",
           nomeProjeto);
-
-    } catch (Exception e) {
-      log.error("Erro ao processar evento de candidatura: {}", e.getMessage(), e);
     }
   }
 
@@ -195,16 +223,10 @@ public class NotificacaoEventListener {
    * <p>Para projetos, apenas os membros da equipe executora recebem notificações.
    *
    * @param projeto projeto do qual coletar os destinatários
-   * @return conjunto de usuários que devem receber notificações
+   * @return usuários que devem receber notificações, sem repetição
    */
-  private Set<Usuario> coletarDestinatariosProjeto(Projeto projeto) {
-    Set<Usuario> destinatarios = new HashSet<>();
-
-    if (projeto.getEquipeExecutora() != null && !projeto.getEquipeExecutora().isEmpty()) {
-      destinatarios.addAll(projeto.getEquipeExecutora());
-    }
-
-    return destinatarios;
+  private List<UsuarioSnapshot> coletarDestinatariosProjeto(ProjetoSnapshot projeto) {
+    return semRepeticao(projeto.equipeExecutora());
   }
 
   /**
@@ -213,20 +235,10 @@ public class NotificacaoEventListener {
    * <p>Para sugestões, tanto o aluno quanto o professor associados recebem notificações.
    *
    * @param sugestao sugestão da qual coletar os destinatários
-   * @return conjunto de usuários que devem receber notificações
+   * @return usuários que devem receber notificações, sem repetição
    */
-  private Set<Usuario> coletarDestinatariosSugestao(SugestaoDeProjeto sugestao) {
-    Set<Usuario> destinatarios = new HashSet<>();
-
-    if (sugestao.getAluno() != null) {
-      destinatarios.add(sugestao.getAluno());
-    }
-
-    if (sugestao.getProfessor() != null) {
-      destinatarios.add(sugestao.getProfessor());
-    }
-
-    return destinatarios;
+  private List<UsuarioSnapshot> coletarDestinatariosSugestao(SugestaoSnapshot sugestao) {
+    return semRepeticao(Arrays.asList(sugestao.aluno(), sugestao.professor()));
   }
 
   /**
@@ -235,20 +247,19 @@ public class NotificacaoEventListener {
    * <p>Para candidaturas, o aluno candidato e o responsável pelo projeto recebem notificações.
    *
    * @param candidatura candidatura da qual coletar os destinatários
-   * @return conjunto de usuários que devem receber notificações
+   * @return usuários que devem receber notificações, sem repetição
    */
-  private Set<Usuario> coletarDestinatariosCandidatura(Candidatura candidatura) {
-    Set<Usuario> destinatarios = new HashSet<>();
-
-    if (candidatura.getAluno() != null) {
-      destinatarios.add(candidatura.getAluno());
-    }
-
-    if (candidatura.getProjeto() != null && candidatura.getProjeto().getResponsavel() != null) {
-      destinatarios.add(candidatura.getProjeto().getResponsavel());
-    }
+  private List<UsuarioSnapshot> coletarDestinatariosCandidatura(CandidaturaSnapshot candidatura) {
+    return semRepeticao(Arrays.asList(candidatura.aluno(), candidatura.responsavelProjeto()));
+  }
 
-    return destinatarios;
+  private static List<UsuarioSnapshot> semRepeticao(List<UsuarioSnapshot> usuarios) {
+    Map<Long, UsuarioSnapshot> porId = new LinkedHashMap<>();
+    usuarios.stream()
+        .filter(Objects::nonNull)
+        .filter(usuario -> usuario.id() != null)
+        .forEach(usuario -> porId.putIfAbsent(usuario.id(), usuario));
+    return new ArrayList<>(porId.values());
   }
 
   /**
@@ -259,21 +270,20 @@ public class NotificacaoEventListener {
    * @return configuração da notificação ou null se o tipo de evento não for suportado
    */
   private ConfiguracaoNotificacao criarConfiguracaoNotificacaoProjeto(
-      ProjetoEvent event, Projeto projeto) {
+      ProjetoEvent event, ProjetoSnapshot projeto) {
     return switch (event.getEventType()) {
       case CREATED ->
           new ConfiguracaoNotificacao(
               "Novo Projeto Criado",
               String.format(
-                  "O projeto '%s' foi criado e você foi incluído como membro.",
-                  projeto.getTitulo()),
+                  "O projeto '%s' foi criado e você foi incluído como membro.", projeto.titulo()),
               TipoNotificacao.SUCESSO);
       case UPDATED ->
           new ConfiguracaoNotificacao(
               "Projeto Atualizado",
               String.format(
                   "O projeto '%s' foi atualizado. Verifique as alterações realizadas.",
-                  projeto.getTitulo()),
+                  projeto.titulo()),
               TipoNotificacao.INFO);
       default -> {
         log.debug(
@@ -291,20 +301,20 @@ public class NotificacaoEventListener {
    * @return configuração da notificação ou null se o tipo de evento não for suportado
    */
   private ConfiguracaoNotificacao criarConfiguracaoNotificacaoSugestao(
-      SugestaoEvent event, SugestaoDeProjeto sugestao) {
+      SugestaoEvent event, SugestaoSnapshot sugestao) {
     return switch (event.getEventType()) {
       case CREATED ->
           new ConfiguracaoNotificacao(
               "Nova Sugestão Registrada",
               String.format(
-                  "A sugestão '%s' foi registrada com sucesso no sistema.", sugestao.getTitulo()),
+                  "A sugestão '%s' foi registrada com sucesso no sistema.", sugestao.titulo()),
               TipoNotificacao.SUCESSO);
       case UPDATED ->
           new ConfiguracaoNotificacao(
               "Sugestão Atualizada",
               String.format(
                   "A sugestão '%s' foi atualizada. Verifique as alterações realizadas.",
-                  sugestao.getTitulo()),
+                  sugestao.titulo()),
               TipoNotificacao.INFO);
       default -> {
         log.debug(
@@ -323,10 +333,10 @@ public class NotificacaoEventListener {
    * @return configuração da notificação ou null se o tipo de evento não for suportado
    */
   private ConfiguracaoNotificacao criarConfiguracaoNotificacaoCandidatura(
-      CandidaturaEvent event, Candidatura candidatura) {
+      CandidaturaEvent event, CandidaturaSnapshot candidatura) {
     String nomeProjeto =
-        candidatura.getProjeto() != null ? candidatura.getProjeto().getTitulo() : "Projeto";
-    String nomeAluno = candidatura.getAluno() != null ? candidatura.getAluno().getNome() : "N/A";
+        candidatura.projetoTitulo() != null ? candidatura.projetoTitulo() : "Projeto";
+    String nomeAluno = candidatura.aluno() != null ? candidatura.aluno().nome() : "N/A";
 
     return switch (event.getEventType()) {
       case CREATED ->
@@ -339,7 +349,7 @@ public class NotificacaoEventListener {
               "Status da Candidatura Atualizado",
               String.format(
                   "O status da candidatura de %s para o projeto '%s' foi atualizado para: %s",
-                  nomeAluno, nomeProjeto, candidatura.getStatus()),
+                  nomeAluno, nomeProjeto, candidatura.status()),
               TipoNotificacao.INFO);
       default -> {
         log.debug(
@@ -354,7 +364,8 @@ public class NotificacaoEventListener {
    * Método centralizado para criação de notificações em lote.
    *
    * <p>Este método coordena a criação das notificações através do serviço e registra logs
-   * informativos sobre o processo.
+   * informativos sobre o processo. Falhas do serviço são propagadas para que o evento seja entregue
+   * novamente.
    *
    * @param destinatarios lista de usuários que receberão a notificação
    * @param config configuração da notificação (título, descrição, tipo)
@@ -364,7 +375,7 @@ public class NotificacaoEventListener {
    * @param nomeEntidade nome da entidade para logs
    */
   private void criarNotificacoes(
-      List<Usuario> destinatarios,
+      List<UsuarioSnapshot> destinatarios,
       ConfiguracaoNotificacao config,
       TipoReferencia tipoReferencia,
       Long referenciaId,
@@ -375,32 +386,21 @@ public class NotificacaoEventListener {
       return;
     }
 
-    try {
-      notificacaoService.criarNotificacaoParaMultiplosUsuarios(
-          destinatarios,
-          config.titulo(),
-          config.descricao(),
-          config.tipo(),
-          tipoReferencia,
-          referenciaId);
-
-      log.info(
-          "Notificações criadas para {} '{}' (ID: {}) - {} destinatários: [{}]",
-          tipoEntidade,
-          nomeEntidade,
-          referenciaId,
-          destinatarios.size(),
-          destinatarios.stream().map(Usuario::getEmail).collect(Collectors.joining(", ")));
-
-    } catch (Exception e) {
-      log.error(
-          "Erro ao criar notificação para {} '{}' (ID: {}): {}",
-          tipoEntidade,
-          nomeEntidade,
-          referenciaId,
-          e.getMessage(),
-          e);
-    }
+    notificacaoService.criarNotificacaoParaUsuarios(
+        destinatarios.stream().map(UsuarioSnapshot::id).toList(),
+        config.titulo(),
+        config.descricao(),
+        config.tipo(),
+        tipoReferencia,
+        referenciaId);
+
+    log.info(
+        "Notificações criadas para {} '{}' (ID: {}) - {} destinatários: [{}]",
+        tipoEntidade,
+        nomeEntidade,
+        referenciaId,
+        destinatarios.size(),
+        destinatarios.stream().map(UsuarioSnapshot::email).collect(Collectors.joining(", ")));
   }
 
   /**
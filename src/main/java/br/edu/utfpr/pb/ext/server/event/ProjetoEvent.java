@@ -1,9 +1,7 @@
 package br.edu.utfpr.pb.ext.server.event;
 
-import br.edu.utfpr.pb.ext.server.projeto.Projeto;
-
-public class ProjetoEvent extends EntityEvent<Projeto> {
-  public ProjetoEvent(Projeto projeto, EventType eventType) {
+public class ProjetoEvent extends EntityEvent<ProjetoSnapshot> {
+  public ProjetoEvent(ProjetoSnapshot projeto, EventType eventType) {
     super(projeto, eventType);
   }
 }
@@ -0,0 +1,39 @@
+package br.edu.utfpr.pb.ext.server.event;
+
+import br.edu.utfpr.pb.ext.server.projeto.Projeto;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Estado de um projeto no momento da publicação do evento, com os destinatários já resolvidos.
+ *
+ * @param id identificador do projeto
+ * @param titulo título do projeto
+ * @param responsavel responsável pelo projeto, ou {@code null}
+ * @param equipeExecutora membros da equipe executora
+ */
+public record ProjetoSnapshot(
+    Long id, String titulo, UsuarioSnapshot responsavel, List<UsuarioSnapshot> equipeExecutora) {
+
+  public ProjetoSnapshot {
+    equipeExecutora = equipeExecutora == null ? List.of() : List.copyOf(equipeExecutora);
+  }
+
+  /**
+   * Copia os dados do projeto usados pelos listeners.
+   *
+   * @param projeto projeto a copiar
+   * @return cópia imutável do projeto
+   */
+  public static ProjetoSnapshot de(Projeto projeto) {
+    List<UsuarioSnapshot> equipe =
+        projeto.getEquipeExecutora() == null
+            ? List.of()
+            : projeto.getEquipeExecutora().stream()
+                .filter(Objects::nonNull)
+                .map(UsuarioSnapshot::de)
+                .toList();
+    return new ProjetoSnapshot(
+        projeto.getId(), projeto.getTitulo(), UsuarioSnapshot.de(projeto.getResponsavel()), equipe);
+  }
+}
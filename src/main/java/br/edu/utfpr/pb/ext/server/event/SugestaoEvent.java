@@ -1,9 +1,7 @@
 package br.edu.utfpr.pb.ext.server.event;
 
-import br.edu.utfpr.pb.ext.server.sugestaoprojeto.SugestaoDeProjeto;
-
-public class SugestaoEvent extends EntityEvent<SugestaoDeProjeto> {
-  public SugestaoEvent(SugestaoDeProjeto sugestao, EventType eventType) {
+public class SugestaoEvent extends EntityEvent<SugestaoSnapshot> {
+  public SugestaoEvent(SugestaoSnapshot sugestao, EventType eventType) {
     super(sugestao, eventType);
   }
 }
@@ -0,0 +1,29 @@
+package br.edu.utfpr.pb.ext.server.event;
+
+import br.edu.utfpr.pb.ext.server.sugestaoprojeto.SugestaoDeProjeto;
+
+/**
+ * Estado de uma sugestão de projeto no momento da publicação do evento.
+ *
+ * @param id identificador da sugestão
+ * @param titulo título da sugestão
+ * @param aluno aluno que fez a sugestão, ou {@code null}
+ * @param professor professor associado à sugestão, ou {@code null}
+ */
+public record SugestaoSnapshot(
+    Long id, String titulo, UsuarioSnapshot aluno, UsuarioSnapshot professor) {
+
+  /**
+   * Copia os dados da sugestão usados pelos listeners.
+   *
+   * @param sugestao sugestão a copiar
+   * @return cópia imutável da sugestão
+   */
+  public static SugestaoSnapshot de(SugestaoDeProjeto sugestao) {
+    return new SugestaoSnapshot(
+        sugestao.getId(),
+        sugestao.getTitulo(),
+        UsuarioSnapshot.de(sugestao.getAluno()),
+        UsuarioSnapshot.de(sugestao.getProfessor()));
+  }
+}
@@ -0,0 +1,32 @@
+package br.edu.utfpr.pb.ext.server.event;
+
+import br.edu.utfpr.pb.ext.server.usuario.Usuario;
+
+/**
+ * Dados de um usuário necessários para notificá-lo, copiados no momento da publicação do evento.
+ *
+ * @param id identificador do usuário
+ * @param nome nome do usuário
+ * @param email e-mail do usuário
+ * @param resumoDiario se o usuário recebe as notificações no resumo diário, e não por e-mail a cada
+ *     evento
+ */
+public record UsuarioSnapshot(Long id, String nome, String email, boolean resumoDiario) {
+
+  public UsuarioSnapshot(Long id, String nome, String email) {
+    this(id, nome, email, false);
+  }
+
+  /**
+   * Copia os dados do usuário, ou retorna {@code null} se o usuário for nulo.
+   *
+   * @param usuario usuário a copiar
+   * @return cópia dos dados do usuário
+   */
+  public static UsuarioSnapshot de(Usuario usuario) {
+    return usuario == null
+        ? null
+        : new UsuarioSnapshot(
+            usuario.getId(), usuario.getNome(), usuario.getEmail(), usuario.isResumoDiarioEmail());
+  }
+}
@@ -0,0 +1,28 @@
+package br.edu.utfpr.pb.ext.server.event.outbox;
+
+import br.edu.utfpr.pb.ext.server.generics.BaseEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.*;
+import lombok.experimental.SuperBuilder;
+
+/** Registro de que um consumidor já processou o evento com a chave de idempotência informada. */
+@Entity
+@Table(name = "tb_evento_consumido")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@SuperBuilder
+public class EventoConsumido extends BaseEntity {
+  @Column(nullable = false, length = 36, name = "chave_idempotencia")
+  private String chaveIdempotencia;
+
+  @Column(nullable = false, length = 30, name = "consumidor")
+  private String consumidor;
+
+  @Column(nullable = false, name = "consumido_em")
+  private LocalDateTime consumidoEm;
+}
@@ -0,0 +1,16 @@
+package br.edu.utfpr.pb.ext.server.event.outbox;
+
+import java.time.LocalDateTime;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface EventoConsumidoRepository extends JpaRepository<EventoConsumido, Long> {
+
+  boolean existsByChaveIdempotenciaAndConsumidor(String chaveIdempotencia, String consumidor);
+
+  @Modifying
+  @Query("delete from EventoConsumido e where e.consumidoEm < :limite")
+  int deleteConsumidosAntesDe(@Param("limite") LocalDateTime limite);
+}
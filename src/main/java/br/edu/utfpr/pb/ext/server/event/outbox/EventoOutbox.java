@@ -0,0 +1,68 @@
+package br.edu.utfpr.pb.ext.server.event.outbox;
+
+import br.edu.utfpr.pb.ext.server.event.EntityEvent;
+import br.edu.utfpr.pb.ext.server.generics.BaseEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.*;
+import lombok.experimental.SuperBuilder;
+
+/**
+ * Evento de domínio registrado na mesma transação da alteração que o originou e entregue aos
+ * listeners pelo {@link OutboxDispatcher}.
+ */
+@Entity
+@Table(name = "tb_evento_outbox")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@SuperBuilder
+public class EventoOutbox extends BaseEntity {
+
+  /** Identifica o evento entre as tentativas de entrega, evitando que um consumidor o repita. */
+  @Column(nullable = false, unique = true, length = 36, name = "chave_idempotencia")
+  private String chaveIdempotencia;
+
+  @Enumerated(EnumType.STRING)
+  @Column(nullable = false, length = 30, name = "tipo_agregado")
+  private TipoAgregado tipoAgregado;
+
+  @Column(nullable = false, name = "agregado_id")
+  private Long agregadoId;
+
+  @Enumerated(EnumType.STRING)
+  @Column(nullable = false, length = 20, name = "tipo_evento")
+  private EntityEvent.EventType tipoEvento;
+
+  /** Cópia da entidade em JSON, feita na publicação do evento. */
+  @Column(columnDefinition = "TEXT", name = "payload")
+  private String payload;
+
+  @Column(nullable = false, name = "criado_em")
+  private LocalDateTime criadoEm;
+
+  /** Instante a partir do qual o evento pode ser reservado para entrega. */
+  @Column(nullable = false, name = "disponivel_em")
+  private LocalDateTime disponivelEm;
+
+  @Column(nullable = false, name = "tentativas")
+  private int tentativas;
+
+  @Column(name = "processado_em")
+  private LocalDateTime processadoEm;
+
+  @Column(length = 1000, name = "ultimo_erro")
+  private String ultimoErro;
+
+  /**
+   * Identifica a entidade de um evento de atualização que ainda aceita ser agrupado com as
+   * atualizações seguintes; é removida quando o evento é reservado para entrega.
+   */
+  @Column(length = 80, name = "chave_agrupamento")
+  private String chaveAgrupamento;
+}
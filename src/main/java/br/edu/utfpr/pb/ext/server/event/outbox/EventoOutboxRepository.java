@@ -0,0 +1,80 @@
+package br.edu.utfpr.pb.ext.server.event.outbox;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface EventoOutboxRepository extends JpaRepository<EventoOutbox, Long> {
+
+  /**
+   * Bloqueia e retorna os eventos pendentes disponíveis para entrega, ignorando os que já estão
+   * bloqueados por outra instância.
+   *
+   * @param agora instante atual
+   * @param maximoTentativas quantidade de tentativas a partir da qual o evento não é mais entregue
+   * @param limite quantidade máxima de eventos retornados
+   * @return eventos reservados, em ordem de criação
+   */
+  @Query(
+      value =
+          "SELECT * FROM tb_evento_outbox WHERE processado_em IS NULL AND disponivel_em <= :agora"
+              + " AND tentativas < :maximoTentativas ORDER BY id LIMIT :limite"
+              + " FOR UPDATE SKIP LOCKED",
+      nativeQuery = true)
+  List<EventoOutbox> reservarPendentes(
+      @Param("agora") LocalDateTime agora,
+      @Param("maximoTentativas") int maximoTentativas,
+      @Param("limite") int limite);
+
+  /**
+   * Substitui o conteúdo do evento pendente que ainda aceita agrupamento com a chave informada.
+   *
+   * @param chaveAgrupamento chave da entidade
+   * @param payload cópia mais recente da entidade
+   * @return quantidade de eventos alterados (zero ou um)
+   */
+  @Modifying
+  @Query(
+      value =
+          "UPDATE tb_evento_outbox SET payload = :payload"
+              + " WHERE chave_agrupamento = :chaveAgrupamento AND processado_em IS NULL",
+      nativeQuery = true)
+  int agrupar(@Param("chaveAgrupamento") String chaveAgrupamento, @Param("payload") String payload);
+
+  /**
+   * Registra um evento que aceita agrupamento, a menos que a entidade já tenha um evento pendente
+   * com a mesma chave.
+   *
+   * @return quantidade de eventos registrados (zero ou um)
+   */
+  @Modifying
+  @Query(
+      value =
+          "INSERT INTO tb_evento_outbox (chave_idempotencia, tipo_agregado, agregado_id,"
+              + " tipo_evento, payload, criado_em, disponivel_em, tentativas, chave_agrupamento)"
+              + " VALUES (:chaveIdempotencia, :tipoAgregado, :agregadoId, :tipoEvento, :payload,"
+              + " :criadoEm, :disponivelEm, 0, :chaveAgrupamento) ON CONFLICT DO NOTHING",
+      nativeQuery = true)
+  int inserirAgrupavel(
+      @Param("chaveIdempotencia") String chaveIdempotencia,
+      @Param("tipoAgregado") String tipoAgregado,
+      @Param("agregadoId") Long agregadoId,
+      @Param("tipoEvento") String tipoEvento,
+      @Param("payload") String payload,
+      @Param("criadoEm") LocalDateTime criadoEm,
+      @Param("disponivelEm") LocalDateTime disponivelEm,
+      @Param("chaveAgrupamento") String chaveAgrupamento);
+
+  /**
+   * Remove os eventos processados antes do instante informado.
+   *
+   * @param limite instante limite
+   * @return quantidade de eventos removidos
+   */
+  @Modifying
+  @Query("delete from EventoOutbox e where e.processadoEm < :limite")
+  int deleteProcessadosAntesDe(@Param("limite") LocalDateTime limite);
+}
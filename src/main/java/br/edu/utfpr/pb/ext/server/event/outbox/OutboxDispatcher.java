@@ -0,0 +1,361 @@
+package br.edu.utfpr.pb.ext.server.event.outbox;
+
+import br.edu.utfpr.pb.ext.server.config.ExecutorConfig;
+import br.edu.utfpr.pb.ext.server.event.CandidaturaEvent;
+import br.edu.utfpr.pb.ext.server.event.CandidaturaSnapshot;
+import br.edu.utfpr.pb.ext.server.event.EmailEventListener;
+import br.edu.utfpr.pb.ext.server.event.EntityEvent;
+import br.edu.utfpr.pb.ext.server.event.LoteCandidaturasEvent;
+import br.edu.utfpr.pb.ext.server.event.LoteCandidaturasSnapshot;
+import br.edu.utfpr.pb.ext.server.event.NotificacaoEventListener;
+import br.edu.utfpr.pb.ext.server.event.ProjetoEvent;
+import br.edu.utfpr.pb.ext.server.event.ProjetoSnapshot;
+import br.edu.utfpr.pb.ext.server.event.SugestaoEvent;
+import br.edu.utfpr.pb.ext.server.event.SugestaoSnapshot;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Consumer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Entrega os eventos registrados no outbox aos listeners de notificação e de e-mail.
+ *
+ * <p>A cada execução, reserva um lote de eventos pendentes com {@code FOR UPDATE SKIP LOCKED},
+ * adiando sua disponibilidade pelo tempo de reserva para que outras instâncias não os entreguem em
+ * paralelo. Cada evento é então entregue a cada consumidor em uma transação própria, executada no
+ * executor dedicado ao consumidor (veja {@link ExecutorConfig}), que registra a chave de
+ * idempotência do evento para aquele consumidor; assim, uma nova tentativa não repete o trabalho
+ * dos consumidores já concluídos. A entrega é ao menos uma vez: se a instância parar durante a
+ * entrega, o evento volta a ficar disponível quando a reserva expira. Para o consumidor de e-mail,
+ * a garantia vai até a mensagem ser aceita pela {@link br.edu.utfpr.pb.ext.server.email.FilaEmail}:
+ * a fila fica em memória, e a partir dela o envio é no máximo uma vez.
+ *
+ * <p>Eventos cuja entrega falha são reagendados com espera exponencial até o número máximo de
+ * tentativas, após o qual permanecem na tabela com o último erro para análise.
+ *
+ * <p>Métricas publicadas: {@code outbox.eventos} com a tag {@code resultado} ({@code processado},
+ * {@code falha} ou {@code esgotado}) e {@code outbox.entrega} (duração da entrega de cada evento).
+ */
+@Component
+public class OutboxDispatcher {
+  private static final Logger logger = LoggerFactory.getLogger(OutboxDispatcher.class);
+
+  static final String CONSUMIDOR_NOTIFICACAO = "notificacao";
+  static final String CONSUMIDOR_EMAIL = "email";
+
+  private static final Duration ESPERA_MAXIMA = Duration.ofHours(1);
+  private static final int TAMANHO_MAXIMO_ERRO = 1000;
+
+  private final EventoOutboxRepository eventoOutboxRepository;
+  private final EventoConsumidoRepository eventoConsumidoRepository;
+  private final ObjectMapper objectMapper;
+  private final TransactionTemplate transactionTemplate;
+  private final List<Consumidor> consumidores;
+
+  private final boolean habilitado;
+  private final int tamanhoLote;
+  private final int maximoTentativas;
+  private final Duration reserva;
+  private final Duration esperaInicial;
+  private final Duration retencao;
+
+  private final Counter processados;
+  private final Counter falhas;
+  private final Counter esgotados;
+  private final Timer entrega;
+
+  /**
+   * Cria o dispatcher com os limites configurados e registra suas métricas.
+   *
+   * @param habilitado se {@code false}, os eventos não são entregues
+   * @param tamanhoLote quantidade máxima de eventos reservados de uma vez
+   * @param maximoTentativas quantidade de tentativas após a qual o evento não é mais entregue
+   * @param reserva tempo durante o qual um evento reservado não pode ser reservado novamente
+   * @param esperaInicial espera antes da primeira nova tentativa, dobrada a cada falha
+   * @param retencao tempo durante o qual os eventos processados são mantidos
+   */
+  public OutboxDispatcher(
+      EventoOutboxRepository eventoOutboxRepository,
+      EventoConsumidoRepository eventoConsumidoRepository,
+      ObjectMapper objectMapper,
+      NotificacaoEventListener notificacaoEventListener,
+      EmailEventListener emailEventListener,
+      @Qualifier(ExecutorConfig.NOTIFICACAO_EXECUTOR) Executor notificacaoExecutor,
+      @Qualifier(ExecutorConfig.EMAIL_EXECUTOR) Executor emailExecutor,
+      PlatformTransactionManager transactionManager,
+      MeterRegistry meterRegistry,
+      @Value("${app.outbox.enabled:true}") boolean habilitado,
+      @Value("${app.outbox.batch-size:100}") int tamanhoLote,
+      @Value("${app.outbox.max-attempts:10}") int maximoTentativas,
+      @Value("${app.outbox.lease:5m}") Duration reserva,
+      @Value("${app.outbox.retry-backoff:30s}") Duration esperaInicial,
+      @Value("${app.outbox.retention:7d}") Duration retencao) {
+    this.eventoOutboxRepository = eventoOutboxRepository;
+    this.eventoConsumidoRepository = eventoConsumidoRepository;
+    this.objectMapper = objectMapper;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    this.habilitado = habilitado;
+    this.tamanhoLote = tamanhoLote;
+    this.maximoTentativas = maximoTentativas;
+    this.reserva = reserva;
+    this.esperaInicial = esperaInicial;
+    this.retencao = retencao;
+
+    Consumidor notificacao =
+        new Consumidor(
+            CONSUMIDOR_NOTIFICACAO,
+            notificacaoExecutor,
+            evento -> {
+              switch (evento) {
+                case ProjetoEvent e -> notificacaoEventListener.handleProjetoEvent(e);
+                case SugestaoEvent e -> notificacaoEventListener.handleSugestaoEvent(e);
+                case CandidaturaEvent e -> notificacaoEventListener.handleCandidaturaEvent(e);
+                case LoteCandidaturasEvent e ->
+                    notificacaoEventListener.handleLoteCandidaturasEvent(e);
+                default -> throw new IllegalStateException("Evento não suportado: " + evento);
+              }
+            });
+    Consumidor email =
+        new Consumidor(
+            CONSUMIDOR_EMAIL,
+            emailExecutor,
+            evento -> {
+              switch (evento) {
+                case ProjetoEvent e -> emailEventListener.handleProjetoEvent(e);
+                case SugestaoEvent e -> emailEventListener.handleSugestaoEvent(e);
+                case CandidaturaEvent e -> emailEventListener.handleCandidaturaEvent(e);
+                case LoteCandidaturasEvent e -> emailEventListener.handleLoteCandidaturasEvent(e);
+                default -> throw new IllegalStateException("Evento não suportado: " + evento);
+              }
+            });
+    this.consumidores = List.of(notificacao, email);
+
+    this.processados = meterRegistry.counter("outbox.eventos", "resultado", "processado");
+    this.falhas = meterRegistry.counter("outbox.eventos", "resultado", "falha");
+    this.esgotados = meterRegistry.counter("outbox.eventos", "resultado", "esgotado");
+    this.entrega = Timer.builder("outbox.entrega").register(meterRegistry);
+  }
+
+  /** Entrega os eventos pendentes, em lotes, até esvaziar o outbox. */
+  @Scheduled(
+      fixedDelayString = "${app.outbox.poll-interval:1s}",
+      initialDelayString = "${app.outbox.poll-interval:1s}")
+  public void processarPendentes() {
+    if (!habilitado) {
+      return;
+    }
+    List<EventoOutbox> eventos;
+    do {
+      eventos = reservar();
+      CompletableFuture.allOf(
+              eventos.stream().map(this::entregar).toArray(CompletableFuture[]::new))
+          .join();
+    } while (eventos.size() == tamanhoLote);
+  }
+
+  /** Remove os eventos processados e os registros de consumo mais antigos que a retenção. */
+  @Scheduled(
+      fixedDelayString = "${app.outbox.cleanup-interval:1h}",
+      initialDelayString = "${app.outbox.cleanup-interval:1h}")
+  public void removerProcessados() {
+    LocalDateTime limite = LocalDateTime.now().minus(retencao);
+    Integer removidos =
+        transactionTemplate.execute(
+            status ->
+                eventoOutboxRepository.deleteProcessadosAntesDe(limite)
+                    + eventoConsumidoRepository.deleteConsumidosAntesDe(limite));
+    if (removidos != null && removidos > 0) {
+      logger.info("{} registros do outbox removidos", removidos);
+    }
+  }
+
+  /**
+   * Reserva um lote de eventos pendentes, tornando-os indisponíveis às demais instâncias pelo tempo
+   * de reserva e encerrando o agrupamento das atualizações.
+   *
+   * @return eventos reservados
+   */
+  List<EventoOutbox> reservar() {
+    return transactionTemplate.execute(
+        status -> {
+          LocalDateTime agora = LocalDateTime.now();
+          List<EventoOutbox> eventos =
+              eventoOutboxRepository.reservarPendentes(agora, maximoTentativas, tamanhoLote);
+          eventos.forEach(
+              evento -> {
+                evento.setDisponivelEm(agora.plus(reserva));
+                // atualizações posteriores da entidade passam a gerar um novo evento
+                evento.setChaveAgrupamento(null);
+              });
+          return eventos;
+        });
+  }
+
+  /**
+   * Entrega o evento a todos os consumidores, em paralelo, e o marca como processado, ou registra a
+   * falha e o reagenda.
+   *
+   * @param evento evento reservado
+   * @return conclusão da entrega, que nunca termina com erro
+   */
+  CompletableFuture<Void> entregar(EventoOutbox evento) {
+    Timer.Sample amostra = Timer.start();
+    CompletableFuture<?>[] entregas =
+        consumidores.stream()
+            .map(consumidor -> submeter(evento, consumidor))
+            .toArray(CompletableFuture[]::new);
+    return CompletableFuture.allOf(entregas)
+        .handle(
+            (ignorado, erro) -> {
+              concluir(evento, erro);
+              amostra.stop(entrega);
+              return null;
+            });
+  }
+
+  private CompletableFuture<Void> submeter(EventoOutbox evento, Consumidor consumidor) {
+    try {
+      return CompletableFuture.runAsync(() -> consumir(evento, consumidor), consumidor.executor());
+    } catch (RejectedExecutionException ex) {
+      return CompletableFuture.failedFuture(ex);
+    }
+  }
+
+  private void concluir(EventoOutbox evento, Throwable erro) {
+    try {
+      if (erro == null) {
+        transactionTemplate.executeWithoutResult(
+            status ->
+                eventoOutboxRepository
+                    .findById(evento.getId())
+                    .ifPresent(
+                        e -> {
+                          e.setProcessadoEm(LocalDateTime.now());
+                          e.setUltimoErro(null);
+                        }));
+        processados.increment();
+        return;
+      }
+    } catch (RuntimeException ex) {
+      erro = ex;
+    }
+    try {
+      registrarFalha(evento, erro instanceof CompletionException ? erro.getCause() : erro);
+    } catch (RuntimeException ex) {
+      // o evento volta a ficar disponível quando a reserva expirar
+      logger.error("Erro ao registrar a falha do evento {}", evento.getChaveIdempotencia(), ex);
+    }
+  }
+
+  private void consumir(EventoOutbox evento, Consumidor consumidor) {
+    transactionTemplate.executeWithoutResult(
+        status -> {
+          if (eventoConsumidoRepository.existsByChaveIdempotenciaAndConsumidor(
+              evento.getChaveIdempotencia(), consumidor.nome())) {
+            return;
+          }
+          EntityEvent<?> entityEvent = carregar(evento);
+          if (entityEvent == null) {
+            logger.warn(
+                "Evento {} ({} {}) sem conteúdo; evento ignorado",
+                evento.getChaveIdempotencia(),
+                evento.getTipoAgregado(),
+                evento.getAgregadoId());
+          } else {
+            consumidor.handler().accept(entityEvent);
+          }
+          eventoConsumidoRepository.save(
+              EventoConsumido.builder()
+                  .chaveIdempotencia(evento.getChaveIdempotencia())
+                  .consumidor(consumidor.nome())
+                  .consumidoEm(LocalDateTime.now())
+                  .build());
+        });
+  }
+
+  /** Reconstrói o evento a partir da cópia da entidade gravada na publicação. */
+  private EntityEvent<?> carregar(EventoOutbox evento) {
+    if (evento.getPayload() == null) {
+      return null;
+    }
+    EntityEvent.EventType tipo = evento.getTipoEvento();
+    try {
+      return switch (evento.getTipoAgregado()) {
+        case PROJETO ->
+            new ProjetoEvent(
+                objectMapper.readValue(evento.getPayload(), ProjetoSnapshot.class), tipo);
+        case SUGESTAO_PROJETO ->
+            new SugestaoEvent(
+                objectMapper.readValue(evento.getPayload(), SugestaoSnapshot.class), tipo);
+        case CANDIDATURA ->
+            new CandidaturaEvent(
+                objectMapper.readValue(evento.getPayload(), CandidaturaSnapshot.class), tipo);
+        case LOTE_CANDIDATURAS ->
+            new LoteCandidaturasEvent(
+                objectMapper.readValue(evento.getPayload(), LoteCandidaturasSnapshot.class), tipo);
+      };
+    } catch (JsonProcessingException e) {
+      throw new IllegalStateException(
+          "Conteúdo inválido no evento " + evento.getChaveIdempotencia(), e);
+    }
+  }
+
+  private void registrarFalha(EventoOutbox evento, Throwable erro) {
+    int tentativas = evento.getTentativas() + 1;
+    logger.error(
+        "Erro ao entregar o evento {} ({} {}), tentativa {} de {}",
+        evento.getChaveIdempotencia(),
+        evento.getTipoAgregado(),
+        evento.getAgregadoId(),
+        tentativas,
+        maximoTentativas,
+        erro);
+    String mensagem = String.valueOf(erro.getMessage());
+    transactionTemplate.executeWithoutResult(
+        status ->
+            eventoOutboxRepository
+                .findById(evento.getId())
+                .ifPresent(
+                    e -> {
+                      e.setTentativas(tentativas);
+                      e.setDisponivelEm(LocalDateTime.now().plus(espera(tentativas)));
+                      e.setUltimoErro(
+                          mensagem.length() > TAMANHO_MAXIMO_ERRO
+                              ? mensagem.substring(0, TAMANHO_MAXIMO_ERRO)
+                              : mensagem);
+                    }));
+    if (tentativas >= maximoTentativas) {
+      esgotados.increment();
+    } else {
+      falhas.increment();
+    }
+  }
+
+  /** Espera exponencial antes da próxima tentativa, limitada a uma hora. */
+  private Duration espera(int tentativas) {
+    Duration espera = esperaInicial.multipliedBy(1L << Math.min(tentativas - 1, 20));
+    return espera.compareTo(ESPERA_MAXIMA) > 0 ? ESPERA_MAXIMA : espera;
+  }
+
+  /** Listener que recebe os eventos, identificado pelo nome usado nos registros de consumo. */
+  private record Consumidor(String nome, Executor executor, Consumer<EntityEvent<?>> handler) {}
+}
@@ -0,0 +1,10 @@
+package br.edu.utfpr.pb.ext.server.event.outbox;
+
+/** Tipo da entidade cuja alteração originou um evento do outbox. */
+public enum TipoAgregado {
+  PROJETO,
+  SUGESTAO_PROJETO,
+  CANDIDATURA,
+  /** Candidaturas de um projeto atualizadas juntas; o agregado é o projeto. */
+  LOTE_CANDIDATURAS
+}
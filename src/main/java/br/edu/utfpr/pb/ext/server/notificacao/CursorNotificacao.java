@@ -0,0 +1,63 @@
+package br.edu.utfpr.pb.ext.server.notificacao;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * Posição da última notificação de uma página, na ordem {@code (data_criacao DESC, id DESC)}. A
+ * próxima página começa na primeira notificação anterior a essa posição.
+ *
+ * <p>É enviado ao cliente como um texto opaco, que deve ser devolvido sem alteração para obter a
+ * página seguinte.
+ *
+ * @param dataCriacao data de criação da última notificação da página
+ * @param id identificador da última notificação da página
+ */
+public record CursorNotificacao(LocalDateTime dataCriacao, Long id) {
+
+  private static final String SEPARADOR = "|";
+
+  /**
+   * Cria o cursor que aponta para a notificação informada.
+   *
+   * @param notificacao última notificação da página
+   * @return cursor da notificação
+   */
+  public static CursorNotificacao de(Notificacao notificacao) {
+    return new CursorNotificacao(notificacao.getDataCriacao(), notificacao.getId());
+  }
+
+  /**
+   * Codifica o cursor no texto enviado ao cliente.
+   *
+   * @return cursor codificado
+   */
+  public String codificar() {
+    return Base64.getUrlEncoder()
+        .withoutPadding()
+        .encodeToString((dataCriacao + SEPARADOR + id).getBytes(StandardCharsets.UTF_8));
+  }
+
+  /**
+   * Decodifica um cursor recebido do cliente.
+   *
+   * @param valor cursor codificado
+   * @return cursor decodificado
+   * @throws ResponseStatusException com status 400 se o cursor for inválido
+   */
+  public static CursorNotificacao decodificar(String valor) {
+    try {
+      String texto = new String(Base64.getUrlDecoder().decode(valor), StandardCharsets.UTF_8);
+      int separador = texto.lastIndexOf(SEPARADOR);
+      return new CursorNotificacao(
+          LocalDateTime.parse(texto.substring(0, separador)),
+          Long.valueOf(texto.substring(separador + 1)));
+    } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+      throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Cursor inválido");
+    }
+  }
+}
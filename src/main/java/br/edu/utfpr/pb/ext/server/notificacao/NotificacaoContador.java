@@ -0,0 +1,187 @@
+package br.edu.utfpr.pb.ext.server.notificacao;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Contador de notificações não lidas de cada usuário, mantido em {@code tb_notificacao_contador}
+ * para que a contagem seja a leitura de uma única linha.
+ *
+ * <p>O contador é atualizado na mesma transação que cria notificações ou as marca como lidas. Toda
+ * alteração bloqueia a linha do usuário, e a reconciliação também a bloqueia antes de recontar as
+ * notificações: assim, uma transação concorrente só altera o contador depois que a reconciliação
+ * termina, e o valor corrigido não sobrescreve uma alteração ainda não confirmada.
+ *
+ * <p>Métrica publicada: {@code notificacao.contador.corrigidos} (contadores ajustados pela
+ * reconciliação).
+ */
+@Component
+public class NotificacaoContador {
+  private static final Logger logger = LoggerFactory.getLogger(NotificacaoContador.class);
+
+  private static final String CRIAR =
+      "INSERT INTO tb_notificacao_contador (usuario_id, nao_lidas) VALUES (?, 0)"
+          + " ON CONFLICT DO NOTHING";
+
+  private final JdbcTemplate jdbcTemplate;
+  private final TransactionTemplate transactionTemplate;
+  private final Counter corrigidos;
+
+  /**
+   * Cria o contador sobre o banco de dados da aplicação.
+   *
+   * @param jdbcTemplate acesso à tabela de contadores
+   * @param transactionManager gerenciador usado para corrigir cada contador em uma transação
+   *     própria
+   * @param meterRegistry registro de métricas
+   */
+  public NotificacaoContador(
+      JdbcTemplate jdbcTemplate,
+      PlatformTransactionManager transactionManager,
+      MeterRegistry meterRegistry) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.corrigidos = meterRegistry.counter("notificacao.contador.corrigidos");
+  }
+
+  /**
+   * Retorna a quantidade de notificações não lidas do usuário.
+   *
+   * @param usuarioId identificador do usuário
+   * @return quantidade de notificações não lidas; zero se o usuário ainda não tiver contador
+   */
+  public long consultar(Long usuarioId) {
+    List<Long> valores =
+        jdbcTemplate.queryForList(
+            "SELECT nao_lidas FROM tb_notificacao_contador WHERE usuario_id = ?",
+            Long.class,
+            usuarioId);
+    return valores.isEmpty() ? 0 : valores.getFirst();
+  }
+
+  /**
+   * Acrescenta aos contadores as notificações criadas para cada usuário. As linhas são atualizadas
+   * em ordem de usuário, para que transações concorrentes não se bloqueiem mutuamente.
+   *
+   * @param criadasPorUsuario quantidade de notificações criadas por identificador de usuário
+   */
+  public void incrementar(Map<Long, Long> criadasPorUsuario) {
+    if (criadasPorUsuario.isEmpty()) {
+      return;
+    }
+    SortedMap<Long, Long> ordenado = new TreeMap<>(criadasPorUsuario);
+    jdbcTemplate.batchUpdate(
+        CRIAR, ordenado.keySet().stream().map(id -> new Object[] {id}).toList());
+    jdbcTemplate.batchUpdate(
+        "UPDATE tb_notificacao_contador SET nao_lidas = nao_lidas + ? WHERE usuario_id = ?",
+        ordenado.entrySet().stream()
+            .map(entrada -> new Object[] {entrada.getValue(), entrada.getKey()})
+            .toList());
+  }
+
+  /**
+   * Desconta uma notificação lida do contador do usuário.
+   *
+   * @param usuarioId identificador do usuário
+   */
+  public void decrementar(Long usuarioId) {
+    decrementar(usuarioId, 1);
+  }
+
+  /**
+   * Desconta notificações lidas do contador do usuário, sem deixá-lo negativo.
+   *
+   * @param usuarioId identificador do usuário
+   * @param lidas quantidade de notificações marcadas como lidas
+   */
+  public void decrementar(Long usuarioId, long lidas) {
+    jdbcTemplate.update(
+        "UPDATE tb_notificacao_contador SET nao_lidas = GREATEST(nao_lidas - ?, 0)"
+            + " WHERE usuario_id = ? AND nao_lidas > 0",
+        lidas,
+        usuarioId);
+  }
+
+  /**
+   * Zera o contador do usuário. Deve ser chamado antes de marcar as notificações como lidas, para
+   * que notificações criadas concorrentemente e confirmadas depois sejam contadas.
+   *
+   * @param usuarioId identificador do usuário
+   */
+  public void zerar(Long usuarioId) {
+    jdbcTemplate.update(CRIAR, usuarioId);
+    jdbcTemplate.update(
+        "UPDATE tb_notificacao_contador SET nao_lidas = 0 WHERE usuario_id = ?", usuarioId);
+  }
+
+  /**
+   * Corrige os contadores que divergem da quantidade de notificações não lidas, inclusive os de
+   * usuários com notificações não lidas e sem contador.
+   *
+   * @return quantidade de contadores corrigidos
+   */
+  @Scheduled(
+      fixedDelayString = "${app.notificacao.contador.reconcile-interval:1h}",
+      initialDelayString = "${app.notificacao.contador.reconcile-interval:1h}")
+  public int reconciliar() {
+    List<Long> divergentes =
+        jdbcTemplate.queryForList(
+            "SELECT c.usuario_id FROM tb_notificacao_contador c"
+                + " LEFT JOIN (SELECT usuario_id, COUNT(*) AS total FROM tb_notificacao"
+                + " WHERE lida = FALSE GROUP BY usuario_id) n ON n.usuario_id = c.usuario_id"
+                + " WHERE c.nao_lidas <> COALESCE(n.total, 0)"
+                + " UNION"
+                + " SELECT DISTINCT n.usuario_id FROM tb_notificacao n WHERE n.lida = FALSE"
+                + " AND NOT EXISTS (SELECT 1 FROM tb_notificacao_contador c"
+                + " WHERE c.usuario_id = n.usuario_id)",
+            Long.class);
+    int corrigidosAgora = 0;
+    for (Long usuarioId : divergentes) {
+      try {
+        if (Boolean.TRUE.equals(transactionTemplate.execute(status -> corrigir(usuarioId)))) {
+          corrigidosAgora++;
+        }
+      } catch (DataAccessException e) {
+        logger.warn("Falha ao corrigir o contador do usuário {}: {}", usuarioId, e.getMessage());
+      }
+    }
+    if (corrigidosAgora > 0) {
+      corrigidos.increment(corrigidosAgora);
+      logger.warn("{} contadores de notificações não lidas corrigidos", corrigidosAgora);
+    }
+    return corrigidosAgora;
+  }
+
+  /** Bloqueia o contador do usuário, reconta as notificações não lidas e corrige se necessário. */
+  private boolean corrigir(Long usuarioId) {
+    jdbcTemplate.update(CRIAR, usuarioId);
+    Long atual =
+        jdbcTemplate.queryForObject(
+            "SELECT nao_lidas FROM tb_notificacao_contador WHERE usuario_id = ? FOR UPDATE",
+            Long.class,
+            usuarioId);
+    Long real =
+        jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM tb_notificacao WHERE usuario_id = ? AND lida = FALSE",
+            Long.class,
+            usuarioId);
+    if (real.equals(atual)) {
+      return false;
+    }
+    jdbcTemplate.update(
+        "UPDATE tb_notificacao_contador SET nao_lidas = ? WHERE usuario_id = ?", real, usuarioId);
+    return true;
+  }
+}
@@ -1,5 +1,7 @@
 package br.edu.utfpr.pb.ext.server.notificacao;
 
+import br.edu.utfpr.pb.ext.server.notificacao.dto.MarcarLidasDTO;
+import br.edu.utfpr.pb.ext.server.notificacao.dto.NotificacaoCursorDTO;
 import br.edu.utfpr.pb.ext.server.notificacao.dto.NotificacaoDTO;
 import br.edu.utfpr.pb.ext.server.usuario.Usuario;
 import io.swagger.v3.oas.annotations.Operation;
@@ -7,15 +9,18 @@ import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
 import jakarta.validation.constraints.Positive;
 import lombok.RequiredArgsConstructor;
 import org.springdoc.core.annotations.ParameterObject;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 @RestController
 @RequestMapping("/api/notificacao")
@@ -24,6 +29,21 @@ import org.springframework.web.bind.annotation.*;
 @Tag(name = "Notificacao", description = "Serviços relacionados a notificação do usuário logado")
 public class NotificacaoController {
   private final NotificacaoService service;
+  private final NotificacaoStream notificacaoStream;
+
+  @GetMapping(path = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+  @Operation(
+      summary = "Acompanhar notificações em tempo real",
+      description =
+          "Abre um stream (Server-Sent Events) que envia o total de notificações não lidas ao conectar e, em seguida, as novas notificações (evento 'notificacao') e as atualizações do contador (evento 'nao-lidas', com 'total' ou 'delta'). Substitui a consulta periódica de /count-nao-lidas e /nao-lidas")
+  @ApiResponses(
+      value = {
+        @ApiResponse(responseCode = "200", description = "Stream aberto"),
+        @ApiResponse(responseCode = "401", description = "Usuário não autenticado")
+      })
+  public SseEmitter stream(@AuthenticationPrincipal Usuario usuario) {
+    return notificacaoStream.conectar(usuario.getId(), service.contarNotificacoesNaoLidas(usuario));
+  }
 
   @GetMapping
   @Operation(
@@ -61,6 +81,54 @@ public class NotificacaoController {
     return ResponseEntity.ok(notificacoes);
   }
 
+  @GetMapping("/cursor")
+  @Operation(
+      summary = "Listar notificações por cursor",
+      description =
+          "Retorna as notificações do usuário autenticado (mais recentes primeiro) a partir do cursor informado, sem contar o total. Para a próxima página, envie o 'proximoCursor' da resposta; ele é nulo na última página")
+  @ApiResponses(
+      value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Página de notificações retornada com sucesso"),
+        @ApiResponse(responseCode = "400", description = "Cursor inválido"),
+        @ApiResponse(responseCode = "401", description = "Usuário não autenticado")
+      })
+  public ResponseEntity<NotificacaoCursorDTO> listarNotificacoesPorCursor(
+      @AuthenticationPrincipal Usuario usuario,
+      @Parameter(description = "Cursor retornado pela página anterior")
+          @RequestParam(required = false)
+          String cursor,
+      @Parameter(description = "Quantidade de notificações (máximo 100)", example = "20")
+          @RequestParam(defaultValue = "20")
+          int tamanho) {
+    return ResponseEntity.ok(service.buscarNotificacoesDoUsuario(usuario, cursor, tamanho, false));
+  }
+
+  @GetMapping("/nao-lidas/cursor")
+  @Operation(
+      summary = "Listar notificações não lidas por cursor",
+      description =
+          "Retorna as notificações não lidas do usuário autenticado (mais recentes primeiro) a partir do cursor informado, sem contar o total. Para a próxima página, envie o 'proximoCursor' da resposta; ele é nulo na última página")
+  @ApiResponses(
+      value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Página de notificações não lidas retornada com sucesso"),
+        @ApiResponse(responseCode = "400", description = "Cursor inválido"),
+        @ApiResponse(responseCode = "401", description = "Usuário não autenticado")
+      })
+  public ResponseEntity<NotificacaoCursorDTO> listarNotificacoesNaoLidasPorCursor(
+      @AuthenticationPrincipal Usuario usuario,
+      @Parameter(description = "Cursor retornado pela página anterior")
+          @RequestParam(required = false)
+          String cursor,
+      @Parameter(description = "Quantidade de notificações (máximo 100)", example = "20")
+          @RequestParam(defaultValue = "20")
+          int tamanho) {
+    return ResponseEntity.ok(service.buscarNotificacoesDoUsuario(usuario, cursor, tamanho, true));
+  }
+
   @GetMapping("/count-nao-lidas")
   @Operation(
       summary = "Contar notificações não lidas",
@@ -102,6 +170,26 @@ public class NotificacaoController {
     return ResponseEntity.noContent().build();
   }
 
+  @PutMapping("/marcar-lidas")
+  @Operation(
+      summary = "Marcar várias notificações como lidas",
+      description =
+          "Marca como lidas, em uma única operação, as notificações informadas em 'ids' (no máximo 500) ou todas as notificações referentes à entidade 'tipoReferencia'/'referenciaId' (por exemplo, ao abrir a página de um projeto). Apenas notificações do usuário autenticado são alteradas; retorna a quantidade de notificações marcadas")
+  @ApiResponses(
+      value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Quantidade de notificações marcadas como lidas"),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Nem os ids nem a referência foram informados, ou ambos foram"),
+        @ApiResponse(responseCode = "401", description = "Usuário não autenticado")
+      })
+  public ResponseEntity<Integer> marcarComoLidas(
+      @RequestBody @Valid MarcarLidasDTO criterio, @AuthenticationPrincipal Usuario usuario) {
+    return ResponseEntity.ok(service.marcarComoLidas(usuario, criterio));
+  }
+
   @PutMapping("/marcar-todas-lidas")
   @Operation(
       summary = "Marcar todas as notificações como lidas",
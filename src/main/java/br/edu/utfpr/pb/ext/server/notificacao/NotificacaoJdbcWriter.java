@@ -0,0 +1,133 @@
+package br.edu.utfpr.pb.ext.server.notificacao;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCreatorFactory;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Component;
+
+/**
+ * Grava notificações em {@code tb_notificacao} com INSERTs de várias linhas.
+ *
+ * <p>O identificador das notificações é gerado pelo banco ({@code IDENTITY}), o que impede o
+ * Hibernate de agrupar as inserções: {@code saveAll} faria uma ida ao banco por destinatário. Aqui
+ * cada comando insere até {@code app.notificacao.insert-batch-size} linhas; como todos os lotes
+ * completos têm o mesmo tamanho, o comando preparado é reaproveitado entre eles.
+ *
+ * <p>As notificações gravadas recebem o identificador gerado, mas não são associadas ao contexto de
+ * persistência. O comando participa da transação corrente.
+ */
+@Component
+public class NotificacaoJdbcWriter {
+
+  /** Colunas preenchidas por linha; o PostgreSQL aceita no máximo 65535 parâmetros por comando. */
+  private static final int COLUNAS = 8;
+
+  private static final int MAXIMO_LINHAS = 65535 / COLUNAS;
+
+  private static final String INSERT =
+      "INSERT INTO tb_notificacao (titulo, descricao, tipo_notificacao, tipo_referencia,"
+          + " referencia_id, data_criacao, lida, usuario_id) VALUES ";
+
+  private static final String LINHA = "(?, ?, ?, ?, ?, ?, ?, ?)";
+
+  /** Tipos informados explicitamente para que parâmetros nulos não exijam consultar o driver. */
+  private static final int[] TIPOS = {
+    Types.VARCHAR,
+    Types.VARCHAR,
+    Types.VARCHAR,
+    Types.VARCHAR,
+    Types.BIGINT,
+    Types.TIMESTAMP,
+    Types.BOOLEAN,
+    Types.BIGINT
+  };
+
+  private final JdbcTemplate jdbcTemplate;
+  private final int tamanhoLote;
+
+  /**
+   * Cria o gravador.
+   *
+   * @param jdbcTemplate acesso ao banco de dados
+   * @param tamanhoLote quantidade máxima de linhas por comando
+   */
+  public NotificacaoJdbcWriter(
+      JdbcTemplate jdbcTemplate,
+      @Value("${app.notificacao.insert-batch-size:500}") int tamanhoLote) {
+    if (tamanhoLote < 1 || tamanhoLote > MAXIMO_LINHAS) {
+      throw new IllegalArgumentException(
+          "app.notificacao.insert-batch-size deve estar entre 1 e " + MAXIMO_LINHAS);
+    }
+    this.jdbcTemplate = jdbcTemplate;
+    this.tamanhoLote = tamanhoLote;
+  }
+
+  /**
+   * Insere as notificações informadas e preenche o identificador de cada uma. Cada notificação deve
+   * ter o usuário destinatário com identificador preenchido.
+   *
+   * @param notificacoes notificações a inserir
+   * @return quantidade de linhas inseridas
+   */
+  public int inserir(List<Notificacao> notificacoes) {
+    int inseridas = 0;
+    for (int inicio = 0; inicio < notificacoes.size(); inicio += tamanhoLote) {
+      List<Notificacao> lote =
+          notificacoes.subList(inicio, Math.min(inicio + tamanhoLote, notificacoes.size()));
+      PreparedStatementCreatorFactory fabrica =
+          new PreparedStatementCreatorFactory(comando(lote.size()), tipos(lote.size()));
+      fabrica.setGeneratedKeysColumnNames("id");
+      KeyHolder chaves = new GeneratedKeyHolder();
+      inseridas +=
+          jdbcTemplate.update(fabrica.newPreparedStatementCreator(parametros(lote)), chaves);
+      List<Map<String, Object>> ids = chaves.getKeyList();
+      for (int i = 0; i < ids.size() && i < lote.size(); i++) {
+        lote.get(i).setId(((Number) ids.get(i).values().iterator().next()).longValue());
+      }
+    }
+    return inseridas;
+  }
+
+  private String comando(int linhas) {
+    StringBuilder sql = new StringBuilder(INSERT.length() + linhas * (LINHA.length() + 2));
+    sql.append(INSERT);
+    for (int i = 0; i < linhas; i++) {
+      if (i > 0) {
+        sql.append(", ");
+      }
+      sql.append(LINHA);
+    }
+    return sql.toString();
+  }
+
+  private int[] tipos(int linhas) {
+    int[] tipos = new int[linhas * COLUNAS];
+    for (int i = 0; i < linhas; i++) {
+      System.arraycopy(TIPOS, 0, tipos, i * COLUNAS, COLUNAS);
+    }
+    return tipos;
+  }
+
+  private Object[] parametros(List<Notificacao> lote) {
+    List<Object> parametros = new ArrayList<>(lote.size() * COLUNAS);
+    for (Notificacao notificacao : lote) {
+      parametros.add(notificacao.getTitulo());
+      parametros.add(notificacao.getDescricao());
+      parametros.add(notificacao.getTipoNotificacao().name());
+      parametros.add(
+          notificacao.getTipoReferencia() != null ? notificacao.getTipoReferencia().name() : null);
+      parametros.add(notificacao.getReferenciaId());
+      parametros.add(Timestamp.valueOf(notificacao.getDataCriacao()));
+      parametros.add(notificacao.isLida());
+      parametros.add(notificacao.getUsuario().getId());
+    }
+    return parametros.toArray();
+  }
+}
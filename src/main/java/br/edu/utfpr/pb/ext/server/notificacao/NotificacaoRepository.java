@@ -1,8 +1,12 @@
 package br.edu.utfpr.pb.ext.server.notificacao;
 
+import br.edu.utfpr.pb.ext.server.notificacao.enums.TipoReferencia;
 import br.edu.utfpr.pb.ext.server.usuario.Usuario;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
@@ -16,7 +20,53 @@ public interface NotificacaoRepository extends JpaRepository<Notificacao, Long>
 
   long countByUsuarioAndLidaFalse(Usuario usuario);
 
+  @Query(
+      "SELECT n FROM Notificacao n WHERE n.usuario = :usuario"
+          + " ORDER BY n.dataCriacao DESC, n.id DESC")
+  Slice<Notificacao> buscarPrimeiros(@Param("usuario") Usuario usuario, Pageable pageable);
+
+  @Query(
+      "SELECT n FROM Notificacao n WHERE n.usuario = :usuario"
+          + " AND (n.dataCriacao < :dataCriacao OR (n.dataCriacao = :dataCriacao AND n.id < :id))"
+          + " ORDER BY n.dataCriacao DESC, n.id DESC")
+  Slice<Notificacao> buscarApos(
+      @Param("usuario") Usuario usuario,
+      @Param("dataCriacao") LocalDateTime dataCriacao,
+      @Param("id") Long id,
+      Pageable pageable);
+
+  @Query(
+      "SELECT n FROM Notificacao n WHERE n.usuario = :usuario AND n.lida = false"
+          + " ORDER BY n.dataCriacao DESC, n.id DESC")
+  Slice<Notificacao> buscarPrimeirasNaoLidas(@Param("usuario") Usuario usuario, Pageable pageable);
+
+  @Query(
+      "SELECT n FROM Notificacao n WHERE n.usuario = :usuario AND n.lida = false"
+          + " AND (n.dataCriacao < :dataCriacao OR (n.dataCriacao = :dataCriacao AND n.id < :id))"
+          + " ORDER BY n.dataCriacao DESC, n.id DESC")
+  Slice<Notificacao> buscarNaoLidasApos(
+      @Param("usuario") Usuario usuario,
+      @Param("dataCriacao") LocalDateTime dataCriacao,
+      @Param("id") Long id,
+      Pageable pageable);
+
   @Modifying
   @Query("UPDATE Notificacao n SET n.lida = true WHERE n.usuario = :usuario AND n.lida = false")
   void marcarTodasComoLidas(@Param("usuario") Usuario usuario);
+
+  @Modifying
+  @Query(
+      "UPDATE Notificacao n SET n.lida = true"
+          + " WHERE n.usuario = :usuario AND n.lida = false AND n.id IN :ids")
+  int marcarComoLidas(@Param("usuario") Usuario usuario, @Param("ids") Collection<Long> ids);
+
+  @Modifying
+  @Query(
+      "UPDATE Notificacao n SET n.lida = true"
+          + " WHERE n.usuario = :usuario AND n.lida = false"
+          + " AND n.tipoReferencia = :tipoReferencia AND n.referenciaId = :referenciaId")
+  int marcarComoLidasPorReferencia(
+      @Param("usuario") Usuario usuario,
+      @Param("tipoReferencia") TipoReferencia tipoReferencia,
+      @Param("referenciaId") Long referenciaId);
 }
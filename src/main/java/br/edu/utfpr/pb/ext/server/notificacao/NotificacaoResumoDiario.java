@@ -0,0 +1,197 @@
+package br.edu.utfpr.pb.ext.server.notificacao;
+
+import br.edu.utfpr.pb.ext.server.email.FilaEmail;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.thymeleaf.TemplateEngine;
+import org.thymeleaf.context.Context;
+
+/**
+ * Envia o resumo diário de notificações por e-mail aos usuários que optaram por ele ({@code
+ * resumo_diario_email}), que deixam de receber um e-mail a cada evento.
+ *
+ * <p>O resumo contém as notificações criadas desde o envio anterior, registrado em {@code
+ * tb_resumo_notificacao}. Cada usuário é reservado por um UPDATE condicional sobre esse registro,
+ * de modo que, com várias instâncias, apenas uma envia o resumo; se a fila de e-mails recusar a
+ * mensagem, o registro é restaurado e as notificações entram no resumo seguinte.
+ *
+ * <p>O período de cada resumo termina {@code app.notificacao.resumo.margin} antes da execução. A
+ * data de criação é preenchida antes do commit da transação que grava a notificação; sem a margem,
+ * uma notificação confirmada depois da execução ficaria antes do fim do período já enviado e não
+ * entraria em nenhum resumo. A margem deve ser maior que a transação mais longa que cria
+ * notificações (o consumo de um evento do outbox).
+ *
+ * <p>Métrica publicada: {@code notificacao.resumo.enviados} (resumos enfileirados).
+ */
+@Component
+public class NotificacaoResumoDiario {
+  private static final Logger logger = LoggerFactory.getLogger(NotificacaoResumoDiario.class);
+
+  static final int MAXIMO_NOTIFICACOES = 50;
+  private static final Duration PRIMEIRO_PERIODO = Duration.ofDays(1);
+
+  private final JdbcTemplate jdbcTemplate;
+  private final TransactionTemplate transactionTemplate;
+  private final FilaEmail filaEmail;
+  private final TemplateEngine templateEngine;
+  private final Counter enviados;
+  private final Duration margem;
+
+  /**
+   * Cria o job de resumo diário.
+   *
+   * @param jdbcTemplate acesso às notificações e aos registros de envio
+   * @param transactionManager gerenciador usado para reservar cada usuário em uma transação própria
+   * @param filaEmail fila de envio dos e-mails
+   * @param templateEngine processador do template {@code resumo-notificacoes}
+   * @param meterRegistry registro de métricas
+   * @param margem intervalo entre o fim do período do resumo e o início da execução
+   * @throws IllegalArgumentException se a margem for negativa
+   */
+  public NotificacaoResumoDiario(
+      JdbcTemplate jdbcTemplate,
+      PlatformTransactionManager transactionManager,
+      FilaEmail filaEmail,
+      TemplateEngine templateEngine,
+      MeterRegistry meterRegistry,
+      @Value("${app.notificacao.resumo.margin:10m}") Duration margem) {
+    if (margem.isNegative()) {
+      throw new IllegalArgumentException("app.notificacao.resumo.margin não pode ser negativo");
+    }
+    this.jdbcTemplate = jdbcTemplate;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.filaEmail = filaEmail;
+    this.templateEngine = templateEngine;
+    this.enviados = meterRegistry.counter("notificacao.resumo.enviados");
+    this.margem = margem;
+  }
+
+  /**
+   * Enfileira o resumo das notificações recebidas desde o último envio até {@code margem} atrás
+   * para cada usuário que optou pelo resumo diário.
+   *
+   * @return quantidade de resumos enfileirados
+   */
+  @Scheduled(cron = "${app.notificacao.resumo.cron:0 0 7 * * *}")
+  public int enviar() {
+    // o instante é comparado por igualdade com o valor gravado, que tem precisão de microssegundos
+    LocalDateTime fim = LocalDateTime.now().minus(margem).truncatedTo(ChronoUnit.MICROS);
+    // usuários que acabaram de optar pelo resumo recebem as notificações do último dia
+    jdbcTemplate.update(
+        "INSERT INTO tb_resumo_notificacao (usuario_id, enviado_ate)"
+            + " SELECT id, ? FROM tb_usuario WHERE resumo_diario_email = TRUE"
+            + " ON CONFLICT DO NOTHING",
+        Timestamp.valueOf(fim.minus(PRIMEIRO_PERIODO)));
+    List<Destinatario> destinatarios =
+        jdbcTemplate.query(
+            "SELECT u.id, u.nome, u.email, r.enviado_ate FROM tb_resumo_notificacao r"
+                + " JOIN tb_usuario u ON u.id = r.usuario_id"
+                + " WHERE u.resumo_diario_email = TRUE AND r.enviado_ate < ?",
+            (rs, linha) ->
+                new Destinatario(
+                    rs.getLong("id"),
+                    rs.getString("nome"),
+                    rs.getString("email"),
+                    rs.getTimestamp("enviado_ate").toLocalDateTime()),
+            Timestamp.valueOf(fim));
+    int enviadosAgora = 0;
+    for (Destinatario destinatario : destinatarios) {
+      try {
+        if (enviar(destinatario, fim)) {
+          enviadosAgora++;
+        }
+      } catch (DataAccessException e) {
+        logger.warn(
+            "Falha ao enviar o resumo de notificações do usuário {}: {}",
+            destinatario.id(),
+            e.getMessage());
+      }
+    }
+    if (enviadosAgora > 0) {
+      enviados.increment(enviadosAgora);
+      logger.info("{} resumos diários de notificações enfileirados", enviadosAgora);
+    }
+    return enviadosAgora;
+  }
+
+  /** Reserva o período do usuário e enfileira o resumo, se houver notificações nele. */
+  private boolean enviar(Destinatario destinatario, LocalDateTime fimPeriodo) {
+    Timestamp inicio = Timestamp.valueOf(destinatario.enviadoAte());
+    Timestamp fim = Timestamp.valueOf(fimPeriodo);
+    Boolean reservado =
+        transactionTemplate.execute(status -> atualizarEnvio(destinatario.id(), inicio, fim) == 1);
+    if (!Boolean.TRUE.equals(reservado)) {
+      return false;
+    }
+    Long total =
+        jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM tb_notificacao"
+                + " WHERE usuario_id = ? AND data_criacao >= ? AND data_criacao < ?",
+            Long.class,
+            destinatario.id(),
+            inicio,
+            fim);
+    if (total == null || total == 0) {
+      return false;
+    }
+    List<ItemResumo> notificacoes =
+        jdbcTemplate.query(
+            "SELECT titulo, descricao, data_criacao FROM tb_notificacao"
+                + " WHERE usuario_id = ? AND data_criacao >= ? AND data_criacao < ?"
+                + " ORDER BY data_criacao DESC LIMIT ?",
+            (rs, linha) ->
+                new ItemResumo(
+                    rs.getString("titulo"),
+                    rs.getString("descricao"),
+                    rs.getTimestamp("data_criacao").toLocalDateTime()),
+            destinatario.id(),
+            inicio,
+            fim,
+            MAXIMO_NOTIFICACOES);
+
+    Context context = new Context();
+    context.setVariable("nome", destinatario.nome());
+    context.setVariable("total", total);
+    context.setVariable("notificacoes", notificacoes);
+    context.setVariable("omitidas", total - notificacoes.size());
+    String conteudo = templateEngine.process("resumo-notificacoes", context);
+    if (filaEmail.enfileirar(
+            List.of(destinatario.email()),
+            "Resumo diário de notificações (" + total + ")",
+            conteudo,
+            "text/html")
+        == 0) {
+      // fila cheia: as notificações entram no próximo resumo
+      transactionTemplate.execute(status -> atualizarEnvio(destinatario.id(), fim, inicio));
+      return false;
+    }
+    return true;
+  }
+
+  private int atualizarEnvio(Long usuarioId, Timestamp de, Timestamp para) {
+    return jdbcTemplate.update(
+        "UPDATE tb_resumo_notificacao SET enviado_ate = ? WHERE usuario_id = ? AND enviado_ate = ?",
+        para,
+        usuarioId,
+        de);
+  }
+
+  private record Destinatario(Long id, String nome, String email, LocalDateTime enviadoAte) {}
+
+  /** Notificação exibida no resumo. */
+  public record ItemResumo(String titulo, String descricao, LocalDateTime dataCriacao) {}
+}
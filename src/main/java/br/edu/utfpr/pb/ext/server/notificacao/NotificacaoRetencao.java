@@ -0,0 +1,359 @@
+package br.edu.utfpr.pb.ext.server.notificacao;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Política de retenção de {@code tb_notificacao}: as notificações lidas criadas antes do período de
+ * retenção são movidas para {@code tb_notificacao_arquivo} ou, com {@code archive: false},
+ * removidas. Notificações não lidas nunca são tocadas, de modo que o contador de não lidas não
+ * muda.
+ *
+ * <p>As notificações são movidas em lotes de {@code batch-size} linhas, cada um em uma transação
+ * própria e com as linhas bloqueadas por {@code FOR UPDATE SKIP LOCKED}, para que o job não
+ * mantenha bloqueios longos nem dispute linhas com outra instância. Cada execução move no máximo
+ * {@code max-batches-per-run} lotes; o restante fica para a execução seguinte.
+ *
+ * <p>No PostgreSQL, onde {@code tb_notificacao} é particionada por mês de {@code data_criacao}, o
+ * job também cria as partições dos próximos meses e remove de uma vez as partições inteiramente
+ * anteriores ao período de retenção que não têm notificações não lidas, arquivando antes as linhas
+ * se necessário. As partições são desanexadas com {@code DETACH PARTITION ... CONCURRENTLY}
+ * (PostgreSQL 14 ou superior) antes de serem removidas. Partições com notificações não lidas são
+ * esvaziadas pelos lotes e removidas depois que todas forem lidas.
+ *
+ * <p>Métricas publicadas: {@code notificacao.retencao.movidas} (notificações arquivadas ou
+ * removidas; a taxa do contador é a vazão do job), {@code notificacao.retencao.lote} (duração de
+ * cada lote) e {@code notificacao.retencao.atraso} (segundos entre a notificação lida mais antiga
+ * ainda pendente e o limite de retenção; zero quando o job está em dia).
+ */
+@Component
+public class NotificacaoRetencao {
+  private static final Logger logger = LoggerFactory.getLogger(NotificacaoRetencao.class);
+
+  private static final int MESES_FUTUROS = 3;
+
+  private static final String COLUNAS =
+      "id, titulo, descricao, tipo_notificacao, tipo_referencia, referencia_id, data_criacao,"
+          + " lida, usuario_id";
+  private static final String PREFIXO_PARTICAO = "tb_notificacao_p";
+  private static final DateTimeFormatter FORMATO_PARTICAO = DateTimeFormatter.ofPattern("yyyyMM");
+
+  private final JdbcTemplate jdbcTemplate;
+  private final TransactionTemplate transactionTemplate;
+  private final Duration retencao;
+  private final boolean arquivar;
+  private final int tamanhoLote;
+  private final int maximoLotes;
+
+  private final Counter movidas;
+  private final Timer lote;
+  private final AtomicLong atraso = new AtomicLong();
+
+  private Boolean particionada;
+
+  /**
+   * Cria o job com a política configurada.
+   *
+   * @param jdbcTemplate acesso às tabelas de notificações
+   * @param transactionManager gerenciador usado para mover cada lote em uma transação própria
+   * @param meterRegistry registro de métricas
+   * @param retencao período em que as notificações lidas permanecem em {@code tb_notificacao}
+   * @param arquivar {@code true} para mover as notificações para o arquivo, {@code false} para
+   *     removê-las
+   * @param tamanhoLote quantidade de notificações movidas por transação
+   * @param maximoLotes quantidade máxima de lotes por execução
+   */
+  public NotificacaoRetencao(
+      JdbcTemplate jdbcTemplate,
+      PlatformTransactionManager transactionManager,
+      MeterRegistry meterRegistry,
+      @Value("${app.notificacao.retencao.period:180d}") Duration retencao,
+      @Value("${app.notificacao.retencao.archive:true}") boolean arquivar,
+      @Value("${app.notificacao.retencao.batch-size:1000}") int tamanhoLote,
+      @Value("${app.notificacao.retencao.max-batches-per-run:100}") int maximoLotes) {
+    if (retencao.isNegative() || retencao.isZero()) {
+      throw new IllegalArgumentException("app.notificacao.retencao.period deve ser positivo");
+    }
+    if (tamanhoLote < 1 || maximoLotes < 1) {
+      throw new IllegalArgumentException(
+          "app.notificacao.retencao.batch-size e max-batches-per-run devem ser positivos");
+    }
+    this.jdbcTemplate = jdbcTemplate;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.retencao = retencao;
+    this.arquivar = arquivar;
+    this.tamanhoLote = tamanhoLote;
+    this.maximoLotes = maximoLotes;
+    this.movidas = meterRegistry.counter("notificacao.retencao.movidas");
+    this.lote = Timer.builder("notificacao.retencao.lote").register(meterRegistry);
+    Gauge.builder("notificacao.retencao.atraso", atraso, AtomicLong::get)
+        .baseUnit("seconds")
+        .register(meterRegistry);
+  }
+
+  /**
+   * Aplica a política de retenção às notificações lidas anteriores ao período configurado.
+   *
+   * @return quantidade de notificações arquivadas ou removidas
+   */
+  @Scheduled(
+      fixedDelayString = "${app.notificacao.retencao.interval:1h}",
+      initialDelayString = "${app.notificacao.retencao.interval:1h}")
+  public long executar() {
+    LocalDateTime limite = LocalDateTime.now().minus(retencao);
+    long inicio = System.nanoTime();
+    long total = 0;
+    if (particionada()) {
+      criarParticoesFuturas();
+      total += removerParticoesExpiradas(limite);
+    }
+    for (int i = 0; i < maximoLotes; i++) {
+      Integer quantidade = lote.record(() -> transactionTemplate.execute(s -> moverLote(limite)));
+      total += quantidade;
+      if (quantidade < tamanhoLote) {
+        break;
+      }
+    }
+    atualizarAtraso(limite);
+    if (total > 0) {
+      double segundos = Math.max((System.nanoTime() - inicio) / 1e9, 1e-3);
+      logger.info(
+          "{} notificações lidas anteriores a {} {} ({} por segundo)",
+          total,
+          limite,
+          arquivar ? "arquivadas" : "removidas",
+          Math.round(total / segundos));
+    }
+    return total;
+  }
+
+  /** Move as notificações lidas mais antigas, até o tamanho do lote. */
+  private int moverLote(LocalDateTime limite) {
+    Timestamp corte = Timestamp.valueOf(limite);
+    List<Long> ids =
+        jdbcTemplate.queryForList(
+            "SELECT id FROM tb_notificacao WHERE lida = TRUE AND data_criacao < ?"
+                + " ORDER BY data_criacao LIMIT ? FOR UPDATE SKIP LOCKED",
+            Long.class,
+            corte,
+            tamanhoLote);
+    if (ids.isEmpty()) {
+      return 0;
+    }
+    String emIds = "id IN (" + String.join(", ", Collections.nCopies(ids.size(), "?")) + ")";
+    // o filtro por data_criacao restringe a busca às partições anteriores ao limite
+    Object[] parametros = new Object[ids.size() + 1];
+    ids.toArray(parametros);
+    parametros[ids.size()] = corte;
+    if (arquivar) {
+      Object[] comArquivamento = new Object[parametros.length + 1];
+      comArquivamento[0] = Timestamp.valueOf(LocalDateTime.now());
+      System.arraycopy(parametros, 0, comArquivamento, 1, parametros.length);
+      jdbcTemplate.update(
+          "INSERT INTO tb_notificacao_arquivo ("
+              + COLUNAS
+              + ", arquivada_em) SELECT "
+              + COLUNAS
+              + ", ? FROM tb_notificacao WHERE "
+              + emIds
+              + " AND data_criacao < ?",
+          comArquivamento);
+    }
+    int removidas =
+        jdbcTemplate.update(
+            "DELETE FROM tb_notificacao WHERE " + emIds + " AND data_criacao < ?", parametros);
+    movidas.increment(removidas);
+    return removidas;
+  }
+
+  /** Calcula há quanto tempo a notificação lida mais antiga deveria ter sido movida. */
+  private void atualizarAtraso(LocalDateTime limite) {
+    Timestamp maisAntiga =
+        jdbcTemplate.queryForObject(
+            "SELECT MIN(data_criacao) FROM tb_notificacao WHERE lida = TRUE AND data_criacao < ?",
+            Timestamp.class,
+            Timestamp.valueOf(limite));
+    atraso.set(
+        maisAntiga == null
+            ? 0
+            : Duration.between(maisAntiga.toLocalDateTime(), limite).toSeconds());
+  }
+
+  long atraso() {
+    return atraso.get();
+  }
+
+  /** Indica se {@code tb_notificacao} é particionada, o que só ocorre no PostgreSQL. */
+  private boolean particionada() {
+    if (particionada == null) {
+      particionada =
+          jdbcTemplate.execute(
+              (ConnectionCallback<Boolean>)
+                  conexao -> "PostgreSQL".equals(conexao.getMetaData().getDatabaseProductName()));
+    }
+    return particionada;
+  }
+
+  /** Cria as partições do mês corrente e dos próximos, caso ainda não existam. */
+  private void criarParticoesFuturas() {
+    YearMonth atual = YearMonth.now();
+    for (int i = 0; i <= MESES_FUTUROS; i++) {
+      YearMonth mes = atual.plusMonths(i);
+      try {
+        jdbcTemplate.execute(
+            "CREATE TABLE IF NOT EXISTS "
+                + PREFIXO_PARTICAO
+                + mes.format(FORMATO_PARTICAO)
+                + " PARTITION OF tb_notificacao FOR VALUES FROM ('"
+                + mes.atDay(1)
+                + "') TO ('"
+                + mes.plusMonths(1).atDay(1)
+                + "')");
+      } catch (DataAccessException e) {
+        logger.warn("Falha ao criar a partição de notificações de {}: {}", mes, e.getMessage());
+      }
+    }
+  }
+
+  /**
+   * Remove as partições mensais inteiramente anteriores ao limite que não têm notificações não
+   * lidas, arquivando antes as suas linhas se configurado.
+   *
+   * <p>Também conclui as remoções interrompidas: partições com a desanexação pendente e tabelas já
+   * desanexadas que ainda não foram removidas.
+   *
+   * @return quantidade de notificações arquivadas ou removidas
+   */
+  private long removerParticoesExpiradas(LocalDateTime limite) {
+    List<Particao> particoes =
+        jdbcTemplate.query(
+            "SELECT c.relname, i.inhrelid IS NOT NULL AS anexada,"
+                + " COALESCE(i.inhdetachpending, FALSE) AS desanexando"
+                + " FROM pg_class c LEFT JOIN pg_inherits i ON i.inhrelid = c.oid"
+                + " WHERE c.relkind = 'r' AND c.relnamespace = to_regnamespace(current_schema())"
+                + " AND c.relname ~ '^tb_notificacao_p[0-9]{6}$'"
+                + " ORDER BY c.relname",
+            (rs, linha) ->
+                new Particao(
+                    rs.getString("relname"),
+                    rs.getBoolean("anexada"),
+                    rs.getBoolean("desanexando")));
+    long total = 0;
+    for (Particao particao : particoes) {
+      YearMonth mes =
+          YearMonth.parse(particao.nome().substring(PREFIXO_PARTICAO.length()), FORMATO_PARTICAO);
+      if (mes.plusMonths(1).atDay(1).atStartOfDay().isAfter(limite)) {
+        break;
+      }
+      try {
+        Long removidas = removerParticao(particao, mes);
+        if (removidas != null) {
+          total += removidas;
+          movidas.increment(removidas);
+          logger.info("Partição {} removida com {} notificações", particao.nome(), removidas);
+        }
+      } catch (DataAccessException e) {
+        logger.warn("Falha ao remover a partição {}: {}", particao.nome(), e.getMessage());
+      }
+    }
+    return total;
+  }
+
+  /**
+   * Remove a partição se todas as suas notificações tiverem sido lidas.
+   *
+   * <p>A partição é primeiro desanexada com {@code DETACH PARTITION ... CONCURRENTLY}, que não
+   * disputa bloqueios com as consultas e atualizações em {@code tb_notificacao}. Um {@code DROP}
+   * direto da partição exigiria {@code ACCESS EXCLUSIVE} também em {@code tb_notificacao}, depois
+   * do bloqueio da partição, enquanto um {@code UPDATE} concorrente bloqueia as tabelas na ordem
+   * inversa, o que leva a um deadlock. Depois de desanexada, a tabela só é usada por este job.
+   *
+   * @return quantidade de notificações da partição, ou {@code null} se ela foi mantida
+   */
+  private Long removerParticao(Particao particao, YearMonth mes) {
+    if (particao.desanexando()) {
+      jdbcTemplate.execute(
+          "ALTER TABLE tb_notificacao DETACH PARTITION " + particao.nome() + " FINALIZE");
+    } else if (particao.anexada()) {
+      if (possuiNaoLidas(particao.nome())) {
+        return null;
+      }
+      // não pode ser executado dentro de uma transação
+      jdbcTemplate.execute(
+          "ALTER TABLE tb_notificacao DETACH PARTITION " + particao.nome() + " CONCURRENTLY");
+    }
+    return transactionTemplate.execute(s -> removerTabelaDesanexada(particao.nome(), mes));
+  }
+
+  /**
+   * Arquiva, se configurado, e remove uma partição já desanexada de {@code tb_notificacao}. Se ela
+   * ainda tiver notificações não lidas, é anexada de volta.
+   *
+   * @return quantidade de notificações da tabela, ou {@code null} se ela foi anexada de volta
+   */
+  private Long removerTabelaDesanexada(String tabela, YearMonth mes) {
+    jdbcTemplate.execute("LOCK TABLE " + tabela + " IN ACCESS EXCLUSIVE MODE");
+    if (possuiNaoLidas(tabela)) {
+      jdbcTemplate.execute(
+          "ALTER TABLE tb_notificacao ATTACH PARTITION "
+              + tabela
+              + " FOR VALUES FROM ('"
+              + mes.atDay(1)
+              + "') TO ('"
+              + mes.plusMonths(1).atDay(1)
+              + "')");
+      return null;
+    }
+    long quantidade;
+    if (arquivar) {
+      quantidade =
+          jdbcTemplate.update(
+              "INSERT INTO tb_notificacao_arquivo ("
+                  + COLUNAS
+                  + ", arquivada_em) SELECT "
+                  + COLUNAS
+                  + ", ? FROM "
+                  + tabela,
+              Timestamp.valueOf(LocalDateTime.now()));
+    } else {
+      quantidade = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + tabela, Long.class);
+    }
+    jdbcTemplate.execute("DROP TABLE " + tabela);
+    return quantidade;
+  }
+
+  private boolean possuiNaoLidas(String tabela) {
+    return Boolean.TRUE.equals(
+        jdbcTemplate.queryForObject(
+            "SELECT EXISTS (SELECT 1 FROM " + tabela + " WHERE lida = FALSE)", Boolean.class));
+  }
+
+  /**
+   * Partição mensal de {@code tb_notificacao}, ou tabela que já foi uma e ainda não foi removida.
+   *
+   * @param nome nome da tabela
+   * @param anexada {@code true} se a tabela ainda é uma partição de {@code tb_notificacao}
+   * @param desanexando {@code true} se uma desanexação concorrente foi interrompida
+   */
+  private record Particao(String nome, boolean anexada, boolean desanexando) {}
+}
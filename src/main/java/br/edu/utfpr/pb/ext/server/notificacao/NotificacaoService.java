@@ -1,6 +1,8 @@
 package br.edu.utfpr.pb.ext.server.notificacao;
 
 import br.edu.utfpr.pb.ext.server.generics.ICrudService;
+import br.edu.utfpr.pb.ext.server.notificacao.dto.MarcarLidasDTO;
+import br.edu.utfpr.pb.ext.server.notificacao.dto.NotificacaoCursorDTO;
 import br.edu.utfpr.pb.ext.server.notificacao.dto.NotificacaoDTO;
 import br.edu.utfpr.pb.ext.server.notificacao.enums.TipoNotificacao;
 import br.edu.utfpr.pb.ext.server.notificacao.enums.TipoReferencia;
@@ -16,10 +18,15 @@ public interface NotificacaoService extends ICrudService<Notificacao, Long> {
 
   Page<NotificacaoDTO> buscarNotificacoesNaoLidas(Usuario usuario, Pageable pageable);
 
+  NotificacaoCursorDTO buscarNotificacoesDoUsuario(
+      Usuario usuario, String cursor, int tamanho, boolean apenasNaoLidas);
+
   long contarNotificacoesNaoLidas(Usuario usuario);
 
   void marcarTodasComoLidas(Usuario usuario);
 
+  int marcarComoLidas(Usuario usuario, MarcarLidasDTO criterio);
+
   void criarNotificacaoParaMultiplosUsuarios(
       List<Usuario> destinatarios,
       String titulo,
@@ -27,4 +34,12 @@ public interface NotificacaoService extends ICrudService<Notificacao, Long> {
       TipoNotificacao tipo,
       TipoReferencia tipoReferencia,
       Long referenciaId);
+
+  void criarNotificacaoParaUsuarios(
+      List<Long> usuarioIds,
+      String titulo,
+      String descricao,
+      TipoNotificacao tipo,
+      TipoReferencia tipoReferencia,
+      Long referenciaId);
 }
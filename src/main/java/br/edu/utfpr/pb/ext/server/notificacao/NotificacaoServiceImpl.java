@@ -1,10 +1,14 @@
 package br.edu.utfpr.pb.ext.server.notificacao;
 
 import br.edu.utfpr.pb.ext.server.generics.CrudServiceImpl;
+import br.edu.utfpr.pb.ext.server.notificacao.dto.ContadorNaoLidasDTO;
+import br.edu.utfpr.pb.ext.server.notificacao.dto.MarcarLidasDTO;
+import br.edu.utfpr.pb.ext.server.notificacao.dto.NotificacaoCursorDTO;
 import br.edu.utfpr.pb.ext.server.notificacao.dto.NotificacaoDTO;
 import br.edu.utfpr.pb.ext.server.notificacao.enums.TipoNotificacao;
 import br.edu.utfpr.pb.ext.server.notificacao.enums.TipoReferencia;
 import br.edu.utfpr.pb.ext.server.usuario.Usuario;
+import br.edu.utfpr.pb.ext.server.usuario.UsuarioRepository;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Objects;
@@ -12,7 +16,9 @@ import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import org.modelmapper.ModelMapper;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
@@ -23,8 +29,14 @@ import org.springframework.web.server.ResponseStatusException;
 @RequiredArgsConstructor
 public class NotificacaoServiceImpl extends CrudServiceImpl<Notificacao, Long>
     implements NotificacaoService {
+  static final int TAMANHO_MAXIMO_CURSOR = 100;
+
   private final NotificacaoRepository notificacaoRepository;
   private final ModelMapper modelMapper;
+  private final UsuarioRepository usuarioRepository;
+  private final NotificacaoJdbcWriter notificacaoJdbcWriter;
+  private final NotificacaoStream notificacaoStream;
+  private final NotificacaoContador notificacaoContador;
 
   @Override
   protected JpaRepository<Notificacao, Long> getRepository() {
@@ -35,7 +47,8 @@ public class NotificacaoServiceImpl extends CrudServiceImpl<Notificacao, Long>
    * Marca uma notificação específica como lida pelo usuário proprietário.
    *
    * <p>Este metodo verifica se o usuário tem permissão para marcar a notificação como lida (deve
-   * ser o proprietário) e então atualiza o status da notificação.
+   * ser o proprietário) e então atualiza o status da notificação. O contador de não lidas só é
+   * decrementado se esta chamada alterou a notificação.
    *
    * @param notificacaoId identificador único da notificação a ser marcada como lida
    * @param usuario usuário que está tentando marcar a notificação como lida
@@ -51,8 +64,12 @@ public class NotificacaoServiceImpl extends CrudServiceImpl<Notificacao, Long>
       throw new ResponseStatusException(
           HttpStatus.UNPROCESSABLE_ENTITY, "Usuário não tem permissão para marcar como lida");
     }
-    notificacao.marcarComoLida();
-    super.save(notificacao);
+    // a alteração é condicionada a lida = false: entre requisições concorrentes para a mesma
+    // notificação, só uma altera a linha e decrementa o contador
+    if (notificacaoRepository.marcarComoLidas(usuario, List.of(notificacaoId)) == 1) {
+      notificacaoContador.decrementar(usuario.getId());
+      notificacaoStream.publicarContador(usuario.getId(), ContadorNaoLidasDTO.delta(-1));
+    }
   }
 
   /**
@@ -94,11 +111,59 @@ public class NotificacaoServiceImpl extends CrudServiceImpl<Notificacao, Long>
     return notificacoes.map(element -> modelMapper.map(element, NotificacaoDTO.class));
   }
 
+  /**
+   * Busca uma página de notificações do usuário a partir de um cursor, sem contar o total.
+   *
+   * <p>As notificações são ordenadas por data de criação e identificador, em ordem decrescente. A
+   * consulta continua a partir da posição do cursor, em vez de descartar as linhas das páginas
+   * anteriores, e lê uma linha a mais para saber se há próxima página; o custo não cresce com o
+   * histórico do usuário.
+   *
+   * @param usuario usuário proprietário das notificações
+   * @param cursor cursor devolvido na página anterior, ou {@code null} para a primeira página
+   * @param tamanho quantidade máxima de notificações, limitada a {@value #TAMANHO_MAXIMO_CURSOR}
+   * @param apenasNaoLidas se {@code true}, considera apenas as notificações não lidas
+   * @return notificações da página e o cursor da próxima, se houver
+   * @throws ResponseStatusException com status 400 se o cursor for inválido
+   */
+  @Override
+  @Transactional(readOnly = true)
+  public NotificacaoCursorDTO buscarNotificacoesDoUsuario(
+      Usuario usuario, String cursor, int tamanho, boolean apenasNaoLidas) {
+    Pageable limite = PageRequest.of(0, Math.clamp(tamanho, 1, TAMANHO_MAXIMO_CURSOR));
+    Slice<Notificacao> notificacoes;
+    if (cursor == null || cursor.isBlank()) {
+      notificacoes =
+          apenasNaoLidas
+              ? notificacaoRepository.buscarPrimeirasNaoLidas(usuario, limite)
+              : notificacaoRepository.buscarPrimeiros(usuario, limite);
+    } else {
+      CursorNotificacao posicao = CursorNotificacao.decodificar(cursor);
+      notificacoes =
+          apenasNaoLidas
+              ? notificacaoRepository.buscarNaoLidasApos(
+                  usuario, posicao.dataCriacao(), posicao.id(), limite)
+              : notificacaoRepository.buscarApos(
+                  usuario, posicao.dataCriacao(), posicao.id(), limite);
+    }
+    String proximoCursor =
+        notificacoes.hasNext()
+            ? CursorNotificacao.de(notificacoes.getContent().getLast()).codificar()
+            : null;
+    return NotificacaoCursorDTO.builder()
+        .conteudo(
+            notificacoes.getContent().stream()
+                .map(element -> modelMapper.map(element, NotificacaoDTO.class))
+                .toList())
+        .proximoCursor(proximoCursor)
+        .build();
+  }
+
   /**
    * Conta o número total de notificações não lidas de um usuário.
    *
-   * <p>Executa uma consulta otimizada para contar apenas as notificações que pertencem ao usuário e
-   * ainda não foram marcadas como lidas.
+   * <p>Lê o contador mantido em {@link NotificacaoContador}, sem percorrer as notificações do
+   * usuário.
    *
    * @param usuario usuário para o qual será feita a contagem
    * @return número total de notificações não lidas do usuário
@@ -106,14 +171,15 @@ public class NotificacaoServiceImpl extends CrudServiceImpl<Notificacao, Long>
   @Override
   @Transactional(readOnly = true)
   public long contarNotificacoesNaoLidas(Usuario usuario) {
-    return notificacaoRepository.countByUsuarioAndLidaFalse(usuario);
+    return notificacaoContador.consultar(usuario.getId());
   }
 
   /**
    * Marca todas as notificações não lidas do usuário como lidas em uma única operação.
    *
    * <p>Executa uma atualização em lote para marcar todas as notificações não lidas do usuário como
-   * lidas, otimizando o desempenho ao evitar múltiplas consultas individuais.
+   * lidas, otimizando o desempenho ao evitar múltiplas consultas individuais. O contador de não
+   * lidas é zerado antes, para que notificações criadas concorrentemente continuem contadas.
    *
    * @param usuario usuário cujas notificações serão marcadas como lidas
    * @see br.edu.utfpr.pb.ext.server.notificacao.NotificacaoRepository#marcarTodasComoLidas(Usuario)
@@ -121,12 +187,47 @@ public class NotificacaoServiceImpl extends CrudServiceImpl<Notificacao, Long>
   @Override
   @Transactional
   public void marcarTodasComoLidas(Usuario usuario) {
+    notificacaoContador.zerar(usuario.getId());
     notificacaoRepository.marcarTodasComoLidas(usuario);
+    notificacaoStream.publicarContador(usuario.getId(), ContadorNaoLidasDTO.total(0));
+  }
+
+  /**
+   * Marca como lidas, em um único UPDATE, as notificações do usuário indicadas por identificador ou
+   * todas as que referenciam uma entidade.
+   *
+   * <p>A atualização é restrita às notificações não lidas do próprio usuário: identificadores de
+   * outros usuários ou inexistentes são ignorados. O contador de não lidas é descontado da
+   * quantidade de notificações atualizadas.
+   *
+   * @param usuario usuário proprietário das notificações
+   * @param criterio identificadores das notificações ou referência da entidade
+   * @return quantidade de notificações marcadas como lidas
+   * @see NotificacaoRepository#marcarComoLidas(Usuario, java.util.Collection)
+   * @see NotificacaoRepository#marcarComoLidasPorReferencia(Usuario, TipoReferencia, Long)
+   */
+  @Override
+  @Transactional
+  public int marcarComoLidas(Usuario usuario, MarcarLidasDTO criterio) {
+    int marcadas =
+        criterio.getIds() != null && !criterio.getIds().isEmpty()
+            ? notificacaoRepository.marcarComoLidas(usuario, criterio.getIds())
+            : notificacaoRepository.marcarComoLidasPorReferencia(
+                usuario, criterio.getTipoReferencia(), criterio.getReferenciaId());
+    if (marcadas > 0) {
+      notificacaoContador.decrementar(usuario.getId(), marcadas);
+      notificacaoStream.publicarContador(usuario.getId(), ContadorNaoLidasDTO.delta(-marcadas));
+    }
+    return marcadas;
   }
 
   /**
    * Cria notificações para múltiplos usuários simultaneamente.
    *
+   * <p>As notificações são gravadas pelo {@link NotificacaoJdbcWriter}, com poucos comandos de
+   * várias linhas em vez de um INSERT por destinatário. Após o commit, são enviadas aos
+   * destinatários conectados ao stream de notificações.
+   *
    * @param destinatarios lista de usuários que receberão a notificação
    * @param titulo título da notificação
    * @param descricao descrição detalhada da notificação
@@ -143,6 +244,7 @@ public class NotificacaoServiceImpl extends CrudServiceImpl<Notificacao, Long>
       TipoNotificacao tipo,
       TipoReferencia tipoReferencia,
       Long referenciaId) {
+    LocalDateTime dataCriacao = LocalDateTime.now();
     List<Notificacao> notificacoes =
         destinatarios.stream()
             .filter(Objects::nonNull)
@@ -154,12 +256,50 @@ public class NotificacaoServiceImpl extends CrudServiceImpl<Notificacao, Long>
                         .tipoNotificacao(tipo)
                         .tipoReferencia(tipoReferencia)
                         .referenciaId(referenciaId)
-                        .dataCriacao(LocalDateTime.now())
+                        .dataCriacao(dataCriacao)
                         .lida(false)
                         .usuario(destinatario)
                         .build())
             .collect(Collectors.toList());
 
-    notificacaoRepository.saveAll(notificacoes);
+    notificacaoJdbcWriter.inserir(notificacoes);
+    notificacaoContador.incrementar(
+        notificacoes.stream()
+            .collect(
+                Collectors.groupingBy(
+                    notificacao -> notificacao.getUsuario().getId(), Collectors.counting())));
+    notificacaoStream.publicarCriadas(notificacoes);
+  }
+
+  /**
+   * Cria a mesma notificação para cada usuário informado pelo identificador, sem carregar os
+   * usuários do banco de dados.
+   *
+   * @param usuarioIds identificadores dos destinatários; nulos são ignorados
+   * @param titulo título da notificação
+   * @param descricao descrição da notificação
+   * @param tipo tipo da notificação
+   * @param tipoReferencia tipo da entidade referenciada
+   * @param referenciaId identificador da entidade referenciada
+   */
+  @Override
+  @Transactional
+  public void criarNotificacaoParaUsuarios(
+      List<Long> usuarioIds,
+      String titulo,
+      String descricao,
+      TipoNotificacao tipo,
+      TipoReferencia tipoReferencia,
+      Long referenciaId) {
+    criarNotificacaoParaMultiplosUsuarios(
+        usuarioIds.stream()
+            .filter(Objects::nonNull)
+            .map(usuarioRepository::getReferenceById)
+            .toList(),
+        titulo,
+        descricao,
+        tipo,
+        tipoReferencia,
+        referenciaId);
   }
 }
@@ -0,0 +1,306 @@
+package br.edu.utfpr.pb.ext.server.notificacao;
+
+import br.edu.utfpr.pb.ext.server.notificacao.dto.ContadorNaoLidasDTO;
+import br.edu.utfpr.pb.ext.server.notificacao.dto.NotificacaoDTO;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.modelmapper.ModelMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * Conexões abertas pelos usuários em {@code /api/notificacao/stream}, por onde são enviadas as
+ * novas notificações (evento {@code notificacao}) e as atualizações do contador de não lidas
+ * (evento {@code nao-lidas}).
+ *
+ * <p>Uma conexão ociosa não ocupa thread: a requisição fica em modo assíncrono no servlet e apenas
+ * o {@link SseEmitter} é mantido em memória. Os eventos são publicados após o commit da transação
+ * que os gerou e colocados na fila da conexão, limitada a {@code buffer-size} eventos; o envio é
+ * feito por uma thread virtual, de modo que um cliente lento não atrasa quem publicou nem os demais
+ * clientes. Se a fila enche, a conexão é encerrada e o cliente, ao reconectar, recebe o contador
+ * atualizado. Conexões sem eventos recebem um comentário a cada {@code heartbeat-interval} para que
+ * proxies não as encerrem e para que conexões interrompidas sejam detectadas.
+ *
+ * <p>As conexões são locais a cada instância: com várias instâncias, um usuário só recebe pelo
+ * stream as notificações criadas na instância em que está conectado.
+ *
+ * <p>Métricas publicadas: {@code notificacao.stream.conexoes} (conexões abertas) e {@code
+ * notificacao.stream.descartadas} (conexões encerradas por fila cheia).
+ */
+@Component
+public class NotificacaoStream {
+  private static final Logger logger = LoggerFactory.getLogger(NotificacaoStream.class);
+
+  public static final String EVENTO_NOTIFICACAO = "notificacao";
+  public static final String EVENTO_NAO_LIDAS = "nao-lidas";
+
+  private final Map<Long, Set<Conexao>> conexoes = new ConcurrentHashMap<>();
+  private final AtomicInteger abertas = new AtomicInteger();
+  private final ModelMapper modelMapper;
+  private final Executor executor;
+  private final Supplier<SseEmitter> fabrica;
+  private final int capacidade;
+  private final int maximoPorUsuario;
+  private final Counter descartadas;
+
+  /**
+   * Cria o registro de conexões com os limites configurados.
+   *
+   * @param timeout tempo máximo de uma conexão; o cliente reconecta ao final
+   * @param capacidade quantidade máxima de eventos aguardando envio em cada conexão
+   * @param maximoPorUsuario quantidade máxima de conexões simultâneas de um usuário; ao exceder, a
+   *     mais antiga é encerrada
+   */
+  @Autowired
+  public NotificacaoStream(
+      ModelMapper modelMapper,
+      MeterRegistry meterRegistry,
+      @Value("${app.notificacao.stream.timeout:30m}") Duration timeout,
+      @Value("${app.notificacao.stream.buffer-size:100}") int capacidade,
+      @Value("${app.notificacao.stream.max-connections-per-user:5}") int maximoPorUsuario) {
+    this(
+        modelMapper,
+        meterRegistry,
+        Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("notificacao-stream-", 1).factory()),
+        () -> new SseEmitter(timeout.toMillis()),
+        capacidade,
+        maximoPorUsuario);
+  }
+
+  NotificacaoStream(
+      ModelMapper modelMapper,
+      MeterRegistry meterRegistry,
+      Executor executor,
+      Supplier<SseEmitter> fabrica,
+      int capacidade,
+      int maximoPorUsuario) {
+    this.modelMapper = modelMapper;
+    this.executor = executor;
+    this.fabrica = fabrica;
+    this.capacidade = capacidade;
+    this.maximoPorUsuario = maximoPorUsuario;
+    this.descartadas = meterRegistry.counter("notificacao.stream.descartadas");
+    meterRegistry.gauge("notificacao.stream.conexoes", abertas);
+  }
+
+  /**
+   * Abre uma conexão para o usuário e envia o total atual de notificações não lidas.
+   *
+   * @param usuarioId identificador do usuário autenticado
+   * @param naoLidas total de notificações não lidas do usuário
+   * @return emissor associado à requisição
+   */
+  public SseEmitter conectar(Long usuarioId, long naoLidas) {
+    Conexao conexao = new Conexao(usuarioId, fabrica.get());
+    conexao.emitter.onCompletion(() -> remover(conexao));
+    conexao.emitter.onTimeout(() -> remover(conexao));
+    conexao.emitter.onError(erro -> remover(conexao));
+
+    Set<Conexao> doUsuario =
+        conexoes.compute(
+            usuarioId,
+            (id, atuais) -> {
+              Set<Conexao> conjunto = atuais != null ? atuais : new CopyOnWriteArraySet<>();
+              conjunto.add(conexao);
+              return conjunto;
+            });
+    abertas.incrementAndGet();
+    if (doUsuario.size() > maximoPorUsuario) {
+      doUsuario.stream().findFirst().ifPresent(Conexao::encerrar);
+    }
+    conexao.enviar(evento(EVENTO_NAO_LIDAS, ContadorNaoLidasDTO.total(naoLidas)));
+    return conexao.emitter;
+  }
+
+  /**
+   * Envia as notificações criadas aos destinatários conectados, junto com o acréscimo ao contador
+   * de não lidas, após o commit da transação corrente.
+   *
+   * @param notificacoes notificações criadas, com identificador preenchido
+   */
+  public void publicarCriadas(List<Notificacao> notificacoes) {
+    aposCommit(
+        () -> {
+          Map<Long, List<Notificacao>> porUsuario = new LinkedHashMap<>();
+          for (Notificacao notificacao : notificacoes) {
+            Long usuarioId = notificacao.getUsuario().getId();
+            if (conexoes.containsKey(usuarioId)) {
+              porUsuario.computeIfAbsent(usuarioId, id -> new ArrayList<>()).add(notificacao);
+            }
+          }
+          porUsuario.forEach(
+              (usuarioId, doUsuario) -> {
+                for (Notificacao notificacao : doUsuario) {
+                  enviar(
+                      usuarioId,
+                      evento(
+                          EVENTO_NOTIFICACAO, modelMapper.map(notificacao, NotificacaoDTO.class)));
+                }
+                enviar(
+                    usuarioId,
+                    evento(EVENTO_NAO_LIDAS, ContadorNaoLidasDTO.delta(doUsuario.size())));
+              });
+        });
+  }
+
+  /**
+   * Envia ao usuário uma atualização do contador de não lidas após o commit da transação corrente.
+   *
+   * @param usuarioId identificador do usuário
+   * @param contador total ou variação do contador
+   */
+  public void publicarContador(Long usuarioId, ContadorNaoLidasDTO contador) {
+    aposCommit(() -> enviar(usuarioId, evento(EVENTO_NAO_LIDAS, contador)));
+  }
+
+  /** Envia um comentário às conexões abertas para mantê-las ativas. */
+  @Scheduled(
+      fixedDelayString = "${app.notificacao.stream.heartbeat-interval:25s}",
+      initialDelayString = "${app.notificacao.stream.heartbeat-interval:25s}")
+  public void enviarHeartbeat() {
+    conexoes.values().forEach(doUsuario -> doUsuario.forEach(c -> c.enviar(heartbeat())));
+  }
+
+  /** Encerra as conexões abertas ao desligar a aplicação, para que os clientes reconectem. */
+  @PreDestroy
+  public void encerrar() {
+    conexoes.values().forEach(doUsuario -> doUsuario.forEach(Conexao::encerrar));
+    if (executor instanceof ExecutorService servico) {
+      servico.close();
+    }
+  }
+
+  int conexoesAbertas() {
+    return abertas.get();
+  }
+
+  private void enviar(Long usuarioId, Evento evento) {
+    Set<Conexao> doUsuario = conexoes.get(usuarioId);
+    if (doUsuario != null) {
+      doUsuario.forEach(conexao -> conexao.enviar(evento));
+    }
+  }
+
+  private void remover(Conexao conexao) {
+    conexoes.computeIfPresent(
+        conexao.usuarioId,
+        (id, doUsuario) -> {
+          if (doUsuario.remove(conexao)) {
+            abertas.decrementAndGet();
+          }
+          return doUsuario.isEmpty() ? null : doUsuario;
+        });
+  }
+
+  private static void aposCommit(Runnable acao) {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      acao.run();
+      return;
+    }
+    TransactionSynchronizationManager.registerSynchronization(
+        new TransactionSynchronization() {
+          @Override
+          public void afterCommit() {
+            acao.run();
+          }
+        });
+  }
+
+  private static Evento evento(String nome, Object dados) {
+    return new Evento(nome, dados);
+  }
+
+  private static Evento heartbeat() {
+    return new Evento(null, null);
+  }
+
+  /** Evento aguardando envio; sem nome, é enviado como comentário (heartbeat). */
+  private record Evento(String nome, Object dados) {
+    private SseEmitter.SseEventBuilder montar() {
+      return nome == null
+          ? SseEmitter.event().comment("")
+          : SseEmitter.event().name(nome).data(dados);
+    }
+  }
+
+  /** Conexão de um usuário, com a fila de eventos aguardando envio. */
+  private final class Conexao {
+    private final Long usuarioId;
+    private final SseEmitter emitter;
+    private final BlockingQueue<Evento> fila;
+    private final AtomicBoolean enviando = new AtomicBoolean();
+
+    private Conexao(Long usuarioId, SseEmitter emitter) {
+      this.usuarioId = usuarioId;
+      this.emitter = emitter;
+      this.fila = new ArrayBlockingQueue<>(capacidade);
+    }
+
+    /** Coloca o evento na fila e agenda o envio, encerrando a conexão se a fila estiver cheia. */
+    private void enviar(Evento evento) {
+      if (!fila.offer(evento)) {
+        descartadas.increment();
+        logger.debug("Fila do stream cheia para o usuário {}; conexão encerrada", usuarioId);
+        encerrar();
+        return;
+      }
+      if (enviando.compareAndSet(false, true)) {
+        executor.execute(this::drenar);
+      }
+    }
+
+    private void drenar() {
+      while (true) {
+        Evento evento = fila.poll();
+        if (evento == null) {
+          enviando.set(false);
+          // um evento pode ter chegado entre o poll e a liberação
+          if (fila.isEmpty() || !enviando.compareAndSet(false, true)) {
+            return;
+          }
+          continue;
+        }
+        try {
+          emitter.send(evento.montar());
+        } catch (IOException | IllegalStateException e) {
+          logger.debug("Falha ao enviar ao stream do usuário {}: {}", usuarioId, e.getMessage());
+          fila.clear();
+          remover(this);
+          return;
+        }
+      }
+    }
+
+    private void encerrar() {
+      fila.clear();
+      remover(this);
+      emitter.complete();
+    }
+  }
+}
@@ -0,0 +1,27 @@
+package br.edu.utfpr.pb.ext.server.notificacao.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Atualização do contador de notificações não lidas enviada pelo stream de notificações: o total
+ * atual, ao conectar ou ao marcar todas como lidas, ou a variação em relação ao último valor.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ContadorNaoLidasDTO {
+  private Long total;
+  private Long delta;
+
+  public static ContadorNaoLidasDTO total(long total) {
+    return new ContadorNaoLidasDTO(total, null);
+  }
+
+  public static ContadorNaoLidasDTO delta(long delta) {
+    return new ContadorNaoLidasDTO(null, delta);
+  }
+}
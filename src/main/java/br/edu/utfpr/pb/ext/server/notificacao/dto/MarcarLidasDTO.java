@@ -0,0 +1,40 @@
+package br.edu.utfpr.pb.ext.server.notificacao.dto;
+
+import br.edu.utfpr.pb.ext.server.notificacao.enums.TipoReferencia;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Notificações a marcar como lidas: as de {@code ids} ou todas as que referenciam a entidade {@code
+ * tipoReferencia}/{@code referenciaId}.
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class MarcarLidasDTO {
+  public static final int MAXIMO_IDS = 500;
+
+  @Size(max = MAXIMO_IDS, message = "Informe no máximo " + MAXIMO_IDS + " notificações") private List<@Positive Long> ids;
+
+  private TipoReferencia tipoReferencia;
+
+  @Positive private Long referenciaId;
+
+  @AssertTrue(
+      message = "Informe os ids ou a referência (tipoReferencia e referenciaId), mas não ambos")
+  @JsonIgnore
+  public boolean isCriterioValido() {
+    boolean porIds = ids != null && !ids.isEmpty();
+    boolean porReferencia = tipoReferencia != null && referenciaId != null;
+    boolean referenciaIncompleta = (tipoReferencia == null) != (referenciaId == null);
+    return porIds != porReferencia && !referenciaIncompleta;
+  }
+}
@@ -0,0 +1,20 @@
+package br.edu.utfpr.pb.ext.server.notificacao.dto;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Página de notificações obtida por cursor. {@code proximoCursor} é nulo quando não há mais
+ * notificações.
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class NotificacaoCursorDTO {
+  private List<NotificacaoDTO> conteudo;
+  private String proximoCursor;
+}
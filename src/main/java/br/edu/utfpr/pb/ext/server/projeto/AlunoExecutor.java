@@ -0,0 +1,16 @@
+package br.edu.utfpr.pb.ext.server.projeto;
+
+/**
+ * Aluno da equipe executora de um projeto, lido por projeção sem carregar as entidades.
+ *
+ * @param nome nome do aluno
+ * @param email e-mail do aluno
+ * @param tituloProjeto título do projeto em que o aluno atua
+ */
+public record AlunoExecutor(String nome, String email, String tituloProjeto) {
+
+  /** Descrição no formato {@code "nome - email - título do projeto"}. */
+  public String formatar() {
+    return String.format("%s - %s - %s", nome, email, tituloProjeto);
+  }
+}
@@ -0,0 +1,65 @@
+package br.edu.utfpr.pb.ext.server.projeto;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * Posição do último projeto de uma página. Sem busca livre, a ordem é {@code id DESC} e a próxima
+ * página começa no primeiro projeto com identificador menor que o do cursor. Com busca livre, a
+ * ordem é {@code (relevância DESC, id DESC)} e o cursor guarda também a relevância do projeto.
+ *
+ * <p>É enviado ao cliente como um texto opaco, que deve ser devolvido sem alteração para obter a
+ * página seguinte.
+ *
+ * @param id identificador do último projeto da página
+ * @param relevancia relevância do último projeto para a busca livre, ou {@code null} sem busca
+ */
+public record CursorProjeto(Long id, Double relevancia) {
+
+  private static final String SEPARADOR = "|";
+
+  /**
+   * Cria o cursor de uma consulta sem busca livre.
+   *
+   * @param id identificador do último projeto da página
+   */
+  public CursorProjeto(Long id) {
+    this(id, null);
+  }
+
+  /**
+   * Codifica o cursor no texto enviado ao cliente.
+   *
+   * @return cursor codificado
+   */
+  public String codificar() {
+    String texto = relevancia == null ? String.valueOf(id) : relevancia + SEPARADOR + id;
+    return Base64.getUrlEncoder()
+        .withoutPadding()
+        .encodeToString(texto.getBytes(StandardCharsets.UTF_8));
+  }
+
+  /**
+   * Decodifica um cursor recebido do cliente.
+   *
+   * @param valor cursor codificado
+   * @return cursor decodificado
+   * @throws ResponseStatusException com status 400 se o cursor for inválido
+   */
+  public static CursorProjeto decodificar(String valor) {
+    try {
+      String texto = new String(Base64.getUrlDecoder().decode(valor), StandardCharsets.UTF_8);
+      int separador = texto.indexOf(SEPARADOR);
+      if (separador < 0) {
+        return new CursorProjeto(Long.valueOf(texto));
+      }
+      return new CursorProjeto(
+          Long.valueOf(texto.substring(separador + 1)),
+          Double.valueOf(texto.substring(0, separador)));
+    } catch (IllegalArgumentException e) {
+      throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Cursor inválido");
+    }
+  }
+}
@@ -10,7 +10,8 @@ import org.springframework.format.annotation.DateTimeFormat;
     description = "DTO para encapsular os parâmetros de filtro de projetos.")
 public record FiltroProjetoDTO(
     @Schema(
-            description = "Filtrar por parte do título do projeto. A busca é case-insensitive.",
+            description =
+                "Filtrar por parte do título do projeto. A busca não diferencia maiúsculas nem acentos.",
             example = "Robótica")
         String titulo,
     @Schema(description = "Filtrar projetos por um status específico.", example = "ATIVO")
@@ -50,11 +51,17 @@ public record FiltroProjetoDTO(
         Long cargaHorariaMaxima,
     @Schema(
             description =
-                "Filtrar por parte do nome do curso do responsável. A busca é case-insensitive.",
+                "Filtrar por parte do nome do curso do responsável. A busca não diferencia maiúsculas nem acentos.",
             example = "Software")
         String nomeCurso,
     @Schema(
             description =
                 "Filtrar por projetos que possuem vagas. `true` para com vagas, `false` para sem vagas, não enviar para ignorar.",
             example = "true")
-        Boolean temVagas) {}
+        Boolean temVagas,
+    @Schema(
+            description =
+                "Busca livre no título, na descrição e no público-alvo, sem diferenciar acentos e tolerando erros de digitação no título. "
+                    + "Sem ordenação explícita, os projetos mais relevantes vêm primeiro.",
+            example = "robotica educacional")
+        String busca) {}
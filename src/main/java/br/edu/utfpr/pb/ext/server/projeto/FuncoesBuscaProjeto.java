@@ -0,0 +1,91 @@
+package br.edu.utfpr.pb.ext.server.projeto;
+
+import org.hibernate.boot.model.FunctionContributions;
+import org.hibernate.boot.model.FunctionContributor;
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.hibernate.query.sqm.function.SqmFunctionRegistry;
+import org.hibernate.type.BasicType;
+import org.hibernate.type.StandardBasicTypes;
+
+/**
+ * Funções usadas pelos filtros textuais da busca de projetos, registradas no Hibernate com uma
+ * implementação por banco.
+ *
+ * <p>No PostgreSQL, usam a busca textual em português sem acentos e os trigramas de {@code
+ * pg_trgm}, com as mesmas expressões dos índices criados na migração {@code
+ * V1.3.18__busca_textual_projetos}. Nos demais bancos (H2 nos testes), comparam o texto com {@code
+ * lower(coluna) LIKE '%termo%'} e a relevância é sempre zero.
+ *
+ * <ul>
+ *   <li>{@value #CONTEM}{@code (coluna, termo)}: a coluna contém o termo.
+ *   <li>{@value #CORRESPONDE}{@code (titulo, descricao, publicoAlvo, termo)}: o projeto corresponde
+ *       à busca livre, por palavras (com radical) ou por semelhança com o título.
+ *   <li>{@value #RELEVANCIA}{@code (titulo, descricao, publicoAlvo, termo)}: relevância do projeto
+ *       para a busca livre, maior quanto melhor.
+ * </ul>
+ *
+ * <p>Registrada em {@code META-INF/services/org.hibernate.boot.model.FunctionContributor}.
+ */
+public class FuncoesBuscaProjeto implements FunctionContributor {
+
+  public static final String CONTEM = "projeto_contem";
+  public static final String CORRESPONDE = "projeto_corresponde";
+  public static final String RELEVANCIA = "projeto_relevancia";
+
+  private static final String DOCUMENTO = "projeto_documento(?1, ?2, ?3)";
+  private static final String CONSULTA = "websearch_to_tsquery('portuguese', f_unaccent(?4))";
+  private static final String TITULO = "f_unaccent(lower(?1))";
+  private static final String TERMO = "f_unaccent(lower(?4))";
+
+  @Override
+  public void contributeFunctions(FunctionContributions functionContributions) {
+    SqmFunctionRegistry registro = functionContributions.getFunctionRegistry();
+    BasicType<Boolean> booleano =
+        functionContributions
+            .getTypeConfiguration()
+            .getBasicTypeRegistry()
+            .resolve(StandardBasicTypes.BOOLEAN);
+    BasicType<Double> decimal =
+        functionContributions
+            .getTypeConfiguration()
+            .getBasicTypeRegistry()
+            .resolve(StandardBasicTypes.DOUBLE);
+
+    if (functionContributions.getDialect() instanceof PostgreSQLDialect) {
+      registro.registerPattern(
+          CONTEM, "(f_unaccent(lower(?1)) like ('%' || f_unaccent(lower(?2)) || '%'))", booleano);
+      registro.registerPattern(
+          CORRESPONDE,
+          "(" + DOCUMENTO + " @@ " + CONSULTA + " or " + TITULO + " %> " + TERMO + ")",
+          booleano);
+      registro.registerPattern(
+          RELEVANCIA,
+          // em double precision: o valor real lido pelo driver é arredondado e, devolvido no
+          // cursor da busca, não corresponderia mais ao do projeto
+          "cast(ts_rank("
+              + DOCUMENTO
+              + ", "
+              + CONSULTA
+              + ") + word_similarity("
+              + TERMO
+              + ", "
+              + TITULO
+              + ") as double precision)",
+          decimal);
+    } else {
+      registro.registerPattern(CONTEM, "(lower(?1) like ('%' || lower(?2) || '%'))", booleano);
+      registro.registerPattern(
+          CORRESPONDE,
+          "(lower(?1) like ('%' || lower(?4) || '%')"
+              + " or lower(?2) like ('%' || lower(?4) || '%')"
+              + " or lower(?3) like ('%' || lower(?4) || '%'))",
+          booleano);
+      // sem critério de relevância: a ordenação fica pelo desempate (identificador)
+      registro
+          .patternDescriptorBuilder(RELEVANCIA, "0e0")
+          .setExactArgumentCount(4)
+          .setInvariantType(decimal)
+          .register();
+    }
+  }
+}
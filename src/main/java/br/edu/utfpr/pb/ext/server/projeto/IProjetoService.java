@@ -3,14 +3,23 @@ package br.edu.utfpr.pb.ext.server.projeto;
 import br.edu.utfpr.pb.ext.server.generics.ICrudService;
 import jakarta.validation.Valid;
 import java.util.List;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 
 public interface IProjetoService extends ICrudService<Projeto, Long> {
 
+  /** Quantidade máxima de projetos por consulta de alunos executores. */
+  int MAXIMO_PROJETOS_ALUNOS_EXECUTORES = 200;
+
   void cancelar(Long id, CancelamentoProjetoDTO dto, Long usuarioId);
 
   ProjetoDTO atualizarProjeto(Long id, @Valid ProjetoDTO dto);
 
   List<ProjetoDTO> buscarProjetosPorFiltro(FiltroProjetoDTO filtros);
 
-  List<String> getAlunosExecutores(List<Long> idsProjeto);
+  Page<ProjetoDTO> buscarProjetosPorFiltro(FiltroProjetoDTO filtros, Pageable pageable);
+
+  ProjetoCursorDTO buscarProjetosPorFiltro(FiltroProjetoDTO filtros, String cursor, int tamanho);
+
+  List<String> buscarAlunosExecutores(List<Long> idsProjeto);
 }
@@ -8,16 +8,45 @@ import jakarta.validation.constraints.NotNull;
 import java.util.Date;
 import java.util.List;
 import lombok.*;
+import org.hibernate.annotations.BatchSize;
 import org.hibernate.validator.constraints.URL;
 
+/**
+ * Projeto de extensão.
+ *
+ * <p>Os grafos de entidade definem o que é carregado junto com o projeto em cada caso de uso: na
+ * listagem e na busca ({@value #GRAFO_RESUMO}), apenas o responsável e seu curso e departamento,
+ * pois buscar a equipe por junção impediria a paginação no banco; no detalhamento ({@value
+ * #GRAFO_DETALHE}), também a equipe executora. A equipe e os perfis dos usuários que não estão no
+ * grafo são carregados em lotes ({@link BatchSize}) para todos os projetos da página de uma vez.
+ */
 @Entity
 @Table(name = "tb_projeto")
+@NamedEntityGraph(
+    name = Projeto.GRAFO_RESUMO,
+    attributeNodes = @NamedAttributeNode(value = "responsavel", subgraph = "usuario"),
+    subgraphs =
+        @NamedSubgraph(
+            name = "usuario",
+            attributeNodes = {@NamedAttributeNode("curso"), @NamedAttributeNode("departamento")}))
+@NamedEntityGraph(
+    name = Projeto.GRAFO_DETALHE,
+    attributeNodes = {
+      @NamedAttributeNode(value = "responsavel", subgraph = "usuario"),
+      @NamedAttributeNode(value = "equipeExecutora", subgraph = "usuario")
+    },
+    subgraphs =
+        @NamedSubgraph(
+            name = "usuario",
+            attributeNodes = {@NamedAttributeNode("curso"), @NamedAttributeNode("departamento")}))
 @Getter
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
 public class Projeto extends BaseEntity {
+  public static final String GRAFO_RESUMO = "Projeto.resumo";
+  public static final String GRAFO_DETALHE = "Projeto.detalhe";
 
   @NotNull private String titulo;
 
@@ -44,6 +73,7 @@ public class Projeto extends BaseEntity {
   private Usuario responsavel;
 
   @ManyToMany
+  @BatchSize(size = 100)
   @JoinTable(
       name = "tb_equipe_servidor",
       joinColumns = @JoinColumn(name = "id_projeto"),
@@ -60,4 +90,8 @@ public class Projeto extends BaseEntity {
 
   @Column(name = "qtde_vagas")
   private Long qtdeVagas;
+
+  /** Membros da equipe executora e candidaturas aprovadas; mantido por {@link ProjetoVagas}. */
+  @Column(name = "vagas_ocupadas", insertable = false, updatable = false)
+  private Long vagasOcupadas;
 }
@@ -3,7 +3,10 @@ package br.edu.utfpr.pb.ext.server.projeto;
 import br.edu.utfpr.pb.ext.server.generics.CrudController;
 import br.edu.utfpr.pb.ext.server.generics.ICrudService;
 import br.edu.utfpr.pb.ext.server.usuario.Usuario;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.ExampleObject;
@@ -12,34 +15,48 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.List;
 import org.modelmapper.ModelMapper;
 import org.springdoc.core.annotations.ParameterObject;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
 @RequestMapping("projeto")
 @Tag(name = "Projeto", description = "Endpoints responsáveis por manipulação de projeto")
 public class ProjetoController extends CrudController<Projeto, ProjetoDTO, Long> {
+  static final String CABECALHO_TOTAL = "X-Total-Count";
+  static final int TAMANHO_PAGINA_PADRAO = 20;
+  static final int TAMANHO_LOTE_TRANSMISSAO = 100;
 
   private final IProjetoService projetoService;
   private final ModelMapper modelMapper;
+  private final ObjectMapper objectMapper;
 
   /**
    * Inicializa o controlador REST para gerenciamento de entidades Projeto.
    *
    * @param projetoService serviço de negócios para operações com projetos
    * @param modelMapper utilitário para conversão entre entidades Projeto e DTOs
+   * @param objectMapper serializador usado para escrever os resultados da busca
    */
-  public ProjetoController(IProjetoService projetoService, ModelMapper modelMapper) {
+  public ProjetoController(
+      IProjetoService projetoService, ModelMapper modelMapper, ObjectMapper objectMapper) {
     super(Projeto.class, ProjetoDTO.class);
     this.projetoService = projetoService;
     this.modelMapper = modelMapper;
+    this.objectMapper = objectMapper;
   }
 
   /**
@@ -136,7 +153,9 @@ public class ProjetoController extends CrudController<Projeto, ProjetoDTO, Long>
   @Operation(
       summary = "Busca projetos por filtros",
       description =
-          "Endpoint para buscar projetos de extensão com base em múltiplos critérios. Todos os parâmetros são opcionais.")
+          "Endpoint para buscar projetos de extensão com base em múltiplos critérios. Todos os parâmetros são opcionais. "
+              + "Sem 'page', 'size' e 'sort', retorna todos os projetos, dos mais recentes para os mais antigos "
+              + "(com 'busca', dos mais relevantes para os menos relevantes), enviados à medida que são lidos do banco.")
   @ApiResponses({
     @ApiResponse(
         responseCode = "200",
@@ -151,11 +170,104 @@ public class ProjetoController extends CrudController<Projeto, ProjetoDTO, Long>
         description = "Parâmetros inválidos fornecidos.",
         content = @Content)
   })
-  @GetMapping("/buscar")
-  public ResponseEntity<List<ProjetoDTO>> buscarProjetos(
+  @GetMapping(
+      value = "/buscar",
+      params = {"!page", "!size", "!sort"})
+  public ResponseEntity<StreamingResponseBody> buscarProjetos(
       @Valid @ParameterObject FiltroProjetoDTO filtros) {
-    List<ProjetoDTO> projetos = projetoService.buscarProjetosPorFiltro(filtros);
-    return ResponseEntity.ok(projetos);
+    return ResponseEntity.ok()
+        .contentType(MediaType.APPLICATION_JSON)
+        .body(saida -> transmitirProjetos(saida, filtros));
+  }
+
+  @Operation(
+      summary = "Busca uma página de projetos por filtros",
+      description =
+          "Com 'page', 'size' ou 'sort', retorna apenas a página solicitada (no máximo 100 projetos) e o total no cabeçalho 'X-Total-Count'. "
+              + "'sort' aceita id, titulo, dataInicio, cargaHoraria e status; sem ele, os projetos mais recentes "
+              + "(com 'busca', os mais relevantes) vêm primeiro.")
+  @ApiResponses({
+    @ApiResponse(
+        responseCode = "200",
+        description = "Página de projetos retornada com sucesso.",
+        content = {
+          @Content(
+              mediaType = "application/json",
+              array = @ArraySchema(schema = @Schema(implementation = ProjetoDTO.class)))
+        }),
+    @ApiResponse(
+        responseCode = "400",
+        description = "Parâmetros inválidos fornecidos.",
+        content = @Content)
+  })
+  @GetMapping("/buscar")
+  public ResponseEntity<List<ProjetoDTO>> buscarProjetosPaginados(
+      @Valid @ParameterObject FiltroProjetoDTO filtros,
+      @Parameter(description = "Número da página (iniciando em 0)", example = "0")
+          @RequestParam(required = false)
+          Integer page,
+      @Parameter(description = "Quantidade de projetos por página (máximo 100)", example = "20")
+          @RequestParam(required = false)
+          Integer size,
+      @Parameter(description = "Ordenação no formato campo,asc|desc", example = "titulo,asc")
+          Sort sort) {
+    Page<ProjetoDTO> pagina =
+        projetoService.buscarProjetosPorFiltro(
+            filtros,
+            PageRequest.of(
+                page == null ? 0 : Math.max(page, 0),
+                size == null ? TAMANHO_PAGINA_PADRAO : Math.max(size, 1),
+                sort));
+    return ResponseEntity.ok()
+        .header(CABECALHO_TOTAL, String.valueOf(pagina.getTotalElements()))
+        .body(pagina.getContent());
+  }
+
+  @Operation(
+      summary = "Busca projetos por filtros usando cursor",
+      description =
+          "Retorna os projetos que atendem aos filtros (mais recentes primeiro ou, com 'busca', mais relevantes primeiro) a partir do cursor informado, sem contar o total. "
+              + "Para a próxima página, envie o 'proximoCursor' da resposta; ele é nulo na última página.")
+  @ApiResponses({
+    @ApiResponse(responseCode = "200", description = "Página de projetos retornada com sucesso."),
+    @ApiResponse(
+        responseCode = "400",
+        description = "Parâmetros ou cursor inválidos.",
+        content = @Content)
+  })
+  @GetMapping("/buscar/cursor")
+  public ResponseEntity<ProjetoCursorDTO> buscarProjetosPorCursor(
+      @Valid @ParameterObject FiltroProjetoDTO filtros,
+      @Parameter(description = "Cursor retornado pela página anterior")
+          @RequestParam(required = false)
+          String cursor,
+      @Parameter(description = "Quantidade de projetos (máximo 100)", example = "20")
+          @RequestParam(defaultValue = "20")
+          int tamanho) {
+    return ResponseEntity.ok(projetoService.buscarProjetosPorFiltro(filtros, cursor, tamanho));
+  }
+
+  /**
+   * Escreve todos os projetos que atendem aos filtros como um array JSON, lendo-os em lotes de
+   * {@value #TAMANHO_LOTE_TRANSMISSAO} pelo cursor. Cada lote é consultado em uma transação própria
+   * e descartado após ser escrito, de modo que a memória usada não depende da quantidade de
+   * projetos e nenhuma transação fica aberta enquanto o cliente lê a resposta.
+   */
+  private void transmitirProjetos(OutputStream saida, FiltroProjetoDTO filtros) throws IOException {
+    try (JsonGenerator gerador = objectMapper.getFactory().createGenerator(saida)) {
+      gerador.writeStartArray();
+      String cursor = null;
+      do {
+        ProjetoCursorDTO lote =
+            projetoService.buscarProjetosPorFiltro(filtros, cursor, TAMANHO_LOTE_TRANSMISSAO);
+        for (ProjetoDTO projeto : lote.getConteudo()) {
+          gerador.writeObject(projeto);
+        }
+        gerador.flush();
+        cursor = lote.getProximoCursor();
+      } while (cursor != null);
+      gerador.writeEndArray();
+    }
   }
 
   @Operation(
@@ -184,7 +296,7 @@ public class ProjetoController extends CrudController<Projeto, ProjetoDTO, Long>
       @AuthenticationPrincipal Usuario userDetails) {
     FiltroProjetoDTO filtroCordenador =
         new FiltroProjetoDTO(
-            null, null, null, null, userDetails.getId(), null, null, null, null, null, null);
+            null, null, null, null, userDetails.getId(), null, null, null, null, null, null, null);
     List<ProjetoDTO> projetos = projetoService.buscarProjetosPorFiltro(filtroCordenador);
     return ResponseEntity.ok(projetos);
   }
@@ -210,7 +322,10 @@ public class ProjetoController extends CrudController<Projeto, ProjetoDTO, Long>
     @ApiResponse(
         responseCode = "400",
         description =
-            "Requisição inválida. O parâmetro 'idsProjeto' é obrigatório ou está em formato inválido.",
+            "Requisição inválida. O parâmetro 'idsProjeto' é obrigatório, está em formato inválido"
+                + " ou contém mais de "
+                + IProjetoService.MAXIMO_PROJETOS_ALUNOS_EXECUTORES
+                + " projetos.",
         content = @Content),
     @ApiResponse(
         responseCode = "500",
@@ -219,7 +334,6 @@ public class ProjetoController extends CrudController<Projeto, ProjetoDTO, Long>
   })
   @GetMapping("/alunosexecutores")
   public ResponseEntity<List<String>> buscarAlunosExecutores(@RequestParam List<Long> idsProjeto) {
-    List<String> executores = projetoService.getAlunosExecutores(idsProjeto);
-    return ResponseEntity.ok(executores);
+    return ResponseEntity.ok(projetoService.buscarAlunosExecutores(idsProjeto));
   }
 }
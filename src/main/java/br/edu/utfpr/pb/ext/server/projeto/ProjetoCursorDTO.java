@@ -0,0 +1,19 @@
+package br.edu.utfpr.pb.ext.server.projeto;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Página de projetos obtida por cursor. {@code proximoCursor} é nulo quando não há mais projetos.
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class ProjetoCursorDTO {
+  private List<ProjetoDTO> conteudo;
+  private String proximoCursor;
+}
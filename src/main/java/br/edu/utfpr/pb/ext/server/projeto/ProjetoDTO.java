@@ -42,6 +42,11 @@ public class ProjetoDTO {
 
   private Long qtdeVagas;
 
+  @Schema(
+      description = "Vagas ocupadas pela equipe executora e pelas candidaturas aprovadas",
+      accessMode = Schema.AccessMode.READ_ONLY)
+  private Long vagasOcupadas;
+
   @Schema(description = "Usuário responsável pelo projeto")
   private UsuarioProjetoDTO responsavel;
 
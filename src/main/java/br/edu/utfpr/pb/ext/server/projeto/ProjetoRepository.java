@@ -1,7 +1,91 @@
 package br.edu.utfpr.pb.ext.server.projeto;
 
+import jakarta.persistence.QueryHint;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+/**
+ * Repositório de projetos. As consultas de listagem e busca usam o grafo {@link
+ * Projeto#GRAFO_RESUMO} e a busca por identificador usa {@link Projeto#GRAFO_DETALHE}, de modo que
+ * a conversão para DTO não dispare uma consulta por projeto.
+ */
 public interface ProjetoRepository
-    extends JpaRepository<Projeto, Long>, JpaSpecificationExecutor<Projeto> {}
+    extends JpaRepository<Projeto, Long>, JpaSpecificationExecutor<Projeto> {
+
+  @Override
+  @EntityGraph(Projeto.GRAFO_DETALHE)
+  Optional<Projeto> findById(Long id);
+
+  @Override
+  @EntityGraph(Projeto.GRAFO_RESUMO)
+  List<Projeto> findAll();
+
+  @Override
+  @EntityGraph(Projeto.GRAFO_RESUMO)
+  Page<Projeto> findAll(Pageable pageable);
+
+  @Override
+  @EntityGraph(Projeto.GRAFO_RESUMO)
+  List<Projeto> findAll(Specification<Projeto> spec, Sort sort);
+
+  @Override
+  @EntityGraph(Projeto.GRAFO_RESUMO)
+  Page<Projeto> findAll(Specification<Projeto> spec, Pageable pageable);
+
+  /**
+   * Alunos das equipes executoras dos projetos informados, em uma única consulta que une projeto,
+   * equipe, usuário e perfis. As linhas são lidas do banco à medida que o fluxo é consumido; o
+   * fluxo deve ser consumido dentro de uma transação e fechado em seguida.
+   *
+   * @param ids identificadores dos projetos
+   * @return alunos executores ordenados por projeto e nome
+   */
+  @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "100"))
+  @Query(
+      "SELECT new br.edu.utfpr.pb.ext.server.projeto.AlunoExecutor(u.nome, u.email, p.titulo)"
+          + " FROM Projeto p JOIN p.equipeExecutora u JOIN u.authorities a"
+          + " WHERE p.id IN :ids AND a.authority = 'ROLE_ALUNO'"
+          + " ORDER BY p.id, u.nome, u.id")
+  Stream<AlunoExecutor> findAlunosExecutores(Collection<Long> ids);
+
+  /**
+   * Relevância do projeto para a busca livre, calculada pela mesma função que ordena a busca.
+   *
+   * @param id identificador do projeto
+   * @param busca termo da busca livre
+   * @return relevância do projeto, ou {@code null} se ele não existir
+   */
+  @Query(
+      "SELECT projeto_relevancia(p.titulo, p.descricao, p.publicoAlvo, :busca)"
+          + " FROM Projeto p WHERE p.id = :id")
+  Double findRelevancia(@Param("id") Long id, @Param("busca") String busca);
+
+  /**
+   * Verifica se o usuário faz parte da equipe executora do projeto, sem carregar o projeto nem a
+   * equipe.
+   *
+   * @param projetoId identificador do projeto
+   * @param usuarioId identificador do usuário
+   * @return {@code true} se o usuário é membro da equipe executora
+   */
+  @Query(
+      value =
+          "SELECT EXISTS (SELECT 1 FROM tb_equipe_servidor"
+              + " WHERE id_projeto = :projetoId AND id_usuario = :usuarioId)",
+      nativeQuery = true)
+  boolean existsMembroEquipe(
+      @Param("projetoId") Long projetoId, @Param("usuarioId") Long usuarioId);
+}
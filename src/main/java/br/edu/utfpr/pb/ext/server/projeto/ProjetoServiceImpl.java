@@ -7,15 +7,21 @@ import br.edu.utfpr.pb.ext.server.file.img.ImageUtils;
 import br.edu.utfpr.pb.ext.server.generics.CrudServiceImpl;
 import br.edu.utfpr.pb.ext.server.projeto.enums.StatusProjeto;
 import br.edu.utfpr.pb.ext.server.usuario.Usuario;
-import br.edu.utfpr.pb.ext.server.usuario.UsuarioRepository;
+import br.edu.utfpr.pb.ext.server.usuario.UsuarioCache;
 import jakarta.persistence.EntityNotFoundException;
 import jakarta.persistence.criteria.*;
 import jakarta.validation.constraints.NotNull;
 import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
 import lombok.extern.slf4j.Slf4j;
 import org.modelmapper.ModelMapper;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.http.HttpStatus;
@@ -28,13 +34,29 @@ import org.springframework.web.server.ResponseStatusException;
 @Service
 @Slf4j
 public class ProjetoServiceImpl extends CrudServiceImpl<Projeto, Long> implements IProjetoService {
+  static final int TAMANHO_MAXIMO_PAGINA = 100;
+
+  /** Campos aceitos na ordenação da busca paginada. */
+  static final Set<String> CAMPOS_ORDENACAO =
+      Set.of("id", "titulo", "dataInicio", "cargaHoraria", "status");
+
+  private static final Sort ORDEM_PADRAO = Sort.by(Sort.Direction.DESC, "id");
+
+  /**
+   * Associações do grafo {@link Projeto#GRAFO_RESUMO}, para as consultas que não passam pelos
+   * métodos anotados do repositório.
+   */
+  private static final List<String> ASSOCIACOES_RESUMO =
+      List.of("responsavel", "responsavel.curso", "responsavel.departamento");
+
   private final ProjetoRepository projetoRepository;
   private final ModelMapper modelMapper;
-  private final UsuarioRepository usuarioRepository;
+  private final UsuarioCache usuarioCache;
   private final FileService fileService;
   private final ImageUtils imageUtils;
 
   private final EventPublisher eventPublisher;
+  private final ProjetoVagas projetoVagas;
 
   /**
    * Constrói o serviço de projetos inicializando os repositórios, utilitários e serviços
@@ -42,23 +64,27 @@ public class ProjetoServiceImpl extends CrudServiceImpl<Projeto, Long> implement
    *
    * @param projetoRepository repositório para persistência de projetos
    * @param modelMapper utilitário para conversão entre entidades e DTOs
-   * @param usuarioRepository repositório para operações com usuários
+   * @param usuarioCache cache de usuários por email, usado para carregar responsável e equipe
    * @param fileService serviço para armazenamento de arquivos
    * @param imageUtils utilitário para validação e processamento de imagens
+   * @param eventPublisher publicador dos eventos de criação e atualização de projetos
+   * @param projetoVagas contador de vagas ocupadas, recontado quando a equipe executora muda
    */
   public ProjetoServiceImpl(
       ProjetoRepository projetoRepository,
       ModelMapper modelMapper,
-      UsuarioRepository usuarioRepository,
+      UsuarioCache usuarioCache,
       FileService fileService,
       ImageUtils imageUtils,
-      EventPublisher eventPublisher) {
+      EventPublisher eventPublisher,
+      ProjetoVagas projetoVagas) {
     this.projetoRepository = projetoRepository;
     this.modelMapper = modelMapper;
-    this.usuarioRepository = usuarioRepository;
+    this.usuarioCache = usuarioCache;
     this.fileService = fileService;
     this.imageUtils = imageUtils;
     this.eventPublisher = eventPublisher;
+    this.projetoVagas = projetoVagas;
   }
 
   /**
@@ -109,6 +135,7 @@ public class ProjetoServiceImpl extends CrudServiceImpl<Projeto, Long> implement
   @Override
   public Projeto postsave(Projeto entity) {
     Projeto savedEntity = super.postsave(entity);
+    atualizarVagasOcupadas(savedEntity);
 
     boolean isNew = entity.getId() == null || entity.getId() <= 0L;
 
@@ -121,6 +148,15 @@ public class ProjetoServiceImpl extends CrudServiceImpl<Projeto, Long> implement
     return savedEntity;
   }
 
+  /**
+   * Envia a equipe executora ao banco e reconta as vagas ocupadas do projeto, que não são gravadas
+   * pelo mapeamento da entidade.
+   */
+  private void atualizarVagasOcupadas(Projeto projeto) {
+    projetoRepository.flush();
+    projeto.setVagasOcupadas(projetoVagas.recontar(projeto.getId()));
+  }
+
   /**
    * Processa a URL da imagem do projeto, validando e decodificando uma imagem em Base64,
    * armazenando-a e atualizando a URL do projeto com o endereço do arquivo salvo.
@@ -173,7 +209,7 @@ public class ProjetoServiceImpl extends CrudServiceImpl<Projeto, Long> implement
                         HttpStatus.BAD_REQUEST, "Usuário com email não informado");
                   }
 
-                  return usuarioRepository
+                  return usuarioCache
                       .findByEmail(usuario.getEmail())
                       .orElseThrow(
                           () ->
@@ -197,7 +233,7 @@ public class ProjetoServiceImpl extends CrudServiceImpl<Projeto, Long> implement
 
       if (entity.getResponsavel() == null) {
         Usuario usuarioAutenticado =
-            usuarioRepository
+            usuarioCache
                 .findByEmail(email)
                 .orElseThrow(
                     () -> new EntityNotFoundException("Usuário autenticado não encontrado"));
@@ -268,61 +304,185 @@ public class ProjetoServiceImpl extends CrudServiceImpl<Projeto, Long> implement
     modelMapper.map(dto, projeto);
     processaImagemUrl(projeto);
     Projeto projetoAtualizado = getRepository().save(projeto);
+    atualizarVagasOcupadas(projetoAtualizado);
 
     return modelMapper.map(projetoAtualizado, ProjetoDTO.class);
   }
 
   /**
-   * Busca projetos aplicando filtros dinâmicos e retorna a lista de resultados como DTOs.
+   * Busca todos os projetos que atendem aos filtros, do mais recente para o mais antigo ou, com
+   * busca livre, do mais relevante para o menos relevante.
+   *
+   * <p>Não há limite de resultados; destina-se a consultas de escopo restrito, como os projetos de
+   * um responsável. Para buscas abertas, use a versão paginada ou por cursor.
    *
    * @param filtros critérios de filtragem para a busca dos projetos
    * @return lista de projetos encontrados convertidos para DTOs
    */
   @Override
   @Transactional(readOnly = true)
-  public List<ProjetoDTO> buscarProjetosPorFiltro(
-      @NotNull FiltroProjetoDTO filtros /*, Pageable pageable */) {
-    Specification<Projeto> spec = criarSpecificationComFiltros(filtros);
-
-    // 2. Executa a busca no repositório com a Specification
-    List<Projeto> projetosEncontrados = projetoRepository.findAll(spec /*, pageable */);
-
-    // 3. Mapeia a lista de entidades para uma lista de DTOs usando o ModelMapper
-    return projetosEncontrados.stream()
+  public List<ProjetoDTO> buscarProjetosPorFiltro(@NotNull FiltroProjetoDTO filtros) {
+    return projetoRepository
+        .findAll(criarSpecificationComFiltros(filtros), ordenacaoEstavel(filtros, Sort.unsorted()))
+        .stream()
         .map(projeto -> modelMapper.map(projeto, ProjetoDTO.class))
         .toList();
   }
 
+  /**
+   * Busca uma página de projetos que atendem aos filtros.
+   *
+   * <p>O tamanho da página é limitado a {@value #TAMANHO_MAXIMO_PAGINA}. A ordenação aceita os
+   * campos {@link #CAMPOS_ORDENACAO} e recebe o identificador como critério de desempate, para que
+   * projetos com o mesmo valor não troquem de página entre as requisições. Sem ordenação, os
+   * projetos mais relevantes para a busca livre vêm primeiro ou, sem ela, os mais recentes.
+   *
+   * @param filtros critérios de filtragem para a busca dos projetos
+   * @param pageable página, tamanho e ordenação solicitados
+   * @return página de projetos convertidos para DTOs
+   * @throws ResponseStatusException com status 400 se a ordenação usar um campo não permitido
+   */
   @Override
-  public List<String> getAlunosExecutores(List<Long> idsProjeto) {
-    return idsProjeto.stream()
-        .map(projetoRepository::findById)
-        .filter(Optional::isPresent)
-        .map(Optional::get)
-        .flatMap(
-            projeto ->
-                projeto.getEquipeExecutora().stream()
-                    .filter(this::isAluno)
-                    .map(executor -> formatarAlunoExecutor(executor, projeto)))
-        .toList();
+  @Transactional(readOnly = true)
+  public Page<ProjetoDTO> buscarProjetosPorFiltro(
+      @NotNull FiltroProjetoDTO filtros, Pageable pageable) {
+    Pageable pagina =
+        PageRequest.of(
+            pageable.getPageNumber(),
+            Math.clamp(pageable.getPageSize(), 1, TAMANHO_MAXIMO_PAGINA),
+            ordenacaoEstavel(filtros, pageable.getSort()));
+    return projetoRepository
+        .findAll(criarSpecificationComFiltros(filtros), pagina)
+        .map(projeto -> modelMapper.map(projeto, ProjetoDTO.class));
   }
 
-  private boolean isAluno(Usuario usuario) {
-    return usuario.getAuthorities().stream()
-        .anyMatch(authority -> authority.getAuthority().equals("ROLE_ALUNO"));
+  /**
+   * Busca uma página de projetos que atendem aos filtros a partir de um cursor, sem contar o total.
+   *
+   * <p>Os projetos são ordenados pelo identificador, em ordem decrescente, ou, com busca livre, do
+   * mais relevante para o menos relevante, desempatando pelo identificador. A consulta continua a
+   * partir do cursor, em vez de descartar as linhas das páginas anteriores, e lê uma linha a mais
+   * para saber se há próxima página; o custo não cresce com a profundidade da rolagem.
+   *
+   * @param filtros critérios de filtragem para a busca dos projetos
+   * @param cursor cursor devolvido na página anterior, ou {@code null} para a primeira página
+   * @param tamanho quantidade máxima de projetos, limitada a {@value #TAMANHO_MAXIMO_PAGINA}
+   * @return projetos da página e o cursor da próxima, se houver
+   * @throws ResponseStatusException com status 400 se o cursor for inválido
+   */
+  @Override
+  @Transactional(readOnly = true)
+  public ProjetoCursorDTO buscarProjetosPorFiltro(
+      @NotNull FiltroProjetoDTO filtros, String cursor, int tamanho) {
+    int limite = Math.clamp(tamanho, 1, TAMANHO_MAXIMO_PAGINA);
+    String busca =
+        filtros.busca() != null && !filtros.busca().isBlank() ? filtros.busca().strip() : null;
+    Specification<Projeto> spec = criarSpecificationComFiltros(filtros);
+    if (cursor != null && !cursor.isBlank()) {
+      spec = spec.and(aposCursor(CursorProjeto.decodificar(cursor), busca));
+    }
+    // com busca livre, vale a ordem por relevância da Specification
+    Sort ordem = busca != null ? Sort.unsorted() : ORDEM_PADRAO;
+    List<Projeto> projetos =
+        projetoRepository.findBy(
+            spec,
+            consulta -> consulta.project(ASSOCIACOES_RESUMO).sortBy(ordem).limit(limite + 1).all());
+    boolean haProxima = projetos.size() > limite;
+    List<Projeto> pagina = haProxima ? projetos.subList(0, limite) : projetos;
+    return ProjetoCursorDTO.builder()
+        .conteudo(
+            pagina.stream().map(projeto -> modelMapper.map(projeto, ProjetoDTO.class)).toList())
+        .proximoCursor(haProxima ? cursorApos(pagina.getLast(), busca).codificar() : null)
+        .build();
   }
 
-  private String formatarAlunoExecutor(Usuario executor, Projeto projeto) {
-    return String.format(
-        "%s - %s - %s", executor.getNome(), executor.getEmail(), projeto.getTitulo());
+  /** Cursor que aponta para o projeto, com a sua relevância quando há busca livre. */
+  private CursorProjeto cursorApos(Projeto projeto, String busca) {
+    if (busca == null) {
+      return new CursorProjeto(projeto.getId());
+    }
+    return new CursorProjeto(
+        projeto.getId(), projetoRepository.findRelevancia(projeto.getId(), busca));
+  }
+
+  /**
+   * Restringe a consulta aos projetos posteriores ao cursor na ordem da busca: {@code id <
+   * cursor.id} ou, com busca livre, {@code (relevância, id) < (cursor.relevancia, cursor.id)}.
+   *
+   * @throws ResponseStatusException com status 400 se o cursor não for de uma consulta com o mesmo
+   *     tipo de ordenação
+   */
+  private Specification<Projeto> aposCursor(CursorProjeto cursor, String busca) {
+    if ((busca == null) != (cursor.relevancia() == null)) {
+      throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Cursor inválido");
+    }
+    if (busca == null) {
+      return (root, query, criteriaBuilder) -> criteriaBuilder.lt(root.get("id"), cursor.id());
+    }
+    return (root, query, criteriaBuilder) -> {
+      Expression<Double> relevancia = relevancia(root, criteriaBuilder, busca);
+      return criteriaBuilder.or(
+          criteriaBuilder.lt(relevancia, cursor.relevancia()),
+          criteriaBuilder.and(
+              criteriaBuilder.equal(relevancia, cursor.relevancia()),
+              criteriaBuilder.lt(root.get("id"), cursor.id())));
+    };
+  }
+
+  /**
+   * Valida os campos da ordenação e acrescenta o identificador como desempate, se ainda não estiver
+   * presente. Sem ordenação e com busca livre, mantém a ordem por relevância definida pela
+   * Specification, que já desempata pelo identificador.
+   */
+  private Sort ordenacaoEstavel(FiltroProjetoDTO filtros, Sort sort) {
+    if (sort.isUnsorted() && filtros.busca() != null && !filtros.busca().isBlank()) {
+      return Sort.unsorted();
+    }
+    for (Sort.Order ordem : sort) {
+      if (!CAMPOS_ORDENACAO.contains(ordem.getProperty())) {
+        throw new ResponseStatusException(
+            HttpStatus.BAD_REQUEST, "Campo de ordenação inválido: " + ordem.getProperty());
+      }
+    }
+    return sort.getOrderFor("id") != null ? sort : sort.and(ORDEM_PADRAO);
+  }
+
+  /**
+   * Busca os alunos das equipes executoras dos projetos por uma única consulta de projeção.
+   * Identificadores repetidos são considerados uma vez e projetos inexistentes são ignorados.
+   *
+   * <p>As linhas são lidas do banco aos poucos, mas o resultado é montado dentro da transação para
+   * que a conexão seja liberada antes de a resposta ser escrita ao cliente. O limite de projetos
+   * mantém essa lista pequena.
+   *
+   * @param idsProjeto identificadores dos projetos, no máximo {@value
+   *     IProjetoService#MAXIMO_PROJETOS_ALUNOS_EXECUTORES}
+   * @return os alunos no formato {@code "nome - email - título do projeto"}
+   * @throws ResponseStatusException com status 400 se forem informados projetos demais
+   */
+  @Override
+  @Transactional(readOnly = true)
+  public List<String> buscarAlunosExecutores(List<Long> idsProjeto) {
+    Set<Long> ids = new LinkedHashSet<>(idsProjeto);
+    if (ids.size() > MAXIMO_PROJETOS_ALUNOS_EXECUTORES) {
+      throw new ResponseStatusException(
+          HttpStatus.BAD_REQUEST,
+          "Informe no máximo " + MAXIMO_PROJETOS_ALUNOS_EXECUTORES + " projetos");
+    }
+    try (Stream<AlunoExecutor> alunos = projetoRepository.findAlunosExecutores(ids)) {
+      return alunos.map(AlunoExecutor::formatar).toList();
+    }
   }
 
   /**
    * Cria dinamicamente uma Specification para a entidade Projeto com base nos filtros informados.
    *
-   * <p>Os filtros suportados incluem título (busca parcial, case-insensitive), status, intervalo de
-   * datas de início, ID do responsável, ID de membro da equipe executora e ID do curso do
-   * responsável. Garante que os resultados sejam distintos.
+   * <p>Os filtros suportados incluem título (busca parcial, sem diferenciar maiúsculas nem
+   * acentos), busca livre, status, intervalo de datas de início, ID do responsável, ID de membro da
+   * equipe executora e ID do curso do responsável. Com a busca livre, a consulta é ordenada por
+   * relevância, salvo quando o chamador informa outra ordenação. Os filtros por membro da equipe
+   * usam subconsultas, de modo que cada projeto aparece uma única vez sem {@code DISTINCT} e a
+   * consulta pode ser ordenada e paginada no banco.
    *
    * @param filtros DTO contendo os critérios de filtragem dos projetos.
    * @return Specification<Projeto> configurada conforme os filtros fornecidos.
@@ -330,12 +490,37 @@ public class ProjetoServiceImpl extends CrudServiceImpl<Projeto, Long> implement
   private Specification<Projeto> criarSpecificationComFiltros(FiltroProjetoDTO filtros) {
     return (root, query, criteriaBuilder) -> {
       List<Predicate> predicates = new ArrayList<>();
+      // uma única junção com o curso do responsável, compartilhada pelos filtros de curso
+      Join<Usuario, ?> curso =
+          filtros.idCurso() != null
+                  || (filtros.nomeCurso() != null && !filtros.nomeCurso().isEmpty())
+              ? root.<Projeto, Usuario>join("responsavel").join("curso")
+              : null;
 
       if (filtros.titulo() != null && !filtros.titulo().isEmpty()) {
+        predicates.add(contem(criteriaBuilder, root.get("titulo"), filtros.titulo()));
+      }
+
+      if (filtros.busca() != null && !filtros.busca().isBlank()) {
+        List<Expression<?>> argumentos =
+            List.of(
+                root.get("titulo"),
+                root.get("descricao"),
+                root.get("publicoAlvo"),
+                criteriaBuilder.literal(filtros.busca().strip()));
         predicates.add(
-            criteriaBuilder.like(
-                criteriaBuilder.lower(root.get("titulo")),
-                "%" + filtros.titulo().toLowerCase() + "%"));
+            criteriaBuilder.isTrue(
+                criteriaBuilder.function(
+                    FuncoesBuscaProjeto.CORRESPONDE,
+                    Boolean.class,
+                    argumentos.toArray(new Expression<?>[0]))));
+        // a consulta de contagem da paginação também passa por aqui e não pode ser ordenada;
+        // uma ordenação informada pelo cliente substitui esta
+        if (!Long.class.equals(query.getResultType())) {
+          query.orderBy(
+              criteriaBuilder.desc(relevancia(root, criteriaBuilder, filtros.busca().strip())),
+              criteriaBuilder.desc(root.get("id")));
+        }
       }
 
       if (filtros.status() != null) {
@@ -355,19 +540,24 @@ public class ProjetoServiceImpl extends CrudServiceImpl<Projeto, Long> implement
 
       if (filtros.idResponsavel() != null) {
         predicates.add(
-            criteriaBuilder.equal(root.join("responsavel").get("id"), filtros.idResponsavel()));
+            criteriaBuilder.equal(root.get("responsavel").get("id"), filtros.idResponsavel()));
       }
 
       if (filtros.idMembroEquipe() != null) {
-        predicates.add(
-            criteriaBuilder.equal(
-                root.join("equipeExecutora").get("id"), filtros.idMembroEquipe()));
+        // EXISTS em vez de JOIN: a junção com a equipe repetiria o projeto por membro e exigiria
+        // DISTINCT, que impede a ordenação e a paginação no banco
+        Subquery<Long> membro = query.subquery(Long.class);
+        Root<Projeto> membroRoot = membro.from(Projeto.class);
+        Join<Projeto, Usuario> membroJoin = membroRoot.join("equipeExecutora");
+        membro.select(membroRoot.get("id"));
+        membro.where(
+            criteriaBuilder.equal(membroRoot, root),
+            criteriaBuilder.equal(membroJoin.get("id"), filtros.idMembroEquipe()));
+        predicates.add(criteriaBuilder.exists(membro));
       }
 
       if (filtros.idCurso() != null) {
-        predicates.add(
-            criteriaBuilder.equal(
-                root.join("responsavel").join("curso").get("id"), filtros.idCurso()));
+        predicates.add(criteriaBuilder.equal(curso.get("id"), filtros.idCurso()));
       }
 
       if (filtros.cargaHorariaMinima() != null) {
@@ -385,30 +575,46 @@ public class ProjetoServiceImpl extends CrudServiceImpl<Projeto, Long> implement
 
       // NOVO FILTRO: Nome do Curso (busca parcial)
       if (filtros.nomeCurso() != null && !filtros.nomeCurso().isEmpty()) {
-        predicates.add(
-            criteriaBuilder.like(
-                criteriaBuilder.lower(root.join("responsavel").join("curso").get("nome")),
-                "%" + filtros.nomeCurso().toLowerCase() + "%"));
+        predicates.add(contem(criteriaBuilder, curso.get("nome"), filtros.nomeCurso()));
       }
 
       if (filtros.temVagas() != null) {
-        Subquery<Long> subquery = query.subquery(Long.class);
-        Root<Projeto> subRoot = subquery.from(Projeto.class);
-        Join<Projeto, Usuario> equipeJoin = subRoot.join("equipeExecutora");
-        subquery.select(criteriaBuilder.count(equipeJoin));
-        subquery.where(criteriaBuilder.equal(subRoot, root));
-
-        Path<Long> qtdeVagasPath = root.get("qtdeVagas");
-
+        // Mesmo predicado do índice parcial idx_projeto_com_vagas (PostgreSQL)
+        Path<Long> vagasOcupadas = root.get("vagasOcupadas");
+        Path<Long> qtdeVagas = root.get("qtdeVagas");
         if (filtros.temVagas()) {
-          predicates.add(criteriaBuilder.greaterThan(qtdeVagasPath, subquery));
+          predicates.add(criteriaBuilder.lessThan(vagasOcupadas, qtdeVagas));
         } else {
-          predicates.add(criteriaBuilder.lessThanOrEqualTo(qtdeVagasPath, subquery));
+          predicates.add(criteriaBuilder.greaterThanOrEqualTo(vagasOcupadas, qtdeVagas));
         }
       }
 
-      query.distinct(true);
       return criteriaBuilder.and(predicates.toArray(new Predicate[0]));
     };
   }
+
+  /**
+   * Verifica se a coluna contém o termo, sem diferenciar maiúsculas nem acentos (no PostgreSQL),
+   * por meio de {@link FuncoesBuscaProjeto#CONTEM}.
+   */
+  private static Predicate contem(
+      CriteriaBuilder criteriaBuilder, Expression<String> coluna, String termo) {
+    return criteriaBuilder.isTrue(
+        criteriaBuilder.function(
+            FuncoesBuscaProjeto.CONTEM, Boolean.class, coluna, criteriaBuilder.literal(termo)));
+  }
+
+  /**
+   * Relevância do projeto para a busca livre, pela função {@value FuncoesBuscaProjeto#RELEVANCIA}.
+   */
+  private static Expression<Double> relevancia(
+      Root<Projeto> root, CriteriaBuilder criteriaBuilder, String busca) {
+    return criteriaBuilder.function(
+        FuncoesBuscaProjeto.RELEVANCIA,
+        Double.class,
+        root.get("titulo"),
+        root.get("descricao"),
+        root.get("publicoAlvo"),
+        criteriaBuilder.literal(busca));
+  }
 }
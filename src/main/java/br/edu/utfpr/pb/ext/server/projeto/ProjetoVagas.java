@@ -0,0 +1,143 @@
+package br.edu.utfpr.pb.ext.server.projeto;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Contador de vagas ocupadas de cada projeto, mantido em {@code tb_projeto.vagas_ocupadas} para que
+ * o filtro de projetos com vagas compare duas colunas da própria linha, em vez de contar a equipe
+ * de cada projeto candidato.
+ *
+ * <p>Ocupam vaga os membros da equipe executora e os alunos com candidatura aprovada. O contador é
+ * atualizado na mesma transação que altera a equipe ou aprova candidaturas; a aprovação só é
+ * confirmada se a reserva da vaga couber no limite do projeto. A recontagem bloqueia a linha do
+ * projeto antes de contar: assim, uma transação concorrente só altera o contador depois que a
+ * recontagem termina, e o valor corrigido não sobrescreve uma alteração ainda não confirmada.
+ *
+ * <p>Métrica publicada: {@code projeto.vagas.corrigidas} (contadores ajustados pela reconciliação).
+ */
+@Component
+public class ProjetoVagas {
+  private static final Logger logger = LoggerFactory.getLogger(ProjetoVagas.class);
+
+  private static final String CONTAR =
+      "(SELECT COUNT(*) FROM tb_equipe_servidor e WHERE e.id_projeto = p.id)"
+          + " + (SELECT COUNT(*) FROM tb_candidatura c"
+          + " WHERE c.projeto_id = p.id AND c.status = 'APROVADA')";
+
+  private final JdbcTemplate jdbcTemplate;
+  private final TransactionTemplate transactionTemplate;
+  private final Counter corrigidas;
+
+  /**
+   * Cria o contador sobre o banco de dados da aplicação.
+   *
+   * @param jdbcTemplate acesso à tabela de projetos
+   * @param transactionManager gerenciador usado para corrigir cada contador em uma transação
+   *     própria
+   * @param meterRegistry registro de métricas
+   */
+  public ProjetoVagas(
+      JdbcTemplate jdbcTemplate,
+      PlatformTransactionManager transactionManager,
+      MeterRegistry meterRegistry) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.corrigidas = meterRegistry.counter("projeto.vagas.corrigidas");
+  }
+
+  /**
+   * Reserva vagas no projeto para candidaturas aprovadas, desde que caibam nas vagas oferecidas. A
+   * verificação e o incremento são uma única instrução: aprovações concorrentes esperam apenas pela
+   * linha do projeto e veem o contador já incrementado, sem que o projeto fique com mais ocupantes
+   * que vagas. Projetos sem quantidade de vagas definida não têm limite.
+   *
+   * @param projetoId identificador do projeto
+   * @param vagas quantidade de vagas a reservar
+   * @return {@code true} se as vagas foram reservadas; {@code false} se não há vagas suficientes
+   */
+  public boolean ocupar(Long projetoId, int vagas) {
+    return jdbcTemplate.update(
+            "UPDATE tb_projeto SET vagas_ocupadas = vagas_ocupadas + ?"
+                + " WHERE id = ? AND (qtde_vagas IS NULL OR vagas_ocupadas + ? <= qtde_vagas)",
+            vagas,
+            projetoId,
+            vagas)
+        > 0;
+  }
+
+  /**
+   * Reconta as vagas ocupadas do projeto. Deve ser chamado depois que as alterações da equipe
+   * executora forem enviadas ao banco; participa da transação em andamento, se houver.
+   *
+   * @param projetoId identificador do projeto
+   * @return vagas ocupadas após a recontagem; zero se o projeto não existir
+   */
+  public long recontar(Long projetoId) {
+    Recontagem recontagem = transactionTemplate.execute(status -> corrigir(projetoId));
+    return recontagem == null ? 0 : recontagem.ocupadas();
+  }
+
+  /**
+   * Corrige os contadores que divergem da equipe executora e das candidaturas aprovadas.
+   *
+   * @return quantidade de contadores corrigidos
+   */
+  @Scheduled(
+      fixedDelayString = "${app.projeto.vagas.reconcile-interval:1h}",
+      initialDelayString = "${app.projeto.vagas.reconcile-interval:1h}")
+  public int reconciliar() {
+    List<Long> divergentes =
+        jdbcTemplate.queryForList(
+            "SELECT p.id FROM tb_projeto p WHERE p.vagas_ocupadas <> " + CONTAR, Long.class);
+    int corrigidasAgora = 0;
+    for (Long projetoId : divergentes) {
+      try {
+        Recontagem recontagem = transactionTemplate.execute(status -> corrigir(projetoId));
+        if (recontagem != null && recontagem.corrigida()) {
+          corrigidasAgora++;
+        }
+      } catch (DataAccessException e) {
+        logger.warn("Falha ao corrigir as vagas do projeto {}: {}", projetoId, e.getMessage());
+      }
+    }
+    if (corrigidasAgora > 0) {
+      corrigidas.increment(corrigidasAgora);
+      logger.warn("{} contadores de vagas ocupadas corrigidos", corrigidasAgora);
+    }
+    return corrigidasAgora;
+  }
+
+  /**
+   * Bloqueia a linha do projeto, reconta as vagas ocupadas e corrige se necessário.
+   *
+   * @return resultado da recontagem, ou {@code null} se o projeto não existir
+   */
+  private Recontagem corrigir(Long projetoId) {
+    List<Long> atual =
+        jdbcTemplate.queryForList(
+            "SELECT vagas_ocupadas FROM tb_projeto WHERE id = ? FOR UPDATE", Long.class, projetoId);
+    if (atual.isEmpty()) {
+      return null;
+    }
+    Long real =
+        jdbcTemplate.queryForObject(
+            "SELECT " + CONTAR + " FROM tb_projeto p WHERE p.id = ?", Long.class, projetoId);
+    if (real.equals(atual.getFirst())) {
+      return new Recontagem(real, false);
+    }
+    jdbcTemplate.update("UPDATE tb_projeto SET vagas_ocupadas = ? WHERE id = ?", real, projetoId);
+    return new Recontagem(real, true);
+  }
+
+  private record Recontagem(long ocupadas, boolean corrigida) {}
+}
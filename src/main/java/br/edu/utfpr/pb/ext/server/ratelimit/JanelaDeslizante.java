@@ -0,0 +1,34 @@
+package br.edu.utfpr.pb.ext.server.ratelimit;
+
+/** Cálculos do contador de janela deslizante compartilhados pelas implementações de limitador. */
+final class JanelaDeslizante {
+
+  private JanelaDeslizante() {}
+
+  /**
+   * Retorna o período fixo em que o instante informado se encontra.
+   *
+   * @param agora instante atual (epoch em ms)
+   * @param limite limite cuja janela define a duração do período
+   * @return índice do período
+   */
+  static long periodo(long agora, Limite limite) {
+    return agora / limite.janela().toMillis();
+  }
+
+  /**
+   * Verifica se uma nova ocorrência ultrapassaria o limite, estimando as ocorrências da janela
+   * deslizante a partir das contagens do período atual e do anterior.
+   *
+   * @param agora instante atual (epoch em ms)
+   * @param limite limite a ser verificado
+   * @param anteriores ocorrências registradas no período anterior
+   * @param atuais ocorrências registradas no período atual
+   * @return {@code true} se o limite já tiver sido atingido
+   */
+  static boolean atingido(long agora, Limite limite, long anteriores, long atuais) {
+    long janela = limite.janela().toMillis();
+    double sobreposicao = 1.0 - (double) (agora % janela) / janela;
+    return anteriores * sobreposicao + atuais >= limite.maximo();
+  }
+}
@@ -0,0 +1,122 @@
+package br.edu.utfpr.pb.ext.server.ratelimit;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.LongSupplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Limitador de taxa com os contadores em {@code tb_rate_limit}, compartilhados entre todas as
+ * instâncias da aplicação.
+ *
+ * <p>Cada limite de uma chave ocupa uma linha por período. A ocorrência é contabilizada em uma
+ * transação própria: o incremento do período atual bloqueia a linha até o commit, serializando as
+ * tentativas concorrentes da mesma chave, e a transação é desfeita se algum limite for atingido.
+ */
+@Component
+@ConditionalOnProperty(name = "app.rate-limit.store", havingValue = "jdbc")
+public class JdbcRateLimiter implements RateLimiter {
+  private static final Logger logger = LoggerFactory.getLogger(JdbcRateLimiter.class);
+
+  private final JdbcTemplate jdbcTemplate;
+  private final TransactionTemplate transactionTemplate;
+  private final LongSupplier relogio;
+
+  /**
+   * Cria o limitador sobre o banco de dados da aplicação.
+   *
+   * @param jdbcTemplate acesso à tabela de contadores
+   * @param transactionManager gerenciador usado para isolar cada ocorrência em uma transação
+   *     própria
+   */
+  @Autowired
+  public JdbcRateLimiter(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+    this(jdbcTemplate, transactionManager, System::currentTimeMillis);
+  }
+
+  JdbcRateLimiter(
+      JdbcTemplate jdbcTemplate,
+      PlatformTransactionManager transactionManager,
+      LongSupplier relogio) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    this.relogio = relogio;
+  }
+
+  @Override
+  public Optional<Limite> tentarConsumir(String chave, Limite... limites) {
+    if (limites.length == 0) {
+      return Optional.empty();
+    }
+    long agora = relogio.getAsLong();
+    return transactionTemplate.execute(
+        status -> {
+          for (Limite limite : limites) {
+            if (incrementar(chave + ":" + limite.nome(), agora, limite)) {
+              status.setRollbackOnly();
+              return Optional.of(limite);
+            }
+          }
+          return Optional.empty();
+        });
+  }
+
+  /**
+   * Incrementa o contador do período atual e verifica se o limite já havia sido atingido antes da
+   * ocorrência.
+   *
+   * @return {@code true} se o limite tiver sido atingido
+   */
+  private boolean incrementar(String chave, long agora, Limite limite) {
+    long periodo = JanelaDeslizante.periodo(agora, limite);
+    long expiraEm = (periodo + 2) * limite.janela().toMillis();
+    jdbcTemplate.update(
+        "INSERT INTO tb_rate_limit (chave, periodo, contador, expira_em) VALUES (?, ?, 0, ?)"
+            + " ON CONFLICT DO NOTHING",
+        chave,
+        periodo,
+        expiraEm);
+    jdbcTemplate.update(
+        "UPDATE tb_rate_limit SET contador = contador + 1 WHERE chave = ? AND periodo = ?",
+        chave,
+        periodo);
+
+    Map<Long, Integer> contadores = new HashMap<>();
+    jdbcTemplate.query(
+        "SELECT periodo, contador FROM tb_rate_limit WHERE chave = ? AND periodo IN (?, ?)",
+        rs -> {
+          contadores.put(rs.getLong("periodo"), rs.getInt("contador"));
+        },
+        chave,
+        periodo - 1,
+        periodo);
+    return JanelaDeslizante.atingido(
+        agora,
+        limite,
+        contadores.getOrDefault(periodo - 1, 0),
+        contadores.getOrDefault(periodo, 1) - 1L);
+  }
+
+  /** Remove os períodos que já não fazem parte de nenhuma janela. */
+  @Scheduled(
+      fixedDelayString = "${app.rate-limit.jdbc.cleanup-interval:1h}",
+      initialDelayString = "${app.rate-limit.jdbc.cleanup-interval:1h}")
+  public void removerExpirados() {
+    int removidos =
+        jdbcTemplate.update("DELETE FROM tb_rate_limit WHERE expira_em < ?", relogio.getAsLong());
+    if (removidos > 0) {
+      logger.info("{} contadores de limite de taxa expirados removidos", removidos);
+    }
+  }
+}
@@ -0,0 +1,26 @@
+package br.edu.utfpr.pb.ext.server.ratelimit;
+
+import java.time.Duration;
+
+/**
+ * Limite de ocorrências permitidas dentro de uma janela deslizante.
+ *
+ * @param nome identificador do limite, usado para compor a chave dos contadores e para informar
+ *     qual limite foi atingido
+ * @param maximo quantidade máxima de ocorrências dentro da janela
+ * @param janela duração da janela
+ */
+public record Limite(String nome, int maximo, Duration janela) {
+
+  public Limite {
+    if (nome == null || nome.isBlank()) {
+      throw new IllegalArgumentException("O nome do limite é obrigatório.");
+    }
+    if (maximo <= 0) {
+      throw new IllegalArgumentException("O máximo do limite deve ser positivo.");
+    }
+    if (janela == null || janela.toMillis() <= 0) {
+      throw new IllegalArgumentException("A janela do limite deve ser positiva.");
+    }
+  }
+}
@@ -0,0 +1,87 @@
+package br.edu.utfpr.pb.ext.server.ratelimit;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import org.jetbrains.annotations.NotNull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * Filtro que limita, por endereço IP de origem, as requisições aos endpoints públicos de
+ * autenticação e de envio de códigos.
+ *
+ * <p>Requisições acima do limite recebem {@code 429 Too Many Requests} com o cabeçalho {@code
+ * Retry-After}. O IP considerado é o de {@link HttpServletRequest#getRemoteAddr()}; atrás de um
+ * proxy reverso, configure {@code server.forward-headers-strategy} para que ele reflita o cliente.
+ */
+@Component
+public class RateLimitFilter extends OncePerRequestFilter {
+  private static final Logger LOGGER = LoggerFactory.getLogger(RateLimitFilter.class);
+
+  static final String MENSAGEM_LIMITE =
+      "Limite de requisições atingido, tente novamente mais tarde.";
+
+  private final RateLimiter rateLimiter;
+  private final boolean habilitado;
+  private final List<String> caminhos;
+  private final Limite limite;
+  private final AntPathMatcher pathMatcher = new AntPathMatcher();
+
+  /**
+   * Cria o filtro com os caminhos e o limite por IP configurados.
+   *
+   * @param rateLimiter limitador onde as requisições são contabilizadas
+   * @param habilitado se {@code false}, nenhuma requisição é limitada
+   * @param caminhos padrões de caminho (estilo Ant) sujeitos ao limite
+   * @param maximoRequisicoes quantidade máxima de requisições de um IP dentro da janela
+   * @param janela duração da janela
+   */
+  public RateLimitFilter(
+      RateLimiter rateLimiter,
+      @Value("${app.rate-limit.ip.enabled:true}") boolean habilitado,
+      @Value("#{'${app.rate-limit.ip.paths:/api/auth/**,/api/email/enviar}'.split(',')}")
+          List<String> caminhos,
+      @Value("${app.rate-limit.ip.max-requests:120}") int maximoRequisicoes,
+      @Value("${app.rate-limit.ip.window:1m}") Duration janela) {
+    this.rateLimiter = rateLimiter;
+    this.habilitado = habilitado;
+    this.caminhos = caminhos.stream().map(String::trim).toList();
+    this.limite = new Limite("ip", maximoRequisicoes, janela);
+  }
+
+  @Override
+  protected boolean shouldNotFilter(HttpServletRequest request) {
+    if (!habilitado) {
+      return true;
+    }
+    String caminho = request.getRequestURI().substring(request.getContextPath().length());
+    return caminhos.stream().noneMatch(padrao -> pathMatcher.match(padrao, caminho));
+  }
+
+  @Override
+  protected void doFilterInternal(
+      HttpServletRequest request,
+      @NotNull HttpServletResponse response,
+      @NotNull FilterChain filterChain)
+      throws ServletException, IOException {
+    if (rateLimiter.tentarConsumir("ip:" + request.getRemoteAddr(), limite).isPresent()) {
+      LOGGER.debug("Limite de requisições atingido para o IP {}", request.getRemoteAddr());
+      response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+      response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(limite.janela().toSeconds()));
+      response.getWriter().write(MENSAGEM_LIMITE);
+      return;
+    }
+    filterChain.doFilter(request, response);
+  }
+}
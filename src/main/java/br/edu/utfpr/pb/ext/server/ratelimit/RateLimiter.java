@@ -0,0 +1,29 @@
+package br.edu.utfpr.pb.ext.server.ratelimit;
+
+import java.util.Optional;
+
+/**
+ * Limitador de taxa baseado em janelas deslizantes.
+ *
+ * <p>A implementação usada é escolhida pela propriedade {@code app.rate-limit.store}: {@code
+ * memory} (padrão) mantém os contadores na memória de cada instância, e {@code jdbc} os mantém no
+ * banco de dados, compartilhados entre todas as instâncias.
+ *
+ * <p>A contagem segue o algoritmo de contador de janela deslizante: cada janela é dividida em
+ * períodos fixos e a quantidade de ocorrências é estimada somando as do período atual às do período
+ * anterior, ponderadas pela fração da janela que ainda se sobrepõe a ele.
+ */
+public interface RateLimiter {
+
+  /**
+   * Registra uma ocorrência para a chave se nenhum dos limites informados tiver sido atingido. A
+   * ocorrência é contabilizada em todos os limites ou em nenhum deles.
+   *
+   * <p>Uma mesma chave deve ser sempre consultada com os mesmos limites.
+   *
+   * @param chave identificador do que está sendo limitado (por exemplo, e-mail ou IP)
+   * @param limites limites a serem respeitados
+   * @return o primeiro limite atingido, ou vazio se a ocorrência foi registrada
+   */
+  Optional<Limite> tentarConsumir(String chave, Limite... limites);
+}
@@ -0,0 +1,139 @@
+package br.edu.utfpr.pb.ext.server.ratelimit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.LongSupplier;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Limitador de taxa em memória, local a cada instância da aplicação.
+ *
+ * <p>Os contadores de cada chave ficam em um estado imutável atualizado por compare-and-set, sem
+ * bloqueios; a distribuição das chaves entre os segmentos do cache evita contenção entre chaves
+ * distintas. Uma chave é descartada depois de duas janelas sem ocorrências, quando suas contagens
+ * já não influenciam a estimativa, ou quando o número máximo de chaves é atingido.
+ */
+@Component
+@ConditionalOnProperty(name = "app.rate-limit.store", havingValue = "memory", matchIfMissing = true)
+public class SlidingWindowRateLimiter implements RateLimiter {
+  static final String CACHE_NAME = "rate-limit";
+
+  private final Cache<String, Contadores> cache;
+  private final LongSupplier relogio;
+
+  /**
+   * Cria o limitador com o número máximo de chaves configurado e registra as métricas do cache.
+   *
+   * @param maximumKeys número máximo de chaves mantidas em memória
+   * @param meterRegistry registro de métricas onde as estatísticas do cache serão publicadas
+   */
+  @Autowired
+  public SlidingWindowRateLimiter(
+      @Value("${app.rate-limit.maximum-keys:100000}") long maximumKeys,
+      MeterRegistry meterRegistry) {
+    this(maximumKeys, meterRegistry, System::currentTimeMillis);
+  }
+
+  SlidingWindowRateLimiter(long maximumKeys, MeterRegistry meterRegistry, LongSupplier relogio) {
+    this.relogio = relogio;
+    this.cache =
+        Caffeine.newBuilder()
+            .maximumSize(maximumKeys)
+            .expireAfter(
+                new Expiry<String, Contadores>() {
+                  @Override
+                  public long expireAfterCreate(
+                      String chave, Contadores contadores, long currentTime) {
+                    return contadores.retencaoNanos;
+                  }
+
+                  @Override
+                  public long expireAfterUpdate(
+                      String chave, Contadores contadores, long currentTime, long currentDuration) {
+                    return contadores.retencaoNanos;
+                  }
+
+                  @Override
+                  public long expireAfterRead(
+                      String chave, Contadores contadores, long currentTime, long currentDuration) {
+                    return contadores.retencaoNanos;
+                  }
+                })
+            .recordStats()
+            .build();
+    CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+  }
+
+  @Override
+  public Optional<Limite> tentarConsumir(String chave, Limite... limites) {
+    if (limites.length == 0) {
+      return Optional.empty();
+    }
+    long agora = relogio.getAsLong();
+    Contadores contadores = cache.get(chave, k -> new Contadores(limites));
+    while (true) {
+      Estado atual = contadores.estado.get();
+      Estado proximo = atual.avancar(agora, limites);
+      for (int i = 0; i < limites.length; i++) {
+        if (JanelaDeslizante.atingido(
+            agora, limites[i], proximo.anteriores[i], proximo.atuais[i])) {
+          return Optional.of(limites[i]);
+        }
+      }
+      for (int i = 0; i < limites.length; i++) {
+        proximo.atuais[i]++;
+      }
+      if (contadores.estado.compareAndSet(atual, proximo)) {
+        return Optional.empty();
+      }
+    }
+  }
+
+  /** Contadores de uma chave. */
+  private static final class Contadores {
+    /** Tempo sem ocorrências após o qual a chave pode ser descartada: duas vezes a maior janela. */
+    private final long retencaoNanos;
+
+    private final AtomicReference<Estado> estado =
+        new AtomicReference<>(new Estado(new long[0], new int[0], new int[0]));
+
+    private Contadores(Limite[] limites) {
+      this.retencaoNanos =
+          Arrays.stream(limites).mapToLong(l -> l.janela().toNanos()).max().orElse(0) * 2;
+    }
+  }
+
+  /**
+   * Contagens de cada limite de uma chave: o período atual e as ocorrências nele e no período
+   * anterior. Os arrays de uma instância publicada nunca são alterados.
+   */
+  private record Estado(long[] periodos, int[] anteriores, int[] atuais) {
+
+    /** Cria uma cópia do estado deslocada para os períodos em que o instante informado está. */
+    private Estado avancar(long agora, Limite[] limites) {
+      long[] novosPeriodos = new long[limites.length];
+      int[] novosAnteriores = new int[limites.length];
+      int[] novosAtuais = new int[limites.length];
+      for (int i = 0; i < limites.length; i++) {
+        long periodo = JanelaDeslizante.periodo(agora, limites[i]);
+        novosPeriodos[i] = periodo;
+        if (i < periodos.length && periodos[i] == periodo) {
+          novosAnteriores[i] = anteriores[i];
+          novosAtuais[i] = atuais[i];
+        } else if (i < periodos.length && periodos[i] == periodo - 1) {
+          novosAnteriores[i] = atuais[i];
+        }
+      }
+      return new Estado(novosPeriodos, novosAnteriores, novosAtuais);
+    }
+  }
+}
@@ -1,22 +1,39 @@
 package br.edu.utfpr.pb.ext.server.security;
 
-import br.edu.utfpr.pb.ext.server.projeto.Projeto;
 import br.edu.utfpr.pb.ext.server.projeto.ProjetoRepository;
 import br.edu.utfpr.pb.ext.server.usuario.Usuario;
 import jakarta.persistence.EntityNotFoundException;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
 
 @Service("securityService")
 public class SecurityService {
 
+  private static final String PREFIXO_MEMO =
+      SecurityService.class.getName() + ".podeEditarProjeto.";
+
   private final ProjetoRepository projetoRepository;
 
   public SecurityService(ProjetoRepository projetoRepository) {
     this.projetoRepository = projetoRepository;
   }
 
+  /**
+   * Verifica se o usuário logado faz parte da equipe executora do projeto. A pertinência é
+   * consultada diretamente na tabela da equipe, sem carregar o projeto; a existência do projeto só
+   * é verificada quando o usuário não é membro, para distinguir projeto inexistente de acesso
+   * negado.
+   *
+   * <p>Dentro de uma requisição HTTP a decisão é memorizada nos atributos da requisição, de modo
+   * que novas verificações do mesmo projeto para o mesmo usuário não voltem ao banco.
+   *
+   * @param projetoId identificador do projeto
+   * @return {@code true} se o usuário logado pode editar o projeto
+   * @throws EntityNotFoundException se o projeto não existir
+   */
   public boolean podeEditarProjeto(Long projetoId) {
     Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
     if (authentication == null || !(authentication.getPrincipal() instanceof Usuario)) {
@@ -25,15 +42,21 @@ public class SecurityService {
     Usuario userDetails = (Usuario) authentication.getPrincipal();
     Long usuarioLogadoId = userDetails.getId();
 
-    Projeto projeto =
-        projetoRepository
-            .findById(projetoId)
-            .orElseThrow(
-                () ->
-                    new EntityNotFoundException(
-                        "Projeto não encontrado para verificação de segurança"));
+    RequestAttributes requisicao = RequestContextHolder.getRequestAttributes();
+    String chave = PREFIXO_MEMO + projetoId + "." + usuarioLogadoId;
+    if (requisicao != null
+        && requisicao.getAttribute(chave, RequestAttributes.SCOPE_REQUEST)
+            instanceof Boolean memorizado) {
+      return memorizado;
+    }
 
-    return projeto.getEquipeExecutora().stream()
-        .anyMatch(membro -> membro.getId().equals(usuarioLogadoId));
+    boolean membro = projetoRepository.existsMembroEquipe(projetoId, usuarioLogadoId);
+    if (!membro && !projetoRepository.existsById(projetoId)) {
+      throw new EntityNotFoundException("Projeto não encontrado para verificação de segurança");
+    }
+    if (requisicao != null) {
+      requisicao.setAttribute(chave, membro, RequestAttributes.SCOPE_REQUEST);
+    }
+    return membro;
   }
 }
@@ -12,6 +12,7 @@ import java.util.*;
 import java.util.stream.Collectors;
 import lombok.*;
 import lombok.experimental.SuperBuilder;
+import org.hibernate.annotations.BatchSize;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 import org.hibernate.validator.constraints.br.CPF;
@@ -19,6 +20,7 @@ import org.springframework.security.core.userdetails.UserDetails;
 
 @Entity
 @Table(name = "tb_usuario")
+@EntityListeners(UsuarioCacheListener.class)
 @Getter
 @Setter
 @AllArgsConstructor
@@ -61,15 +63,38 @@ public class Usuario extends BaseEntity implements UserDetails {
   @Column(name = "endereco_completo")
   private String enderecoCompleto;
 
+  /**
+   * Se verdadeiro, o usuário recebe por e-mail um resumo diário das notificações, em vez de um
+   * e-mail a cada evento.
+   */
+  @Column(name = "resumo_diario_email", nullable = false)
+  private boolean resumoDiarioEmail;
+
   @ManyToMany(
       fetch = FetchType.EAGER,
       cascade = {CascadeType.MERGE, CascadeType.REFRESH})
+  @BatchSize(size = 100)
   @JoinTable(
       name = "usuario_roles",
       joinColumns = @JoinColumn(name = "usuario_id"),
       inverseJoinColumns = @JoinColumn(name = "authority_id"))
   private Set<Authority> authorities;
 
+  /**
+   * Versão dos dados de segurança do usuário, copiada para o token JWT. É incrementada a cada
+   * alteração do usuário, de modo que tokens com uma versão anterior voltem a ser resolvidos pelo
+   * banco de dados.
+   */
+  @JsonIgnore
+  @Column(name = "versao_seguranca", nullable = false)
+  private long versaoSeguranca;
+
+  /**
+   * Indica que a instância foi reconstruída a partir dos claims do token JWT e contém apenas id,
+   * nome, email e permissões do usuário.
+   */
+  @Transient @JsonIgnore private boolean resumido;
+
   /**
    * Retorna uma cópia das autoridades (permissões) atribuídas ao usuário.
    *
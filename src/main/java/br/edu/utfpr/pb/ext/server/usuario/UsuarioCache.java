@@ -0,0 +1,97 @@
+package br.edu.utfpr.pb.ext.server.usuario;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.util.Optional;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Cache compartilhado de usuários indexado por email, posicionado à frente de {@link
+ * UsuarioRepository#findByEmail(String)}.
+ *
+ * <p>As instâncias em cache são compartilhadas entre requisições e devem ser tratadas apenas como
+ * leitura; fluxos que alteram o usuário devem carregá-lo pelo repositório. Toda inclusão, alteração
+ * ou exclusão de um {@link Usuario} via JPA remove a entrada correspondente (veja {@link
+ * UsuarioCacheListener}), e o tempo de expiração limita por quanto tempo outras instâncias da
+ * aplicação podem enxergar dados desatualizados.
+ */
+@Component
+public class UsuarioCache {
+  static final String CACHE_NAME = "usuario.email";
+
+  private final UsuarioRepository usuarioRepository;
+  private final Cache<String, Usuario> cache;
+
+  /**
+   * Cria o cache com os limites configurados e registra suas métricas.
+   *
+   * @param usuarioRepository repositório usado para carregar o usuário em caso de ausência no cache
+   * @param maximumSize número máximo de usuários mantidos em memória
+   * @param expireAfterWrite tempo após o qual o usuário é recarregado do banco
+   * @param meterRegistry registro de métricas onde as estatísticas do cache serão publicadas
+   */
+  public UsuarioCache(
+      UsuarioRepository usuarioRepository,
+      @Value("${app.security.user-cache.maximum-size:10000}") long maximumSize,
+      @Value("${app.security.user-cache.expire-after-write:5m}") Duration expireAfterWrite,
+      MeterRegistry meterRegistry) {
+    this.usuarioRepository = usuarioRepository;
+    this.cache =
+        Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfterWrite(expireAfterWrite)
+            .recordStats()
+            .build();
+    CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+  }
+
+  /**
+   * Retorna o usuário com o email informado, consultando o banco apenas em caso de ausência no
+   * cache. Emails não cadastrados não são armazenados.
+   *
+   * @param email endereço de e-mail a ser pesquisado
+   * @return um Optional contendo o usuário encontrado ou vazio se não houver correspondência
+   */
+  public Optional<Usuario> findByEmail(String email) {
+    if (email == null) {
+      return Optional.empty();
+    }
+    return Optional.ofNullable(
+        cache.get(email, chave -> usuarioRepository.findByEmail(chave).orElse(null)));
+  }
+
+  /**
+   * Remove o usuário do cache.
+   *
+   * <p>Se houver uma transação ativa, a entrada é removida novamente ao término dela, evitando que
+   * uma leitura concorrente armazene o estado anterior ao commit.
+   *
+   * @param email email do usuário alterado
+   */
+  public void invalidate(String email) {
+    if (email == null) {
+      return;
+    }
+    cache.invalidate(email);
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(
+          new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+              cache.invalidate(email);
+            }
+          });
+    }
+  }
+
+  /** Remove todas as entradas do cache. */
+  public void invalidateAll() {
+    cache.invalidateAll();
+  }
+}
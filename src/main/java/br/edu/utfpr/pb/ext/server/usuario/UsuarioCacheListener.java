@@ -0,0 +1,29 @@
+package br.edu.utfpr.pb.ext.server.usuario;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.ObjectProvider;
+
+/**
+ * Listener JPA que mantém o {@link UsuarioCache} consistente, removendo o usuário do cache sempre
+ * que ele é incluído, alterado ou excluído.
+ *
+ * <p>Instanciado pelo Hibernate por meio do contêiner de beans do Spring durante a criação do
+ * {@code EntityManagerFactory}; por isso o cache, que depende do repositório, é resolvido apenas no
+ * primeiro evento.
+ */
+class UsuarioCacheListener {
+  private final ObjectProvider<UsuarioCache> usuarioCache;
+
+  UsuarioCacheListener(ObjectProvider<UsuarioCache> usuarioCache) {
+    this.usuarioCache = usuarioCache;
+  }
+
+  @PostPersist
+  @PostUpdate
+  @PostRemove
+  void invalidar(Usuario usuario) {
+    usuarioCache.ifAvailable(cache -> cache.invalidate(usuario.getEmail()));
+  }
+}
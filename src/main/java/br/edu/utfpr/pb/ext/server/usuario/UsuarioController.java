@@ -16,6 +16,7 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.persistence.EntityNotFoundException;
 import jakarta.validation.Valid;
 import java.util.HashSet;
 import java.util.List;
@@ -213,7 +214,13 @@ public class UsuarioController extends CrudController<Usuario, UsuarioServidorRe
   public ResponseEntity<UsuarioLogadoInfoDTO> updateProfile(
       @Valid @RequestBody UsuarioLogadoInfoDTO usuarioDTO) {
 
-    Usuario currentUser = usuarioService.obterUsuarioLogado();
+    // O usuário logado pode ser a instância compartilhada pelo cache; as alterações são feitas em
+    // uma cópia carregada do banco, e o cache é invalidado ao salvar.
+    Long usuarioId = usuarioService.obterUsuarioLogado().getId();
+    Usuario currentUser =
+        usuarioRepository
+            .findById(usuarioId)
+            .orElseThrow(() -> new EntityNotFoundException("Usuário não encontrado"));
 
     currentUser.setNome(usuarioDTO.getNome());
 
@@ -230,6 +237,10 @@ public class UsuarioController extends CrudController<Usuario, UsuarioServidorRe
     }
     // Se departamentoId vier null, não altera o departamento atual.
 
+    if (usuarioDTO.getResumoDiarioEmail() != null) {
+      currentUser.setResumoDiarioEmail(usuarioDTO.getResumoDiarioEmail());
+    }
+
     Usuario updatedUser = usuarioService.save(currentUser);
 
     UsuarioLogadoInfoDTO responseDTO = modelMapper.map(updatedUser, UsuarioLogadoInfoDTO.class);
@@ -3,6 +3,8 @@ package br.edu.utfpr.pb.ext.server.usuario;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
@@ -46,4 +48,14 @@ public interface UsuarioRepository extends JpaRepository<Usuario, Long> {
    * @return @return lista de usuários que atendem ao critério; lista vazia se nenhum encontrado
    */
   List<Usuario> findAllByEmailEndingWith(String dominioEmail);
+
+  /**
+   * Retorna apenas a versão dos dados de segurança do usuário, sem carregar a entidade nem suas
+   * permissões.
+   *
+   * @param id identificador do usuário
+   * @return um Optional contendo a versão atual, ou vazio se o usuário não existir
+   */
+  @Query("select u.versaoSeguranca from Usuario u where u.id = :id")
+  Optional<Long> findVersaoSegurancaById(@Param("id") Long id);
 }
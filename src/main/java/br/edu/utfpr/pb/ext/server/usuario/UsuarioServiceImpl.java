@@ -2,6 +2,7 @@ package br.edu.utfpr.pb.ext.server.usuario;
 
 import br.edu.utfpr.pb.ext.server.generics.CrudServiceImpl;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -15,15 +16,24 @@ public class UsuarioServiceImpl extends CrudServiceImpl<Usuario, Long>
     implements IUsuarioService, UserDetailsService {
 
   private final UsuarioRepository usuarioRepository;
+  private final VersaoSegurancaCache versaoSegurancaCache;
+  private final UsuarioCache usuarioCache;
 
   /**
    * Cria uma instância do serviço de usuário utilizando o repositório fornecido.
    *
    * @param usuarioRepository repositório de usuários utilizado para operações de persistência
+   * @param versaoSegurancaCache cache das versões de segurança, atualizado a cada salvamento
+   * @param usuarioCache cache de usuários por email usado na autenticação
    */
-  public UsuarioServiceImpl(UsuarioRepository usuarioRepository) {
+  public UsuarioServiceImpl(
+      UsuarioRepository usuarioRepository,
+      VersaoSegurancaCache versaoSegurancaCache,
+      UsuarioCache usuarioCache) {
 
     this.usuarioRepository = usuarioRepository;
+    this.versaoSegurancaCache = versaoSegurancaCache;
+    this.usuarioCache = usuarioCache;
   }
 
   /**
@@ -38,9 +48,40 @@ public class UsuarioServiceImpl extends CrudServiceImpl<Usuario, Long>
 
   private static final String ROLE_SERVIDOR = "ROLE_SERVIDOR";
 
+  /**
+   * Incrementa a versão de segurança de usuários já existentes, invalidando os dados copiados para
+   * os tokens emitidos anteriormente.
+   *
+   * @param entity usuário a ser salvo
+   * @return o próprio usuário
+   */
+  @Override
+  public Usuario preSave(Usuario entity) {
+    if (entity.getId() != null) {
+      entity.setVersaoSeguranca(entity.getVersaoSeguranca() + 1);
+    }
+    return super.preSave(entity);
+  }
+
+  /**
+   * Registra a versão de segurança do usuário salvo no cache de versões.
+   *
+   * @param entity usuário recém-salvo
+   * @return o próprio usuário
+   */
+  @Override
+  public Usuario postsave(Usuario entity) {
+    versaoSegurancaCache.atualizar(entity.getId(), entity.getVersaoSeguranca());
+    return super.postsave(entity);
+  }
+
   /**
    * Obtém o usuário atualmente autenticado no contexto de segurança.
    *
+   * <p>Se o principal tiver sido reconstruído a partir do token ({@link Usuario#isResumido()}), o
+   * usuário completo é carregado do banco e passa a ser o principal da requisição, de modo que a
+   * consulta ocorra no máximo uma vez.
+   *
    * @return o usuário autenticado
    * @throws IllegalStateException se não houver autenticação ativa ou se o principal não for uma
    *     instância de Usuario
@@ -54,7 +95,19 @@ public class UsuarioServiceImpl extends CrudServiceImpl<Usuario, Long>
     if (!(principal instanceof Usuario)) {
       throw new IllegalStateException("Principal não é uma instância de Usuario!");
     }
-    return (Usuario) principal;
+    Usuario usuario = (Usuario) principal;
+    if (!usuario.isResumido()) {
+      return usuario;
+    }
+    Usuario completo =
+        usuarioRepository
+            .findById(usuario.getId())
+            .orElseThrow(() -> new IllegalStateException("Nenhum usuário autenticado!"));
+    UsernamePasswordAuthenticationToken autenticacao =
+        new UsernamePasswordAuthenticationToken(completo, null, completo.getAuthorities());
+    autenticacao.setDetails(auth.getDetails());
+    SecurityContextHolder.getContext().setAuthentication(autenticacao);
+    return completo;
   }
 
   /**
@@ -73,7 +126,7 @@ public class UsuarioServiceImpl extends CrudServiceImpl<Usuario, Long>
   }
 
   /**
-   * Carrega os detalhes do usuário baseado no email fornecido.
+   * Carrega os detalhes do usuário baseado no email fornecido, a partir do {@link UsuarioCache}.
    *
    * @param email o email do usuário
    * @return UserDetails do usuário encontrado
@@ -81,7 +134,7 @@ public class UsuarioServiceImpl extends CrudServiceImpl<Usuario, Long>
    */
   @Override
   public UserDetails loadUserByUsername(String email) throws UsernameNotFoundException {
-    return usuarioRepository
+    return usuarioCache
         .findByEmail(email)
         .orElseThrow(() -> new UsernameNotFoundException("Usuário não encontrado: " + email));
   }
@@ -98,7 +151,11 @@ public class UsuarioServiceImpl extends CrudServiceImpl<Usuario, Long>
             .findByEmail(email)
             .orElseThrow(() -> new UsernameNotFoundException("Usuário não encontrado: " + email));
 
+    if (!usuario.isAtivo()) {
+      usuario.setVersaoSeguranca(usuario.getVersaoSeguranca() + 1);
+    }
     usuario.setAtivo(true);
     usuarioRepository.save(usuario);
+    versaoSegurancaCache.atualizar(usuario.getId(), usuario.getVersaoSeguranca());
   }
 }
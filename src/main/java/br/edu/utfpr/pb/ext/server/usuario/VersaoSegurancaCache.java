@@ -0,0 +1,69 @@
+package br.edu.utfpr.pb.ext.server.usuario;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Cache da versão dos dados de segurança de cada usuário ({@link Usuario#getVersaoSeguranca()}).
+ *
+ * <p>Permite comparar a versão gravada no token JWT com a versão atual sem consultar o banco a cada
+ * requisição. A versão é atualizada localmente sempre que o usuário é salvo; o tempo de expiração
+ * limita por quanto tempo outras instâncias da aplicação podem enxergar uma versão desatualizada.
+ */
+@Component
+public class VersaoSegurancaCache {
+  static final String CACHE_NAME = "usuario.versao-seguranca";
+
+  private final UsuarioRepository usuarioRepository;
+  private final Cache<Long, Long> cache;
+
+  /**
+   * Cria o cache com os limites configurados e registra suas métricas.
+   *
+   * @param usuarioRepository repositório usado para carregar a versão em caso de ausência no cache
+   * @param maximumSize número máximo de usuários mantidos em memória
+   * @param expireAfterWrite tempo após o qual a versão é recarregada do banco
+   * @param meterRegistry registro de métricas onde as estatísticas do cache serão publicadas
+   */
+  public VersaoSegurancaCache(
+      UsuarioRepository usuarioRepository,
+      @Value("${app.security.jwt.stateless-principal.version-cache.maximum-size:10000}")
+          long maximumSize,
+      @Value("${app.security.jwt.stateless-principal.version-cache.expire-after-write:60s}")
+          Duration expireAfterWrite,
+      MeterRegistry meterRegistry) {
+    this.usuarioRepository = usuarioRepository;
+    this.cache =
+        Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfterWrite(expireAfterWrite)
+            .recordStats()
+            .build();
+    CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+  }
+
+  /**
+   * Retorna a versão atual dos dados de segurança do usuário.
+   *
+   * @param usuarioId identificador do usuário
+   * @return a versão atual, ou {@code null} se o usuário não existir
+   */
+  public Long versaoAtual(Long usuarioId) {
+    return cache.get(usuarioId, id -> usuarioRepository.findVersaoSegurancaById(id).orElse(null));
+  }
+
+  /**
+   * Registra a nova versão dos dados de segurança de um usuário recém-salvo.
+   *
+   * @param usuarioId identificador do usuário
+   * @param versao versão gravada no banco
+   */
+  public void atualizar(Long usuarioId, long versao) {
+    cache.put(usuarioId, versao);
+  }
+}
@@ -27,4 +27,7 @@ public class UsuarioLogadoInfoDTO {
   private Long departamentoId;
   private Curso curso;
   private String enderecoCompleto;
+
+  /** Receber as notificações em um resumo diário por e-mail; se nulo, mantém a opção atual. */
+  private Boolean resumoDiarioEmail;
 }
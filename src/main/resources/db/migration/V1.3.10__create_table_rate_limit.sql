@@ -0,0 +1,12 @@
+CREATE TABLE tb_rate_limit
+(
+    chave     VARCHAR(320) NOT NULL,
+    periodo   BIGINT       NOT NULL,
+    contador  INTEGER      NOT NULL DEFAULT 0,
+    expira_em BIGINT       NOT NULL,
+
+    CONSTRAINT pk_rate_limit PRIMARY KEY (chave, periodo)
+);
+
+-- Limpeza dos períodos que já não fazem parte de nenhuma janela
+CREATE INDEX idx_rate_limit_expira_em ON tb_rate_limit (expira_em);
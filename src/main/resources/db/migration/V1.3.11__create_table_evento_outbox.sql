@@ -0,0 +1,32 @@
+CREATE TABLE tb_evento_outbox
+(
+    id                 BIGINT GENERATED BY DEFAULT AS IDENTITY NOT NULL,
+    chave_idempotencia VARCHAR(36)                             NOT NULL,
+    tipo_agregado      VARCHAR(30)                             NOT NULL,
+    agregado_id        BIGINT                                  NOT NULL,
+    tipo_evento        VARCHAR(20)                             NOT NULL,
+    criado_em          TIMESTAMP WITHOUT TIME ZONE             NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    disponivel_em      TIMESTAMP WITHOUT TIME ZONE             NOT NULL,
+    tentativas         INTEGER                                 NOT NULL DEFAULT 0,
+    processado_em      TIMESTAMP WITHOUT TIME ZONE,
+    ultimo_erro        VARCHAR(1000),
+
+    CONSTRAINT pk_evento_outbox PRIMARY KEY (id),
+    CONSTRAINT uk_evento_outbox_chave_idempotencia UNIQUE (chave_idempotencia)
+);
+
+-- Reserva dos eventos pendentes pelo dispatcher e limpeza dos já processados
+CREATE INDEX idx_evento_outbox_pendentes ON tb_evento_outbox (processado_em, disponivel_em);
+
+CREATE TABLE tb_evento_consumido
+(
+    id                 BIGINT GENERATED BY DEFAULT AS IDENTITY NOT NULL,
+    chave_idempotencia VARCHAR(36)                             NOT NULL,
+    consumidor         VARCHAR(30)                             NOT NULL,
+    consumido_em       TIMESTAMP WITHOUT TIME ZONE             NOT NULL DEFAULT CURRENT_TIMESTAMP,
+
+    CONSTRAINT pk_evento_consumido PRIMARY KEY (id),
+    CONSTRAINT uk_evento_consumido UNIQUE (chave_idempotencia, consumidor)
+);
+
+CREATE INDEX idx_evento_consumido_consumido_em ON tb_evento_consumido (consumido_em);
@@ -0,0 +1 @@
+ALTER TABLE tb_evento_outbox ADD COLUMN payload TEXT;
@@ -0,0 +1,16 @@
+CREATE TABLE tb_notificacao_contador
+(
+    usuario_id BIGINT NOT NULL,
+    nao_lidas  BIGINT NOT NULL DEFAULT 0,
+
+    CONSTRAINT pk_notificacao_contador PRIMARY KEY (usuario_id),
+    CONSTRAINT fk_notificacao_contador_usuario
+        FOREIGN KEY (usuario_id) REFERENCES tb_usuario (id) ON DELETE CASCADE
+);
+
+-- Contadores iniciais a partir das notificações já existentes
+INSERT INTO tb_notificacao_contador (usuario_id, nao_lidas)
+SELECT usuario_id, COUNT(*)
+FROM tb_notificacao
+WHERE lida = FALSE
+GROUP BY usuario_id;
@@ -0,0 +1,7 @@
+-- Índices para a paginação por cursor (data_criacao DESC, id DESC) das notificações do usuário
+CREATE INDEX idx_notificacao_usuario_data_id ON tb_notificacao (usuario_id, data_criacao DESC, id DESC);
+CREATE INDEX idx_notificacao_usuario_lida_data_id ON tb_notificacao (usuario_id, lida, data_criacao DESC, id DESC);
+
+-- Cobertos pelos índices acima (mesmo prefixo)
+DROP INDEX idx_notificacao_usuario_id;
+DROP INDEX idx_notificacao_usuario_lida;
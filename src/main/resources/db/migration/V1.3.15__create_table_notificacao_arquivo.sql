@@ -0,0 +1,20 @@
+-- Notificações lidas removidas de tb_notificacao pela política de retenção
+CREATE TABLE tb_notificacao_arquivo
+(
+    id               BIGINT                      NOT NULL,
+    titulo           VARCHAR(100)                NOT NULL,
+    descricao        TEXT                        NOT NULL,
+    tipo_notificacao VARCHAR(255)                NOT NULL,
+    tipo_referencia  VARCHAR(255),
+    referencia_id    BIGINT,
+    data_criacao     TIMESTAMP WITHOUT TIME ZONE NOT NULL,
+    lida             BOOLEAN                     NOT NULL,
+    usuario_id       BIGINT                      NOT NULL,
+    arquivada_em     TIMESTAMP WITHOUT TIME ZONE NOT NULL,
+
+    CONSTRAINT pk_notificacao_arquivo PRIMARY KEY (id),
+    CONSTRAINT fk_notificacao_arquivo_usuario
+        FOREIGN KEY (usuario_id) REFERENCES tb_usuario (id) ON DELETE CASCADE
+);
+
+CREATE INDEX idx_notificacao_arquivo_usuario_data ON tb_notificacao_arquivo (usuario_id, data_criacao DESC);
@@ -0,0 +1,17 @@
+-- Evento de atualização aguardando a janela de agrupamento; no máximo um pendente por entidade
+ALTER TABLE tb_evento_outbox ADD COLUMN chave_agrupamento VARCHAR(80);
+CREATE UNIQUE INDEX uk_evento_outbox_chave_agrupamento ON tb_evento_outbox (chave_agrupamento);
+
+-- Usuários que recebem as notificações em um resumo diário por e-mail, em vez de um e-mail por evento
+ALTER TABLE tb_usuario ADD COLUMN resumo_diario_email BOOLEAN NOT NULL DEFAULT FALSE;
+
+-- Instante até o qual as notificações do usuário já foram enviadas no resumo
+CREATE TABLE tb_resumo_notificacao
+(
+    usuario_id  BIGINT                      NOT NULL,
+    enviado_ate TIMESTAMP WITHOUT TIME ZONE NOT NULL,
+
+    CONSTRAINT pk_resumo_notificacao PRIMARY KEY (usuario_id),
+    CONSTRAINT fk_resumo_notificacao_usuario
+        FOREIGN KEY (usuario_id) REFERENCES tb_usuario (id) ON DELETE CASCADE
+);
@@ -0,0 +1,8 @@
+-- Vagas ocupadas do projeto: membros da equipe executora e candidaturas aprovadas.
+-- Mantido por ProjetoVagas, que também corrige divergências periodicamente.
+ALTER TABLE tb_projeto ADD COLUMN vagas_ocupadas BIGINT NOT NULL DEFAULT 0;
+
+UPDATE tb_projeto p
+SET vagas_ocupadas = (SELECT COUNT(*) FROM tb_equipe_servidor e WHERE e.id_projeto = p.id)
+                   + (SELECT COUNT(*) FROM tb_candidatura c
+                      WHERE c.projeto_id = p.id AND c.status = 'APROVADA');
@@ -0,0 +1,4 @@
+-- Versão dos dados de segurança do usuário, gravada no token JWT (claim "sv").
+-- É incrementada a cada alteração do usuário, invalidando os dados copiados para tokens antigos.
+ALTER TABLE tb_usuario
+    ADD COLUMN versao_seguranca BIGINT NOT NULL DEFAULT 0;
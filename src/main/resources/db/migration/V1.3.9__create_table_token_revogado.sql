@@ -0,0 +1,14 @@
+CREATE TABLE tb_token_revogado
+(
+    id          BIGINT GENERATED BY DEFAULT AS IDENTITY NOT NULL,
+    jti         VARCHAR(64)                             NOT NULL,
+    expira_em   TIMESTAMP WITHOUT TIME ZONE             NOT NULL,
+    revogado_em TIMESTAMP WITHOUT TIME ZONE             NOT NULL DEFAULT CURRENT_TIMESTAMP,
+
+    CONSTRAINT pk_token_revogado PRIMARY KEY (id),
+    CONSTRAINT uk_token_revogado_jti UNIQUE (jti)
+);
+
+-- Sincronização incremental entre instâncias e limpeza dos tokens já expirados
+CREATE INDEX idx_token_revogado_revogado_em ON tb_token_revogado (revogado_em);
+CREATE INDEX idx_token_revogado_expira_em ON tb_token_revogado (expira_em);
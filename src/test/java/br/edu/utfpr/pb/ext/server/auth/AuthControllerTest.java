@@ -1,5 +1,7 @@
 package br.edu.utfpr.pb.ext.server.auth;
 
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -140,6 +142,62 @@ class AuthControllerTest {
         .andExpect(jsonPath("$.user.authorities[0]").value("ROLE_ALUNO"));
   }
 
+  @Test
+  @Transactional
+  @DisplayName("Após o logout, o token revogado deve deixar de ser aceito")
+  void logout_whenTokenValido_DeveRevogarToken() throws Exception {
+    String email = "testuser@alunos.utfpr.edu.br";
+    CadastroUsuarioDTO cadastroDTO =
+        CadastroUsuarioDTO.builder().nome("testuser").email(email).registro("12345678901").build();
+    EmailOtpAuthRequestDTO authRequestDTO =
+        EmailOtpAuthRequestDTO.builder().email(email).code("123456").build();
+
+    mockMvc
+        .perform(
+            post("/api/auth/cadastro")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(cadastroDTO)))
+        .andExpect(status().isOk());
+    String resposta =
+        mockMvc
+            .perform(
+                post("/api/auth/login-otp")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(authRequestDTO)))
+            .andExpect(status().isOk())
+            .andReturn()
+            .getResponse()
+            .getContentAsString();
+    String bearer = "Bearer " + objectMapper.readTree(resposta).get("token").asText();
+
+    mockMvc
+        .perform(get("/api/notificacao/count-nao-lidas").header("Authorization", bearer))
+        .andExpect(status().isOk());
+    mockMvc
+        .perform(post("/api/auth/logout").header("Authorization", bearer))
+        .andExpect(status().isNoContent());
+    mockMvc
+        .perform(get("/api/notificacao/count-nao-lidas").header("Authorization", bearer))
+        .andExpect(status().isUnauthorized());
+  }
+
+  @Test
+  @DisplayName("Logout sem token deve retornar Unauthorized")
+  void logout_whenSemToken_DeveRetornar401() throws Exception {
+    mockMvc.perform(post("/api/auth/logout")).andExpect(status().isUnauthorized());
+  }
+
+  @Test
+  @DisplayName("Logout com cabeçalho Authorization sem Bearer deve retornar Bad Request")
+  void logout_whenCabecalhoSemBearer_DeveRetornar400() throws Exception {
+    mockMvc
+        .perform(
+            post("/api/auth/logout")
+                .header("Authorization", "Token")
+                .with(user("testuser@alunos.utfpr.edu.br")))
+        .andExpect(status().isBadRequest());
+  }
+
   @Test
   @DisplayName("Autenticar com código OTP inválido deve retornar Unprocessable Entity")
   void autenticacao_whenCodigoOTPInvalido_DeveRetornar422() throws Exception {
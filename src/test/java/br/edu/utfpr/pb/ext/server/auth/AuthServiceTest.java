@@ -6,6 +6,7 @@ import static org.mockito.Mockito.*;
 import br.edu.utfpr.pb.ext.server.auth.dto.CadastroUsuarioDTO;
 import br.edu.utfpr.pb.ext.server.auth.otp.EmailOtpAuthenticationProvider;
 import br.edu.utfpr.pb.ext.server.usuario.Usuario;
+import br.edu.utfpr.pb.ext.server.usuario.UsuarioCache;
 import br.edu.utfpr.pb.ext.server.usuario.UsuarioRepository;
 import br.edu.utfpr.pb.ext.server.usuario.authority.Authority;
 import br.edu.utfpr.pb.ext.server.usuario.authority.AuthorityRepository;
@@ -23,6 +24,7 @@ import org.springframework.web.server.ResponseStatusException;
 @ExtendWith(MockitoExtension.class)
 class AuthServiceTest {
   @Mock UsuarioRepository usuarioRepository;
+  @Mock UsuarioCache usuarioCache;
   @Mock AuthorityRepository authorityRepository;
   @Mock EmailOtpAuthenticationProvider emailOtpAuthenticationProvider;
   @InjectMocks AuthService authService;
@@ -31,11 +33,11 @@ class AuthServiceTest {
   @DisplayName("Solicitar código OTP quando ocorrer erro deve lançar ResponseStatusException")
   void solicitarCodigoOtp_whenErroOcorrer_deveRetornarResponseStatusException() {
     String email = "testuser@alunos.utfpr.edu.br";
-    when(usuarioRepository.findByEmail(email)).thenThrow(new RuntimeException());
+    when(usuarioCache.findByEmail(email)).thenThrow(new RuntimeException());
     ResponseStatusException exception =
         assertThrows(ResponseStatusException.class, () -> authService.solicitarCodigoOtp(email));
     assertEquals(HttpStatus.INTERNAL_SERVER_ERROR, exception.getStatusCode());
-    verify(usuarioRepository, times(1)).findByEmail(email);
+    verify(usuarioCache, times(1)).findByEmail(email);
   }
 
   @Test
@@ -88,8 +90,7 @@ class AuthServiceTest {
             .email("testuser@alunos.utfpr.edu.br")
             .registro("12345678901")
             .build();
-    when(usuarioRepository.findByEmail(cadastroDTO.getEmail()))
-        .thenReturn(Optional.of(new Usuario()));
+    when(usuarioCache.findByEmail(cadastroDTO.getEmail())).thenReturn(Optional.of(new Usuario()));
     assertThrows(ResponseStatusException.class, () -> authService.cadastro(cadastroDTO));
   }
 }
@@ -0,0 +1,132 @@
+package br.edu.utfpr.pb.ext.server.auth.jwt;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+import br.edu.utfpr.pb.ext.server.usuario.Usuario;
+import br.edu.utfpr.pb.ext.server.usuario.VersaoSegurancaCache;
+import br.edu.utfpr.pb.ext.server.usuario.authority.Authority;
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.Base64;
+import java.util.Set;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.web.servlet.HandlerExceptionResolver;
+
+@ExtendWith(MockitoExtension.class)
+class JwtAuthenticationFilterTest {
+
+  private static final String SECRET = Base64.getEncoder().encodeToString(new byte[64]);
+
+  @Mock private HandlerExceptionResolver handlerExceptionResolver;
+  @Mock private UserDetailsService userDetailsService;
+  @Mock private VersaoSegurancaCache versaoSegurancaCache;
+  @Mock private TokenRevogacaoService tokenRevogacaoService;
+
+  private JwtService jwtService;
+  private Usuario usuario;
+
+  @BeforeEach
+  void setUp() {
+    SecurityContextHolder.clearContext();
+    jwtService =
+        new JwtService(new JwtClaimsCache(100, new SimpleMeterRegistry()), SECRET, 60_000L, null);
+    usuario =
+        Usuario.builder()
+            .id(10L)
+            .nome("Aluno Teste")
+            .email("aluno@alunos.utfpr.edu.br")
+            .versaoSeguranca(2L)
+            .authorities(Set.of(Authority.builder().id(1L).authority("ROLE_ALUNO").build()))
+            .build();
+  }
+
+  @AfterEach
+  void tearDown() {
+    SecurityContextHolder.clearContext();
+  }
+
+  @Test
+  void doFilter_whenSecurityVersionIsCurrent_authenticatesFromClaimsWithoutLoadingUser()
+      throws Exception {
+    when(versaoSegurancaCache.versaoAtual(10L)).thenReturn(2L);
+
+    filtrar(filtro(true), jwtService.generateToken(usuario));
+
+    Authentication autenticacao = SecurityContextHolder.getContext().getAuthentication();
+    assertNotNull(autenticacao);
+    Usuario principal = (Usuario) autenticacao.getPrincipal();
+    assertTrue(principal.isResumido());
+    assertEquals(10L, principal.getId());
+    assertTrue(
+        autenticacao.getAuthorities().stream()
+            .anyMatch(a -> "ROLE_ALUNO".equals(a.getAuthority())));
+    verifyNoInteractions(userDetailsService);
+  }
+
+  @Test
+  void doFilter_whenSecurityVersionChanged_loadsUserFromDatabase() throws Exception {
+    String token = jwtService.generateToken(usuario);
+    when(versaoSegurancaCache.versaoAtual(10L)).thenReturn(3L);
+    when(userDetailsService.loadUserByUsername(usuario.getEmail())).thenReturn(usuario);
+
+    filtrar(filtro(true), token);
+
+    assertSame(usuario, SecurityContextHolder.getContext().getAuthentication().getPrincipal());
+  }
+
+  @Test
+  void doFilter_whenStatelessPrincipalDisabled_alwaysLoadsUserFromDatabase() throws Exception {
+    when(userDetailsService.loadUserByUsername(anyString())).thenReturn(usuario);
+
+    filtrar(filtro(false), jwtService.generateToken(usuario));
+
+    assertSame(usuario, SecurityContextHolder.getContext().getAuthentication().getPrincipal());
+    verifyNoInteractions(versaoSegurancaCache);
+  }
+
+  @Test
+  void doFilter_whenTokenIsRevoked_respondsUnauthorized() throws Exception {
+    String token = jwtService.generateToken(usuario);
+    when(tokenRevogacaoService.isRevogado(jwtService.extractClaim(token, Claims::getId)))
+        .thenReturn(true);
+    MockHttpServletRequest request = new MockHttpServletRequest();
+    request.addHeader("Authorization", "Bearer " + token);
+    MockHttpServletResponse response = new MockHttpServletResponse();
+
+    filtro(true).doFilter(request, response, new MockFilterChain());
+
+    assertEquals(401, response.getStatus());
+    assertEquals("Token revogado", response.getContentAsString());
+    assertNull(SecurityContextHolder.getContext().getAuthentication());
+    verifyNoInteractions(userDetailsService, versaoSegurancaCache);
+  }
+
+  private JwtAuthenticationFilter filtro(boolean statelessPrincipal) {
+    return new JwtAuthenticationFilter(
+        handlerExceptionResolver,
+        jwtService,
+        userDetailsService,
+        versaoSegurancaCache,
+        tokenRevogacaoService,
+        statelessPrincipal);
+  }
+
+  private static void filtrar(JwtAuthenticationFilter filtro, String token) throws Exception {
+    MockHttpServletRequest request = new MockHttpServletRequest();
+    request.addHeader("Authorization", "Bearer " + token);
+    filtro.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+  }
+}
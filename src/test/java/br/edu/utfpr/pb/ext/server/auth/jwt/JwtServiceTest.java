@@ -0,0 +1,156 @@
+package br.edu.utfpr.pb.ext.server.auth.jwt;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import br.edu.utfpr.pb.ext.server.usuario.Usuario;
+import br.edu.utfpr.pb.ext.server.usuario.authority.Authority;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.HashSet;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class JwtServiceTest {
+
+  private static final String SECRET = Base64.getEncoder().encodeToString(new byte[64]);
+  private static final String NOVA_SECRET = Base64.getEncoder().encodeToString(chave((byte) 7));
+
+  private MeterRegistry meterRegistry;
+  private JwtService jwtService;
+  private Usuario usuario;
+
+  @BeforeEach
+  void setUp() {
+    meterRegistry = new SimpleMeterRegistry();
+    jwtService = new JwtService(new JwtClaimsCache(100, meterRegistry), SECRET, 60_000L, null);
+
+    usuario = Usuario.builder().email("aluno@alunos.utfpr.edu.br").build();
+    usuario.setAuthorities(new HashSet<>());
+  }
+
+  @Test
+  void isTokenValid_whenTokenIsValid_verifiesSignatureOnlyOnce() {
+    String token = jwtService.generateToken(usuario);
+
+    assertEquals(usuario.getEmail(), jwtService.extractUsername(token));
+    assertTrue(jwtService.isTokenValid(token, usuario));
+
+    assertEquals(1.0, cacheGets("miss"));
+    assertTrue(cacheGets("hit") >= 1.0);
+  }
+
+  @Test
+  void extractUsername_whenTokenIsInvalid_returnsNullAndDoesNotCache() {
+    String token = jwtService.generateToken(usuario) + "x";
+
+    assertNull(jwtService.extractUsername(token));
+    assertNull(jwtService.extractUsername(token));
+
+    assertEquals(2.0, cacheGets("miss"));
+    assertEquals(0.0, cacheGets("hit"));
+  }
+
+  @Test
+  void extractUsername_whenTokenIsBlank_returnsNull() {
+    assertNull(jwtService.extractUsername(""));
+    assertNull(jwtService.extractUsername(null));
+  }
+
+  @Test
+  void isTokenValid_whenTokenBelongsToAnotherUser_returnsFalse() {
+    String token = jwtService.generateToken(usuario);
+    Usuario outro = Usuario.builder().email("outro@utfpr.edu.br").build();
+
+    assertFalse(jwtService.isTokenValid(token, outro));
+  }
+
+  private double cacheGets(String result) {
+    return meterRegistry
+        .get("cache.gets")
+        .tag("cache", JwtClaimsCache.CACHE_NAME)
+        .tag("result", result)
+        .functionCounter()
+        .count();
+  }
+
+  @Test
+  void constructor_whenSecretIsTooShort_throwsIllegalStateException() {
+    JwtClaimsCache cache = new JwtClaimsCache(100, meterRegistry);
+    String curta = Base64.getEncoder().encodeToString(new byte[32]);
+
+    assertThrows(IllegalStateException.class, () -> new JwtService(cache, curta, 60_000L, null));
+  }
+
+  @Test
+  void isTokenValid_whenSignedWithPreviousKey_acceptsToken() {
+    String tokenAntigo = jwtService.generateToken(usuario);
+    JwtService rotacionado =
+        new JwtService(new JwtClaimsCache(100, meterRegistry), NOVA_SECRET, 60_000L, SECRET);
+
+    assertTrue(rotacionado.isTokenValid(tokenAntigo, usuario));
+    assertTrue(rotacionado.isTokenValid(rotacionado.generateToken(usuario), usuario));
+  }
+
+  @Test
+  void isTokenValid_whenNewKeyIsOnlyPrevious_acceptsTokensSignedWithIt() {
+    JwtService emRotacao =
+        new JwtService(new JwtClaimsCache(100, meterRegistry), NOVA_SECRET, 60_000L, null);
+    JwtService preparado =
+        new JwtService(new JwtClaimsCache(100, meterRegistry), SECRET, 60_000L, NOVA_SECRET);
+
+    assertTrue(preparado.isTokenValid(emRotacao.generateToken(usuario), usuario));
+  }
+
+  @Test
+  void isTokenValid_whenKeyIsUnknown_rejectsToken() {
+    JwtService outraChave =
+        new JwtService(new JwtClaimsCache(100, meterRegistry), NOVA_SECRET, 60_000L, null);
+
+    assertFalse(jwtService.isTokenValid(outraChave.generateToken(usuario), usuario));
+  }
+
+  @Test
+  void constructor_whenPreviousSecretIsTooShort_throwsIllegalStateException() {
+    JwtClaimsCache cache = new JwtClaimsCache(100, meterRegistry);
+    String curta = Base64.getEncoder().encodeToString(new byte[16]);
+
+    assertThrows(IllegalStateException.class, () -> new JwtService(cache, SECRET, 60_000L, curta));
+  }
+
+  @Test
+  void extractPrincipal_whenTokenHasUserClaims_rebuildsUsuarioWithoutDatabase() {
+    Usuario persistido =
+        Usuario.builder()
+            .id(42L)
+            .nome("Maria Silva")
+            .email("maria@utfpr.edu.br")
+            .versaoSeguranca(3L)
+            .authorities(Set.of(Authority.builder().id(1L).authority("ROLE_SERVIDOR").build()))
+            .build();
+
+    Usuario principal = jwtService.extractPrincipal(jwtService.generateToken(persistido));
+
+    assertNotNull(principal);
+    assertTrue(principal.isResumido());
+    assertEquals(42L, principal.getId());
+    assertEquals("Maria Silva", principal.getNome());
+    assertEquals("maria@utfpr.edu.br", principal.getUsername());
+    assertEquals(3L, principal.getVersaoSeguranca());
+    assertEquals(Set.of("ROLE_SERVIDOR"), principal.getAuthoritiesStrings());
+  }
+
+  @Test
+  void extractPrincipal_whenTokenHasNoUserClaims_returnsNull() {
+    assertNull(jwtService.extractPrincipal(jwtService.generateToken(usuario)));
+    assertNull(jwtService.extractPrincipal("token-invalido"));
+  }
+
+  private static byte[] chave(byte valor) {
+    byte[] bytes = new byte[64];
+    Arrays.fill(bytes, valor);
+    return bytes;
+  }
+}
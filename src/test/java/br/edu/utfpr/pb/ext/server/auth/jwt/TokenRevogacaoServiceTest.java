@@ -0,0 +1,81 @@
+package br.edu.utfpr.pb.ext.server.auth.jwt;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+import java.time.LocalDateTime;
+import java.util.Date;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class TokenRevogacaoServiceTest {
+
+  @Mock private TokenRevogadoRepository tokenRevogadoRepository;
+
+  @InjectMocks private TokenRevogacaoService tokenRevogacaoService;
+
+  @BeforeEach
+  void setUp() {
+    when(tokenRevogadoRepository.findByRevogadoEmGreaterThanEqualAndExpiraEmAfter(any(), any()))
+        .thenReturn(List.of());
+    tokenRevogacaoService.carregar();
+  }
+
+  @Test
+  void revogar_quandoTokenNovo_devePersistirEPassarARejeitarSemConsultarOBanco() {
+    Date expiracao = new Date(System.currentTimeMillis() + 60_000);
+
+    tokenRevogacaoService.revogar("jti-1", expiracao);
+
+    assertTrue(tokenRevogacaoService.isRevogado("jti-1"));
+    assertFalse(tokenRevogacaoService.isRevogado("jti-2"));
+    assertFalse(tokenRevogacaoService.isRevogado(null));
+    verify(tokenRevogadoRepository).save(any(TokenRevogado.class));
+    verify(tokenRevogadoRepository, times(1))
+        .findByRevogadoEmGreaterThanEqualAndExpiraEmAfter(any(), any());
+  }
+
+  @Test
+  void revogar_quandoTokenJaRevogado_naoDevePersistirNovamente() {
+    when(tokenRevogadoRepository.existsByJti("jti-1")).thenReturn(true);
+
+    tokenRevogacaoService.revogar("jti-1", new Date(System.currentTimeMillis() + 60_000));
+
+    assertTrue(tokenRevogacaoService.isRevogado("jti-1"));
+    verify(tokenRevogadoRepository, never()).save(any());
+  }
+
+  @Test
+  void sincronizar_quandoOutraInstanciaRevogou_deveIncorporarRevogacao() {
+    TokenRevogado remoto =
+        TokenRevogado.builder()
+            .jti("jti-remoto")
+            .expiraEm(LocalDateTime.now().plusHours(1))
+            .revogadoEm(LocalDateTime.now())
+            .build();
+    when(tokenRevogadoRepository.findByRevogadoEmGreaterThanEqualAndExpiraEmAfter(any(), any()))
+        .thenReturn(List.of(remoto));
+
+    tokenRevogacaoService.sincronizar();
+
+    assertTrue(tokenRevogacaoService.isRevogado("jti-remoto"));
+  }
+
+  @Test
+  void sincronizar_quandoTokenRevogadoExpirou_deveDescartarDaMemoria() {
+    tokenRevogacaoService.revogar("jti-expirado", new Date(System.currentTimeMillis() - 1_000));
+    tokenRevogacaoService.revogar("jti-vigente", new Date(System.currentTimeMillis() + 60_000));
+
+    tokenRevogacaoService.sincronizar();
+
+    assertEquals(1, tokenRevogacaoService.quantidadeEmMemoria());
+    assertTrue(tokenRevogacaoService.isRevogado("jti-vigente"));
+  }
+}
@@ -6,6 +6,7 @@ import static org.mockito.Mockito.*;
 import br.edu.utfpr.pb.ext.server.event.EventPublisher;
 import br.edu.utfpr.pb.ext.server.projeto.IProjetoService;
 import br.edu.utfpr.pb.ext.server.projeto.Projeto;
+import br.edu.utfpr.pb.ext.server.projeto.ProjetoVagas;
 import br.edu.utfpr.pb.ext.server.projeto.enums.StatusProjeto;
 import br.edu.utfpr.pb.ext.server.usuario.IUsuarioService;
 import br.edu.utfpr.pb.ext.server.usuario.Usuario;
@@ -27,6 +28,7 @@ class CandidaturaServiceImplTest {
   private CandidaturaServiceImpl candidaturaService;
 
   private EventPublisher eventPublisher;
+  private ProjetoVagas projetoVagas;
 
   private Usuario aluno;
   private Projeto projeto;
@@ -37,10 +39,11 @@ class CandidaturaServiceImplTest {
     usuarioService = mock(IUsuarioService.class);
     projetoService = mock(IProjetoService.class);
     eventPublisher = mock(EventPublisher.class);
+    projetoVagas = mock(ProjetoVagas.class);
 
     candidaturaService =
         new CandidaturaServiceImpl(
-            candidaturaRepository, usuarioService, projetoService, eventPublisher);
+            candidaturaRepository, usuarioService, projetoService, eventPublisher, projetoVagas);
 
     aluno = Usuario.builder().nome("Aluno Teste").build();
     aluno.setId(1L);
@@ -84,6 +87,21 @@ class CandidaturaServiceImplTest {
     assertEquals("Projeto não está aberto para candidaturas", exception.getReason());
   }
 
+  @Test
+  void candidatar_quandoProjetoSemVagas_entaoLancaExcecao() {
+    // Arrange
+    projeto.setVagasOcupadas(5L);
+    when(projetoService.findOne(1L)).thenReturn(projeto);
+
+    // Act & Assert
+    ResponseStatusException exception =
+        assertThrows(ResponseStatusException.class, () -> candidaturaService.candidatar(1L));
+
+    assertEquals(HttpStatus.BAD_REQUEST, exception.getStatusCode());
+    assertEquals("Projeto não possui vagas disponíveis", exception.getReason());
+    verify(candidaturaRepository, never()).save(any(Candidatura.class));
+  }
+
   @Test
   void candidatar_quandoCandidaturaPendente_entaoLancaExcecao() {
     // Arrange
@@ -189,7 +207,7 @@ class CandidaturaServiceImplTest {
     Candidatura candidatura = createCandidatura(StatusCandidatura.APROVADA);
     candidatura.setId(999L);
 
-    when(candidaturaRepository.findById(999L)).thenReturn(Optional.empty());
+    when(candidaturaRepository.findAllById(List.of(999L))).thenReturn(List.of());
 
     // Act & Assert
     ResponseStatusException exception =
@@ -210,7 +228,7 @@ class CandidaturaServiceImplTest {
     Candidatura candidaturaBD = createCandidatura(StatusCandidatura.APROVADA);
     candidaturaBD.setId(1L);
 
-    when(candidaturaRepository.findById(1L)).thenReturn(Optional.of(candidaturaBD));
+    when(candidaturaRepository.findAllById(List.of(1L))).thenReturn(List.of(candidaturaBD));
 
     // Act & Assert
     ResponseStatusException exception =
@@ -231,7 +249,7 @@ class CandidaturaServiceImplTest {
     Candidatura candidaturaBD = createCandidatura(StatusCandidatura.REJEITADA);
     candidaturaBD.setId(1L);
 
-    when(candidaturaRepository.findById(1L)).thenReturn(Optional.of(candidaturaBD));
+    when(candidaturaRepository.findAllById(List.of(1L))).thenReturn(List.of(candidaturaBD));
 
     // Act & Assert
     ResponseStatusException exception =
@@ -258,9 +276,15 @@ class CandidaturaServiceImplTest {
     Candidatura candidaturaBD2 = createCandidatura(StatusCandidatura.PENDENTE);
     candidaturaBD2.setId(2L);
 
-    when(candidaturaRepository.findById(1L)).thenReturn(Optional.of(candidaturaBD1));
-    when(candidaturaRepository.findById(2L)).thenReturn(Optional.of(candidaturaBD2));
-    when(candidaturaRepository.save(any())).thenReturn(candidaturaBD1, candidaturaBD2);
+    when(candidaturaRepository.findAllById(List.of(1L, 2L)))
+        .thenReturn(List.of(candidaturaBD1, candidaturaBD2));
+    when(candidaturaRepository.atualizarStatus(
+            eq(List.of(1L)), eq(StatusCandidatura.APROVADA), any()))
+        .thenReturn(1);
+    when(candidaturaRepository.atualizarStatus(
+            eq(List.of(2L)), eq(StatusCandidatura.REJEITADA), any()))
+        .thenReturn(1);
+    when(projetoVagas.ocupar(1L, 1)).thenReturn(true);
 
     // Act
     candidaturaService.atualizarStatusCandidaturas(Arrays.asList(candidatura1, candidatura2));
@@ -268,7 +292,88 @@ class CandidaturaServiceImplTest {
     // Assert
     assertEquals(StatusCandidatura.APROVADA, candidaturaBD1.getStatus());
     assertEquals(StatusCandidatura.REJEITADA, candidaturaBD2.getStatus());
-    verify(candidaturaRepository, times(2)).save(any(Candidatura.class));
+    verify(candidaturaRepository, never()).save(any(Candidatura.class));
+    verify(projetoVagas, times(1)).ocupar(1L, 1);
+    verify(eventPublisher).publishCandidaturasAtualizadas(List.of(candidaturaBD1, candidaturaBD2));
+  }
+
+  @Test
+  void atualizarStatusCandidaturas_quandoCandidaturaRepetida_entaoLancaExcecao() {
+    // Arrange
+    Candidatura candidatura = createCandidatura(StatusCandidatura.APROVADA);
+    candidatura.setId(1L);
+
+    Candidatura candidaturaBD = createCandidatura(StatusCandidatura.PENDENTE);
+    candidaturaBD.setId(1L);
+
+    when(candidaturaRepository.findAllById(List.of(1L, 1L))).thenReturn(List.of(candidaturaBD));
+
+    // Act & Assert
+    ResponseStatusException exception =
+        assertThrows(
+            ResponseStatusException.class,
+            () ->
+                candidaturaService.atualizarStatusCandidaturas(List.of(candidatura, candidatura)));
+
+    assertEquals(HttpStatus.BAD_REQUEST, exception.getStatusCode());
+    assertEquals("Candidatura 1 informada mais de uma vez", exception.getReason());
+    verify(candidaturaRepository, never()).atualizarStatus(any(), any(), any());
+  }
+
+  @Test
+  void atualizarStatusCandidaturas_quandoAlteradaPorOutraRequisicao_entaoLancaConflito() {
+    // Arrange
+    Candidatura candidatura = createCandidatura(StatusCandidatura.APROVADA);
+    candidatura.setId(1L);
+
+    Candidatura candidaturaBD = createCandidatura(StatusCandidatura.PENDENTE);
+    candidaturaBD.setId(1L);
+
+    when(candidaturaRepository.findAllById(List.of(1L))).thenReturn(List.of(candidaturaBD));
+    when(candidaturaRepository.atualizarStatus(any(), any(), any())).thenReturn(0);
+
+    // Act & Assert
+    ResponseStatusException exception =
+        assertThrows(
+            ResponseStatusException.class,
+            () -> candidaturaService.atualizarStatusCandidaturas(List.of(candidatura)));
+
+    assertEquals(HttpStatus.CONFLICT, exception.getStatusCode());
+    verify(projetoVagas, never()).ocupar(any(), anyInt());
+    verify(eventPublisher, never()).publishCandidaturasAtualizadas(any());
+  }
+
+  @Test
+  void atualizarStatusCandidaturas_quandoProjetoSemVagas_entaoLancaConflito() {
+    // Arrange
+    Candidatura candidatura1 = createCandidatura(StatusCandidatura.APROVADA);
+    candidatura1.setId(1L);
+
+    Candidatura candidatura2 = createCandidatura(StatusCandidatura.APROVADA);
+    candidatura2.setId(2L);
+
+    Candidatura candidaturaBD1 = createCandidatura(StatusCandidatura.PENDENTE);
+    candidaturaBD1.setId(1L);
+
+    Candidatura candidaturaBD2 = createCandidatura(StatusCandidatura.PENDENTE);
+    candidaturaBD2.setId(2L);
+
+    when(candidaturaRepository.findAllById(List.of(2L, 1L)))
+        .thenReturn(List.of(candidaturaBD1, candidaturaBD2));
+    when(candidaturaRepository.atualizarStatus(any(), any(), any())).thenReturn(2);
+    when(projetoVagas.ocupar(1L, 2)).thenReturn(false);
+
+    // Act & Assert
+    ResponseStatusException exception =
+        assertThrows(
+            ResponseStatusException.class,
+            () ->
+                candidaturaService.atualizarStatusCandidaturas(
+                    Arrays.asList(candidatura2, candidatura1)));
+
+    assertEquals(HttpStatus.CONFLICT, exception.getStatusCode());
+    assertEquals("Projeto 1 não possui vagas para 2 aprovação(ões)", exception.getReason());
+    verify(eventPublisher, never()).publishCandidaturasAtualizadas(any());
   }
 
   @Test
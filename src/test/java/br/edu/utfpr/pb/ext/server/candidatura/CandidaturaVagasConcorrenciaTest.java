@@ -0,0 +1,171 @@
+package br.edu.utfpr.pb.ext.server.candidatura;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import br.edu.utfpr.pb.ext.server.projeto.Projeto;
+import br.edu.utfpr.pb.ext.server.projeto.ProjetoRepository;
+import br.edu.utfpr.pb.ext.server.projeto.enums.StatusProjeto;
+import br.edu.utfpr.pb.ext.server.usuario.Usuario;
+import br.edu.utfpr.pb.ext.server.usuario.UsuarioRepository;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.web.server.ResponseStatusException;
+
+/** Aprovações concorrentes de candidaturas não podem ocupar mais vagas que as do projeto. */
+@SpringBootTest
+@ActiveProfiles("test")
+class CandidaturaVagasConcorrenciaTest {
+
+  private static final int VAGAS = 20;
+  private static final int CANDIDATOS = 200;
+  private static final int THREADS = 32;
+
+  @Autowired private ICandidaturaService candidaturaService;
+  @Autowired private CandidaturaRepository candidaturaRepository;
+  @Autowired private ProjetoRepository projetoRepository;
+  @Autowired private UsuarioRepository usuarioRepository;
+  @Autowired private JdbcTemplate jdbcTemplate;
+
+  private final List<Usuario> alunos = new ArrayList<>();
+  private final List<Candidatura> candidaturas = new ArrayList<>();
+  private Projeto projeto;
+
+  @BeforeEach
+  void setUp() {
+    projeto =
+        projetoRepository.save(
+            Projeto.builder()
+                .titulo("Projeto concorrido")
+                .descricao("descrição")
+                .justificativa("justificativa")
+                .dataInicio(new Date())
+                .publicoAlvo("Todos")
+                .status(StatusProjeto.EM_ANDAMENTO)
+                .qtdeVagas((long) VAGAS)
+                .equipeExecutora(new ArrayList<>())
+                .build());
+    for (int i = 0; i < CANDIDATOS; i++) {
+      Usuario aluno =
+          usuarioRepository.save(
+              Usuario.builder()
+                  .nome("Aluno " + i)
+                  .email("concorrencia" + i + "@alunos.utfpr.edu.br")
+                  .cpf(String.valueOf(System.nanoTime()))
+                  .build());
+      alunos.add(aluno);
+      candidaturas.add(
+          candidaturaRepository.save(
+              Candidatura.builder()
+                  .projeto(projeto)
+                  .aluno(aluno)
+                  .status(StatusCandidatura.PENDENTE)
+                  .dataCandidatura(LocalDateTime.now())
+                  .build()));
+    }
+  }
+
+  @AfterEach
+  void tearDown() {
+    candidaturaRepository.deleteAll(candidaturas);
+    projetoRepository.delete(projeto);
+    usuarioRepository.deleteAll(alunos);
+  }
+
+  private Candidatura aprovacao(Long candidaturaId) {
+    Candidatura candidatura = Candidatura.builder().status(StatusCandidatura.APROVADA).build();
+    candidatura.setId(candidaturaId);
+    return candidatura;
+  }
+
+  /**
+   * Aprova as candidaturas em paralelo, todas liberadas ao mesmo tempo.
+   *
+   * @return quantidade de aprovações aceitas
+   */
+  private int aprovarEmParalelo(List<Long> candidaturaIds) throws Exception {
+    ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+    CountDownLatch largada = new CountDownLatch(1);
+    try {
+      List<Future<Boolean>> tarefas =
+          candidaturaIds.stream()
+              .map(
+                  id ->
+                      executor.submit(
+                          () -> {
+                            largada.await();
+                            try {
+                              candidaturaService.atualizarStatusCandidaturas(
+                                  List.of(aprovacao(id)));
+                              return true;
+                            } catch (ResponseStatusException e) {
+                              assertTrue(
+                                  e.getStatusCode() == HttpStatus.CONFLICT
+                                      || e.getStatusCode() == HttpStatus.BAD_REQUEST,
+                                  e.getMessage());
+                              return false;
+                            }
+                          }))
+              .toList();
+      largada.countDown();
+      int aceitas = 0;
+      for (Future<Boolean> tarefa : tarefas) {
+        if (tarefa.get()) {
+          aceitas++;
+        }
+      }
+      return aceitas;
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  private long vagasOcupadas() {
+    return jdbcTemplate.queryForObject(
+        "SELECT vagas_ocupadas FROM tb_projeto WHERE id = ?", Long.class, projeto.getId());
+  }
+
+  private long aprovadas() {
+    return jdbcTemplate.queryForObject(
+        "SELECT COUNT(*) FROM tb_candidatura WHERE projeto_id = ? AND status = 'APROVADA'",
+        Long.class,
+        projeto.getId());
+  }
+
+  @Test
+  void atualizarStatusCandidaturas_quandoAprovacoesConcorrentes_naoUltrapassaAsVagas()
+      throws Exception {
+    int aceitas = aprovarEmParalelo(candidaturas.stream().map(Candidatura::getId).toList());
+
+    assertEquals(VAGAS, aceitas);
+    assertEquals(VAGAS, vagasOcupadas());
+    assertEquals(VAGAS, aprovadas());
+  }
+
+  @Test
+  void atualizarStatusCandidaturas_quandoMesmaCandidaturaAprovadaEmParalelo_ocupaUmaVaga()
+      throws Exception {
+    Long candidaturaId = candidaturas.getFirst().getId();
+
+    int aceitas =
+        aprovarEmParalelo(IntStream.range(0, THREADS).mapToObj(i -> candidaturaId).toList());
+
+    assertEquals(1, aceitas);
+    assertEquals(1, vagasOcupadas());
+    assertEquals(1, aprovadas());
+  }
+}
@@ -0,0 +1,52 @@
+package br.edu.utfpr.pb.ext.server.config;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.function.ThrowingSupplier;
+
+/**
+ * Conta as instruções SQL emitidas pelo Hibernate durante a execução de um trecho de código, para
+ * que os testes detectem consultas N+1.
+ *
+ * <p>A contagem é feita apenas na thread que chama {@link #contar}; consultas de jobs agendados ou
+ * de outras requisições não interferem. Instruções executadas via {@code JdbcTemplate} não passam
+ * pelo Hibernate e não são contadas. Requer {@link ContadorSqlTestConfig} no contexto do teste.
+ */
+public class ContadorSql implements StatementInspector {
+
+  private static final ThreadLocal<AtomicInteger> CONTAGEM = new ThreadLocal<>();
+
+  @Override
+  public String inspect(String sql) {
+    AtomicInteger contagem = CONTAGEM.get();
+    if (contagem != null) {
+      contagem.incrementAndGet();
+    }
+    return sql;
+  }
+
+  /**
+   * Executa a ação e retorna seu resultado junto com a quantidade de instruções SQL emitidas.
+   *
+   * @param acao trecho de código a ser medido
+   * @return resultado da ação e quantidade de instruções
+   */
+  public static <T> Medicao<T> contar(ThrowingSupplier<T> acao) throws Throwable {
+    AtomicInteger contagem = new AtomicInteger();
+    CONTAGEM.set(contagem);
+    try {
+      T resultado = acao.get();
+      return new Medicao<>(resultado, contagem.get());
+    } finally {
+      CONTAGEM.remove();
+    }
+  }
+
+  /**
+   * Resultado de uma medição.
+   *
+   * @param resultado valor retornado pela ação
+   * @param instrucoes quantidade de instruções SQL emitidas
+   */
+  public record Medicao<T>(T resultado, int instrucoes) {}
+}
@@ -0,0 +1,20 @@
+package br.edu.utfpr.pb.ext.server.config;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+
+@TestConfiguration
+public class ContadorSqlTestConfig {
+  /**
+   * Registra o {@link ContadorSql} como inspetor das instruções SQL do Hibernate.
+   *
+   * @return personalizador das propriedades do Hibernate
+   */
+  @Bean
+  public HibernatePropertiesCustomizer contadorSql() {
+    return propriedades ->
+        propriedades.put(AvailableSettings.STATEMENT_INSPECTOR, new ContadorSql());
+  }
+}
@@ -0,0 +1,103 @@
+package br.edu.utfpr.pb.ext.server.config;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+class ExecutorConfigTest {
+
+  private final ExecutorConfig config = new ExecutorConfig();
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private final CountDownLatch liberar = new CountDownLatch(1);
+  private ThreadPoolTaskExecutor executor;
+
+  @AfterEach
+  void tearDown() {
+    liberar.countDown();
+    if (executor != null) {
+      executor.shutdown();
+    }
+  }
+
+  private void bloquear() {
+    executor.execute(
+        () -> {
+          try {
+            liberar.await(5, TimeUnit.SECONDS);
+          } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+          }
+        });
+  }
+
+  private double rejeitadas(String nome) {
+    return meterRegistry.counter("executor.rejected", "name", nome).count();
+  }
+
+  @Test
+  void notificacaoExecutor_quandoTamanhoMaiorQuePoolDeConexoes_limitaAoPool() {
+    executor = config.notificacaoExecutor(20, 5, 10, Duration.ofSeconds(1), meterRegistry);
+
+    assertEquals(5, executor.getCorePoolSize());
+    assertEquals(5, executor.getMaxPoolSize());
+  }
+
+  @Test
+  void notificacaoExecutor_quandoFilaCheia_executaNaThreadChamadora() throws Exception {
+    executor = config.notificacaoExecutor(1, 10, 1, Duration.ofSeconds(1), meterRegistry);
+    executor.initialize();
+    bloquear();
+    bloquear();
+
+    Thread chamadora = Thread.currentThread();
+    CompletableFuture<Thread> executada = new CompletableFuture<>();
+    executor.execute(() -> executada.complete(Thread.currentThread()));
+
+    assertSame(chamadora, executada.get(1, TimeUnit.SECONDS));
+    assertEquals(1, rejeitadas(ExecutorConfig.NOTIFICACAO_EXECUTOR));
+  }
+
+  @Test
+  void emailExecutor_quandoFilaCheia_rejeitaTarefa() {
+    executor = config.emailExecutor(1, 1, false, Duration.ofSeconds(1), meterRegistry);
+    executor.initialize();
+    bloquear();
+    bloquear();
+
+    assertThrows(TaskRejectedException.class, () -> executor.execute(() -> {}));
+    assertEquals(1, rejeitadas(ExecutorConfig.EMAIL_EXECUTOR));
+  }
+
+  @Test
+  void emailExecutor_quandoThreadsVirtuais_executaEmThreadVirtual() throws Exception {
+    executor = config.emailExecutor(2, 10, true, Duration.ofSeconds(1), meterRegistry);
+    executor.initialize();
+
+    CompletableFuture<Thread> executada = new CompletableFuture<>();
+    executor.execute(() -> executada.complete(Thread.currentThread()));
+
+    Thread thread = executada.get(1, TimeUnit.SECONDS);
+    assertTrue(thread.isVirtual());
+    assertTrue(thread.getName().startsWith("email-"));
+  }
+
+  @Test
+  void mvcExecutor_quandoFilaCheia_rejeitaResposta() {
+    executor = config.mvcExecutor(1, 1, Duration.ofSeconds(1), meterRegistry);
+    executor.initialize();
+    bloquear();
+    bloquear();
+
+    assertThrows(TaskRejectedException.class, () -> executor.execute(() -> {}));
+    assertEquals(1, rejeitadas(ExecutorConfig.MVC_EXECUTOR));
+    assertEquals(1, executor.getMaxPoolSize());
+  }
+}
@@ -0,0 +1,20 @@
+package br.edu.utfpr.pb.ext.server.config;
+
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * Base dos testes que precisam de um PostgreSQL real, como os das migrações em {@code
+ * db/vendor/postgresql}, do particionamento de {@code tb_notificacao} e da busca textual.
+ *
+ * <p>O banco é criado pelas mesmas migrações da aplicação, incluindo as exclusivas do PostgreSQL.
+ * Os testes são ignorados quando não há Docker disponível.
+ */
+@SpringBootTest(
+    properties = "spring.flyway.locations=classpath:db/migration,classpath:db/vendor/{vendor}")
+@ActiveProfiles("test")
+@Testcontainers(disabledWithoutDocker = true)
+@Import(PostgresTestConfig.class)
+public abstract class PostgresIntegrationTest {}
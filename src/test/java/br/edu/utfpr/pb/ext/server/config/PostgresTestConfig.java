@@ -0,0 +1,25 @@
+package br.edu.utfpr.pb.ext.server.config;
+
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Bean;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+@TestConfiguration(proxyBeanMethods = false)
+public class PostgresTestConfig {
+
+  /** Versão do PostgreSQL usada nos testes; deve acompanhar a do {@code docker-compose.yml}. */
+  public static final String IMAGEM = "postgres:16.15";
+
+  /**
+   * Sobe um PostgreSQL em contêiner e o registra como banco da aplicação. O contêiner vive enquanto
+   * o contexto do Spring estiver em cache, de modo que as classes de teste o compartilham.
+   *
+   * @return o contêiner do PostgreSQL
+   */
+  @Bean
+  @ServiceConnection
+  public PostgreSQLContainer<?> postgres() {
+    return new PostgreSQLContainer<>(IMAGEM);
+  }
+}
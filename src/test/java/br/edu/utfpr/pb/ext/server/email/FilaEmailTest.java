@@ -0,0 +1,131 @@
+package br.edu.utfpr.pb.ext.server.email;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import br.edu.utfpr.pb.ext.server.email.impl.EmailServiceImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class FilaEmailTest {
+
+  @Mock private EmailServiceImpl emailService;
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+  private FilaEmail fila(int capacidade) {
+    return new FilaEmail(
+        emailService, capacidade, 1, 5000, Duration.ZERO, Duration.ofSeconds(5), meterRegistry);
+  }
+
+  @Test
+  void processarLote_quandoMesmoAssuntoEConteudo_enviaUmaRequisicaoPorGrupo() throws Exception {
+    FilaEmail fila = fila(100);
+    fila.enfileirar(List.of("a@utfpr.edu.br", "b@utfpr.edu.br"), "Assunto", "html", "text/html");
+    fila.enfileirar(List.of("c@utfpr.edu.br"), "Outro", "html", "text/html");
+    fila.enfileirar(List.of("d@utfpr.edu.br", "a@utfpr.edu.br"), "Assunto", "html", "text/html");
+
+    assertEquals(5, fila.processarLote(0));
+
+    verify(emailService)
+        .sendEmail(
+            List.of("a@utfpr.edu.br", "b@utfpr.edu.br", "d@utfpr.edu.br"),
+            "Assunto",
+            "html",
+            "text/html");
+    verify(emailService).sendEmail(List.of("c@utfpr.edu.br"), "Outro", "html", "text/html");
+    assertEquals(0, fila.tamanho());
+    // o destinatário repetido com o mesmo conteúdo recebe um único e-mail
+    assertEquals(
+        4.0,
+        meterRegistry.get("email.fila.mensagens").tag("resultado", "enviada").counter().count());
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void processarLote_quandoExcedeLimiteDePersonalizations_divideRequisicoes() throws Exception {
+    FilaEmail fila = fila(5000);
+    fila.enfileirar(
+        IntStream.range(0, 2500).mapToObj(i -> "aluno" + i + "@alunos.utfpr.edu.br").toList(),
+        "Assunto",
+        "html",
+        "text/html");
+
+    fila.processarLote(0);
+
+    ArgumentCaptor<List<String>> destinatarios = ArgumentCaptor.forClass(List.class);
+    verify(emailService, times(3))
+        .sendEmail(destinatarios.capture(), eq("Assunto"), eq("html"), eq("text/html"));
+    assertEquals(
+        List.of(1000, 1000, 500), destinatarios.getAllValues().stream().map(List::size).toList());
+  }
+
+  @Test
+  void processarLote_quandoEnvioFalha_contabilizaFalha() throws Exception {
+    when(emailService.sendEmail(anyList(), anyString(), anyString(), anyString()))
+        .thenThrow(new IOException("falha"));
+    FilaEmail fila = fila(100);
+    fila.enfileirar(List.of("a@utfpr.edu.br", "b@utfpr.edu.br"), "Assunto", "html", "text/html");
+
+    fila.processarLote(0);
+
+    assertEquals(
+        2.0, meterRegistry.get("email.fila.mensagens").tag("resultado", "falha").counter().count());
+  }
+
+  @Test
+  void enfileirar_quandoFilaCheia_rejeitaExcedentes() {
+    FilaEmail fila = fila(2);
+
+    int aceitas =
+        fila.enfileirar(
+            List.of("a@utfpr.edu.br", "b@utfpr.edu.br", "c@utfpr.edu.br"),
+            "Assunto",
+            "html",
+            "text/html");
+
+    assertEquals(2, aceitas);
+    assertEquals(
+        1.0,
+        meterRegistry.get("email.fila.mensagens").tag("resultado", "rejeitada").counter().count());
+  }
+
+  @Test
+  void enfileirar_quandoFilaCheia_aguardaUmaVezPorChamada() {
+    FilaEmail fila =
+        new FilaEmail(
+            emailService, 1, 1, 5000, Duration.ofMillis(200), Duration.ofSeconds(5), meterRegistry);
+    List<String> destinatarios =
+        IntStream.range(0, 20).mapToObj(i -> "aluno" + i + "@utfpr.edu.br").toList();
+
+    long inicio = System.nanoTime();
+    int aceitas = fila.enfileirar(destinatarios, "Assunto", "html", "text/html");
+    Duration espera = Duration.ofNanos(System.nanoTime() - inicio);
+
+    assertEquals(1, aceitas);
+    // com espera por destinatário seriam 19 x 200 ms
+    assertTrue(espera.compareTo(Duration.ofSeconds(2)) < 0, espera.toString());
+  }
+
+  @Test
+  void encerrar_enviaMensagensPendentes() throws Exception {
+    FilaEmail fila = fila(100);
+    fila.iniciar();
+    fila.enfileirar(List.of("a@utfpr.edu.br"), "Assunto", "html", "text/html");
+
+    fila.encerrar();
+
+    verify(emailService).sendEmail(List.of("a@utfpr.edu.br"), "Assunto", "html", "text/html");
+    assertEquals(0, fila.tamanho());
+  }
+}
@@ -6,10 +6,16 @@ import static org.mockito.Mockito.*;
 import br.edu.utfpr.pb.ext.server.email.EmailCode;
 import br.edu.utfpr.pb.ext.server.email.EmailCodeRepository;
 import br.edu.utfpr.pb.ext.server.email.enums.TipoCodigo;
+import br.edu.utfpr.pb.ext.server.ratelimit.Limite;
+import br.edu.utfpr.pb.ext.server.ratelimit.RateLimiter;
+import com.sendgrid.Request;
 import com.sendgrid.Response;
 import com.sendgrid.SendGrid;
 import java.io.IOException;
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -26,15 +32,14 @@ import org.thymeleaf.spring6.SpringTemplateEngine;
 @ExtendWith(MockitoExtension.class)
 class EmailServiceImplTest {
 
-  public static final long MAX_DAILY_LIMIT_MAIS_UM = 31L;
   public static final String ERRO_LIMITE_DIARIO_ATINGIDO =
       "Quantidade de solicitações ultrapassa o limite das últimas 24 horas.";
-  private static final Long MAX_SHORT_PERIOD_MAIS_UM = 6L;
   private static final String ERRO_LIMITE_CURTO =
       "Limite de solicitações atingido, tente novamente em %d minutos.".formatted(15L);
   @Mock private EmailCodeRepository emailCodeRepository;
   @Mock private SendGrid sendGrid;
   @Mock private SpringTemplateEngine springTemplateEngine;
+  @Mock private RateLimiter rateLimiter;
   @InjectMocks private EmailServiceImpl emailService;
 
   private String email = "teste@utfpr.edu.br";
@@ -43,8 +48,6 @@ class EmailServiceImplTest {
   /** Teste para verificar envio com sucesso. */
   @Test
   void testGenerateAndSendCode_Success() throws IOException {
-    when(emailCodeRepository.countByEmailAndTypeAndGeneratedAtAfter(any(), any(), any()))
-        .thenReturn(0L);
     when(sendGrid.api(any())).thenReturn(new Response(202, "", null));
     when(springTemplateEngine.process(anyString(), any())).thenReturn("<html>Email content</html>");
 
@@ -70,8 +73,8 @@ class EmailServiceImplTest {
   /** Teste para validar que o limite de envio diário é respeitado. */
   @Test
   void testGenerateAndSendCode_MaxDailyLimitReached() {
-    when(emailCodeRepository.countByEmailAndTypeAndGeneratedAtAfter(any(), eq(tipo), any()))
-        .thenReturn(MAX_DAILY_LIMIT_MAIS_UM);
+    when(rateLimiter.tentarConsumir(anyString(), any(), any()))
+        .thenReturn(Optional.of(new Limite("otp-diario", 30, Duration.ofHours(24))));
 
     IllegalArgumentException ex =
         assertThrows(
@@ -83,11 +86,8 @@ class EmailServiceImplTest {
   @Test
   @DisplayName("Valida que o serviço gera erro ao ultrapassar o limite curto de envios")
   void generateAndSendCode_WhenLimiteCurtoFoiUltrapassado_ReturnErroLimiteCurto() {
-    when(emailCodeRepository.countByEmailAndTypeAndGeneratedAtAfter(any(), eq(tipo), any()))
-        .thenReturn(
-            0L,
-            MAX_SHORT_PERIOD_MAIS_UM); // Primeira chamada para limite diário, segunda para limite
-    // curto
+    when(rateLimiter.tentarConsumir(anyString(), any(), any()))
+        .thenReturn(Optional.of(new Limite("otp-curto", 5, Duration.ofMinutes(15))));
 
     IllegalArgumentException ex =
         assertThrows(
@@ -97,8 +97,6 @@ class EmailServiceImplTest {
 
   @Test
   void generateAndSendCode_WhenSendGridResponseIsNull_ReturnIllegalArgumentException() {
-    when(emailCodeRepository.countByEmailAndTypeAndGeneratedAtAfter(any(), any(), any()))
-        .thenReturn(0L);
     when(springTemplateEngine.process(anyString(), any()))
         .thenThrow(
             new RuntimeException("Erro ao tentar enviar e-mail, tente novamente mais tarde"));
@@ -113,8 +111,6 @@ class EmailServiceImplTest {
   /** Teste para simular falha no envio pelo SendGrid. */
   @Test
   void testGenerateAndSendCode_SendGridFails() throws IOException {
-    when(emailCodeRepository.countByEmailAndTypeAndGeneratedAtAfter(any(), any(), any()))
-        .thenReturn(0L);
     when(sendGrid.api(any())).thenReturn(new Response(400, "Bad Request", null));
     when(springTemplateEngine.process(anyString(), any())).thenReturn("<html>Email content</html>");
 
@@ -143,4 +139,25 @@ class EmailServiceImplTest {
             IllegalArgumentException.class, () -> emailService.generateAndSendCode(email, null));
     assertEquals("O tipo do código é obrigatório.", ex.getMessage());
   }
+
+  @Test
+  void sendEmail_whenMultipleRecipients_sendsOnePersonalizationPerRecipient() throws IOException {
+    when(sendGrid.api(any())).thenReturn(new Response(202, "", null));
+
+    emailService.sendEmail(
+        List.of("a@utfpr.edu.br", "b@utfpr.edu.br"), "Assunto", "<p>conteudo</p>", "text/html");
+
+    ArgumentCaptor<Request> requestCaptor = ArgumentCaptor.forClass(Request.class);
+    verify(sendGrid).api(requestCaptor.capture());
+    String body = requestCaptor.getValue().getBody();
+    assertEquals(2, body.split("\"to\"").length - 1);
+    assertTrue(body.contains("a@utfpr.edu.br") && body.contains("b@utfpr.edu.br"));
+  }
+
+  @Test
+  void sendEmail_whenNoRecipients_throwsIllegalArgumentException() {
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> emailService.sendEmail(List.of(), "Assunto", "conteudo", "text/html"));
+  }
 }
@@ -35,50 +35,69 @@ class CandidaturaEventTest {
   @Test
   @DisplayName("Should create CandidaturaEvent with CREATED event type")
   void createCandidaturaEvent_withCreatedType_shouldSetCorrectProperties() {
-    CandidaturaEvent event = new CandidaturaEvent(candidatura, EntityEvent.EventType.CREATED);
+    CandidaturaEvent event =
+        new CandidaturaEvent(CandidaturaSnapshot.de(candidatura), EntityEvent.EventType.CREATED);
 
     assertNotNull(event);
-    assertEquals(candidatura, event.getEntity());
+    assertEquals(CandidaturaSnapshot.de(candidatura), event.getEntity());
     assertEquals(EntityEvent.EventType.CREATED, event.getEventType());
   }
 
   @Test
   @DisplayName("Should create CandidaturaEvent with UPDATED event type")
   void createCandidaturaEvent_withUpdatedType_shouldSetCorrectProperties() {
-    CandidaturaEvent event = new CandidaturaEvent(candidatura, EntityEvent.EventType.UPDATED);
+    CandidaturaEvent event =
+        new CandidaturaEvent(CandidaturaSnapshot.de(candidatura), EntityEvent.EventType.UPDATED);
 
     assertNotNull(event);
-    assertEquals(candidatura, event.getEntity());
+    assertEquals(CandidaturaSnapshot.de(candidatura), event.getEntity());
     assertEquals(EntityEvent.EventType.UPDATED, event.getEventType());
   }
 
   @Test
   @DisplayName("Should inherit from ApplicationEvent")
   void candidaturaEvent_shouldInheritFromApplicationEvent() {
-    CandidaturaEvent event = new CandidaturaEvent(candidatura, EntityEvent.EventType.CREATED);
+    CandidaturaEvent event =
+        new CandidaturaEvent(CandidaturaSnapshot.de(candidatura), EntityEvent.EventType.CREATED);
 
     assertTrue(event.getTimestamp() > 0);
   }
 
   @Test
-  @DisplayName("Should maintain entity reference")
-  void candidaturaEvent_shouldMaintainEntityReference() {
-    CandidaturaEvent event = new CandidaturaEvent(candidatura, EntityEvent.EventType.CREATED);
-
-    assertSame(candidatura, event.getEntity());
-    assertEquals(1L, event.getEntity().getId());
-    assertEquals("Aluno Teste", event.getEntity().getAluno().getNome());
-    assertEquals("Projeto Teste", event.getEntity().getProjeto().getTitulo());
-    assertEquals(StatusCandidatura.PENDENTE, event.getEntity().getStatus());
+  @DisplayName("Should copy the candidatura data into the snapshot")
+  void candidaturaEvent_shouldCopyEntityData() {
+    CandidaturaEvent event =
+        new CandidaturaEvent(CandidaturaSnapshot.de(candidatura), EntityEvent.EventType.CREATED);
+
+    CandidaturaSnapshot snapshot = event.getEntity();
+    assertEquals(1L, snapshot.id());
+    assertEquals("Aluno Teste", snapshot.aluno().nome());
+    assertEquals(1L, snapshot.projetoId());
+    assertEquals("Projeto Teste", snapshot.projetoTitulo());
+    assertEquals(StatusCandidatura.PENDENTE, snapshot.status());
+    assertNull(snapshot.responsavelProjeto());
+  }
+
+  @Test
+  @DisplayName("Snapshot should not change when the entity changes after publishing")
+  void candidaturaEvent_whenEntityChanges_snapshotStaysTheSame() {
+    CandidaturaEvent event =
+        new CandidaturaEvent(CandidaturaSnapshot.de(candidatura), EntityEvent.EventType.CREATED);
+
+    candidatura.setStatus(StatusCandidatura.APROVADA);
+    candidatura.getProjeto().setTitulo("Outro título");
+
+    assertEquals(StatusCandidatura.PENDENTE, event.getEntity().status());
+    assertEquals("Projeto Teste", event.getEntity().projetoTitulo());
   }
 
   @Test
   @DisplayName("Should handle different event types correctly")
   void candidaturaEvent_withDifferentEventTypes_shouldSetCorrectType() {
     CandidaturaEvent createdEvent =
-        new CandidaturaEvent(candidatura, EntityEvent.EventType.CREATED);
+        new CandidaturaEvent(CandidaturaSnapshot.de(candidatura), EntityEvent.EventType.CREATED);
     CandidaturaEvent updatedEvent =
-        new CandidaturaEvent(candidatura, EntityEvent.EventType.UPDATED);
+        new CandidaturaEvent(CandidaturaSnapshot.de(candidatura), EntityEvent.EventType.UPDATED);
 
     assertEquals(EntityEvent.EventType.CREATED, createdEvent.getEventType());
     assertEquals(EntityEvent.EventType.UPDATED, updatedEvent.getEventType());
@@ -1,14 +1,16 @@
 package br.edu.utfpr.pb.ext.server.event;
 
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
 import br.edu.utfpr.pb.ext.server.candidatura.Candidatura;
 import br.edu.utfpr.pb.ext.server.candidatura.StatusCandidatura;
-import br.edu.utfpr.pb.ext.server.email.impl.EmailServiceImpl;
+import br.edu.utfpr.pb.ext.server.email.FilaEmail;
 import br.edu.utfpr.pb.ext.server.projeto.Projeto;
 import br.edu.utfpr.pb.ext.server.sugestaoprojeto.SugestaoDeProjeto;
 import br.edu.utfpr.pb.ext.server.usuario.Usuario;
+import java.util.Collection;
 import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -19,7 +21,7 @@ import org.thymeleaf.context.Context;
 
 class EmailEventListenerTest {
 
-  @Mock private EmailServiceImpl emailService;
+  @Mock private FilaEmail filaEmail;
 
   @Mock private TemplateEngine templateEngine;
 
@@ -70,24 +72,32 @@ class EmailEventListenerTest {
     candidatura.setStatus(StatusCandidatura.PENDENTE);
 
     when(templateEngine.process(anyString(), any(Context.class))).thenReturn("conteudo-email");
+    when(filaEmail.enfileirar(anyCollection(), anyString(), anyString(), anyString()))
+        .thenAnswer(invocation -> invocation.<Collection<?>>getArgument(0).size());
+  }
+
+  @Test
+  @DisplayName("Should fail so the outbox retries when the queue rejects recipients")
+  void handleProjetoEvent_whenQueueRejects_throws() {
+    when(filaEmail.enfileirar(anyCollection(), anyString(), anyString(), anyString()))
+        .thenReturn(1);
+    ProjetoEvent event =
+        new ProjetoEvent(ProjetoSnapshot.de(projeto), EntityEvent.EventType.CREATED);
+
+    assertThrows(IllegalStateException.class, () -> emailEventListener.handleProjetoEvent(event));
   }
 
   @Test
   @DisplayName("Should send email to responsavel and equipe when project is created")
   void handleProjetoEvent_created_sendsEmail() throws Exception {
-    ProjetoEvent event = new ProjetoEvent(projeto, EntityEvent.EventType.CREATED);
+    ProjetoEvent event =
+        new ProjetoEvent(ProjetoSnapshot.de(projeto), EntityEvent.EventType.CREATED);
 
     emailEventListener.handleProjetoEvent(event);
 
-    verify(emailService, times(1))
-        .sendEmail(
-            eq("responsavel@email.com"),
-            contains("Novo projeto criado"),
-            eq("conteudo-email"),
-            eq("text/html"));
-    verify(emailService, times(1))
-        .sendEmail(
-            eq("membro@email.com"),
+    verify(filaEmail)
+        .enfileirar(
+            eq(List.of("responsavel@email.com", "membro@email.com")),
             contains("Novo projeto criado"),
             eq("conteudo-email"),
             eq("text/html"));
@@ -96,19 +106,14 @@ class EmailEventListenerTest {
   @Test
   @DisplayName("Should send email to responsavel and equipe when project is updated")
   void handleProjetoEvent_updated_sendsEmail() throws Exception {
-    ProjetoEvent event = new ProjetoEvent(projeto, EntityEvent.EventType.UPDATED);
+    ProjetoEvent event =
+        new ProjetoEvent(ProjetoSnapshot.de(projeto), EntityEvent.EventType.UPDATED);
 
     emailEventListener.handleProjetoEvent(event);
 
-    verify(emailService, times(1))
-        .sendEmail(
-            eq("responsavel@email.com"),
-            contains("Projeto atualizado"),
-            eq("conteudo-email"),
-            eq("text/html"));
-    verify(emailService, times(1))
-        .sendEmail(
-            eq("membro@email.com"),
+    verify(filaEmail)
+        .enfileirar(
+            eq(List.of("responsavel@email.com", "membro@email.com")),
             contains("Projeto atualizado"),
             eq("conteudo-email"),
             eq("text/html"));
@@ -117,19 +122,14 @@ class EmailEventListenerTest {
   @Test
   @DisplayName("Should send email to aluno and professor when suggestion is created")
   void handleSugestaoEvent_created_sendsEmail() throws Exception {
-    SugestaoEvent event = new SugestaoEvent(sugestao, EntityEvent.EventType.CREATED);
+    SugestaoEvent event =
+        new SugestaoEvent(SugestaoSnapshot.de(sugestao), EntityEvent.EventType.CREATED);
 
     emailEventListener.handleSugestaoEvent(event);
 
-    verify(emailService, times(1))
-        .sendEmail(
-            eq("aluno@email.com"),
-            contains("Nova sugestão registrada"),
-            eq("conteudo-email"),
-            eq("text/html"));
-    verify(emailService, times(1))
-        .sendEmail(
-            eq("professor@email.com"),
+    verify(filaEmail)
+        .enfileirar(
+            eq(List.of("aluno@email.com", "professor@email.com")),
             contains("Nova sugestão registrada"),
             eq("conteudo-email"),
             eq("text/html"));
@@ -138,19 +138,14 @@ class EmailEventListenerTest {
   @Test
   @DisplayName("Should send email to aluno and professor when suggestion is updated")
   void handleSugestaoEvent_updated_sendsEmail() throws Exception {
-    SugestaoEvent event = new SugestaoEvent(sugestao, EntityEvent.EventType.UPDATED);
+    SugestaoEvent event =
+        new SugestaoEvent(SugestaoSnapshot.de(sugestao), EntityEvent.EventType.UPDATED);
 
     emailEventListener.handleSugestaoEvent(event);
 
-    verify(emailService, times(1))
-        .sendEmail(
-            eq("aluno@email.com"),
-            contains("Sugestão atualizada"),
-            eq("conteudo-email"),
-            eq("text/html"));
-    verify(emailService, times(1))
-        .sendEmail(
-            eq("professor@email.com"),
+    verify(filaEmail)
+        .enfileirar(
+            eq(List.of("aluno@email.com", "professor@email.com")),
             contains("Sugestão atualizada"),
             eq("conteudo-email"),
             eq("text/html"));
@@ -159,19 +154,14 @@ class EmailEventListenerTest {
   @Test
   @DisplayName("Should send email to aluno and responsavel when candidatura is created")
   void handleCandidaturaEvent_created_sendsEmail() throws Exception {
-    CandidaturaEvent event = new CandidaturaEvent(candidatura, EntityEvent.EventType.CREATED);
+    CandidaturaEvent event =
+        new CandidaturaEvent(CandidaturaSnapshot.de(candidatura), EntityEvent.EventType.CREATED);
 
     emailEventListener.handleCandidaturaEvent(event);
 
-    verify(emailService, times(1))
-        .sendEmail(
-            eq("aluno@email.com"),
-            contains("Nova candidatura recebida"),
-            eq("conteudo-email"),
-            eq("text/html"));
-    verify(emailService, times(1))
-        .sendEmail(
-            eq("responsavel@email.com"),
+    verify(filaEmail)
+        .enfileirar(
+            eq(List.of("aluno@email.com", "responsavel@email.com")),
             contains("Nova candidatura recebida"),
             eq("conteudo-email"),
             eq("text/html"));
@@ -181,19 +171,14 @@ class EmailEventListenerTest {
   @DisplayName("Should send email to aluno and responsavel when candidatura is updated")
   void handleCandidaturaEvent_updated_sendsEmail() throws Exception {
     candidatura.setStatus(StatusCandidatura.APROVADA);
-    CandidaturaEvent event = new CandidaturaEvent(candidatura, EntityEvent.EventType.UPDATED);
+    CandidaturaEvent event =
+        new CandidaturaEvent(CandidaturaSnapshot.de(candidatura), EntityEvent.EventType.UPDATED);
 
     emailEventListener.handleCandidaturaEvent(event);
 
-    verify(emailService, times(1))
-        .sendEmail(
-            eq("aluno@email.com"),
-            contains("Status da candidatura atualizado"),
-            eq("conteudo-email"),
-            eq("text/html"));
-    verify(emailService, times(1))
-        .sendEmail(
-            eq("responsavel@email.com"),
+    verify(filaEmail)
+        .enfileirar(
+            eq(List.of("aluno@email.com", "responsavel@email.com")),
             contains("Status da candidatura atualizado"),
             eq("conteudo-email"),
             eq("text/html"));
@@ -204,47 +189,46 @@ class EmailEventListenerTest {
   void handleCandidaturaEvent_noRecipients_doesNotSendEmail() throws Exception {
     candidatura.setAluno(null);
     candidatura.setProjeto(null);
-    CandidaturaEvent event = new CandidaturaEvent(candidatura, EntityEvent.EventType.CREATED);
+    CandidaturaEvent event =
+        new CandidaturaEvent(CandidaturaSnapshot.de(candidatura), EntityEvent.EventType.CREATED);
 
     emailEventListener.handleCandidaturaEvent(event);
 
-    verify(emailService, never()).sendEmail(anyString(), anyString(), anyString(), anyString());
+    verifyNoInteractions(filaEmail);
   }
 
   @Test
   @DisplayName("Should send email only to aluno when responsavel has no email")
   void handleCandidaturaEvent_responsavelNoEmail_sendsOnlyToAluno() throws Exception {
     responsavel.setEmail(null);
-    CandidaturaEvent event = new CandidaturaEvent(candidatura, EntityEvent.EventType.CREATED);
+    CandidaturaEvent event =
+        new CandidaturaEvent(CandidaturaSnapshot.de(candidatura), EntityEvent.EventType.CREATED);
 
     emailEventListener.handleCandidaturaEvent(event);
 
-    verify(emailService, times(1))
-        .sendEmail(
-            eq("aluno@email.com"),
+    verify(filaEmail)
+        .enfileirar(
+            eq(List.of("aluno@email.com")),
             contains("Nova candidatura recebida"),
             eq("conteudo-email"),
             eq("text/html"));
-    verify(emailService, never())
-        .sendEmail(eq("responsavel@email.com"), anyString(), anyString(), anyString());
   }
 
   @Test
   @DisplayName("Should send email only to responsavel when aluno has no email")
   void handleCandidaturaEvent_alunoNoEmail_sendsOnlyToResponsavel() throws Exception {
     aluno.setEmail(null);
-    CandidaturaEvent event = new CandidaturaEvent(candidatura, EntityEvent.EventType.CREATED);
+    CandidaturaEvent event =
+        new CandidaturaEvent(CandidaturaSnapshot.de(candidatura), EntityEvent.EventType.CREATED);
 
     emailEventListener.handleCandidaturaEvent(event);
 
-    verify(emailService, times(1))
-        .sendEmail(
-            eq("responsavel@email.com"),
+    verify(filaEmail)
+        .enfileirar(
+            eq(List.of("responsavel@email.com")),
             contains("Nova candidatura recebida"),
             eq("conteudo-email"),
             eq("text/html"));
-    verify(emailService, never())
-        .sendEmail(eq("aluno@email.com"), anyString(), anyString(), anyString());
   }
 
   @Test
@@ -252,11 +236,12 @@ class EmailEventListenerTest {
   void handleProjetoEvent_noRecipients_doesNotSendEmail() throws Exception {
     projeto.setResponsavel(null);
     projeto.setEquipeExecutora(null);
-    ProjetoEvent event = new ProjetoEvent(projeto, EntityEvent.EventType.CREATED);
+    ProjetoEvent event =
+        new ProjetoEvent(ProjetoSnapshot.de(projeto), EntityEvent.EventType.CREATED);
 
     emailEventListener.handleProjetoEvent(event);
 
-    verify(emailService, never()).sendEmail(anyString(), anyString(), anyString(), anyString());
+    verifyNoInteractions(filaEmail);
   }
 
   @Test
@@ -264,10 +249,68 @@ class EmailEventListenerTest {
   void handleSugestaoEvent_noRecipients_doesNotSendEmail() throws Exception {
     sugestao.setAluno(null);
     sugestao.setProfessor(null);
-    SugestaoEvent event = new SugestaoEvent(sugestao, EntityEvent.EventType.CREATED);
+    SugestaoEvent event =
+        new SugestaoEvent(SugestaoSnapshot.de(sugestao), EntityEvent.EventType.CREATED);
 
     emailEventListener.handleSugestaoEvent(event);
 
-    verify(emailService, never()).sendEmail(anyString(), anyString(), anyString(), anyString());
+    verifyNoInteractions(filaEmail);
+  }
+
+  @Test
+  @DisplayName("Should skip recipients that receive the daily digest")
+  void handleProjetoEvent_resumoDiario_skipsRecipient() throws Exception {
+    membroEquipe.setResumoDiarioEmail(true);
+    ProjetoEvent event =
+        new ProjetoEvent(ProjetoSnapshot.de(projeto), EntityEvent.EventType.UPDATED);
+
+    emailEventListener.handleProjetoEvent(event);
+
+    verify(filaEmail)
+        .enfileirar(
+            eq(List.of("responsavel@email.com")),
+            contains("Projeto atualizado"),
+            eq("conteudo-email"),
+            eq("text/html"));
+  }
+
+  @Test
+  @DisplayName("Should email each aluno and a single summary to the responsavel for a batch")
+  void handleLoteCandidaturasEvent_sendsOneEmailPerAlunoAndOneSummary() throws Exception {
+    Usuario outroAluno = new Usuario();
+    outroAluno.setEmail("outro@email.com");
+    outroAluno.setNome("Outro Aluno");
+    Candidatura outra = new Candidatura();
+    outra.setId(2L);
+    outra.setAluno(outroAluno);
+    outra.setProjeto(projeto);
+    outra.setStatus(StatusCandidatura.REJEITADA);
+    candidatura.setStatus(StatusCandidatura.APROVADA);
+    LoteCandidaturasEvent event =
+        new LoteCandidaturasEvent(
+            LoteCandidaturasSnapshot.de(List.of(candidatura, outra)),
+            EntityEvent.EventType.UPDATED);
+
+    emailEventListener.handleLoteCandidaturasEvent(event);
+
+    verify(filaEmail)
+        .enfileirar(
+            eq(List.of("aluno@email.com")),
+            contains("Status da candidatura atualizado"),
+            eq("conteudo-email"),
+            eq("text/html"));
+    verify(filaEmail)
+        .enfileirar(
+            eq(List.of("outro@email.com")),
+            contains("Status da candidatura atualizado"),
+            eq("conteudo-email"),
+            eq("text/html"));
+    verify(filaEmail)
+        .enfileirar(
+            eq(List.of("responsavel@email.com")),
+            contains("Candidaturas atualizadas"),
+            eq("conteudo-email"),
+            eq("text/html"));
+    verifyNoMoreInteractions(filaEmail);
   }
 }
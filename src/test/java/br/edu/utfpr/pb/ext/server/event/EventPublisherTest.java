@@ -1,26 +1,38 @@
 package br.edu.utfpr.pb.ext.server.event;
 
-import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.Mockito.verify;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
 
 import br.edu.utfpr.pb.ext.server.candidatura.Candidatura;
+import br.edu.utfpr.pb.ext.server.candidatura.StatusCandidatura;
+import br.edu.utfpr.pb.ext.server.event.outbox.EventoOutbox;
+import br.edu.utfpr.pb.ext.server.event.outbox.EventoOutboxRepository;
+import br.edu.utfpr.pb.ext.server.event.outbox.TipoAgregado;
 import br.edu.utfpr.pb.ext.server.projeto.Projeto;
 import br.edu.utfpr.pb.ext.server.sugestaoprojeto.SugestaoDeProjeto;
+import br.edu.utfpr.pb.ext.server.usuario.Usuario;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.context.ApplicationEventPublisher;
 
 @ExtendWith(MockitoExtension.class)
 class EventPublisherTest {
 
-  @Mock private ApplicationEventPublisher publisher;
+  @Mock private EventoOutboxRepository eventoOutboxRepository;
+  private final ObjectMapper objectMapper = new ObjectMapper();
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
 
-  @InjectMocks private EventPublisher eventPublisher;
+  private EventPublisher eventPublisher;
 
   private Projeto projeto;
   private SugestaoDeProjeto sugestao;
@@ -28,6 +40,9 @@ class EventPublisherTest {
 
   @BeforeEach
   void setUp() {
+    eventPublisher =
+        new EventPublisher(eventoOutboxRepository, objectMapper, meterRegistry, Duration.ZERO);
+
     projeto = new Projeto();
     projeto.setId(1L);
     projeto.setTitulo("Projeto Teste");
@@ -41,44 +56,178 @@ class EventPublisherTest {
   }
 
   @Test
-  @DisplayName("Should publish ProjetoEvent with CREATED type")
+  @DisplayName("Should register ProjetoEvent with CREATED type in the outbox")
   void publishProjetoCriado_shouldPublishCreatedEvent() {
     eventPublisher.publishProjetoCriado(projeto);
-    verify(publisher).publishEvent(any(ProjetoEvent.class));
+    verifyRegistrado(TipoAgregado.PROJETO, EntityEvent.EventType.CREATED);
   }
 
   @Test
-  @DisplayName("Should publish ProjetoEvent with UPDATED type")
+  @DisplayName("Should register ProjetoEvent with UPDATED type in the outbox")
   void publishProjetoAtualizado_shouldPublishUpdatedEvent() {
     eventPublisher.publishProjetoAtualizado(projeto);
-    verify(publisher).publishEvent(any(ProjetoEvent.class));
+    verifyRegistrado(TipoAgregado.PROJETO, EntityEvent.EventType.UPDATED);
   }
 
   @Test
-  @DisplayName("Should publish SugestaoEvent with CREATED type")
+  @DisplayName("Should register SugestaoEvent with CREATED type in the outbox")
   void publishSugestaoCriada_shouldPublishCreatedEvent() {
     eventPublisher.publishSugestaoCriada(sugestao);
-    verify(publisher).publishEvent(any(SugestaoEvent.class));
+    verifyRegistrado(TipoAgregado.SUGESTAO_PROJETO, EntityEvent.EventType.CREATED);
   }
 
   @Test
-  @DisplayName("Should publish SugestaoEvent with UPDATED type")
+  @DisplayName("Should register SugestaoEvent with UPDATED type in the outbox")
   void publishSugestaoAtualizada_shouldPublishUpdatedEvent() {
     eventPublisher.publishSugestaoAtualizada(sugestao);
-    verify(publisher).publishEvent(any(SugestaoEvent.class));
+    verifyRegistrado(TipoAgregado.SUGESTAO_PROJETO, EntityEvent.EventType.UPDATED);
   }
 
   @Test
-  @DisplayName("Should publish CandidaturaEvent with CREATED type")
+  @DisplayName("Should register CandidaturaEvent with CREATED type in the outbox")
   void publishCandidaturaCriada_shouldPublishCreatedEvent() {
     eventPublisher.publishCandidaturaCriada(candidatura);
-    verify(publisher).publishEvent(any(CandidaturaEvent.class));
+    verifyRegistrado(TipoAgregado.CANDIDATURA, EntityEvent.EventType.CREATED);
   }
 
   @Test
-  @DisplayName("Should publish CandidaturaEvent with UPDATED type")
+  @DisplayName("Should register CandidaturaEvent with UPDATED type in the outbox")
   void publishCandidaturaAtualizada_shouldPublishUpdatedEvent() {
     eventPublisher.publishCandidaturaAtualizada(candidatura);
-    verify(publisher).publishEvent(any(CandidaturaEvent.class));
+    verifyRegistrado(TipoAgregado.CANDIDATURA, EntityEvent.EventType.UPDATED);
+  }
+
+  @Test
+  @DisplayName("Should store a snapshot of the project with its recipients as the payload")
+  void publishProjetoCriado_shouldStoreSnapshotPayload() throws Exception {
+    Usuario responsavel = new Usuario();
+    responsavel.setId(2L);
+    responsavel.setNome("Responsável");
+    responsavel.setEmail("responsavel@email.com");
+    Usuario membro = new Usuario();
+    membro.setId(3L);
+    membro.setNome("Membro");
+    membro.setEmail("membro@email.com");
+    projeto.setResponsavel(responsavel);
+    projeto.setEquipeExecutora(List.of(membro));
+
+    eventPublisher.publishProjetoCriado(projeto);
+    projeto.setTitulo("Alterado depois da publicação");
+
+    EventoOutbox evento = verifyRegistrado(TipoAgregado.PROJETO, EntityEvent.EventType.CREATED);
+    ProjetoSnapshot snapshot = objectMapper.readValue(evento.getPayload(), ProjetoSnapshot.class);
+    assertEquals(
+        new ProjetoSnapshot(
+            1L,
+            "Projeto Teste",
+            new UsuarioSnapshot(2L, "Responsável", "responsavel@email.com"),
+            List.of(new UsuarioSnapshot(3L, "Membro", "membro@email.com"))),
+        snapshot);
+  }
+
+  @Test
+  @DisplayName("Should delay an update and register it as coalescible when no event is pending")
+  void publishProjetoAtualizado_withWindow_registersCoalescibleEvent() {
+    eventPublisher =
+        new EventPublisher(
+            eventoOutboxRepository, objectMapper, meterRegistry, Duration.ofMinutes(2));
+    when(eventoOutboxRepository.agrupar(eq("PROJETO:1"), anyString())).thenReturn(0);
+    when(eventoOutboxRepository.inserirAgrupavel(
+            anyString(),
+            eq("PROJETO"),
+            eq(1L),
+            eq("UPDATED"),
+            anyString(),
+            any(LocalDateTime.class),
+            any(LocalDateTime.class),
+            eq("PROJETO:1")))
+        .thenReturn(1);
+
+    eventPublisher.publishProjetoAtualizado(projeto);
+
+    ArgumentCaptor<LocalDateTime> criadoEm = ArgumentCaptor.forClass(LocalDateTime.class);
+    ArgumentCaptor<LocalDateTime> disponivelEm = ArgumentCaptor.forClass(LocalDateTime.class);
+    verify(eventoOutboxRepository)
+        .inserirAgrupavel(
+            anyString(),
+            anyString(),
+            anyLong(),
+            anyString(),
+            anyString(),
+            criadoEm.capture(),
+            disponivelEm.capture(),
+            anyString());
+    assertEquals(criadoEm.getValue().plusMinutes(2), disponivelEm.getValue());
+    verify(eventoOutboxRepository, never()).save(any());
+  }
+
+  @Test
+  @DisplayName("Should merge an update into the pending event of the same entity")
+  void publishProjetoAtualizado_withPendingEvent_mergesPayload() {
+    eventPublisher =
+        new EventPublisher(
+            eventoOutboxRepository, objectMapper, meterRegistry, Duration.ofMinutes(2));
+    when(eventoOutboxRepository.agrupar(eq("PROJETO:1"), contains("Projeto Teste"))).thenReturn(1);
+
+    eventPublisher.publishProjetoAtualizado(projeto);
+
+    verify(eventoOutboxRepository, never())
+        .inserirAgrupavel(any(), any(), any(), any(), any(), any(), any(), any());
+    verify(eventoOutboxRepository, never()).save(any());
+    assertEquals(1, meterRegistry.get("outbox.eventos.agrupados").counter().count());
+  }
+
+  @Test
+  @DisplayName("Should not coalesce creation events")
+  void publishProjetoCriado_withWindow_registersImmediately() {
+    eventPublisher =
+        new EventPublisher(
+            eventoOutboxRepository, objectMapper, meterRegistry, Duration.ofMinutes(2));
+
+    eventPublisher.publishProjetoCriado(projeto);
+
+    verifyRegistrado(TipoAgregado.PROJETO, EntityEvent.EventType.CREATED);
+    verify(eventoOutboxRepository, never()).agrupar(any(), any());
+  }
+
+  @Test
+  @DisplayName("Should register the updated candidaturas of a project as a single batch event")
+  void publishCandidaturasAtualizadas_withWindow_registersOneBatchEvent() throws Exception {
+    eventPublisher =
+        new EventPublisher(
+            eventoOutboxRepository, objectMapper, meterRegistry, Duration.ofMinutes(2));
+    candidatura.setProjeto(projeto);
+    candidatura.setStatus(StatusCandidatura.APROVADA);
+    Candidatura outra = new Candidatura();
+    outra.setId(2L);
+    outra.setProjeto(projeto);
+    outra.setStatus(StatusCandidatura.REJEITADA);
+
+    eventPublisher.publishCandidaturasAtualizadas(List.of(candidatura, outra));
+
+    EventoOutbox evento =
+        verifyRegistrado(TipoAgregado.LOTE_CANDIDATURAS, EntityEvent.EventType.UPDATED);
+    LoteCandidaturasSnapshot lote =
+        objectMapper.readValue(evento.getPayload(), LoteCandidaturasSnapshot.class);
+    assertEquals("Projeto Teste", lote.projetoTitulo());
+    assertEquals(2, lote.candidaturas().size());
+    assertEquals("APROVADA: 1, REJEITADA: 1", lote.resumoPorStatus());
+    verify(eventoOutboxRepository, never()).agrupar(any(), any());
+  }
+
+  private EventoOutbox verifyRegistrado(
+      TipoAgregado tipoAgregado, EntityEvent.EventType tipoEvento) {
+    ArgumentCaptor<EventoOutbox> captor = ArgumentCaptor.forClass(EventoOutbox.class);
+    verify(eventoOutboxRepository).save(captor.capture());
+    EventoOutbox evento = captor.getValue();
+    assertEquals(tipoAgregado, evento.getTipoAgregado());
+    assertEquals(1L, evento.getAgregadoId());
+    assertEquals(tipoEvento, evento.getTipoEvento());
+    assertNotNull(evento.getChaveIdempotencia());
+    assertEquals(0, evento.getTentativas());
+    assertNull(evento.getProcessadoEm());
+    assertEquals(evento.getCriadoEm(), evento.getDisponivelEm());
+    assertNotNull(evento.getPayload());
+    return evento;
   }
 }
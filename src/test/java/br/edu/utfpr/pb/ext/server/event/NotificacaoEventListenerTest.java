@@ -1,6 +1,7 @@
 package br.edu.utfpr.pb.ext.server.event;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
 import br.edu.utfpr.pb.ext.server.candidatura.Candidatura;
@@ -75,13 +76,14 @@ class NotificacaoEventListenerTest {
     projeto.setTitulo("Projeto Teste");
     projeto.setEquipeExecutora(Arrays.asList(usuario1, usuario2));
 
-    ProjetoEvent event = new ProjetoEvent(projeto, EntityEvent.EventType.CREATED);
+    ProjetoEvent event =
+        new ProjetoEvent(ProjetoSnapshot.de(projeto), EntityEvent.EventType.CREATED);
 
     // Act
     notificacaoEventListener.handleProjetoEvent(event);
 
     // Assert
-    ArgumentCaptor<List<Usuario>> destinatariosCaptor = ArgumentCaptor.forClass(List.class);
+    ArgumentCaptor<List<Long>> destinatariosCaptor = ArgumentCaptor.forClass(List.class);
     ArgumentCaptor<String> tituloCaptor = ArgumentCaptor.forClass(String.class);
     ArgumentCaptor<String> descricaoCaptor = ArgumentCaptor.forClass(String.class);
     ArgumentCaptor<TipoNotificacao> tipoCaptor = ArgumentCaptor.forClass(TipoNotificacao.class);
@@ -90,7 +92,7 @@ class NotificacaoEventListenerTest {
     ArgumentCaptor<Long> referenciaIdCaptor = ArgumentCaptor.forClass(Long.class);
 
     verify(notificacaoService)
-        .criarNotificacaoParaMultiplosUsuarios(
+        .criarNotificacaoParaUsuarios(
             destinatariosCaptor.capture(),
             tituloCaptor.capture(),
             descricaoCaptor.capture(),
@@ -99,8 +101,8 @@ class NotificacaoEventListenerTest {
             referenciaIdCaptor.capture());
 
     assertEquals(2, destinatariosCaptor.getValue().size());
-    assertTrue(destinatariosCaptor.getValue().contains(usuario1));
-    assertTrue(destinatariosCaptor.getValue().contains(usuario2));
+    assertTrue(destinatariosCaptor.getValue().contains(usuario1.getId()));
+    assertTrue(destinatariosCaptor.getValue().contains(usuario2.getId()));
     assertEquals("Novo Projeto Criado", tituloCaptor.getValue());
     assertEquals(
         "O projeto 'Projeto Teste' foi criado e você foi incluído como membro.",
@@ -119,7 +121,8 @@ class NotificacaoEventListenerTest {
     projeto.setTitulo("Projeto Atualizado");
     projeto.setEquipeExecutora(Collections.singletonList(usuario1));
 
-    ProjetoEvent event = new ProjetoEvent(projeto, EntityEvent.EventType.UPDATED);
+    ProjetoEvent event =
+        new ProjetoEvent(ProjetoSnapshot.de(projeto), EntityEvent.EventType.UPDATED);
 
     // Act
     notificacaoEventListener.handleProjetoEvent(event);
@@ -130,7 +133,7 @@ class NotificacaoEventListenerTest {
     ArgumentCaptor<TipoNotificacao> tipoCaptor = ArgumentCaptor.forClass(TipoNotificacao.class);
 
     verify(notificacaoService)
-        .criarNotificacaoParaMultiplosUsuarios(
+        .criarNotificacaoParaUsuarios(
             any(),
             tituloCaptor.capture(),
             descricaoCaptor.capture(),
@@ -154,14 +157,15 @@ class NotificacaoEventListenerTest {
     projeto.setTitulo("Projeto Sem Equipe");
     projeto.setEquipeExecutora(new ArrayList<>());
 
-    ProjetoEvent event = new ProjetoEvent(projeto, EntityEvent.EventType.CREATED);
+    ProjetoEvent event =
+        new ProjetoEvent(ProjetoSnapshot.de(projeto), EntityEvent.EventType.CREATED);
 
     // Act
     notificacaoEventListener.handleProjetoEvent(event);
 
     // Assert
     verify(notificacaoService, never())
-        .criarNotificacaoParaMultiplosUsuarios(any(), any(), any(), any(), any(), any());
+        .criarNotificacaoParaUsuarios(any(), any(), any(), any(), any(), any());
   }
 
   @Test
@@ -173,14 +177,15 @@ class NotificacaoEventListenerTest {
     projeto.setTitulo("Projeto Sem Equipe");
     projeto.setEquipeExecutora(null);
 
-    ProjetoEvent event = new ProjetoEvent(projeto, EntityEvent.EventType.CREATED);
+    ProjetoEvent event =
+        new ProjetoEvent(ProjetoSnapshot.de(projeto), EntityEvent.EventType.CREATED);
 
     // Act
     notificacaoEventListener.handleProjetoEvent(event);
 
     // Assert
     verify(notificacaoService, never())
-        .criarNotificacaoParaMultiplosUsuarios(any(), any(), any(), any(), any(), any());
+        .criarNotificacaoParaUsuarios(any(), any(), any(), any(), any(), any());
   }
 
   @Test
@@ -192,14 +197,15 @@ class NotificacaoEventListenerTest {
     projeto.setTitulo("Projeto Deletado");
     projeto.setEquipeExecutora(Collections.singletonList(usuario1));
 
-    ProjetoEvent event = new ProjetoEvent(projeto, EntityEvent.EventType.DELETED);
+    ProjetoEvent event =
+        new ProjetoEvent(ProjetoSnapshot.de(projeto), EntityEvent.EventType.DELETED);
 
     // Act
     notificacaoEventListener.handleProjetoEvent(event);
 
     // Assert
     verify(notificacaoService, never())
-        .criarNotificacaoParaMultiplosUsuarios(any(), any(), any(), any(), any(), any());
+        .criarNotificacaoParaUsuarios(any(), any(), any(), any(), any(), any());
   }
 
   @Test
@@ -212,13 +218,14 @@ class NotificacaoEventListenerTest {
     sugestao.setAluno(aluno);
     sugestao.setProfessor(professor);
 
-    SugestaoEvent event = new SugestaoEvent(sugestao, EntityEvent.EventType.CREATED);
+    SugestaoEvent event =
+        new SugestaoEvent(SugestaoSnapshot.de(sugestao), EntityEvent.EventType.CREATED);
 
     // Act
     notificacaoEventListener.handleSugestaoEvent(event);
 
     // Assert
-    ArgumentCaptor<List<Usuario>> destinatariosCaptor = ArgumentCaptor.forClass(List.class);
+    ArgumentCaptor<List<Long>> destinatariosCaptor = ArgumentCaptor.forClass(List.class);
     ArgumentCaptor<String> tituloCaptor = ArgumentCaptor.forClass(String.class);
     ArgumentCaptor<String> descricaoCaptor = ArgumentCaptor.forClass(String.class);
     ArgumentCaptor<TipoNotificacao> tipoCaptor = ArgumentCaptor.forClass(TipoNotificacao.class);
@@ -226,7 +233,7 @@ class NotificacaoEventListenerTest {
         ArgumentCaptor.forClass(TipoReferencia.class);
 
     verify(notificacaoService)
-        .criarNotificacaoParaMultiplosUsuarios(
+        .criarNotificacaoParaUsuarios(
             destinatariosCaptor.capture(),
             tituloCaptor.capture(),
             descricaoCaptor.capture(),
@@ -235,8 +242,8 @@ class NotificacaoEventListenerTest {
             any());
 
     assertEquals(2, destinatariosCaptor.getValue().size());
-    assertTrue(destinatariosCaptor.getValue().contains(aluno));
-    assertTrue(destinatariosCaptor.getValue().contains(professor));
+    assertTrue(destinatariosCaptor.getValue().contains(aluno.getId()));
+    assertTrue(destinatariosCaptor.getValue().contains(professor.getId()));
     assertEquals("Nova Sugestão Registrada", tituloCaptor.getValue());
     assertEquals(
         "A sugestão 'Sugestão Teste' foi registrada com sucesso no sistema.",
@@ -256,21 +263,22 @@ class NotificacaoEventListenerTest {
     sugestao.setAluno(aluno);
     sugestao.setProfessor(null);
 
-    SugestaoEvent event = new SugestaoEvent(sugestao, EntityEvent.EventType.CREATED);
+    SugestaoEvent event =
+        new SugestaoEvent(SugestaoSnapshot.de(sugestao), EntityEvent.EventType.CREATED);
 
     // Act
     notificacaoEventListener.handleSugestaoEvent(event);
 
     // Assert
-    ArgumentCaptor<List<Usuario>> destinatariosCaptor = ArgumentCaptor.forClass(List.class);
+    ArgumentCaptor<List<Long>> destinatariosCaptor = ArgumentCaptor.forClass(List.class);
 
     verify(notificacaoService)
-        .criarNotificacaoParaMultiplosUsuarios(
+        .criarNotificacaoParaUsuarios(
             destinatariosCaptor.capture(), any(), any(), any(), any(), any());
 
     assertEquals(1, destinatariosCaptor.getValue().size());
-    assertTrue(destinatariosCaptor.getValue().contains(aluno));
-    assertFalse(destinatariosCaptor.getValue().contains(professor));
+    assertTrue(destinatariosCaptor.getValue().contains(aluno.getId()));
+    assertFalse(destinatariosCaptor.getValue().contains(professor.getId()));
   }
 
   @Test
@@ -282,7 +290,8 @@ class NotificacaoEventListenerTest {
     sugestao.setTitulo("Sugestão Atualizada");
     sugestao.setAluno(aluno);
 
-    SugestaoEvent event = new SugestaoEvent(sugestao, EntityEvent.EventType.UPDATED);
+    SugestaoEvent event =
+        new SugestaoEvent(SugestaoSnapshot.de(sugestao), EntityEvent.EventType.UPDATED);
 
     // Act
     notificacaoEventListener.handleSugestaoEvent(event);
@@ -293,7 +302,7 @@ class NotificacaoEventListenerTest {
     ArgumentCaptor<TipoNotificacao> tipoCaptor = ArgumentCaptor.forClass(TipoNotificacao.class);
 
     verify(notificacaoService)
-        .criarNotificacaoParaMultiplosUsuarios(
+        .criarNotificacaoParaUsuarios(
             any(),
             tituloCaptor.capture(),
             descricaoCaptor.capture(),
@@ -318,14 +327,15 @@ class NotificacaoEventListenerTest {
     sugestao.setAluno(null);
     sugestao.setProfessor(null);
 
-    SugestaoEvent event = new SugestaoEvent(sugestao, EntityEvent.EventType.CREATED);
+    SugestaoEvent event =
+        new SugestaoEvent(SugestaoSnapshot.de(sugestao), EntityEvent.EventType.CREATED);
 
     // Act
     notificacaoEventListener.handleSugestaoEvent(event);
 
     // Assert
     verify(notificacaoService, never())
-        .criarNotificacaoParaMultiplosUsuarios(any(), any(), any(), any(), any(), any());
+        .criarNotificacaoParaUsuarios(any(), any(), any(), any(), any(), any());
   }
 
   @Test
@@ -343,13 +353,14 @@ class NotificacaoEventListenerTest {
     candidatura.setProjeto(projeto);
     candidatura.setStatus(StatusCandidatura.PENDENTE);
 
-    CandidaturaEvent event = new CandidaturaEvent(candidatura, EntityEvent.EventType.CREATED);
+    CandidaturaEvent event =
+        new CandidaturaEvent(CandidaturaSnapshot.de(candidatura), EntityEvent.EventType.CREATED);
 
     // Act
     notificacaoEventListener.handleCandidaturaEvent(event);
 
     // Assert
-    ArgumentCaptor<List<Usuario>> destinatariosCaptor = ArgumentCaptor.forClass(List.class);
+    ArgumentCaptor<List<Long>> destinatariosCaptor = ArgumentCaptor.forClass(List.class);
     ArgumentCaptor<String> tituloCaptor = ArgumentCaptor.forClass(String.class);
     ArgumentCaptor<String> descricaoCaptor = ArgumentCaptor.forClass(String.class);
     ArgumentCaptor<TipoNotificacao> tipoCaptor = ArgumentCaptor.forClass(TipoNotificacao.class);
@@ -357,7 +368,7 @@ class NotificacaoEventListenerTest {
         ArgumentCaptor.forClass(TipoReferencia.class);
 
     verify(notificacaoService)
-        .criarNotificacaoParaMultiplosUsuarios(
+        .criarNotificacaoParaUsuarios(
             destinatariosCaptor.capture(),
             tituloCaptor.capture(),
             descricaoCaptor.capture(),
@@ -366,8 +377,8 @@ class NotificacaoEventListenerTest {
             any());
 
     assertEquals(2, destinatariosCaptor.getValue().size());
-    assertTrue(destinatariosCaptor.getValue().contains(aluno));
-    assertTrue(destinatariosCaptor.getValue().contains(responsavel));
+    assertTrue(destinatariosCaptor.getValue().contains(aluno.getId()));
+    assertTrue(destinatariosCaptor.getValue().contains(responsavel.getId()));
     assertEquals("Nova Candidatura Recebida", tituloCaptor.getValue());
     assertEquals(
         "O aluno Aluno se candidatou ao projeto 'Projeto Candidatura'.",
@@ -391,7 +402,8 @@ class NotificacaoEventListenerTest {
     candidatura.setProjeto(projeto);
     candidatura.setStatus(StatusCandidatura.APROVADA);
 
-    CandidaturaEvent event = new CandidaturaEvent(candidatura, EntityEvent.EventType.UPDATED);
+    CandidaturaEvent event =
+        new CandidaturaEvent(CandidaturaSnapshot.de(candidatura), EntityEvent.EventType.UPDATED);
 
     // Act
     notificacaoEventListener.handleCandidaturaEvent(event);
@@ -402,7 +414,7 @@ class NotificacaoEventListenerTest {
     ArgumentCaptor<TipoNotificacao> tipoCaptor = ArgumentCaptor.forClass(TipoNotificacao.class);
 
     verify(notificacaoService)
-        .criarNotificacaoParaMultiplosUsuarios(
+        .criarNotificacaoParaUsuarios(
             any(),
             tituloCaptor.capture(),
             descricaoCaptor.capture(),
@@ -426,20 +438,21 @@ class NotificacaoEventListenerTest {
     candidatura.setProjeto(null);
     candidatura.setStatus(StatusCandidatura.PENDENTE);
 
-    CandidaturaEvent event = new CandidaturaEvent(candidatura, EntityEvent.EventType.CREATED);
+    CandidaturaEvent event =
+        new CandidaturaEvent(CandidaturaSnapshot.de(candidatura), EntityEvent.EventType.CREATED);
 
     // Act
     notificacaoEventListener.handleCandidaturaEvent(event);
 
     // Assert
-    ArgumentCaptor<List<Usuario>> destinatariosCaptor = ArgumentCaptor.forClass(List.class);
+    ArgumentCaptor<List<Long>> destinatariosCaptor = ArgumentCaptor.forClass(List.class);
 
     verify(notificacaoService)
-        .criarNotificacaoParaMultiplosUsuarios(
+        .criarNotificacaoParaUsuarios(
             destinatariosCaptor.capture(), any(), any(), any(), any(), any());
 
     assertEquals(1, destinatariosCaptor.getValue().size());
-    assertTrue(destinatariosCaptor.getValue().contains(aluno));
+    assertTrue(destinatariosCaptor.getValue().contains(aluno.getId()));
   }
 
   @Test
@@ -453,14 +466,15 @@ class NotificacaoEventListenerTest {
     candidatura.setProjeto(null);
     candidatura.setStatus(StatusCandidatura.PENDENTE);
 
-    CandidaturaEvent event = new CandidaturaEvent(candidatura, EntityEvent.EventType.CREATED);
+    CandidaturaEvent event =
+        new CandidaturaEvent(CandidaturaSnapshot.de(candidatura), EntityEvent.EventType.CREATED);
 
     // Act
     notificacaoEventListener.handleCandidaturaEvent(event);
 
     // Assert
     verify(notificacaoService, never())
-        .criarNotificacaoParaMultiplosUsuarios(any(), any(), any(), any(), any(), any());
+        .criarNotificacaoParaUsuarios(any(), any(), any(), any(), any(), any());
   }
 
   @Test
@@ -471,14 +485,15 @@ class NotificacaoEventListenerTest {
     candidatura.setId(1L);
     // Não define aluno, projeto ou responsável
 
-    CandidaturaEvent event = new CandidaturaEvent(candidatura, EntityEvent.EventType.CREATED);
+    CandidaturaEvent event =
+        new CandidaturaEvent(CandidaturaSnapshot.de(candidatura), EntityEvent.EventType.CREATED);
 
     // Act
     notificacaoEventListener.handleCandidaturaEvent(event);
 
     // Assert
     verify(notificacaoService, never())
-        .criarNotificacaoParaMultiplosUsuarios(any(), any(), any(), any(), any(), any());
+        .criarNotificacaoParaUsuarios(any(), any(), any(), any(), any(), any());
   }
 
   @Test
@@ -495,42 +510,44 @@ class NotificacaoEventListenerTest {
     candidatura.setAluno(aluno); // Mesmo usuário como aluno
     candidatura.setProjeto(projeto);
 
-    CandidaturaEvent event = new CandidaturaEvent(candidatura, EntityEvent.EventType.CREATED);
+    CandidaturaEvent event =
+        new CandidaturaEvent(CandidaturaSnapshot.de(candidatura), EntityEvent.EventType.CREATED);
 
     // Act
     notificacaoEventListener.handleCandidaturaEvent(event);
 
     // Assert
-    ArgumentCaptor<List<Usuario>> destinatariosCaptor = ArgumentCaptor.forClass(List.class);
+    ArgumentCaptor<List<Long>> destinatariosCaptor = ArgumentCaptor.forClass(List.class);
 
     verify(notificacaoService)
-        .criarNotificacaoParaMultiplosUsuarios(
+        .criarNotificacaoParaUsuarios(
             destinatariosCaptor.capture(), any(), any(), any(), any(), any());
 
     // Deve ter apenas 1 destinatário (sem duplicação)
     assertEquals(1, destinatariosCaptor.getValue().size());
-    assertTrue(destinatariosCaptor.getValue().contains(aluno));
+    assertTrue(destinatariosCaptor.getValue().contains(aluno.getId()));
   }
 
   @Test
-  @DisplayName("deve lidar com exceções do NotificacaoService graciosamente")
-  void deveLidarComExcecoesDoNotificacaoServiceGraciosamente() {
+  @DisplayName("deve propagar exceções do NotificacaoService para o outbox reagendar o evento")
+  void devePropagarExcecoesDoNotificacaoService() {
     // Arrange
     Projeto projeto = new Projeto();
     projeto.setId(1L);
     projeto.setTitulo("Projeto Teste");
     projeto.setEquipeExecutora(Collections.singletonList(usuario1));
 
-    ProjetoEvent event = new ProjetoEvent(projeto, EntityEvent.EventType.CREATED);
+    ProjetoEvent event =
+        new ProjetoEvent(ProjetoSnapshot.de(projeto), EntityEvent.EventType.CREATED);
 
     doThrow(new RuntimeException("Erro no serviço"))
         .when(notificacaoService)
-        .criarNotificacaoParaMultiplosUsuarios(any(), any(), any(), any(), any(), any());
+        .criarNotificacaoParaUsuarios(any(), any(), any(), any(), any(), any());
 
     // Act & Assert
-    assertDoesNotThrow(() -> notificacaoEventListener.handleProjetoEvent(event));
+    assertThrows(RuntimeException.class, () -> notificacaoEventListener.handleProjetoEvent(event));
     verify(notificacaoService)
-        .criarNotificacaoParaMultiplosUsuarios(any(), any(), any(), any(), any(), any());
+        .criarNotificacaoParaUsuarios(any(), any(), any(), any(), any(), any());
   }
 
   @Test
@@ -543,21 +560,81 @@ class NotificacaoEventListenerTest {
     // Lista com usuários duplicados
     projeto.setEquipeExecutora(Arrays.asList(usuario1, usuario2, usuario1));
 
-    ProjetoEvent event = new ProjetoEvent(projeto, EntityEvent.EventType.CREATED);
+    ProjetoEvent event =
+        new ProjetoEvent(ProjetoSnapshot.de(projeto), EntityEvent.EventType.CREATED);
 
     // Act
     notificacaoEventListener.handleProjetoEvent(event);
 
     // Assert
-    ArgumentCaptor<List<Usuario>> destinatariosCaptor = ArgumentCaptor.forClass(List.class);
+    ArgumentCaptor<List<Long>> destinatariosCaptor = ArgumentCaptor.forClass(List.class);
 
     verify(notificacaoService)
-        .criarNotificacaoParaMultiplosUsuarios(
+        .criarNotificacaoParaUsuarios(
             destinatariosCaptor.capture(), any(), any(), any(), any(), any());
 
     // Deve remover duplicados (Set behavior)
     assertEquals(2, destinatariosCaptor.getValue().size());
-    assertTrue(destinatariosCaptor.getValue().contains(usuario1));
-    assertTrue(destinatariosCaptor.getValue().contains(usuario2));
+    assertTrue(destinatariosCaptor.getValue().contains(usuario1.getId()));
+    assertTrue(destinatariosCaptor.getValue().contains(usuario2.getId()));
+  }
+
+  @Test
+  @DisplayName(
+      "handleLoteCandidaturasEvent - deve notificar cada aluno e enviar um resumo ao responsável")
+  void handleLoteCandidaturasEvent_deveNotificarAlunosEResumirParaResponsavel() {
+    // Arrange
+    Projeto projeto = new Projeto();
+    projeto.setId(7L);
+    projeto.setTitulo("Projeto Lote");
+    projeto.setResponsavel(responsavel);
+
+    Candidatura aprovada = new Candidatura();
+    aprovada.setId(1L);
+    aprovada.setAluno(aluno);
+    aprovada.setProjeto(projeto);
+    aprovada.setStatus(StatusCandidatura.APROVADA);
+
+    Candidatura rejeitada = new Candidatura();
+    rejeitada.setId(2L);
+    rejeitada.setAluno(usuario1);
+    rejeitada.setProjeto(projeto);
+    rejeitada.setStatus(StatusCandidatura.REJEITADA);
+
+    LoteCandidaturasEvent event =
+        new LoteCandidaturasEvent(
+            LoteCandidaturasSnapshot.de(List.of(aprovada, rejeitada)),
+            EntityEvent.EventType.UPDATED);
+
+    // Act
+    notificacaoEventListener.handleLoteCandidaturasEvent(event);
+
+    // Assert
+    verify(notificacaoService)
+        .criarNotificacaoParaUsuarios(
+            eq(List.of(aluno.getId())),
+            eq("Status da Candidatura Atualizado"),
+            contains("APROVADA"),
+            eq(TipoNotificacao.INFO),
+            eq(TipoReferencia.CANDIDATURA),
+            eq(1L));
+    verify(notificacaoService)
+        .criarNotificacaoParaUsuarios(
+            eq(List.of(usuario1.getId())),
+            eq("Status da Candidatura Atualizado"),
+            contains("REJEITADA"),
+            eq(TipoNotificacao.INFO),
+            eq(TipoReferencia.CANDIDATURA),
+            eq(2L));
+    verify(notificacaoService)
+        .criarNotificacaoParaUsuarios(
+            eq(List.of(responsavel.getId())),
+            eq("Candidaturas Atualizadas"),
+            eq(
+                "2 candidaturas do projeto 'Projeto Lote' foram atualizadas (APROVADA: 1, REJEITADA: 1)."),
+            eq(TipoNotificacao.INFO),
+            eq(TipoReferencia.PROJETO),
+            eq(7L));
+    verifyNoMoreInteractions(notificacaoService);
   }
 }
@@ -9,16 +9,18 @@ import org.junit.jupiter.api.Test;
 class ProjetoEventTest {
 
   @Test
-  @DisplayName("ProjetoEvent should store the project and event type correctly")
+  @DisplayName("ProjetoEvent should store the project snapshot and event type correctly")
   void shouldStoreProjectAndEventType() {
     Projeto projeto = new Projeto();
     projeto.setId(1L);
     projeto.setTitulo("Projeto Teste");
 
-    ProjetoEvent event = new ProjetoEvent(projeto, EntityEvent.EventType.CREATED);
+    ProjetoEvent event =
+        new ProjetoEvent(ProjetoSnapshot.de(projeto), EntityEvent.EventType.CREATED);
 
     assertNotNull(event);
-    assertEquals(projeto, event.getEntity());
+    assertEquals(1L, event.getEntity().id());
+    assertEquals("Projeto Teste", event.getEntity().titulo());
     assertEquals(EntityEvent.EventType.CREATED, event.getEventType());
   }
 }
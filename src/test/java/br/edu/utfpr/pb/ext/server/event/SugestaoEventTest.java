@@ -9,16 +9,18 @@ import org.junit.jupiter.api.Test;
 class SugestaoEventTest {
 
   @Test
-  @DisplayName("SugestaoEvent should store the suggestion and event type correctly")
+  @DisplayName("SugestaoEvent should store the suggestion snapshot and event type correctly")
   void shouldStoreSuggestionAndEventType() {
     SugestaoDeProjeto sugestao = new SugestaoDeProjeto();
     sugestao.setId(1L);
     sugestao.setTitulo("Sugestão Teste");
 
-    SugestaoEvent event = new SugestaoEvent(sugestao, EntityEvent.EventType.CREATED);
+    SugestaoEvent event =
+        new SugestaoEvent(SugestaoSnapshot.de(sugestao), EntityEvent.EventType.CREATED);
 
     assertNotNull(event);
-    assertEquals(sugestao, event.getEntity());
+    assertEquals(1L, event.getEntity().id());
+    assertEquals("Sugestão Teste", event.getEntity().titulo());
     assertEquals(EntityEvent.EventType.CREATED, event.getEventType());
   }
 }
@@ -0,0 +1,121 @@
+package br.edu.utfpr.pb.ext.server.event.outbox;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import br.edu.utfpr.pb.ext.server.event.EntityEvent;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class EventoOutboxRepositoryTest {
+
+  @Autowired private EventoOutboxRepository eventoOutboxRepository;
+  @Autowired private EventoConsumidoRepository eventoConsumidoRepository;
+  @Autowired private OutboxDispatcher outboxDispatcher;
+  @Autowired private PlatformTransactionManager transactionManager;
+
+  private final LocalDateTime agora = LocalDateTime.now();
+
+  @BeforeEach
+  void setUp() {
+    eventoOutboxRepository.deleteAll();
+    eventoConsumidoRepository.deleteAll();
+  }
+
+  private EventoOutbox salvar(
+      LocalDateTime disponivelEm, int tentativas, LocalDateTime processadoEm) {
+    return eventoOutboxRepository.save(
+        EventoOutbox.builder()
+            .chaveIdempotencia(UUID.randomUUID().toString())
+            .tipoAgregado(TipoAgregado.PROJETO)
+            .agregadoId(1L)
+            .tipoEvento(EntityEvent.EventType.CREATED)
+            .criadoEm(agora.minusMinutes(1))
+            .disponivelEm(disponivelEm)
+            .tentativas(tentativas)
+            .processadoEm(processadoEm)
+            .build());
+  }
+
+  @Test
+  void reservar_retornaApenasPendentesDisponiveisEAdiaDisponibilidade() {
+    EventoOutbox pendente = salvar(agora.minusSeconds(1), 0, null);
+    salvar(agora.plusMinutes(1), 0, null);
+    salvar(agora.minusSeconds(1), 10, null);
+    salvar(agora.minusSeconds(1), 0, agora);
+
+    List<EventoOutbox> reservados = outboxDispatcher.reservar();
+
+    assertEquals(List.of(pendente.getId()), reservados.stream().map(EventoOutbox::getId).toList());
+    assertTrue(
+        eventoOutboxRepository
+            .findById(pendente.getId())
+            .orElseThrow()
+            .getDisponivelEm()
+            .isAfter(agora));
+    assertTrue(outboxDispatcher.reservar().isEmpty());
+  }
+
+  private int inserirAgrupavel(String payload) {
+    return new TransactionTemplate(transactionManager)
+        .execute(
+            status ->
+                eventoOutboxRepository.inserirAgrupavel(
+                    UUID.randomUUID().toString(),
+                    TipoAgregado.PROJETO.name(),
+                    1L,
+                    EntityEvent.EventType.UPDATED.name(),
+                    payload,
+                    agora,
+                    agora.minusSeconds(1),
+                    "PROJETO:1"));
+  }
+
+  private int agrupar(String payload) {
+    return new TransactionTemplate(transactionManager)
+        .execute(status -> eventoOutboxRepository.agrupar("PROJETO:1", payload));
+  }
+
+  @Test
+  void agrupar_substituiConteudoAteOEventoSerReservado() {
+    assertEquals(0, agrupar("v1"));
+    assertEquals(1, inserirAgrupavel("v1"));
+    assertEquals(0, inserirAgrupavel("v2"));
+    assertEquals(1, agrupar("v3"));
+    assertEquals("v3", eventoOutboxRepository.findAll().getFirst().getPayload());
+
+    List<EventoOutbox> reservados = outboxDispatcher.reservar();
+
+    assertEquals(1, reservados.size());
+    assertNull(
+        eventoOutboxRepository
+            .findById(reservados.getFirst().getId())
+            .orElseThrow()
+            .getChaveAgrupamento());
+    assertEquals(0, agrupar("v4"));
+    assertEquals(1, inserirAgrupavel("v4"));
+    assertEquals(2, eventoOutboxRepository.count());
+  }
+
+  @Test
+  void removerProcessados_removeApenasEventosAntigos() {
+    salvar(agora, 0, agora.minusDays(8));
+    EventoOutbox recente = salvar(agora, 0, agora.minusDays(1));
+    EventoOutbox pendente = salvar(agora, 0, null);
+
+    outboxDispatcher.removerProcessados();
+
+    assertEquals(
+        List.of(recente.getId(), pendente.getId()),
+        eventoOutboxRepository.findAll().stream().map(EventoOutbox::getId).sorted().toList());
+  }
+}
@@ -0,0 +1,287 @@
+package br.edu.utfpr.pb.ext.server.event.outbox;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+import br.edu.utfpr.pb.ext.server.candidatura.StatusCandidatura;
+import br.edu.utfpr.pb.ext.server.event.CandidaturaEvent;
+import br.edu.utfpr.pb.ext.server.event.CandidaturaSnapshot;
+import br.edu.utfpr.pb.ext.server.event.EmailEventListener;
+import br.edu.utfpr.pb.ext.server.event.EntityEvent;
+import br.edu.utfpr.pb.ext.server.event.LoteCandidaturasEvent;
+import br.edu.utfpr.pb.ext.server.event.LoteCandidaturasSnapshot;
+import br.edu.utfpr.pb.ext.server.event.NotificacaoEventListener;
+import br.edu.utfpr.pb.ext.server.event.ProjetoEvent;
+import br.edu.utfpr.pb.ext.server.event.ProjetoSnapshot;
+import br.edu.utfpr.pb.ext.server.event.UsuarioSnapshot;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@ExtendWith(MockitoExtension.class)
+class OutboxDispatcherTest {
+
+  @Mock private EventoOutboxRepository eventoOutboxRepository;
+  @Mock private EventoConsumidoRepository eventoConsumidoRepository;
+  @Mock private NotificacaoEventListener notificacaoEventListener;
+  @Mock private EmailEventListener emailEventListener;
+  @Mock private PlatformTransactionManager transactionManager;
+
+  private final ObjectMapper objectMapper = new ObjectMapper();
+  private SimpleMeterRegistry meterRegistry;
+  private OutboxDispatcher dispatcher;
+  private EventoOutbox evento;
+
+  @BeforeEach
+  void setUp() throws Exception {
+    meterRegistry = new SimpleMeterRegistry();
+    dispatcher = criarDispatcher(true, 2);
+    evento =
+        EventoOutbox.builder()
+            .id(10L)
+            .chaveIdempotencia("chave")
+            .tipoAgregado(TipoAgregado.PROJETO)
+            .agregadoId(1L)
+            .tipoEvento(EntityEvent.EventType.CREATED)
+            .payload(
+                objectMapper.writeValueAsString(
+                    new ProjetoSnapshot(
+                        1L,
+                        "Projeto Teste",
+                        null,
+                        List.of(new UsuarioSnapshot(2L, "Membro", "membro@email.com")))))
+            .criadoEm(LocalDateTime.now())
+            .disponivelEm(LocalDateTime.now())
+            .build();
+  }
+
+  private OutboxDispatcher criarDispatcher(boolean habilitado, int tamanhoLote) {
+    return new OutboxDispatcher(
+        eventoOutboxRepository,
+        eventoConsumidoRepository,
+        objectMapper,
+        notificacaoEventListener,
+        emailEventListener,
+        new SyncTaskExecutor(),
+        new SyncTaskExecutor(),
+        transactionManager,
+        meterRegistry,
+        habilitado,
+        tamanhoLote,
+        3,
+        Duration.ofMinutes(5),
+        Duration.ofSeconds(30),
+        Duration.ofDays(7));
+  }
+
+  private double contador(String resultado) {
+    return meterRegistry.counter("outbox.eventos", "resultado", resultado).count();
+  }
+
+  @Test
+  void entregar_quandoSucesso_entregaAosConsumidoresEMarcaProcessado() {
+    when(eventoOutboxRepository.findById(10L)).thenReturn(Optional.of(evento));
+
+    dispatcher.entregar(evento).join();
+
+    ArgumentCaptor<ProjetoEvent> captor = ArgumentCaptor.forClass(ProjetoEvent.class);
+    verify(notificacaoEventListener).handleProjetoEvent(captor.capture());
+    verify(emailEventListener).handleProjetoEvent(any(ProjetoEvent.class));
+    ProjetoSnapshot projeto = captor.getValue().getEntity();
+    assertEquals("Projeto Teste", projeto.titulo());
+    assertEquals("membro@email.com", projeto.equipeExecutora().getFirst().email());
+    assertEquals(EntityEvent.EventType.CREATED, captor.getValue().getEventType());
+    verify(eventoConsumidoRepository, times(2)).save(any(EventoConsumido.class));
+    assertNotNull(evento.getProcessadoEm());
+    assertEquals(1, contador("processado"));
+  }
+
+  @Test
+  void entregar_quandoConsumidorJaConsumiu_naoRepeteEntrega() throws Exception {
+    evento.setTipoAgregado(TipoAgregado.CANDIDATURA);
+    evento.setPayload(
+        objectMapper.writeValueAsString(
+            new CandidaturaSnapshot(
+                1L, StatusCandidatura.PENDENTE, 3L, "Projeto Teste", null, null)));
+    when(eventoConsumidoRepository.existsByChaveIdempotenciaAndConsumidor(
+            "chave", OutboxDispatcher.CONSUMIDOR_NOTIFICACAO))
+        .thenReturn(true);
+    when(eventoOutboxRepository.findById(10L)).thenReturn(Optional.of(evento));
+
+    dispatcher.entregar(evento).join();
+
+    verifyNoInteractions(notificacaoEventListener);
+    verify(emailEventListener).handleCandidaturaEvent(any(CandidaturaEvent.class));
+    verify(eventoConsumidoRepository, times(1)).save(any(EventoConsumido.class));
+    assertNotNull(evento.getProcessadoEm());
+  }
+
+  @Test
+  void entregar_quandoLoteDeCandidaturas_entregaOLoteAosConsumidores() throws Exception {
+    evento.setTipoAgregado(TipoAgregado.LOTE_CANDIDATURAS);
+    evento.setTipoEvento(EntityEvent.EventType.UPDATED);
+    evento.setPayload(
+        objectMapper.writeValueAsString(
+            new LoteCandidaturasSnapshot(
+                3L,
+                "Projeto Teste",
+                null,
+                List.of(
+                    new CandidaturaSnapshot(
+                        1L, StatusCandidatura.APROVADA, 3L, "Projeto Teste", null, null),
+                    new CandidaturaSnapshot(
+                        2L, StatusCandidatura.REJEITADA, 3L, "Projeto Teste", null, null)))));
+    when(eventoOutboxRepository.findById(10L)).thenReturn(Optional.of(evento));
+
+    dispatcher.entregar(evento).join();
+
+    ArgumentCaptor<LoteCandidaturasEvent> captor =
+        ArgumentCaptor.forClass(LoteCandidaturasEvent.class);
+    verify(notificacaoEventListener).handleLoteCandidaturasEvent(captor.capture());
+    verify(emailEventListener).handleLoteCandidaturasEvent(any(LoteCandidaturasEvent.class));
+    assertEquals(2, captor.getValue().getEntity().candidaturas().size());
+    assertNotNull(evento.getProcessadoEm());
+  }
+
+  @Test
+  void entregar_quandoSemConteudo_ignoraEvento() {
+    evento.setPayload(null);
+    when(eventoOutboxRepository.findById(10L)).thenReturn(Optional.of(evento));
+
+    dispatcher.entregar(evento).join();
+
+    verifyNoInteractions(notificacaoEventListener, emailEventListener);
+    assertNotNull(evento.getProcessadoEm());
+  }
+
+  @Test
+  void entregar_quandoConsumidorFalha_reagendaComEsperaERegistraErro() {
+    when(eventoOutboxRepository.findById(10L)).thenReturn(Optional.of(evento));
+    doThrow(new IllegalStateException("falhou"))
+        .when(emailEventListener)
+        .handleProjetoEvent(any(ProjetoEvent.class));
+    evento.setTentativas(1);
+
+    LocalDateTime antes = LocalDateTime.now();
+    dispatcher.entregar(evento).join();
+
+    assertNull(evento.getProcessadoEm());
+    assertEquals(2, evento.getTentativas());
+    assertEquals("falhou", evento.getUltimoErro());
+    // segunda falha: espera de 2 x 30 segundos
+    assertFalse(evento.getDisponivelEm().isBefore(antes.plusSeconds(60)));
+    assertTrue(evento.getDisponivelEm().isBefore(antes.plusSeconds(90)));
+    // a notificação já entregue fica registrada e não se repete na próxima tentativa
+    verify(eventoConsumidoRepository, times(1)).save(any(EventoConsumido.class));
+    assertEquals(1, contador("falha"));
+  }
+
+  @Test
+  void entregar_quandoUltimaTentativaFalha_contaComoEsgotado() {
+    doThrow(new IllegalStateException("x".repeat(2000)))
+        .when(notificacaoEventListener)
+        .handleProjetoEvent(any(ProjetoEvent.class));
+    when(eventoOutboxRepository.findById(10L)).thenReturn(Optional.of(evento));
+    evento.setTentativas(2);
+
+    dispatcher.entregar(evento).join();
+
+    assertEquals(3, evento.getTentativas());
+    assertEquals(1000, evento.getUltimoErro().length());
+    assertEquals(1, contador("esgotado"));
+  }
+
+  @Test
+  void processarPendentes_quandoLoteCheio_reservaNovamente() {
+    EventoOutbox outro = EventoOutbox.builder().id(11L).build();
+    OutboxDispatcher espiao = spy(dispatcher);
+    doReturn(List.of(evento, outro)).doReturn(List.of()).when(espiao).reservar();
+    doReturn(CompletableFuture.completedFuture(null)).when(espiao).entregar(any());
+
+    espiao.processarPendentes();
+
+    verify(espiao, times(2)).reservar();
+    verify(espiao).entregar(evento);
+    verify(espiao).entregar(outro);
+  }
+
+  @Test
+  void processarPendentes_quandoDesabilitado_naoReserva() {
+    criarDispatcher(false, 2).processarPendentes();
+
+    verify(eventoOutboxRepository, never()).reservarPendentes(any(), anyInt(), anyInt());
+  }
+
+  @Test
+  void reservar_adiaDisponibilidadeEEncerraAgrupamento() {
+    evento.setChaveAgrupamento("PROJETO:1");
+    when(eventoOutboxRepository.reservarPendentes(any(), eq(3), eq(2))).thenReturn(List.of(evento));
+
+    LocalDateTime antes = LocalDateTime.now();
+    List<EventoOutbox> reservados = dispatcher.reservar();
+
+    assertEquals(List.of(evento), reservados);
+    assertFalse(evento.getDisponivelEm().isBefore(antes.plusMinutes(5)));
+    assertNull(evento.getChaveAgrupamento());
+  }
+
+  @Test
+  void entregar_quandoExecutorRejeita_reagendaEvento() {
+    when(eventoOutboxRepository.findById(10L)).thenReturn(Optional.of(evento));
+    OutboxDispatcher rejeitando =
+        new OutboxDispatcher(
+            eventoOutboxRepository,
+            eventoConsumidoRepository,
+            objectMapper,
+            notificacaoEventListener,
+            emailEventListener,
+            new SyncTaskExecutor(),
+            tarefa -> {
+              throw new RejectedExecutionException("cheio");
+            },
+            transactionManager,
+            meterRegistry,
+            true,
+            2,
+            3,
+            Duration.ofMinutes(5),
+            Duration.ofSeconds(30),
+            Duration.ofDays(7));
+
+    rejeitando.entregar(evento).join();
+
+    verify(notificacaoEventListener).handleProjetoEvent(any(ProjetoEvent.class));
+    verifyNoInteractions(emailEventListener);
+    assertNull(evento.getProcessadoEm());
+    assertEquals(1, evento.getTentativas());
+    assertEquals("cheio", evento.getUltimoErro());
+  }
+
+  @Test
+  void entregar_quandoConteudoInvalido_reagendaEvento() {
+    evento.setPayload("{invalido");
+    when(eventoOutboxRepository.findById(10L)).thenReturn(Optional.of(evento));
+
+    dispatcher.entregar(evento).join();
+
+    verifyNoInteractions(notificacaoEventListener, emailEventListener);
+    assertEquals(1, evento.getTentativas());
+    assertTrue(evento.getUltimoErro().contains("Conteúdo inválido"));
+  }
+}
@@ -0,0 +1,30 @@
+package br.edu.utfpr.pb.ext.server.notificacao;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.LocalDateTime;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+class CursorNotificacaoTest {
+
+  @Test
+  void decodificar_quandoCodificado_retornaMesmaPosicao() {
+    CursorNotificacao cursor =
+        new CursorNotificacao(LocalDateTime.of(2025, 3, 1, 10, 15, 30, 123_456_000), 42L);
+
+    assertEquals(cursor, CursorNotificacao.decodificar(cursor.codificar()));
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {"nao-e-base64!", "c2VtLXNlcGFyYWRvcg", "MjAyNS0xMy0wMXw0Mg"})
+  void decodificar_quandoInvalido_lancaBadRequest(String valor) {
+    ResponseStatusException exception =
+        assertThrows(ResponseStatusException.class, () -> CursorNotificacao.decodificar(valor));
+
+    assertEquals(HttpStatus.BAD_REQUEST, exception.getStatusCode());
+  }
+}
@@ -0,0 +1,100 @@
+package br.edu.utfpr.pb.ext.server.notificacao;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import br.edu.utfpr.pb.ext.server.notificacao.enums.TipoNotificacao;
+import br.edu.utfpr.pb.ext.server.usuario.Usuario;
+import br.edu.utfpr.pb.ext.server.usuario.UsuarioRepository;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class NotificacaoContadorTest {
+
+  @Autowired private NotificacaoContador notificacaoContador;
+  @Autowired private NotificacaoRepository notificacaoRepository;
+  @Autowired private UsuarioRepository usuarioRepository;
+  @Autowired private JdbcTemplate jdbcTemplate;
+
+  private Usuario usuario1;
+  private Usuario usuario2;
+
+  @BeforeEach
+  void setUp() {
+    notificacaoRepository.deleteAll();
+    jdbcTemplate.update("DELETE FROM tb_notificacao_contador");
+    usuario1 = salvarUsuario("contador1@utfpr.edu.br");
+    usuario2 = salvarUsuario("contador2@utfpr.edu.br");
+  }
+
+  @AfterEach
+  void tearDown() {
+    notificacaoRepository.deleteAll();
+    usuarioRepository.deleteAll(List.of(usuario1, usuario2));
+  }
+
+  private Usuario salvarUsuario(String email) {
+    return usuarioRepository.save(
+        Usuario.builder()
+            .nome("Usuário")
+            .email(email)
+            .cpf(String.valueOf(System.nanoTime()))
+            .build());
+  }
+
+  private void salvarNotificacao(Usuario usuario, boolean lida) {
+    notificacaoRepository.save(
+        Notificacao.builder()
+            .titulo("Notificação")
+            .descricao("descrição")
+            .tipoNotificacao(TipoNotificacao.INFO)
+            .dataCriacao(LocalDateTime.now())
+            .lida(lida)
+            .usuario(usuario)
+            .build());
+  }
+
+  @Test
+  void consultar_quandoSemContador_retornaZero() {
+    assertEquals(0, notificacaoContador.consultar(usuario1.getId()));
+  }
+
+  @Test
+  void incrementarDecrementarEZerar_atualizamOContador() {
+    notificacaoContador.incrementar(Map.of(usuario1.getId(), 3L, usuario2.getId(), 1L));
+    notificacaoContador.incrementar(Map.of(usuario1.getId(), 2L));
+    notificacaoContador.decrementar(usuario1.getId());
+
+    assertEquals(4, notificacaoContador.consultar(usuario1.getId()));
+    assertEquals(1, notificacaoContador.consultar(usuario2.getId()));
+
+    notificacaoContador.zerar(usuario2.getId());
+    notificacaoContador.decrementar(usuario2.getId());
+
+    assertEquals(0, notificacaoContador.consultar(usuario2.getId()));
+  }
+
+  @Test
+  void reconciliar_corrigeContadoresDivergentesEAusentes() {
+    salvarNotificacao(usuario1, false);
+    salvarNotificacao(usuario1, false);
+    salvarNotificacao(usuario1, true);
+    salvarNotificacao(usuario2, false);
+    notificacaoContador.incrementar(Map.of(usuario1.getId(), 5L));
+
+    assertEquals(2, notificacaoContador.reconciliar());
+
+    assertEquals(2, notificacaoContador.consultar(usuario1.getId()));
+    assertEquals(1, notificacaoContador.consultar(usuario2.getId()));
+    assertEquals(0, notificacaoContador.reconciliar());
+  }
+}
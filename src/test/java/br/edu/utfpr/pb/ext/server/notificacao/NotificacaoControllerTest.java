@@ -3,6 +3,8 @@ package br.edu.utfpr.pb.ext.server.notificacao;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
+import br.edu.utfpr.pb.ext.server.notificacao.dto.MarcarLidasDTO;
+import br.edu.utfpr.pb.ext.server.notificacao.dto.NotificacaoCursorDTO;
 import br.edu.utfpr.pb.ext.server.notificacao.dto.NotificacaoDTO;
 import br.edu.utfpr.pb.ext.server.notificacao.enums.TipoNotificacao;
 import br.edu.utfpr.pb.ext.server.usuario.Usuario;
@@ -22,11 +24,13 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 @ExtendWith(MockitoExtension.class)
 class NotificacaoControllerTest {
 
   @Mock private NotificacaoService notificacaoService;
+  @Mock private NotificacaoStream notificacaoStream;
 
   @InjectMocks private NotificacaoController notificacaoController;
 
@@ -175,6 +179,21 @@ class NotificacaoControllerTest {
     verify(notificacaoService).marcarTodasComoLidas(usuario);
   }
 
+  @Test
+  @DisplayName("PUT /api/notificacao/marcar-lidas deve retornar a quantidade marcada")
+  void marcarComoLidas_deveRetornarQuantidadeMarcada() {
+    // Arrange
+    MarcarLidasDTO criterio = MarcarLidasDTO.builder().ids(List.of(1L, 2L)).build();
+    when(notificacaoService.marcarComoLidas(usuario, criterio)).thenReturn(2);
+
+    // Act
+    ResponseEntity<Integer> response = notificacaoController.marcarComoLidas(criterio, usuario);
+
+    // Assert
+    assertEquals(HttpStatus.OK, response.getStatusCode());
+    assertEquals(2, response.getBody());
+  }
+
   @Test
   @DisplayName("Deve validar entrada de parâmetros com valores válidos")
   void deveValidarParametrosValidos() {
@@ -192,4 +211,41 @@ class NotificacaoControllerTest {
 
     verify(notificacaoService).buscarNotificacoesDoUsuario(usuario, pageable);
   }
+
+  @Test
+  @DisplayName("GET /api/notificacao/stream deve abrir stream com o total de nao lidas")
+  void stream_deveConectarComTotalDeNaoLidas() {
+    SseEmitter emitter = new SseEmitter();
+    when(notificacaoService.contarNotificacoesNaoLidas(usuario)).thenReturn(3L);
+    when(notificacaoStream.conectar(1L, 3L)).thenReturn(emitter);
+
+    assertSame(emitter, notificacaoController.stream(usuario));
+  }
+
+  @Test
+  @DisplayName("GET /api/notificacao/cursor deve repassar cursor e tamanho ao service")
+  void listarNotificacoesPorCursor_deveRetornarPaginaDoService() {
+    NotificacaoCursorDTO pagina = new NotificacaoCursorDTO(List.of(notificacaoDTO1), "proximo");
+    when(notificacaoService.buscarNotificacoesDoUsuario(usuario, "abc", 10, false))
+        .thenReturn(pagina);
+
+    ResponseEntity<NotificacaoCursorDTO> response =
+        notificacaoController.listarNotificacoesPorCursor(usuario, "abc", 10);
+
+    assertEquals(HttpStatus.OK, response.getStatusCode());
+    assertSame(pagina, response.getBody());
+  }
+
+  @Test
+  @DisplayName("GET /api/notificacao/nao-lidas/cursor deve buscar apenas nao lidas")
+  void listarNotificacoesNaoLidasPorCursor_deveBuscarApenasNaoLidas() {
+    NotificacaoCursorDTO pagina = new NotificacaoCursorDTO(List.of(notificacaoDTO1), null);
+    when(notificacaoService.buscarNotificacoesDoUsuario(usuario, null, 20, true))
+        .thenReturn(pagina);
+
+    ResponseEntity<NotificacaoCursorDTO> response =
+        notificacaoController.listarNotificacoesNaoLidasPorCursor(usuario, null, 20);
+
+    assertSame(pagina, response.getBody());
+  }
 }
@@ -0,0 +1,110 @@
+package br.edu.utfpr.pb.ext.server.notificacao;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import br.edu.utfpr.pb.ext.server.notificacao.dto.NotificacaoCursorDTO;
+import br.edu.utfpr.pb.ext.server.notificacao.dto.NotificacaoDTO;
+import br.edu.utfpr.pb.ext.server.notificacao.enums.TipoNotificacao;
+import br.edu.utfpr.pb.ext.server.usuario.Usuario;
+import br.edu.utfpr.pb.ext.server.usuario.UsuarioRepository;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class NotificacaoCursorIntegrationTest {
+
+  @Autowired private NotificacaoService notificacaoService;
+  @Autowired private NotificacaoRepository notificacaoRepository;
+  @Autowired private UsuarioRepository usuarioRepository;
+
+  private Usuario usuario;
+  private final LocalDateTime base = LocalDateTime.of(2025, 1, 10, 12, 0);
+
+  @BeforeEach
+  void setUp() {
+    notificacaoRepository.deleteAll();
+    usuario =
+        usuarioRepository.save(
+            Usuario.builder()
+                .nome("Leitor")
+                .email("leitor.cursor@utfpr.edu.br")
+                .cpf(String.valueOf(System.nanoTime()))
+                .build());
+  }
+
+  @AfterEach
+  void tearDown() {
+    notificacaoRepository.deleteAll();
+    usuarioRepository.delete(usuario);
+  }
+
+  private Long salvar(LocalDateTime dataCriacao, boolean lida) {
+    return notificacaoRepository
+        .save(
+            Notificacao.builder()
+                .titulo("Notificação")
+                .descricao("descrição")
+                .tipoNotificacao(TipoNotificacao.INFO)
+                .dataCriacao(dataCriacao)
+                .lida(lida)
+                .usuario(usuario)
+                .build())
+        .getId();
+  }
+
+  private List<List<Long>> percorrer(int tamanho, boolean apenasNaoLidas) {
+    List<List<Long>> paginas = new ArrayList<>();
+    String cursor = null;
+    do {
+      NotificacaoCursorDTO pagina =
+          notificacaoService.buscarNotificacoesDoUsuario(usuario, cursor, tamanho, apenasNaoLidas);
+      paginas.add(pagina.getConteudo().stream().map(NotificacaoDTO::getId).toList());
+      cursor = pagina.getProximoCursor();
+    } while (cursor != null);
+    return paginas;
+  }
+
+  @Test
+  void buscarPorCursor_percorreTodasNaOrdemSemRepetir() {
+    Long maisAntiga = salvar(base.minusDays(2), false);
+    Long empateMenor = salvar(base, true);
+    Long empateMaior = salvar(base, false);
+    Long recente = salvar(base.plusHours(1), false);
+    Long maisRecente = salvar(base.plusDays(1), true);
+
+    assertEquals(
+        List.of(
+            List.of(maisRecente, recente), List.of(empateMaior, empateMenor), List.of(maisAntiga)),
+        percorrer(2, false));
+  }
+
+  @Test
+  void buscarPorCursor_quandoApenasNaoLidas_ignoraLidas() {
+    Long maisAntiga = salvar(base.minusDays(2), false);
+    salvar(base, true);
+    Long empate = salvar(base, false);
+    Long recente = salvar(base.plusHours(1), false);
+
+    assertEquals(List.of(List.of(recente, empate), List.of(maisAntiga)), percorrer(2, true));
+  }
+
+  @Test
+  void buscarPorCursor_quandoUltimaPaginaCheia_naoRetornaCursor() {
+    salvar(base, false);
+    salvar(base.plusMinutes(1), false);
+
+    NotificacaoCursorDTO pagina =
+        notificacaoService.buscarNotificacoesDoUsuario(usuario, null, 2, false);
+
+    assertEquals(2, pagina.getConteudo().size());
+    assertNull(pagina.getProximoCursor());
+  }
+}
@@ -0,0 +1,105 @@
+package br.edu.utfpr.pb.ext.server.notificacao;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import br.edu.utfpr.pb.ext.server.notificacao.enums.TipoNotificacao;
+import br.edu.utfpr.pb.ext.server.notificacao.enums.TipoReferencia;
+import br.edu.utfpr.pb.ext.server.usuario.Usuario;
+import br.edu.utfpr.pb.ext.server.usuario.UsuarioRepository;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class NotificacaoJdbcWriterTest {
+
+  @Autowired private JdbcTemplate jdbcTemplate;
+  @Autowired private NotificacaoRepository notificacaoRepository;
+  @Autowired private UsuarioRepository usuarioRepository;
+
+  private Usuario usuario;
+  private final LocalDateTime agora = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+
+  @BeforeEach
+  void setUp() {
+    notificacaoRepository.deleteAll();
+    usuario =
+        usuarioRepository.save(
+            Usuario.builder()
+                .nome("Destinatário")
+                .email("destinatario.writer@utfpr.edu.br")
+                .cpf(String.valueOf(System.nanoTime()))
+                .build());
+  }
+
+  @AfterEach
+  void tearDown() {
+    notificacaoRepository.deleteAll();
+    usuarioRepository.delete(usuario);
+  }
+
+  private Notificacao notificacao(String titulo, TipoReferencia tipoReferencia, Long referenciaId) {
+    return Notificacao.builder()
+        .titulo(titulo)
+        .descricao("descrição")
+        .tipoNotificacao(TipoNotificacao.INFO)
+        .tipoReferencia(tipoReferencia)
+        .referenciaId(referenciaId)
+        .dataCriacao(agora)
+        .usuario(usuario)
+        .build();
+  }
+
+  @Test
+  void inserir_quandoMaisLinhasQueOLote_insereTodasEmVariosComandos() {
+    NotificacaoJdbcWriter writer = new NotificacaoJdbcWriter(jdbcTemplate, 2);
+    List<Notificacao> notificacoes =
+        List.of(
+            notificacao("primeira", TipoReferencia.PROJETO, 7L),
+            notificacao("segunda", TipoReferencia.PROJETO, 7L),
+            notificacao("terceira", null, null));
+
+    int inseridas = writer.inserir(notificacoes);
+
+    assertEquals(3, inseridas);
+    List<Notificacao> salvas = notificacaoRepository.findAll();
+    for (Notificacao notificacao : notificacoes) {
+      assertEquals(
+          notificacao.getTitulo(),
+          notificacaoRepository.findById(notificacao.getId()).orElseThrow().getTitulo());
+    }
+    assertEquals(
+        List.of("primeira", "segunda", "terceira"),
+        salvas.stream().map(Notificacao::getTitulo).sorted().toList());
+    assertTrue(salvas.stream().allMatch(n -> !n.isLida() && agora.equals(n.getDataCriacao())));
+    Map<String, Object> semReferencia =
+        jdbcTemplate.queryForMap(
+            "SELECT tipo_referencia, referencia_id, usuario_id FROM tb_notificacao"
+                + " WHERE titulo = 'terceira'");
+    assertNull(semReferencia.get("tipo_referencia"));
+    assertNull(semReferencia.get("referencia_id"));
+    assertEquals(usuario.getId(), ((Number) semReferencia.get("usuario_id")).longValue());
+  }
+
+  @Test
+  void inserir_quandoListaVazia_naoExecutaComando() {
+    assertEquals(0, new NotificacaoJdbcWriter(jdbcTemplate, 2).inserir(List.of()));
+    assertEquals(0, notificacaoRepository.count());
+  }
+
+  @Test
+  void construtor_quandoLoteExcedeLimiteDeParametros_lancaExcecao() {
+    assertThrows(IllegalArgumentException.class, () -> new NotificacaoJdbcWriter(jdbcTemplate, 0));
+    assertThrows(
+        IllegalArgumentException.class, () -> new NotificacaoJdbcWriter(jdbcTemplate, 10_000));
+  }
+}
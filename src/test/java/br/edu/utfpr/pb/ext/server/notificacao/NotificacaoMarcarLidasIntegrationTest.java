@@ -0,0 +1,165 @@
+package br.edu.utfpr.pb.ext.server.notificacao;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import br.edu.utfpr.pb.ext.server.notificacao.dto.MarcarLidasDTO;
+import br.edu.utfpr.pb.ext.server.notificacao.enums.TipoNotificacao;
+import br.edu.utfpr.pb.ext.server.notificacao.enums.TipoReferencia;
+import br.edu.utfpr.pb.ext.server.usuario.Usuario;
+import br.edu.utfpr.pb.ext.server.usuario.UsuarioRepository;
+import jakarta.validation.Validator;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class NotificacaoMarcarLidasIntegrationTest {
+
+  @Autowired private NotificacaoService notificacaoService;
+  @Autowired private NotificacaoRepository notificacaoRepository;
+  @Autowired private NotificacaoContador notificacaoContador;
+  @Autowired private UsuarioRepository usuarioRepository;
+  @Autowired private Validator validator;
+
+  private Usuario usuario;
+  private Usuario outro;
+
+  @BeforeEach
+  void setUp() {
+    notificacaoRepository.deleteAll();
+    usuario = salvarUsuario("marcar.lidas1@utfpr.edu.br");
+    outro = salvarUsuario("marcar.lidas2@utfpr.edu.br");
+  }
+
+  @AfterEach
+  void tearDown() {
+    notificacaoRepository.deleteAll();
+    usuarioRepository.deleteAll(List.of(usuario, outro));
+  }
+
+  private Usuario salvarUsuario(String email) {
+    return usuarioRepository.save(
+        Usuario.builder()
+            .nome("Usuário")
+            .email(email)
+            .cpf(String.valueOf(System.nanoTime()))
+            .build());
+  }
+
+  private Long salvar(Usuario destinatario, TipoReferencia tipoReferencia, Long referenciaId) {
+    Notificacao notificacao =
+        notificacaoRepository.save(
+            Notificacao.builder()
+                .titulo("Notificação")
+                .descricao("descrição")
+                .tipoNotificacao(TipoNotificacao.INFO)
+                .tipoReferencia(tipoReferencia)
+                .referenciaId(referenciaId)
+                .dataCriacao(LocalDateTime.now())
+                .usuario(destinatario)
+                .build());
+    notificacaoContador.incrementar(Map.of(destinatario.getId(), 1L));
+    return notificacao.getId();
+  }
+
+  private boolean lida(Long id) {
+    return notificacaoRepository.findById(id).orElseThrow().isLida();
+  }
+
+  @Test
+  void marcarComoLidas_porIds_ignoraNotificacoesDeOutrosUsuarios() {
+    Long propria1 = salvar(usuario, null, null);
+    Long propria2 = salvar(usuario, null, null);
+    Long naoInformada = salvar(usuario, null, null);
+    Long deOutro = salvar(outro, null, null);
+
+    int marcadas =
+        notificacaoService.marcarComoLidas(
+            usuario, MarcarLidasDTO.builder().ids(List.of(propria1, propria2, deOutro)).build());
+
+    assertEquals(2, marcadas);
+    assertTrue(lida(propria1) && lida(propria2));
+    assertFalse(lida(naoInformada) || lida(deOutro));
+    assertEquals(1, notificacaoContador.consultar(usuario.getId()));
+    assertEquals(1, notificacaoContador.consultar(outro.getId()));
+  }
+
+  @Test
+  void marcarComoLidas_porReferencia_marcaApenasAsDaEntidade() {
+    Long doProjeto1 = salvar(usuario, TipoReferencia.PROJETO, 7L);
+    Long doProjeto2 = salvar(usuario, TipoReferencia.PROJETO, 7L);
+    Long deOutroProjeto = salvar(usuario, TipoReferencia.PROJETO, 8L);
+    Long deCandidatura = salvar(usuario, TipoReferencia.CANDIDATURA, 7L);
+    MarcarLidasDTO criterio =
+        MarcarLidasDTO.builder().tipoReferencia(TipoReferencia.PROJETO).referenciaId(7L).build();
+
+    assertEquals(2, notificacaoService.marcarComoLidas(usuario, criterio));
+    assertEquals(0, notificacaoService.marcarComoLidas(usuario, criterio));
+
+    assertTrue(lida(doProjeto1) && lida(doProjeto2));
+    assertFalse(lida(deOutroProjeto) || lida(deCandidatura));
+    assertEquals(2, notificacaoContador.consultar(usuario.getId()));
+  }
+
+  @Test
+  void marcarComoLida_quandoConcorrente_decrementaUmaVez() throws Exception {
+    Long id = salvar(usuario, null, null);
+    salvar(usuario, null, null);
+    int threads = 8;
+    ExecutorService executor = Executors.newFixedThreadPool(threads);
+    CountDownLatch largada = new CountDownLatch(1);
+    try {
+      List<Future<?>> tarefas =
+          IntStream.range(0, threads)
+              .<Future<?>>mapToObj(
+                  i ->
+                      executor.submit(
+                          () -> {
+                            largada.await();
+                            notificacaoService.marcarComoLida(id, usuario);
+                            return null;
+                          }))
+              .toList();
+      largada.countDown();
+      for (Future<?> tarefa : tarefas) {
+        tarefa.get();
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+
+    assertTrue(lida(id));
+    assertEquals(1, notificacaoContador.consultar(usuario.getId()));
+  }
+
+  @Test
+  void marcarLidasDTO_exigeIdsOuReferencia() {
+    assertFalse(validator.validate(new MarcarLidasDTO()).isEmpty());
+    assertFalse(
+        validator
+            .validate(MarcarLidasDTO.builder().tipoReferencia(TipoReferencia.PROJETO).build())
+            .isEmpty());
+    assertFalse(
+        validator
+            .validate(
+                MarcarLidasDTO.builder()
+                    .ids(List.of(1L))
+                    .tipoReferencia(TipoReferencia.PROJETO)
+                    .referenciaId(1L)
+                    .build())
+            .isEmpty());
+    assertTrue(validator.validate(MarcarLidasDTO.builder().ids(List.of(1L)).build()).isEmpty());
+  }
+}
@@ -0,0 +1,102 @@
+package br.edu.utfpr.pb.ext.server.notificacao;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import br.edu.utfpr.pb.ext.server.config.PostgresIntegrationTest;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import javax.sql.DataSource;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Executa a migração que particiona {@code tb_notificacao} sobre uma tabela já populada, em um
+ * schema separado do usado pelos demais testes.
+ */
+class NotificacaoParticionamentoMigracaoTest extends PostgresIntegrationTest {
+
+  private static final String SCHEMA = "migracao_notificacao";
+
+  @Autowired private DataSource dataSource;
+  @Autowired private JdbcTemplate jdbcTemplate;
+
+  @BeforeEach
+  void setUp() {
+    jdbcTemplate.execute("DROP SCHEMA IF EXISTS " + SCHEMA + " CASCADE");
+  }
+
+  @AfterEach
+  void tearDown() {
+    jdbcTemplate.execute("DROP SCHEMA IF EXISTS " + SCHEMA + " CASCADE");
+  }
+
+  private Flyway flyway(String versaoAlvo) {
+    return Flyway.configure()
+        .dataSource(dataSource)
+        .schemas(SCHEMA)
+        .createSchemas(true)
+        .locations("classpath:db/migration", "classpath:db/vendor/postgresql")
+        .target(versaoAlvo)
+        .load();
+  }
+
+  private void inserirNotificacao(
+      long id, long usuarioId, LocalDateTime dataCriacao, boolean lida) {
+    jdbcTemplate.update(
+        "INSERT INTO "
+            + SCHEMA
+            + ".tb_notificacao (id, titulo, descricao, tipo_notificacao, data_criacao, lida,"
+            + " usuario_id) VALUES (?, 'Notificação', 'descrição', 'INFO', ?, ?, ?)",
+        id,
+        Timestamp.valueOf(dataCriacao),
+        lida,
+        usuarioId);
+  }
+
+  @Test
+  void particionar_quandoTabelaPopulada_preservaLinhasEIdentificadores() {
+    flyway("1.3.15").migrate();
+    Long usuarioId =
+        jdbcTemplate.queryForObject(
+            "INSERT INTO "
+                + SCHEMA
+                + ".tb_usuario (nome, cpf, email) VALUES ('Usuário', '1', 'u@utfpr.edu.br')"
+                + " RETURNING id",
+            Long.class);
+    LocalDateTime agora = LocalDateTime.now();
+    inserirNotificacao(10, usuarioId, agora.minusMonths(7), true);
+    inserirNotificacao(11, usuarioId, agora.minusMonths(2), false);
+    inserirNotificacao(12, usuarioId, agora, false);
+
+    flyway("latest").migrate();
+
+    // particionada por intervalo ('r') e sem partição DEFAULT (partdefid = 0)
+    assertEquals(
+        "r/0",
+        jdbcTemplate.queryForObject(
+            "SELECT t.partstrat::text || '/' || t.partdefid FROM pg_partitioned_table t"
+                + " JOIN pg_class c ON c.oid = t.partrelid"
+                + " JOIN pg_namespace n ON n.oid = c.relnamespace"
+                + " WHERE n.nspname = ? AND c.relname = 'tb_notificacao'",
+            String.class,
+            SCHEMA));
+    assertEquals(
+        List.of(10L, 11L, 12L),
+        jdbcTemplate.queryForList(
+            "SELECT id FROM " + SCHEMA + ".tb_notificacao ORDER BY id", Long.class));
+    Long novoId =
+        jdbcTemplate.queryForObject(
+            "INSERT INTO "
+                + SCHEMA
+                + ".tb_notificacao (titulo, descricao, tipo_notificacao, usuario_id)"
+                + " VALUES ('Nova', 'descrição', 'INFO', ?) RETURNING id",
+            Long.class,
+            usuarioId);
+    assertTrue(novoId > 12);
+  }
+}
@@ -0,0 +1,153 @@
+package br.edu.utfpr.pb.ext.server.notificacao;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import br.edu.utfpr.pb.ext.server.email.FilaEmail;
+import br.edu.utfpr.pb.ext.server.notificacao.enums.TipoNotificacao;
+import br.edu.utfpr.pb.ext.server.usuario.Usuario;
+import br.edu.utfpr.pb.ext.server.usuario.UsuarioRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.thymeleaf.TemplateEngine;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class NotificacaoResumoDiarioTest {
+
+  @Autowired private NotificacaoRepository notificacaoRepository;
+  @Autowired private UsuarioRepository usuarioRepository;
+  @Autowired private JdbcTemplate jdbcTemplate;
+  @Autowired private PlatformTransactionManager transactionManager;
+  @Autowired private TemplateEngine templateEngine;
+
+  private static final Duration MARGEM = Duration.ofMinutes(10);
+
+  private final FilaEmail filaEmail = mock(FilaEmail.class);
+  private NotificacaoResumoDiario resumoDiario;
+  private Usuario comResumo;
+  private Usuario semResumo;
+
+  @BeforeEach
+  void setUp() {
+    notificacaoRepository.deleteAll();
+    jdbcTemplate.update("DELETE FROM tb_resumo_notificacao");
+    comResumo = salvarUsuario("resumo1@utfpr.edu.br", true);
+    semResumo = salvarUsuario("resumo2@utfpr.edu.br", false);
+    resumoDiario = resumoDiario(MARGEM);
+  }
+
+  @AfterEach
+  void tearDown() {
+    notificacaoRepository.deleteAll();
+    usuarioRepository.deleteAll(List.of(comResumo, semResumo));
+  }
+
+  private NotificacaoResumoDiario resumoDiario(Duration margem) {
+    return new NotificacaoResumoDiario(
+        jdbcTemplate,
+        transactionManager,
+        filaEmail,
+        templateEngine,
+        new SimpleMeterRegistry(),
+        margem);
+  }
+
+  private Usuario salvarUsuario(String email, boolean resumoDiarioEmail) {
+    return usuarioRepository.save(
+        Usuario.builder()
+            .nome("Usuário Resumo")
+            .email(email)
+            .cpf(String.valueOf(System.nanoTime()))
+            .resumoDiarioEmail(resumoDiarioEmail)
+            .build());
+  }
+
+  private void salvarNotificacao(Usuario usuario, String titulo, LocalDateTime dataCriacao) {
+    notificacaoRepository.save(
+        Notificacao.builder()
+            .titulo(titulo)
+            .descricao("descrição de " + titulo)
+            .tipoNotificacao(TipoNotificacao.INFO)
+            .dataCriacao(dataCriacao)
+            .usuario(usuario)
+            .build());
+  }
+
+  @Test
+  void enviar_enfileiraResumoApenasParaQuemOptouENaoRepete() {
+    when(filaEmail.enfileirar(anyList(), anyString(), anyString(), anyString())).thenReturn(1);
+    salvarNotificacao(comResumo, "Projeto Atualizado", LocalDateTime.now().minusHours(2));
+    salvarNotificacao(comResumo, "Nova Candidatura", LocalDateTime.now().minusHours(1));
+    salvarNotificacao(comResumo, "Antiga", LocalDateTime.now().minusDays(3));
+    salvarNotificacao(semResumo, "Outro usuário", LocalDateTime.now().minusHours(1));
+
+    assertEquals(1, resumoDiario.enviar());
+
+    ArgumentCaptor<String> conteudo = ArgumentCaptor.forClass(String.class);
+    verify(filaEmail)
+        .enfileirar(
+            eq(List.of("resumo1@utfpr.edu.br")),
+            eq("Resumo diário de notificações (2)"),
+            conteudo.capture(),
+            eq("text/html"));
+    assertTrue(conteudo.getValue().contains("Projeto Atualizado"));
+    assertTrue(conteudo.getValue().contains("Nova Candidatura"));
+    assertFalse(conteudo.getValue().contains("Antiga"));
+
+    assertEquals(0, resumoDiario.enviar());
+    verifyNoMoreInteractions(filaEmail);
+  }
+
+  @Test
+  void enviar_quandoFilaRecusa_incluiNotificacoesNoProximoResumo() {
+    when(filaEmail.enfileirar(anyList(), anyString(), anyString(), anyString()))
+        .thenReturn(0)
+        .thenReturn(1);
+    salvarNotificacao(comResumo, "Projeto Atualizado", LocalDateTime.now().minusHours(1));
+
+    assertEquals(0, resumoDiario.enviar());
+    assertEquals(1, resumoDiario.enviar());
+
+    verify(filaEmail, times(2))
+        .enfileirar(anyList(), eq("Resumo diário de notificações (1)"), anyString(), anyString());
+  }
+
+  @Test
+  void enviar_quandoNotificacaoConfirmadaDepoisDaExecucao_incluiNoProximoResumo() {
+    when(filaEmail.enfileirar(anyList(), anyString(), anyString(), anyString())).thenReturn(1);
+    salvarNotificacao(comResumo, "Projeto Atualizado", LocalDateTime.now().minusHours(1));
+
+    assertEquals(1, resumoDiario.enviar());
+    // criada antes desta execução, mas confirmada depois dela
+    salvarNotificacao(comResumo, "Confirmada Depois", LocalDateTime.now().minusMinutes(1));
+    // a execução seguinte, MARGEM mais tarde, fecha o período no instante atual
+    assertEquals(1, resumoDiario(Duration.ZERO).enviar());
+
+    ArgumentCaptor<String> conteudo = ArgumentCaptor.forClass(String.class);
+    verify(filaEmail, times(2))
+        .enfileirar(
+            anyList(), eq("Resumo diário de notificações (1)"), conteudo.capture(), anyString());
+    assertTrue(conteudo.getAllValues().get(0).contains("Projeto Atualizado"));
+    assertTrue(conteudo.getAllValues().get(1).contains("Confirmada Depois"));
+  }
+
+  @Test
+  void construtor_quandoMargemNegativa_lancaExcecao() {
+    Duration margem = Duration.ofMinutes(-1);
+
+    assertThrows(IllegalArgumentException.class, () -> resumoDiario(margem));
+  }
+}
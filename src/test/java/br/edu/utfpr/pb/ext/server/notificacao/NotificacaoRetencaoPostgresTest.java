@@ -0,0 +1,179 @@
+package br.edu.utfpr.pb.ext.server.notificacao;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import br.edu.utfpr.pb.ext.server.config.PostgresIntegrationTest;
+import br.edu.utfpr.pb.ext.server.notificacao.enums.TipoNotificacao;
+import br.edu.utfpr.pb.ext.server.usuario.Usuario;
+import br.edu.utfpr.pb.ext.server.usuario.UsuarioRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/** Remoção das partições expiradas de {@code tb_notificacao}, que só existem no PostgreSQL. */
+class NotificacaoRetencaoPostgresTest extends PostgresIntegrationTest {
+
+  private static final YearMonth MES_EXPIRADO = YearMonth.now().minusMonths(8);
+  private static final String PARTICAO_EXPIRADA =
+      "tb_notificacao_p" + MES_EXPIRADO.format(DateTimeFormatter.ofPattern("yyyyMM"));
+
+  @Autowired private NotificacaoRepository notificacaoRepository;
+  @Autowired private UsuarioRepository usuarioRepository;
+  @Autowired private JdbcTemplate jdbcTemplate;
+  @Autowired private PlatformTransactionManager transactionManager;
+
+  private Usuario usuario;
+  private NotificacaoRetencao retencao;
+
+  @BeforeEach
+  void setUp() {
+    jdbcTemplate.execute(
+        "CREATE TABLE IF NOT EXISTS "
+            + PARTICAO_EXPIRADA
+            + " PARTITION OF tb_notificacao FOR VALUES FROM ('"
+            + MES_EXPIRADO.atDay(1)
+            + "') TO ('"
+            + MES_EXPIRADO.plusMonths(1).atDay(1)
+            + "')");
+    usuario =
+        usuarioRepository.save(
+            Usuario.builder()
+                .nome("Usuário")
+                .email("retencao.postgres@utfpr.edu.br")
+                .cpf(String.valueOf(System.nanoTime()))
+                .build());
+    retencao =
+        new NotificacaoRetencao(
+            jdbcTemplate,
+            transactionManager,
+            new SimpleMeterRegistry(),
+            Duration.ofDays(30),
+            true,
+            1000,
+            100);
+  }
+
+  @AfterEach
+  void tearDown() {
+    jdbcTemplate.update("DELETE FROM tb_notificacao WHERE usuario_id = ?", usuario.getId());
+    jdbcTemplate.update("DELETE FROM tb_notificacao_arquivo WHERE usuario_id = ?", usuario.getId());
+    jdbcTemplate.execute("DROP TABLE IF EXISTS " + PARTICAO_EXPIRADA);
+    usuarioRepository.delete(usuario);
+  }
+
+  private Long salvar(LocalDateTime dataCriacao, boolean lida) {
+    return notificacaoRepository
+        .save(
+            Notificacao.builder()
+                .titulo("Notificação")
+                .descricao("descrição")
+                .tipoNotificacao(TipoNotificacao.INFO)
+                .dataCriacao(dataCriacao)
+                .lida(lida)
+                .usuario(usuario)
+                .build())
+        .getId();
+  }
+
+  private boolean particaoExiste() {
+    return jdbcTemplate
+        .queryForObject("SELECT to_regclass(?) IS NOT NULL", Boolean.class, PARTICAO_EXPIRADA)
+        .booleanValue();
+  }
+
+  private List<Long> idsArquivados() {
+    return jdbcTemplate.queryForList(
+        "SELECT id FROM tb_notificacao_arquivo WHERE usuario_id = ? ORDER BY id",
+        Long.class,
+        usuario.getId());
+  }
+
+  @Test
+  void executar_quandoParticaoExpiradaTodaLida_arquivaERemoveAParticao() {
+    Long primeira = salvar(MES_EXPIRADO.atDay(10).atStartOfDay(), true);
+    Long segunda = salvar(MES_EXPIRADO.atDay(20).atStartOfDay(), true);
+    Long atual = salvar(LocalDateTime.now(), false);
+
+    assertEquals(2, retencao.executar());
+
+    assertFalse(particaoExiste());
+    assertEquals(List.of(primeira, segunda), idsArquivados());
+    assertTrue(notificacaoRepository.existsById(atual));
+  }
+
+  @Test
+  void executar_quandoParticaoExpiradaTemNaoLidas_mantemAParticao() {
+    salvar(MES_EXPIRADO.atDay(10).atStartOfDay(), true);
+    salvar(MES_EXPIRADO.atDay(20).atStartOfDay(), false);
+
+    retencao.executar();
+
+    assertTrue(particaoExiste());
+    assertEquals(1, idsArquivados().size());
+  }
+
+  @Test
+  void executar_quandoAtualizacaoConcorrente_naoCausaDeadlock() throws Exception {
+    salvar(MES_EXPIRADO.atDay(10).atStartOfDay(), true);
+    salvar(MES_EXPIRADO.atDay(20).atStartOfDay(), true);
+    Long atual = salvar(LocalDateTime.now(), false);
+    ExecutorService executor = Executors.newSingleThreadExecutor();
+    try {
+      Future<Long> execucao =
+          new TransactionTemplate(transactionManager)
+              .execute(
+                  status -> {
+                    // a consulta com data_criacao bloqueia apenas tb_notificacao e a partição atual
+                    jdbcTemplate.queryForObject(
+                        "SELECT COUNT(*) FROM tb_notificacao WHERE id = ? AND data_criacao >= ?",
+                        Long.class,
+                        atual,
+                        Timestamp.valueOf(YearMonth.now().atDay(1).atStartOfDay()));
+                    Future<Long> job = executor.submit(retencao::executar);
+                    aguardarOutraTransacaoBloqueada();
+                    // sem filtro por data_criacao, o UPDATE bloqueia todas as partições
+                    jdbcTemplate.update(
+                        "UPDATE tb_notificacao SET lida = TRUE WHERE id = ?", atual);
+                    return job;
+                  });
+
+      assertEquals(2L, execucao.get(30, TimeUnit.SECONDS));
+      assertFalse(particaoExiste());
+      assertTrue(notificacaoRepository.findById(atual).orElseThrow().isLida());
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  /** Aguarda até que outra conexão esteja esperando por um bloqueio. */
+  private void aguardarOutraTransacaoBloqueada() {
+    long prazo = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+    while (System.nanoTime() < prazo) {
+      Boolean bloqueada =
+          jdbcTemplate.queryForObject(
+              "SELECT EXISTS (SELECT 1 FROM pg_stat_activity"
+                  + " WHERE wait_event_type = 'Lock' AND pid <> pg_backend_pid())",
+              Boolean.class);
+      if (Boolean.TRUE.equals(bloqueada)) {
+        return;
+      }
+      Thread.onSpinWait();
+    }
+    fail("O job de retenção não chegou a esperar pela transação concorrente");
+  }
+}
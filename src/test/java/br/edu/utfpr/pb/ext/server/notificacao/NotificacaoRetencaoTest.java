@@ -0,0 +1,131 @@
+package br.edu.utfpr.pb.ext.server.notificacao;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import br.edu.utfpr.pb.ext.server.notificacao.enums.TipoNotificacao;
+import br.edu.utfpr.pb.ext.server.usuario.Usuario;
+import br.edu.utfpr.pb.ext.server.usuario.UsuarioRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class NotificacaoRetencaoTest {
+
+  @Autowired private NotificacaoRepository notificacaoRepository;
+  @Autowired private UsuarioRepository usuarioRepository;
+  @Autowired private JdbcTemplate jdbcTemplate;
+  @Autowired private PlatformTransactionManager transactionManager;
+
+  private SimpleMeterRegistry meterRegistry;
+  private Usuario usuario;
+
+  @BeforeEach
+  void setUp() {
+    notificacaoRepository.deleteAll();
+    jdbcTemplate.update("DELETE FROM tb_notificacao_arquivo");
+    meterRegistry = new SimpleMeterRegistry();
+    usuario =
+        usuarioRepository.save(
+            Usuario.builder()
+                .nome("Usuário")
+                .email("retencao@utfpr.edu.br")
+                .cpf(String.valueOf(System.nanoTime()))
+                .build());
+  }
+
+  @AfterEach
+  void tearDown() {
+    notificacaoRepository.deleteAll();
+    jdbcTemplate.update("DELETE FROM tb_notificacao_arquivo");
+    usuarioRepository.delete(usuario);
+  }
+
+  private NotificacaoRetencao criarRetencao(boolean arquivar, int tamanhoLote, int maximoLotes) {
+    return new NotificacaoRetencao(
+        jdbcTemplate,
+        transactionManager,
+        meterRegistry,
+        Duration.ofDays(30),
+        arquivar,
+        tamanhoLote,
+        maximoLotes);
+  }
+
+  private Long salvar(int diasAtras, boolean lida) {
+    return notificacaoRepository
+        .save(
+            Notificacao.builder()
+                .titulo("Notificação")
+                .descricao("descrição")
+                .tipoNotificacao(TipoNotificacao.INFO)
+                .dataCriacao(LocalDateTime.now().minusDays(diasAtras))
+                .lida(lida)
+                .usuario(usuario)
+                .build())
+        .getId();
+  }
+
+  private List<Long> idsArquivados() {
+    return jdbcTemplate.queryForList(
+        "SELECT id FROM tb_notificacao_arquivo ORDER BY id", Long.class);
+  }
+
+  @Test
+  void executar_quandoArquivar_moveApenasLidasAnterioresAoPeriodo() {
+    Long antiga1 = salvar(90, true);
+    Long antiga2 = salvar(60, true);
+    Long antiga3 = salvar(40, true);
+    Long naoLida = salvar(90, false);
+    Long recente = salvar(1, true);
+
+    assertEquals(3, criarRetencao(true, 2, 10).executar());
+
+    assertEquals(List.of(antiga1, antiga2, antiga3), idsArquivados());
+    assertEquals(
+        List.of(naoLida, recente),
+        notificacaoRepository.findAll().stream().map(Notificacao::getId).sorted().toList());
+    assertEquals(3, meterRegistry.get("notificacao.retencao.movidas").counter().count());
+    assertEquals(2, meterRegistry.get("notificacao.retencao.lote").timer().count());
+  }
+
+  @Test
+  void executar_quandoNaoArquivar_removeSemArquivar() {
+    salvar(90, true);
+    Long naoLida = salvar(90, false);
+
+    assertEquals(1, criarRetencao(false, 10, 10).executar());
+
+    assertTrue(idsArquivados().isEmpty());
+    assertEquals(
+        List.of(naoLida),
+        notificacaoRepository.findAll().stream().map(Notificacao::getId).toList());
+  }
+
+  @Test
+  void executar_quandoExcedeMaximoDeLotes_registraAtraso() {
+    salvar(90, true);
+    salvar(60, true);
+    salvar(50, true);
+    NotificacaoRetencao retencao = criarRetencao(true, 1, 2);
+
+    assertEquals(2, retencao.executar());
+    long atraso = retencao.atraso();
+    assertTrue(
+        atraso >= Duration.ofDays(19).toSeconds() && atraso <= Duration.ofDays(20).toSeconds());
+    assertEquals(atraso, meterRegistry.get("notificacao.retencao.atraso").gauge().value());
+
+    assertEquals(1, retencao.executar());
+    assertEquals(0, retencao.atraso());
+  }
+}
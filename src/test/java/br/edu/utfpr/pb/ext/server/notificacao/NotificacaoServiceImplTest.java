@@ -3,15 +3,19 @@ package br.edu.utfpr.pb.ext.server.notificacao;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
+import br.edu.utfpr.pb.ext.server.notificacao.dto.ContadorNaoLidasDTO;
+import br.edu.utfpr.pb.ext.server.notificacao.dto.MarcarLidasDTO;
 import br.edu.utfpr.pb.ext.server.notificacao.dto.NotificacaoDTO;
 import br.edu.utfpr.pb.ext.server.notificacao.enums.TipoNotificacao;
 import br.edu.utfpr.pb.ext.server.notificacao.enums.TipoReferencia;
 import br.edu.utfpr.pb.ext.server.usuario.Usuario;
+import br.edu.utfpr.pb.ext.server.usuario.UsuarioRepository;
 import jakarta.persistence.EntityNotFoundException;
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -22,6 +26,7 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
 import org.junit.jupiter.params.provider.EnumSource;
 import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -43,6 +48,10 @@ class NotificacaoServiceImplTest {
 
   @Mock private NotificacaoRepository notificacaoRepository;
   @Mock private ModelMapper modelMapper;
+  @Mock private UsuarioRepository usuarioRepository;
+  @Mock private NotificacaoJdbcWriter notificacaoJdbcWriter;
+  @Mock private NotificacaoStream notificacaoStream;
+  @Mock private NotificacaoContador notificacaoContador;
   @InjectMocks private NotificacaoServiceImpl notificacaoService;
 
   private Usuario usuario1;
@@ -114,7 +123,7 @@ class NotificacaoServiceImplTest {
 
   private List<Notificacao> capturarNotificacoesSalvas() {
     ArgumentCaptor<List<Notificacao>> captor = ArgumentCaptor.forClass(List.class);
-    verify(notificacaoRepository).saveAll(captor.capture());
+    verify(notificacaoJdbcWriter).inserir(captor.capture());
     return captor.getValue();
   }
 
@@ -146,11 +155,23 @@ class NotificacaoServiceImplTest {
     @DisplayName("deve marcar notificacao como lida quando usuario eh proprietario")
     void deveMarcarNotificacaoComoLidaQuandoUsuarioEhProprietario() {
       when(notificacaoRepository.findById(1L)).thenReturn(Optional.of(notificacao1));
+      when(notificacaoRepository.marcarComoLidas(usuario1, List.of(1L))).thenReturn(1);
 
       notificacaoService.marcarComoLida(1L, usuario1);
 
-      assertTrue(notificacao1.isLida());
-      verify(notificacaoRepository).save(notificacao1);
+      verify(notificacaoContador).decrementar(1L);
+      verify(notificacaoStream).publicarContador(1L, ContadorNaoLidasDTO.delta(-1));
+    }
+
+    @Test
+    @DisplayName("nao deve alterar o contador quando notificacao ja estava lida")
+    void naoDeveAlterarContadorQuandoNotificacaoJaEstavaLida() {
+      when(notificacaoRepository.findById(2L)).thenReturn(Optional.of(notificacao2));
+      when(notificacaoRepository.marcarComoLidas(usuario1, List.of(2L))).thenReturn(0);
+
+      notificacaoService.marcarComoLida(2L, usuario1);
+
+      verifyNoInteractions(notificacaoStream, notificacaoContador);
     }
 
     @Test
@@ -163,8 +184,7 @@ class NotificacaoServiceImplTest {
               ResponseStatusException.class, () -> notificacaoService.marcarComoLida(1L, usuario2));
 
       assertEquals(HttpStatus.UNPROCESSABLE_ENTITY, exception.getStatusCode());
-      assertFalse(notificacao1.isLida());
-      verify(notificacaoRepository, never()).save(any());
+      verify(notificacaoRepository, never()).marcarComoLidas(any(), any());
     }
 
     @Test
@@ -175,7 +195,7 @@ class NotificacaoServiceImplTest {
       assertThrows(
           EntityNotFoundException.class, () -> notificacaoService.marcarComoLida(99L, usuario1));
 
-      verify(notificacaoRepository, never()).save(any());
+      verify(notificacaoRepository, never()).marcarComoLidas(any(), any());
     }
   }
 
@@ -229,12 +249,12 @@ class NotificacaoServiceImplTest {
   @Test
   @DisplayName("contarNotificacoesNaoLidas deve retornar contagem correta")
   void contarNotificacoesNaoLidas_deveRetornarContagemCorreta() {
-    when(notificacaoRepository.countByUsuarioAndLidaFalse(usuario1)).thenReturn(5L);
+    when(notificacaoContador.consultar(1L)).thenReturn(5L);
 
     long count = notificacaoService.contarNotificacoesNaoLidas(usuario1);
 
     assertEquals(5L, count);
-    verify(notificacaoRepository).countByUsuarioAndLidaFalse(usuario1);
+    verify(notificacaoRepository, never()).countByUsuarioAndLidaFalse(any());
   }
 
   @Test
@@ -242,7 +262,62 @@ class NotificacaoServiceImplTest {
   void marcarTodasComoLidas_deveChamarRepositoryComUsuarioCorreto() {
     notificacaoService.marcarTodasComoLidas(usuario1);
 
-    verify(notificacaoRepository).marcarTodasComoLidas(usuario1);
+    InOrder ordem = inOrder(notificacaoContador, notificacaoRepository);
+    ordem.verify(notificacaoContador).zerar(1L);
+    ordem.verify(notificacaoRepository).marcarTodasComoLidas(usuario1);
+    verify(notificacaoStream).publicarContador(1L, ContadorNaoLidasDTO.total(0));
+  }
+
+  @Nested
+  @DisplayName("Testes para marcarComoLidas")
+  class MarcarComoLidasTests {
+
+    @Test
+    @DisplayName("deve marcar por ids e descontar o contador")
+    void deveMarcarPorIdsEDescontarContador() {
+      when(notificacaoRepository.marcarComoLidas(usuario1, List.of(1L, 2L, 3L))).thenReturn(2);
+
+      int marcadas =
+          notificacaoService.marcarComoLidas(
+              usuario1, MarcarLidasDTO.builder().ids(List.of(1L, 2L, 3L)).build());
+
+      assertEquals(2, marcadas);
+      verify(notificacaoContador).decrementar(1L, 2);
+      verify(notificacaoStream).publicarContador(1L, ContadorNaoLidasDTO.delta(-2));
+    }
+
+    @Test
+    @DisplayName("deve marcar por referencia")
+    void deveMarcarPorReferencia() {
+      when(notificacaoRepository.marcarComoLidasPorReferencia(
+              usuario1, TipoReferencia.PROJETO, 10L))
+          .thenReturn(1);
+
+      int marcadas =
+          notificacaoService.marcarComoLidas(
+              usuario1,
+              MarcarLidasDTO.builder()
+                  .tipoReferencia(TipoReferencia.PROJETO)
+                  .referenciaId(10L)
+                  .build());
+
+      assertEquals(1, marcadas);
+      verify(notificacaoRepository, never()).marcarComoLidas(any(), any());
+      verify(notificacaoContador).decrementar(1L, 1);
+    }
+
+    @Test
+    @DisplayName("nao deve alterar o contador quando nenhuma notificacao foi marcada")
+    void naoDeveAlterarContadorQuandoNenhumaMarcada() {
+      when(notificacaoRepository.marcarComoLidas(usuario1, List.of(5L))).thenReturn(0);
+
+      int marcadas =
+          notificacaoService.marcarComoLidas(
+              usuario1, MarcarLidasDTO.builder().ids(List.of(5L)).build());
+
+      assertEquals(0, marcadas);
+      verifyNoInteractions(notificacaoStream, notificacaoContador);
+    }
   }
 
   @Nested
@@ -264,6 +339,8 @@ class NotificacaoServiceImplTest {
 
       List<Notificacao> notificacoesSalvas = capturarNotificacoesSalvas();
       assertEquals(TOTAL_USUARIOS_TESTE, notificacoesSalvas.size());
+      verify(notificacaoStream).publicarCriadas(notificacoesSalvas);
+      verify(notificacaoContador).incrementar(Map.of(1L, 1L, 2L, 1L, 3L, 1L));
 
       for (int i = 0; i < TOTAL_USUARIOS_TESTE; i++) {
         Notificacao notificacao = notificacoesSalvas.get(i);
@@ -470,4 +547,32 @@ class NotificacaoServiceImplTest {
       assertEquals(descricao, notificacao.getDescricao());
     }
   }
+
+  @Nested
+  @DisplayName("Testes para criarNotificacaoParaUsuarios")
+  class CriarNotificacaoParaUsuariosTests {
+
+    @Test
+    @DisplayName("deve criar notificacoes usando referencias aos usuarios, ignorando ids nulos")
+    void deveCriarNotificacoesUsandoReferencias() {
+      when(usuarioRepository.getReferenceById(1L)).thenReturn(usuario1);
+      when(usuarioRepository.getReferenceById(2L)).thenReturn(usuario2);
+
+      notificacaoService.criarNotificacaoParaUsuarios(
+          Arrays.asList(1L, null, 2L),
+          TITULO_TESTE,
+          DESCRICAO_TESTE,
+          TipoNotificacao.INFO,
+          TipoReferencia.PROJETO,
+          REFERENCIA_ID_TESTE);
+
+      List<Notificacao> notificacoesSalvas = capturarNotificacoesSalvas();
+      assertEquals(2, notificacoesSalvas.size());
+      assertNotificacaoBasica(
+          notificacoesSalvas.get(0), TITULO_TESTE, DESCRICAO_TESTE, TipoNotificacao.INFO, usuario1);
+      assertNotificacaoBasica(
+          notificacoesSalvas.get(1), TITULO_TESTE, DESCRICAO_TESTE, TipoNotificacao.INFO, usuario2);
+      verify(usuarioRepository, never()).findById(any());
+    }
+  }
 }
@@ -0,0 +1,167 @@
+package br.edu.utfpr.pb.ext.server.notificacao;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import br.edu.utfpr.pb.ext.server.notificacao.dto.ContadorNaoLidasDTO;
+import br.edu.utfpr.pb.ext.server.notificacao.dto.NotificacaoDTO;
+import br.edu.utfpr.pb.ext.server.notificacao.enums.TipoNotificacao;
+import br.edu.utfpr.pb.ext.server.usuario.Usuario;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.Executor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.modelmapper.ModelMapper;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+class NotificacaoStreamTest {
+
+  private SimpleMeterRegistry meterRegistry;
+  private final List<EmitterGravado> emitters = new ArrayList<>();
+
+  /** Emissor que registra os dados enviados, ignorando os comentários. */
+  private static class EmitterGravado extends SseEmitter {
+    private final List<Object> enviados = new ArrayList<>();
+    private int heartbeats;
+    private boolean desconectado;
+
+    @Override
+    public void send(SseEventBuilder evento) throws IOException {
+      if (desconectado) {
+        throw new IOException("cliente desconectado");
+      }
+      List<Object> dados =
+          evento.build().stream()
+              .map(ResponseBodyEmitter.DataWithMediaType::getData)
+              .filter(dado -> !(dado instanceof String))
+              .toList();
+      if (dados.isEmpty()) {
+        heartbeats++;
+      }
+      enviados.addAll(dados);
+    }
+  }
+
+  @BeforeEach
+  void setUp() {
+    meterRegistry = new SimpleMeterRegistry();
+  }
+
+  @AfterEach
+  void tearDown() {
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.clearSynchronization();
+    }
+  }
+
+  private NotificacaoStream criarStream(Executor executor, int capacidade, int maximoPorUsuario) {
+    return new NotificacaoStream(
+        new ModelMapper(),
+        meterRegistry,
+        executor,
+        () -> {
+          EmitterGravado emitter = new EmitterGravado();
+          emitters.add(emitter);
+          return emitter;
+        },
+        capacidade,
+        maximoPorUsuario);
+  }
+
+  private Notificacao notificacao(Long id, Long usuarioId) {
+    return Notificacao.builder()
+        .id(id)
+        .titulo("Projeto atualizado")
+        .descricao("descrição")
+        .tipoNotificacao(TipoNotificacao.INFO)
+        .dataCriacao(LocalDateTime.now())
+        .usuario(Usuario.builder().id(usuarioId).build())
+        .build();
+  }
+
+  @Test
+  void conectar_enviaTotalDeNaoLidas() {
+    NotificacaoStream stream = criarStream(Runnable::run, 10, 5);
+
+    stream.conectar(1L, 4);
+
+    assertEquals(List.of(ContadorNaoLidasDTO.total(4)), emitters.getFirst().enviados);
+    assertEquals(1, stream.conexoesAbertas());
+    assertEquals(1, meterRegistry.get("notificacao.stream.conexoes").gauge().value());
+  }
+
+  @Test
+  void publicarCriadas_enviaNotificacoesEAcrescimoApenasAosConectados() {
+    NotificacaoStream stream = criarStream(Runnable::run, 10, 5);
+    stream.conectar(1L, 0);
+
+    stream.publicarCriadas(
+        List.of(notificacao(10L, 1L), notificacao(11L, 2L), notificacao(12L, 1L)));
+
+    List<Object> enviados = emitters.getFirst().enviados;
+    assertEquals(4, enviados.size());
+    assertEquals(10L, ((NotificacaoDTO) enviados.get(1)).getId());
+    assertEquals(12L, ((NotificacaoDTO) enviados.get(2)).getId());
+    assertEquals(ContadorNaoLidasDTO.delta(2), enviados.get(3));
+  }
+
+  @Test
+  void publicarContador_comTransacao_enviaSomenteAposCommit() {
+    NotificacaoStream stream = criarStream(Runnable::run, 10, 5);
+    stream.conectar(1L, 3);
+    TransactionSynchronizationManager.initSynchronization();
+
+    stream.publicarContador(1L, ContadorNaoLidasDTO.delta(-1));
+
+    assertEquals(1, emitters.getFirst().enviados.size());
+    TransactionSynchronizationManager.getSynchronizations()
+        .forEach(TransactionSynchronization::afterCommit);
+    assertEquals(ContadorNaoLidasDTO.delta(-1), emitters.getFirst().enviados.get(1));
+  }
+
+  @Test
+  void enviar_quandoFilaCheia_encerraConexao() {
+    Queue<Runnable> pendentes = new ArrayDeque<>();
+    NotificacaoStream stream = criarStream(pendentes::add, 1, 5);
+    stream.conectar(1L, 0);
+
+    stream.publicarContador(1L, ContadorNaoLidasDTO.delta(1));
+
+    assertEquals(0, stream.conexoesAbertas());
+    assertEquals(1, meterRegistry.get("notificacao.stream.descartadas").counter().count());
+    assertEquals(1, pendentes.size());
+  }
+
+  @Test
+  void enviar_quandoClienteDesconectado_removeConexao() {
+    NotificacaoStream stream = criarStream(Runnable::run, 10, 5);
+    stream.conectar(1L, 0);
+    emitters.getFirst().desconectado = true;
+
+    stream.enviarHeartbeat();
+
+    assertEquals(0, stream.conexoesAbertas());
+  }
+
+  @Test
+  void conectar_quandoExcedeLimitePorUsuario_encerraConexaoMaisAntiga() {
+    NotificacaoStream stream = criarStream(Runnable::run, 10, 1);
+    stream.conectar(1L, 0);
+    stream.conectar(1L, 0);
+
+    stream.enviarHeartbeat();
+
+    assertEquals(1, stream.conexoesAbertas());
+    assertEquals(0, emitters.get(0).heartbeats);
+    assertEquals(1, emitters.get(1).heartbeats);
+  }
+}
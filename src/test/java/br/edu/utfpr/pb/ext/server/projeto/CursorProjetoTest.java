@@ -0,0 +1,35 @@
+package br.edu.utfpr.pb.ext.server.projeto;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+class CursorProjetoTest {
+
+  @Test
+  void decodificar_quandoCodificado_retornaMesmaPosicao() {
+    CursorProjeto cursor = new CursorProjeto(42L);
+
+    assertEquals(cursor, CursorProjeto.decodificar(cursor.codificar()));
+  }
+
+  @Test
+  void decodificar_quandoCodificadoComRelevancia_retornaMesmaPosicao() {
+    CursorProjeto cursor = new CursorProjeto(42L, 0.30396354198455811);
+
+    assertEquals(cursor, CursorProjeto.decodificar(cursor.codificar()));
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {"nao-e-base64!", "YWJj", "", "YWJjfDQy", "MC41fGFiYw"})
+  void decodificar_quandoInvalido_lancaBadRequest(String valor) {
+    ResponseStatusException exception =
+        assertThrows(ResponseStatusException.class, () -> CursorProjeto.decodificar(valor));
+
+    assertEquals(HttpStatus.BAD_REQUEST, exception.getStatusCode());
+  }
+}
@@ -0,0 +1,141 @@
+package br.edu.utfpr.pb.ext.server.projeto;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import br.edu.utfpr.pb.ext.server.config.PostgresIntegrationTest;
+import br.edu.utfpr.pb.ext.server.projeto.enums.StatusProjeto;
+import br.edu.utfpr.pb.ext.server.usuario.Usuario;
+import br.edu.utfpr.pb.ext.server.usuario.UsuarioRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+
+/**
+ * Busca textual de projetos com as funções de {@link FuncoesBuscaProjeto} do PostgreSQL e os
+ * objetos criados pela migração {@code V1.3.18__busca_textual_projetos}.
+ */
+class ProjetoBuscaPostgresTest extends PostgresIntegrationTest {
+
+  @Autowired private ProjetoController projetoController;
+  @Autowired private IProjetoService projetoService;
+  @Autowired private ProjetoRepository projetoRepository;
+  @Autowired private UsuarioRepository usuarioRepository;
+  @Autowired private ObjectMapper objectMapper;
+
+  private Usuario responsavel;
+  private final List<Projeto> projetos = new ArrayList<>();
+
+  @BeforeEach
+  void setUp() {
+    responsavel =
+        usuarioRepository.save(
+            Usuario.builder()
+                .nome("Responsável")
+                .email("busca.postgres@utfpr.edu.br")
+                .cpf(String.valueOf(System.nanoTime()))
+                .build());
+  }
+
+  @AfterEach
+  void tearDown() {
+    projetoRepository.deleteAll(projetos);
+    usuarioRepository.delete(responsavel);
+  }
+
+  private Long salvar(String titulo, String descricao, String publicoAlvo) {
+    Projeto projeto =
+        projetoRepository.save(
+            Projeto.builder()
+                .titulo(titulo)
+                .descricao(descricao)
+                .justificativa("Justificativa")
+                .dataInicio(new Date())
+                .publicoAlvo(publicoAlvo)
+                .status(StatusProjeto.EM_ANDAMENTO)
+                .responsavel(responsavel)
+                .build());
+    projetos.add(projeto);
+    return projeto.getId();
+  }
+
+  private FiltroProjetoDTO filtro(String titulo, String busca) {
+    return new FiltroProjetoDTO(
+        titulo, null, null, null, responsavel.getId(), null, null, null, null, null, null, busca);
+  }
+
+  private List<Long> transmitir(FiltroProjetoDTO filtros) throws Exception {
+    ByteArrayOutputStream saida = new ByteArrayOutputStream();
+    projetoController.buscarProjetos(filtros).getBody().writeTo(saida);
+    List<Long> ids = new ArrayList<>();
+    for (JsonNode projeto : objectMapper.readTree(saida.toByteArray())) {
+      ids.add(projeto.get("id").asLong());
+    }
+    return ids;
+  }
+
+  @Test
+  void buscar_semPaginacao_ordenaPorRelevancia() throws Exception {
+    Long noTitulo = salvar("Oficina de Robótica", "Montagem de robôs", "Estudantes");
+    Long naDescricao = salvar("Horta comunitária", "Sensores de robotica na horta", "Comunidade");
+    salvar("Clube de leitura", "Leitura na praça", "Crianças");
+
+    // o projeto mais recente fica por último: a ordem não é a do identificador
+    assertEquals(List.of(noTitulo, naDescricao), transmitir(filtro(null, "robótica")));
+  }
+
+  @Test
+  void buscar_comErroDeDigitacaoNoTitulo_encontraProjeto() throws Exception {
+    Long robotica = salvar("Oficina de Robótica", "Montagem de robôs", "Estudantes");
+    salvar("Clube de leitura", "Leitura na praça", "Crianças");
+
+    assertEquals(List.of(robotica), transmitir(filtro(null, "robotca")));
+  }
+
+  @Test
+  void buscar_porTitulo_ignoraMaiusculasEAcentos() throws Exception {
+    Long robotica = salvar("Oficina de Robótica", "Montagem de robôs", "Estudantes");
+    salvar("Clube de leitura", "Leitura na praça", "Crianças");
+
+    assertEquals(List.of(robotica), transmitir(filtro("ROBOTICA", null)));
+  }
+
+  @Test
+  void buscarPorCursor_comBuscaLivre_percorreAsPaginasNaOrdemDeRelevancia() {
+    List<Long> esperados =
+        List.of(
+            salvar("Oficina de Robótica", "Robótica educacional", "Estudantes"),
+            salvar("Robótica na escola", "Montagem de robôs", "Estudantes"),
+            salvar("Horta comunitária", "Sensores de robótica", "Comunidade"),
+            salvar("Feira de ciências", "Exposição de robótica", "Comunidade"));
+    FiltroProjetoDTO filtros = filtro(null, "robótica");
+    List<Long> ordemPaginada =
+        projetoService
+            .buscarProjetosPorFiltro(filtros, PageRequest.of(0, 10))
+            .map(ProjetoDTO::getId)
+            .getContent();
+
+    List<Long> percorridos = new ArrayList<>();
+    String cursor = null;
+    do {
+      ProjetoCursorDTO pagina = projetoService.buscarProjetosPorFiltro(filtros, cursor, 1);
+      pagina.getConteudo().forEach(projeto -> percorridos.add(projeto.getId()));
+      cursor = pagina.getProximoCursor();
+    } while (cursor != null);
+
+    assertEquals(ordemPaginada, percorridos);
+    assertEquals(esperados.size(), percorridos.size());
+    assertTrue(percorridos.containsAll(esperados));
+    assertNotEquals(
+        esperados.reversed(),
+        percorridos,
+        "a ordem por relevância não deve ser a do identificador");
+  }
+}
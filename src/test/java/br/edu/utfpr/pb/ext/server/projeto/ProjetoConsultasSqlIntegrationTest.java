@@ -0,0 +1,206 @@
+package br.edu.utfpr.pb.ext.server.projeto;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import br.edu.utfpr.pb.ext.server.config.ContadorSql;
+import br.edu.utfpr.pb.ext.server.config.ContadorSqlTestConfig;
+import br.edu.utfpr.pb.ext.server.curso.Curso;
+import br.edu.utfpr.pb.ext.server.curso.CursoRepository;
+import br.edu.utfpr.pb.ext.server.projeto.enums.StatusProjeto;
+import br.edu.utfpr.pb.ext.server.security.SecurityService;
+import br.edu.utfpr.pb.ext.server.usuario.Usuario;
+import br.edu.utfpr.pb.ext.server.usuario.UsuarioRepository;
+import br.edu.utfpr.pb.ext.server.usuario.authority.AuthorityRepository;
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Sort;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Verifica a quantidade de instruções SQL de cada endpoint de consulta de projetos. Os limites não
+ * dependem da quantidade de projetos, responsáveis ou membros: um aumento indica que alguma
+ * associação voltou a ser carregada uma a uma.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Import(ContadorSqlTestConfig.class)
+class ProjetoConsultasSqlIntegrationTest {
+
+  private static final int QUANTIDADE_PROJETOS = 12;
+  private static final FiltroProjetoDTO SEM_FILTROS =
+      new FiltroProjetoDTO(null, null, null, null, null, null, null, null, null, null, null, null);
+
+  @Autowired private ProjetoController projetoController;
+  @Autowired private ProjetoRepository projetoRepository;
+  @Autowired private UsuarioRepository usuarioRepository;
+  @Autowired private CursoRepository cursoRepository;
+  @Autowired private AuthorityRepository authorityRepository;
+  @Autowired private PlatformTransactionManager transactionManager;
+  @Autowired private SecurityService securityService;
+
+  // os endpoints genéricos convertem para DTO fora do serviço; numa requisição a sessão continua
+  // aberta até o fim (open-in-view), o que aqui é reproduzido por uma transação
+  private TransactionTemplate somenteLeitura;
+  private Long idProjeto;
+  private Usuario membroEquipe;
+
+  @BeforeEach
+  void setUp() {
+    projetoRepository.deleteAll();
+    usuarioRepository.deleteAll();
+    cursoRepository.deleteAll();
+    somenteLeitura = new TransactionTemplate(transactionManager);
+    somenteLeitura.setReadOnly(true);
+
+    List<Curso> cursos = new ArrayList<>();
+    for (int i = 0; i < 3; i++) {
+      cursos.add(cursoRepository.save(Curso.builder().nome("Curso " + i).codigo("C" + i).build()));
+    }
+    List<Usuario> usuarios = new ArrayList<>();
+    for (int i = 0; i < 9; i++) {
+      usuarios.add(
+          usuarioRepository.save(
+              Usuario.builder()
+                  .nome("Usuário " + i)
+                  .email("usuario" + i + "@utfpr.edu.br")
+                  .cpf(String.valueOf(System.nanoTime()))
+                  .curso(cursos.get(i % cursos.size()))
+                  .authorities(
+                      Set.of(
+                          authorityRepository
+                              .findByAuthority(i % 2 == 0 ? "ROLE_ALUNO" : "ROLE_SERVIDOR")
+                              .orElseThrow()))
+                  .build()));
+    }
+    for (int i = 0; i < QUANTIDADE_PROJETOS; i++) {
+      idProjeto =
+          projetoRepository
+              .save(
+                  Projeto.builder()
+                      .titulo("Projeto " + i)
+                      .descricao("Descrição")
+                      .justificativa("Justificativa")
+                      .dataInicio(new Date())
+                      .publicoAlvo("Todos")
+                      .status(StatusProjeto.EM_ANDAMENTO)
+                      .responsavel(usuarios.get(i % usuarios.size()))
+                      .equipeExecutora(
+                          List.of(
+                              usuarios.get((i + 1) % usuarios.size()),
+                              usuarios.get((i + 2) % usuarios.size()),
+                              usuarios.get((i + 3) % usuarios.size())))
+                      .build())
+              .getId();
+    }
+    membroEquipe = usuarios.get((QUANTIDADE_PROJETOS + 2) % usuarios.size());
+  }
+
+  @AfterEach
+  void tearDown() {
+    SecurityContextHolder.clearContext();
+    projetoRepository.deleteAll();
+    usuarioRepository.deleteAll();
+    cursoRepository.deleteAll();
+  }
+
+  @Test
+  void listarPaginado_executaQuantidadeFixaDeInstrucoes() throws Throwable {
+    ContadorSql.Medicao<?> medicao =
+        ContadorSql.contar(
+            () -> somenteLeitura.execute(status -> projetoController.findAll(0, 10, null, null)));
+    // consulta, contagem, equipes e perfis dos usuários
+    assertThat(medicao.instrucoes()).isLessThanOrEqualTo(4);
+  }
+
+  @Test
+  void listarPaginado_quantidadeDeInstrucoesNaoDependeDoTamanhoDaPagina() throws Throwable {
+    int paginaPequena =
+        ContadorSql.contar(
+                () -> somenteLeitura.execute(status -> projetoController.findAll(0, 2, null, null)))
+            .instrucoes();
+    int paginaCompleta =
+        ContadorSql.contar(
+                () ->
+                    somenteLeitura.execute(
+                        status -> projetoController.findAll(0, QUANTIDADE_PROJETOS, null, null)))
+            .instrucoes();
+
+    assertEquals(paginaPequena, paginaCompleta);
+  }
+
+  @Test
+  void detalhar_executaQuantidadeFixaDeInstrucoes() throws Throwable {
+    ContadorSql.Medicao<?> medicao =
+        ContadorSql.contar(
+            () -> somenteLeitura.execute(status -> projetoController.findOne(idProjeto)));
+    assertThat(medicao.instrucoes()).isEqualTo(1);
+  }
+
+  @Test
+  void buscarTransmitindo_executaQuantidadeFixaDeInstrucoes() throws Throwable {
+    ContadorSql.Medicao<?> medicao =
+        ContadorSql.contar(
+            () -> {
+              ByteArrayOutputStream saida = new ByteArrayOutputStream();
+              projetoController.buscarProjetos(SEM_FILTROS).getBody().writeTo(saida);
+              return saida;
+            });
+    // um lote: consulta, equipes e perfis dos usuários
+    assertThat(medicao.instrucoes()).isLessThanOrEqualTo(3);
+  }
+
+  @Test
+  void buscarPaginado_executaQuantidadeFixaDeInstrucoes() throws Throwable {
+    ContadorSql.Medicao<?> medicao =
+        ContadorSql.contar(
+            () -> projetoController.buscarProjetosPaginados(SEM_FILTROS, 0, 10, Sort.by("titulo")));
+    assertThat(medicao.instrucoes()).isLessThanOrEqualTo(4);
+  }
+
+  @Test
+  void buscarPorCursor_executaQuantidadeFixaDeInstrucoes() throws Throwable {
+    ContadorSql.Medicao<?> medicao =
+        ContadorSql.contar(() -> projetoController.buscarProjetosPorCursor(SEM_FILTROS, null, 10));
+    assertThat(medicao.instrucoes()).isLessThanOrEqualTo(3);
+  }
+
+  @Test
+  void buscarAlunosExecutores_executaUmaInstrucaoParaTodosOsProjetos() throws Throwable {
+    List<Long> ids = projetoRepository.findAll().stream().map(Projeto::getId).toList();
+
+    ContadorSql.Medicao<List<String>> medicao =
+        ContadorSql.contar(() -> projetoController.buscarAlunosExecutores(ids).getBody());
+
+    assertThat(medicao.instrucoes()).isEqualTo(1);
+    // toda equipe tem ao menos um aluno
+    assertThat(medicao.resultado())
+        .anyMatch(aluno -> aluno.endsWith(" - Projeto 0"))
+        .anyMatch(aluno -> aluno.endsWith(" - Projeto 11"));
+  }
+
+  @Test
+  void podeEditarProjeto_consultaApenasAEquipe() throws Throwable {
+    SecurityContextHolder.getContext()
+        .setAuthentication(new UsernamePasswordAuthenticationToken(membroEquipe, null, List.of()));
+
+    ContadorSql.Medicao<Boolean> medicao =
+        ContadorSql.contar(() -> securityService.podeEditarProjeto(idProjeto));
+
+    assertThat(medicao.resultado()).isTrue();
+    assertThat(medicao.instrucoes()).isEqualTo(1);
+  }
+}
@@ -13,6 +13,8 @@ import br.edu.utfpr.pb.ext.server.usuario.authority.AuthorityRepository;
 import java.time.LocalDate;
 import java.time.ZoneId;
 import java.util.*;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -33,6 +35,7 @@ class ProjetoControllerIntegrationTest {
 
   @Autowired private TestRestTemplate testRestTemplate;
   @Autowired private ProjetoRepository projetoRepository;
+  @Autowired private ProjetoVagas projetoVagas;
   @Autowired private UsuarioRepository usuarioRepository;
   @Autowired private CursoRepository cursoRepository;
   @Autowired private AuthorityRepository authorityRepository;
@@ -83,6 +86,127 @@ class ProjetoControllerIntegrationTest {
     assertEquals(2, response.getBody().length);
   }
 
+  @Test
+  void buscarProjetos_comPaginacao_deveRetornarPaginaOrdenadaComTotal() {
+    criarEsalvarProjeto("Projeto C", StatusProjeto.EM_ANDAMENTO);
+    criarEsalvarProjeto("Projeto A", StatusProjeto.EM_ANDAMENTO);
+    criarEsalvarProjeto("Projeto B", StatusProjeto.EM_ANDAMENTO);
+
+    String url =
+        UriComponentsBuilder.fromPath(API_PROJETOS_BUSCAR)
+            .queryParam("page", 0)
+            .queryParam("size", 2)
+            .queryParam("sort", "titulo,asc")
+            .toUriString();
+
+    ResponseEntity<ProjetoDTO[]> response = testRestTemplate.getForEntity(url, ProjetoDTO[].class);
+
+    assertEquals(HttpStatus.OK, response.getStatusCode());
+    assertEquals("3", response.getHeaders().getFirst("X-Total-Count"));
+    assertThat(response.getBody())
+        .extracting(ProjetoDTO::getTitulo)
+        .containsExactly("Projeto A", "Projeto B");
+  }
+
+  @Test
+  void buscarProjetos_comOrdenacaoPorCampoNaoPermitido_deveRetornarBadRequest() {
+    String url =
+        UriComponentsBuilder.fromPath(API_PROJETOS_BUSCAR)
+            .queryParam("sort", "responsavel.senha")
+            .toUriString();
+
+    ResponseEntity<String> response = testRestTemplate.getForEntity(url, String.class);
+
+    assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+  }
+
+  @Test
+  void buscarProjetosPorCursor_devePercorrerTodosOsProjetosSemRepetir() {
+    Usuario membro =
+        usuarioRepository.save(
+            Usuario.builder()
+                .nome("Membro")
+                .email("membro.cursor@utfpr.edu.br")
+                .cpf(String.valueOf(System.nanoTime()))
+                .build());
+    Set<Long> esperados = new HashSet<>();
+    for (int i = 0; i < 5; i++) {
+      Projeto projeto = criarEsalvarProjeto("Projeto " + i, StatusProjeto.EM_ANDAMENTO);
+      // dois membros por projeto: a busca por membro não pode repetir projetos
+      projeto.setEquipeExecutora(new ArrayList<>(List.of(membro, responsavelDeTeste)));
+      esperados.add(projetoRepository.save(projeto).getId());
+    }
+    criarEsalvarProjeto("Projeto sem o membro", StatusProjeto.EM_ANDAMENTO);
+
+    List<Long> percorridos = new ArrayList<>();
+    String cursor = null;
+    int paginas = 0;
+    do {
+      UriComponentsBuilder url =
+          UriComponentsBuilder.fromPath(API_PROJETOS_BUSCAR + "/cursor")
+              .queryParam("idMembroEquipe", membro.getId())
+              .queryParam("tamanho", 2);
+      if (cursor != null) {
+        url.queryParam("cursor", cursor);
+      }
+      ResponseEntity<ProjetoCursorDTO> response =
+          testRestTemplate.getForEntity(url.toUriString(), ProjetoCursorDTO.class);
+      assertEquals(HttpStatus.OK, response.getStatusCode());
+      response.getBody().getConteudo().forEach(projeto -> percorridos.add(projeto.getId()));
+      cursor = response.getBody().getProximoCursor();
+      paginas++;
+    } while (cursor != null);
+
+    assertEquals(3, paginas);
+    assertEquals(esperados, new HashSet<>(percorridos));
+    assertThat(percorridos).isSortedAccordingTo(Comparator.reverseOrder());
+  }
+
+  @Test
+  void buscarProjetos_comBuscaLivre_deveProcurarEmTituloDescricaoEPublicoAlvo() {
+    criarEsalvarProjeto("Oficina de Robótica", StatusProjeto.EM_ANDAMENTO);
+    Projeto pelaDescricao = criarEsalvarProjeto("Projeto de Leitura", StatusProjeto.EM_ANDAMENTO);
+    pelaDescricao.setDescricao("Encontros semanais em formato de OFICINA");
+    projetoRepository.save(pelaDescricao);
+    Projeto peloPublico = criarEsalvarProjeto("Projeto de Música", StatusProjeto.EM_ANDAMENTO);
+    peloPublico.setPublicoAlvo("Participantes da oficina de teatro");
+    projetoRepository.save(peloPublico);
+    criarEsalvarProjeto("Projeto de Culinária", StatusProjeto.EM_ANDAMENTO);
+
+    String url =
+        UriComponentsBuilder.fromPath(API_PROJETOS_BUSCAR)
+            .queryParam("busca", "Oficina")
+            .toUriString();
+
+    ResponseEntity<ProjetoDTO[]> response = testRestTemplate.getForEntity(url, ProjetoDTO[].class);
+
+    assertEquals(HttpStatus.OK, response.getStatusCode());
+    assertThat(response.getBody())
+        .extracting(ProjetoDTO::getTitulo)
+        .containsExactlyInAnyOrder(
+            "Oficina de Robótica", "Projeto de Leitura", "Projeto de Música");
+  }
+
+  @Test
+  void buscarProjetos_comBuscaLivrePaginada_deveRetornarTotalDosCorrespondentes() {
+    criarEsalvarProjeto("Oficina A", StatusProjeto.EM_ANDAMENTO);
+    criarEsalvarProjeto("Oficina B", StatusProjeto.EM_ANDAMENTO);
+    criarEsalvarProjeto("Oficina C", StatusProjeto.EM_ANDAMENTO);
+    criarEsalvarProjeto("Projeto de Culinária", StatusProjeto.EM_ANDAMENTO);
+
+    String url =
+        UriComponentsBuilder.fromPath(API_PROJETOS_BUSCAR)
+            .queryParam("busca", "oficina")
+            .queryParam("size", 2)
+            .toUriString();
+
+    ResponseEntity<ProjetoDTO[]> response = testRestTemplate.getForEntity(url, ProjetoDTO[].class);
+
+    assertEquals(HttpStatus.OK, response.getStatusCode());
+    assertEquals("3", response.getHeaders().getFirst("X-Total-Count"));
+    assertEquals(2, response.getBody().length);
+  }
+
   @Test
   void buscarProjetos_comFiltroDeTitulo_deveRetornarApenasProjetoCorrespondente() {
     criarEsalvarProjeto("Projeto de Robotica", StatusProjeto.EM_ANDAMENTO);
@@ -315,6 +439,25 @@ class ProjetoControllerIntegrationTest {
     assertEquals(0, response.getBody().length);
   }
 
+  @Test
+  void buscarAlunosExecutores_comProjetosDemais_deveRetornarBadRequest() {
+    // Arrange
+    String ids =
+        LongStream.rangeClosed(1, IProjetoService.MAXIMO_PROJETOS_ALUNOS_EXECUTORES + 1)
+            .mapToObj(String::valueOf)
+            .collect(Collectors.joining(","));
+    String url =
+        UriComponentsBuilder.fromPath(API_PROJETOS_ALUNOS_EXECUTORES)
+            .queryParam("idsProjeto", ids)
+            .toUriString();
+
+    // Act
+    ResponseEntity<String> response = testRestTemplate.getForEntity(url, String.class);
+
+    // Assert
+    assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+  }
+
   @Test
   void buscarProjetos_comFiltroDeCargaHoraria_deveRetornarProjetosNoIntervalo() {
     // Arrange
@@ -403,6 +546,9 @@ class ProjetoControllerIntegrationTest {
             .equipeExecutora(List.of(membro1, membro2))
             .build());
 
+    // Projetos gravados direto no repositório: as vagas ocupadas vêm da reconciliação
+    projetoVagas.reconciliar();
+
     String url =
         UriComponentsBuilder.fromPath(API_PROJETOS_BUSCAR)
             .queryParam("temVagas", "true")
@@ -438,6 +584,9 @@ class ProjetoControllerIntegrationTest {
             .equipeExecutora(new ArrayList<>(List.of(membro1, membro2)))
             .build());
 
+    // Projetos gravados direto no repositório: as vagas ocupadas vêm da reconciliação
+    projetoVagas.reconciliar();
+
     String url =
         UriComponentsBuilder.fromPath(API_PROJETOS_BUSCAR)
             .queryParam("temVagas", "false")
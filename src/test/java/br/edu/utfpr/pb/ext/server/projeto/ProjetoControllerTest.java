@@ -7,8 +7,12 @@ import br.edu.utfpr.pb.ext.server.projeto.enums.StatusProjeto;
 import br.edu.utfpr.pb.ext.server.usuario.Usuario;
 import br.edu.utfpr.pb.ext.server.usuario.UsuarioRepository;
 import br.edu.utfpr.pb.ext.server.usuario.dto.UsuarioProjetoDTO;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.persistence.EntityNotFoundException;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
@@ -16,11 +20,17 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.modelmapper.ModelMapper;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @ExtendWith(MockitoExtension.class)
 class ProjetoControllerTest {
@@ -33,6 +43,8 @@ class ProjetoControllerTest {
 
   @Mock private ModelMapper modelMapper;
 
+  @Spy private ObjectMapper objectMapper = new ObjectMapper();
+
   private ProjetoDTO projetoDTOEntrada;
   private Usuario usuario;
   private Projeto projeto;
@@ -521,88 +533,111 @@ class ProjetoControllerTest {
   }
 
   @Test
-  void buscarProjetos_semFiltros_retornaOkComListaDeProjetos() {
+  void buscarProjetos_semPaginacao_transmiteTodosOsLotes() throws IOException {
     // Arrange
     FiltroProjetoDTO filtroVazio =
-        new FiltroProjetoDTO(null, null, null, null, null, null, null, null, null, null, null);
-    List<ProjetoDTO> listaEsperada = List.of(new ProjetoDTO(), new ProjetoDTO());
-    when(projetoService.buscarProjetosPorFiltro(filtroVazio)).thenReturn(listaEsperada);
+        new FiltroProjetoDTO(
+            null, null, null, null, null, null, null, null, null, null, null, null);
+    ProjetoDTO primeiro = new ProjetoDTO();
+    primeiro.setId(3L);
+    ProjetoDTO segundo = new ProjetoDTO();
+    segundo.setId(2L);
+    ProjetoDTO terceiro = new ProjetoDTO();
+    terceiro.setId(1L);
+    when(projetoService.buscarProjetosPorFiltro(
+            filtroVazio, null, ProjetoController.TAMANHO_LOTE_TRANSMISSAO))
+        .thenReturn(new ProjetoCursorDTO(List.of(primeiro, segundo), "cursor"));
+    when(projetoService.buscarProjetosPorFiltro(
+            filtroVazio, "cursor", ProjetoController.TAMANHO_LOTE_TRANSMISSAO))
+        .thenReturn(new ProjetoCursorDTO(List.of(terceiro), null));
 
     // Act
-    ResponseEntity<List<ProjetoDTO>> response = projetoController.buscarProjetos(filtroVazio);
+    ResponseEntity<StreamingResponseBody> response = projetoController.buscarProjetos(filtroVazio);
 
     // Assert
     assertEquals(HttpStatus.OK, response.getStatusCode());
-    assertNotNull(response.getBody());
-    assertEquals(2, response.getBody().size());
-
-    verify(projetoService).buscarProjetosPorFiltro(filtroVazio);
+    assertEquals(List.of(3L, 2L, 1L), idsDoCorpo(response));
+    verify(projetoService, never()).buscarProjetosPorFiltro(eq(filtroVazio), any(Pageable.class));
   }
 
   @Test
-  void buscarProjetos_comFiltroUnicoDeTitulo_retornaOkComListaFiltrada() {
-    // Arrange 🕵️‍♂️
-    // 1. Cria um filtro específico, apenas com o título.
-    FiltroProjetoDTO filtros =
+  void buscarProjetos_quandoNenhumProjetoEncontrado_retornaOkComListaVazia() throws IOException {
+    // Arrange
+    FiltroProjetoDTO filtroInexistente =
         new FiltroProjetoDTO(
-            "Robótica", null, null, null, null, null, null, null, null, null, null);
+            "Projeto Inexistente",
+            null,
+            null,
+            null,
+            null,
+            null,
+            null,
+            null,
+            null,
+            null,
+            null,
+            null);
+
+    when(projetoService.buscarProjetosPorFiltro(
+            filtroInexistente, null, ProjetoController.TAMANHO_LOTE_TRANSMISSAO))
+        .thenReturn(new ProjetoCursorDTO(Collections.emptyList(), null));
 
-    // 2. A lista esperada para este filtro específico.
-    List<ProjetoDTO> listaFiltrada = List.of(new ProjetoDTO());
-
-    // 3. Configura o mock para retornar a lista filtrada quando chamado com o filtro exato.
-    when(projetoService.buscarProjetosPorFiltro(filtros)).thenReturn(listaFiltrada);
-
-    // Act 🚀
-    ResponseEntity<List<ProjetoDTO>> response = projetoController.buscarProjetos(filtros);
+    // Act
+    ResponseEntity<StreamingResponseBody> response =
+        projetoController.buscarProjetos(filtroInexistente);
 
-    // Assert ✅
+    // Assert
     assertEquals(HttpStatus.OK, response.getStatusCode());
-    assertNotNull(response.getBody());
-    assertEquals(1, response.getBody().size());
-
-    // 7. Garante que o serviço foi chamado com o objeto de filtro correto.
-    verify(projetoService).buscarProjetosPorFiltro(filtros);
+    assertTrue(idsDoCorpo(response).isEmpty());
   }
 
   @Test
-  void buscarProjetos_comFiltrosCombinados_retornaOkComListaFiltrada() {
-    // Arrange 🕵️‍♂️
-    // 1. Cria um filtro combinando status e ID de um membro da equipe.
+  void buscarProjetosPaginados_retornaPaginaComTotal() {
+    // Arrange
     FiltroProjetoDTO filtros =
         new FiltroProjetoDTO(
-            null, StatusProjeto.EM_ANDAMENTO, null, null, 10L, null, null, null, null, null, null);
-    List<ProjetoDTO> listaFiltrada = List.of(new ProjetoDTO());
-    when(projetoService.buscarProjetosPorFiltro(filtros)).thenReturn(listaFiltrada);
+            "Robótica", null, null, null, null, null, null, null, null, null, null, null);
+    ProjetoDTO projetoDTO = new ProjetoDTO();
+    projetoDTO.setId(7L);
+    Sort sort = Sort.by("titulo");
+    when(projetoService.buscarProjetosPorFiltro(filtros, PageRequest.of(1, 5, sort)))
+        .thenReturn(new PageImpl<>(List.of(projetoDTO), PageRequest.of(1, 5, sort), 6));
 
-    // Act 🚀
-    ResponseEntity<List<ProjetoDTO>> response = projetoController.buscarProjetos(filtros);
+    // Act
+    ResponseEntity<List<ProjetoDTO>> response =
+        projetoController.buscarProjetosPaginados(filtros, 1, 5, sort);
 
-    // Assert ✅
+    // Assert
     assertEquals(HttpStatus.OK, response.getStatusCode());
-    assertNotNull(response.getBody());
-    assertEquals(1, response.getBody().size());
-    verify(projetoService).buscarProjetosPorFiltro(filtros);
+    assertEquals("6", response.getHeaders().getFirst(ProjetoController.CABECALHO_TOTAL));
+    assertEquals(List.of(projetoDTO), response.getBody());
+    verify(projetoService, never())
+        .buscarProjetosPorFiltro(any(FiltroProjetoDTO.class), any(), anyInt());
   }
 
   @Test
-  void buscarProjetos_quandoNenhumProjetoEncontrado_retornaOkComListaVazia() {
+  void buscarProjetosPorCursor_delegaAoServico() {
     // Arrange
-    FiltroProjetoDTO filtroInexistente =
+    FiltroProjetoDTO filtros =
         new FiltroProjetoDTO(
-            "Projeto Inexistente", null, null, null, null, null, null, null, null, null, null);
-
-    when(projetoService.buscarProjetosPorFiltro(filtroInexistente))
-        .thenReturn(Collections.emptyList());
+            null, null, null, null, null, null, null, null, null, null, null, null);
+    ProjetoCursorDTO pagina = new ProjetoCursorDTO(List.of(new ProjetoDTO()), "proximo");
+    when(projetoService.buscarProjetosPorFiltro(filtros, "cursor", 10)).thenReturn(pagina);
 
     // Act
-    ResponseEntity<List<ProjetoDTO>> response = projetoController.buscarProjetos(filtroInexistente);
+    ResponseEntity<ProjetoCursorDTO> response =
+        projetoController.buscarProjetosPorCursor(filtros, "cursor", 10);
 
     // Assert
     assertEquals(HttpStatus.OK, response.getStatusCode());
-    assertNotNull(response.getBody());
-    assertTrue(response.getBody().isEmpty());
+    assertSame(pagina, response.getBody());
+  }
 
-    verify(projetoService).buscarProjetosPorFiltro(filtroInexistente);
+  private List<Long> idsDoCorpo(ResponseEntity<StreamingResponseBody> response) throws IOException {
+    ByteArrayOutputStream saida = new ByteArrayOutputStream();
+    response.getBody().writeTo(saida);
+    return Arrays.stream(objectMapper.readValue(saida.toByteArray(), ProjetoDTO[].class))
+        .map(ProjetoDTO::getId)
+        .toList();
   }
 }
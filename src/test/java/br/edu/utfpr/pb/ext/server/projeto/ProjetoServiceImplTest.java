@@ -9,11 +9,13 @@ import br.edu.utfpr.pb.ext.server.file.FileService;
 import br.edu.utfpr.pb.ext.server.file.img.ImageUtils;
 import br.edu.utfpr.pb.ext.server.projeto.enums.StatusProjeto;
 import br.edu.utfpr.pb.ext.server.usuario.Usuario;
-import br.edu.utfpr.pb.ext.server.usuario.UsuarioRepository;
+import br.edu.utfpr.pb.ext.server.usuario.UsuarioCache;
 import jakarta.persistence.EntityNotFoundException;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.*;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
 import org.jetbrains.annotations.NotNull;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -22,10 +24,16 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.NullAndEmptySource;
 import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.modelmapper.ModelMapper;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.core.Authentication;
@@ -39,10 +47,11 @@ class ProjetoServiceImplTest {
 
   @Mock private ProjetoRepository projetoRepository;
   @Mock private ModelMapper modelMapper;
-  @Mock private UsuarioRepository usuarioRepository;
+  @Mock private UsuarioCache usuarioCache;
   @Mock private FileService fileService;
   @Mock private ImageUtils imageUtils;
   @Mock private EventPublisher eventPublisher;
+  @Mock private ProjetoVagas projetoVagas;
   private final Long projetoId = 1L;
   private final Long servidorId = 100L;
   private final Long alunoId = 200L;
@@ -358,13 +367,13 @@ class ProjetoServiceImplTest {
 
     SecurityContextHolder.getContext().setAuthentication(authentication);
 
-    when(usuarioRepository.findByEmail(emailAutenticado)).thenReturn(Optional.of(usuarioMock));
+    when(usuarioCache.findByEmail(emailAutenticado)).thenReturn(Optional.of(usuarioMock));
 
     Projeto resultado = projetoService.preSave(projeto);
 
     assertNotNull(resultado.getResponsavel());
     assertEquals(usuarioMock, resultado.getResponsavel());
-    verify(usuarioRepository, times(2)).findByEmail(emailAutenticado);
+    verify(usuarioCache, times(2)).findByEmail(emailAutenticado);
 
     SecurityContextHolder.clearContext();
   }
@@ -378,7 +387,7 @@ class ProjetoServiceImplTest {
     Usuario usuario = Usuario.builder().email(email).build();
     projeto.getEquipeExecutora().add(usuario);
 
-    when(usuarioRepository.findByEmail(email)).thenReturn(Optional.of(usuario));
+    when(usuarioCache.findByEmail(email)).thenReturn(Optional.of(usuario));
     Projeto resultado = projetoService.preSave(projeto);
     assertEquals(StatusProjeto.FINALIZADO, resultado.getStatus());
   }
@@ -585,7 +594,7 @@ class ProjetoServiceImplTest {
     usuario.setEmail("naoexiste@utfpr.edu.br");
     projeto.getEquipeExecutora().add(usuario);
 
-    when(usuarioRepository.findByEmail("naoexiste@utfpr.edu.br")).thenReturn(Optional.empty());
+    when(usuarioCache.findByEmail("naoexiste@utfpr.edu.br")).thenReturn(Optional.empty());
 
     ResponseStatusException exception =
         assertThrows(ResponseStatusException.class, () -> projetoService.preSave(projeto));
@@ -607,8 +616,7 @@ class ProjetoServiceImplTest {
     usuarioCarregado.setEmail("user1@utfpr.edu.br");
     usuarioCarregado.setNome("Usuario 1");
 
-    when(usuarioRepository.findByEmail("user1@utfpr.edu.br"))
-        .thenReturn(Optional.of(usuarioCarregado));
+    when(usuarioCache.findByEmail("user1@utfpr.edu.br")).thenReturn(Optional.of(usuarioCarregado));
 
     Authentication authentication = mock(Authentication.class);
     SecurityContextHolder.getContext().setAuthentication(authentication);
@@ -618,7 +626,7 @@ class ProjetoServiceImplTest {
 
     assertEquals(1, resultado.getEquipeExecutora().size());
     assertEquals(usuarioCarregado, resultado.getEquipeExecutora().getFirst());
-    verify(usuarioRepository).findByEmail("user1@utfpr.edu.br");
+    verify(usuarioCache).findByEmail("user1@utfpr.edu.br");
 
     SecurityContextHolder.clearContext();
   }
@@ -644,10 +652,8 @@ class ProjetoServiceImplTest {
     usuarioCarregado2.setId(2L);
     usuarioCarregado2.setEmail("user2@utfpr.edu.br");
 
-    when(usuarioRepository.findByEmail("user1@utfpr.edu.br"))
-        .thenReturn(Optional.of(usuarioCarregado1));
-    when(usuarioRepository.findByEmail("user2@utfpr.edu.br"))
-        .thenReturn(Optional.of(usuarioCarregado2));
+    when(usuarioCache.findByEmail("user1@utfpr.edu.br")).thenReturn(Optional.of(usuarioCarregado1));
+    when(usuarioCache.findByEmail("user2@utfpr.edu.br")).thenReturn(Optional.of(usuarioCarregado2));
 
     Authentication authentication = mock(Authentication.class);
     SecurityContextHolder.getContext().setAuthentication(authentication);
@@ -658,8 +664,8 @@ class ProjetoServiceImplTest {
     assertEquals(2, resultado.getEquipeExecutora().size());
     assertTrue(resultado.getEquipeExecutora().contains(usuarioCarregado1));
     assertTrue(resultado.getEquipeExecutora().contains(usuarioCarregado2));
-    verify(usuarioRepository).findByEmail("user1@utfpr.edu.br");
-    verify(usuarioRepository).findByEmail("user2@utfpr.edu.br");
+    verify(usuarioCache).findByEmail("user1@utfpr.edu.br");
+    verify(usuarioCache).findByEmail("user2@utfpr.edu.br");
 
     SecurityContextHolder.clearContext();
   }
@@ -685,8 +691,7 @@ class ProjetoServiceImplTest {
     Usuario usuarioAutenticado = new Usuario();
     usuarioAutenticado.setId(1L);
     usuarioAutenticado.setEmail(emailAutenticado);
-    when(usuarioRepository.findByEmail(emailAutenticado))
-        .thenReturn(Optional.of(usuarioAutenticado));
+    when(usuarioCache.findByEmail(emailAutenticado)).thenReturn(Optional.of(usuarioAutenticado));
 
     Projeto resultado = projetoService.preSave(projeto);
 
@@ -711,7 +716,7 @@ class ProjetoServiceImplTest {
     when(authentication.isAuthenticated()).thenReturn(true);
     when(authentication.getName()).thenReturn(emailAutenticado);
 
-    when(usuarioRepository.findByEmail(emailAutenticado)).thenReturn(Optional.empty());
+    when(usuarioCache.findByEmail(emailAutenticado)).thenReturn(Optional.empty());
 
     EntityNotFoundException exception =
         assertThrows(EntityNotFoundException.class, () -> projetoService.preSave(projeto));
@@ -726,10 +731,11 @@ class ProjetoServiceImplTest {
     // Arrange
     FiltroProjetoDTO filtro =
         new FiltroProjetoDTO(
-            "Robótica", null, null, null, null, null, null, null, null, null, null);
+            "Robótica", null, null, null, null, null, null, null, null, null, null, null);
     List<Projeto> listaResultado = List.of(projetoMock);
 
-    when(projetoRepository.findAll(any(Specification.class))).thenReturn(listaResultado);
+    when(projetoRepository.findAll(any(Specification.class), any(Sort.class)))
+        .thenReturn(listaResultado);
     when(modelMapper.map(projetoMock, ProjetoDTO.class)).thenReturn(projetoDTOMock);
 
     // Act
@@ -739,7 +745,7 @@ class ProjetoServiceImplTest {
     assertNotNull(resultado);
     assertFalse(resultado.isEmpty());
     assertEquals(1, resultado.size());
-    verify(projetoRepository).findAll(any(Specification.class));
+    verify(projetoRepository).findAll(any(Specification.class), any(Sort.class));
   }
 
   @Test
@@ -747,10 +753,22 @@ class ProjetoServiceImplTest {
     // Arrange
     FiltroProjetoDTO filtro =
         new FiltroProjetoDTO(
-            null, StatusProjeto.EM_ANDAMENTO, null, null, null, null, null, null, null, null, null);
+            null,
+            StatusProjeto.EM_ANDAMENTO,
+            null,
+            null,
+            null,
+            null,
+            null,
+            null,
+            null,
+            null,
+            null,
+            null);
     List<Projeto> listaResultado = List.of(projetoMock);
 
-    when(projetoRepository.findAll(any(Specification.class))).thenReturn(listaResultado);
+    when(projetoRepository.findAll(any(Specification.class), any(Sort.class)))
+        .thenReturn(listaResultado);
     when(modelMapper.map(any(Projeto.class), eq(ProjetoDTO.class))).thenReturn(projetoDTOMock);
 
     // Act
@@ -759,7 +777,7 @@ class ProjetoServiceImplTest {
     // Assert
     assertNotNull(resultado);
     assertFalse(resultado.isEmpty());
-    verify(projetoRepository).findAll(any(Specification.class));
+    verify(projetoRepository).findAll(any(Specification.class), any(Sort.class));
   }
 
   @Test
@@ -767,10 +785,11 @@ class ProjetoServiceImplTest {
     // Arrange
     FiltroProjetoDTO filtro =
         new FiltroProjetoDTO(
-            null, null, LocalDate.now(), null, null, null, null, null, null, null, null);
+            null, null, LocalDate.now(), null, null, null, null, null, null, null, null, null);
     List<Projeto> listaResultado = List.of(projetoMock);
 
-    when(projetoRepository.findAll(any(Specification.class))).thenReturn(listaResultado);
+    when(projetoRepository.findAll(any(Specification.class), any(Sort.class)))
+        .thenReturn(listaResultado);
     when(modelMapper.map(any(Projeto.class), eq(ProjetoDTO.class))).thenReturn(projetoDTOMock);
 
     // Act
@@ -779,7 +798,7 @@ class ProjetoServiceImplTest {
     // Assert
     assertNotNull(resultado);
     assertFalse(resultado.isEmpty());
-    verify(projetoRepository).findAll(any(Specification.class));
+    verify(projetoRepository).findAll(any(Specification.class), any(Sort.class));
   }
 
   @Test
@@ -787,10 +806,11 @@ class ProjetoServiceImplTest {
     // Arrange
     FiltroProjetoDTO filtro =
         new FiltroProjetoDTO(
-            null, null, null, LocalDate.now(), null, null, null, null, null, null, null);
+            null, null, null, LocalDate.now(), null, null, null, null, null, null, null, null);
     List<Projeto> listaResultado = List.of(projetoMock);
 
-    when(projetoRepository.findAll(any(Specification.class))).thenReturn(listaResultado);
+    when(projetoRepository.findAll(any(Specification.class), any(Sort.class)))
+        .thenReturn(listaResultado);
     when(modelMapper.map(any(Projeto.class), eq(ProjetoDTO.class))).thenReturn(projetoDTOMock);
 
     // Act
@@ -799,17 +819,18 @@ class ProjetoServiceImplTest {
     // Assert
     assertNotNull(resultado);
     assertFalse(resultado.isEmpty());
-    verify(projetoRepository).findAll(any(Specification.class));
+    verify(projetoRepository).findAll(any(Specification.class), any(Sort.class));
   }
 
   @Test
   void buscarProjetosPorFiltro_quandoFiltroDeIdResponsavelInformado_deveChamarRepositorio() {
     // Arrange
     FiltroProjetoDTO filtro =
-        new FiltroProjetoDTO(null, null, null, null, 1L, null, null, null, null, null, null);
+        new FiltroProjetoDTO(null, null, null, null, 1L, null, null, null, null, null, null, null);
     List<Projeto> listaResultado = List.of(projetoMock);
 
-    when(projetoRepository.findAll(any(Specification.class))).thenReturn(listaResultado);
+    when(projetoRepository.findAll(any(Specification.class), any(Sort.class)))
+        .thenReturn(listaResultado);
     when(modelMapper.map(any(Projeto.class), eq(ProjetoDTO.class))).thenReturn(projetoDTOMock);
 
     // Act
@@ -818,17 +839,18 @@ class ProjetoServiceImplTest {
     // Assert
     assertNotNull(resultado);
     assertFalse(resultado.isEmpty());
-    verify(projetoRepository).findAll(any(Specification.class));
+    verify(projetoRepository).findAll(any(Specification.class), any(Sort.class));
   }
 
   @Test
   void buscarProjetosPorFiltro_quandoFiltroDeIdMembroEquipeInformado_deveChamarRepositorio() {
     // Arrange
     FiltroProjetoDTO filtro =
-        new FiltroProjetoDTO(null, null, null, null, null, 2L, null, null, null, null, null);
+        new FiltroProjetoDTO(null, null, null, null, null, 2L, null, null, null, null, null, null);
     List<Projeto> listaResultado = List.of(projetoMock);
 
-    when(projetoRepository.findAll(any(Specification.class))).thenReturn(listaResultado);
+    when(projetoRepository.findAll(any(Specification.class), any(Sort.class)))
+        .thenReturn(listaResultado);
     when(modelMapper.map(any(Projeto.class), eq(ProjetoDTO.class))).thenReturn(projetoDTOMock);
 
     // Act
@@ -837,17 +859,18 @@ class ProjetoServiceImplTest {
     // Assert
     assertNotNull(resultado);
     assertFalse(resultado.isEmpty());
-    verify(projetoRepository).findAll(any(Specification.class));
+    verify(projetoRepository).findAll(any(Specification.class), any(Sort.class));
   }
 
   @Test
   void buscarProjetosPorFiltro_quandoFiltroDeIdCursoInformado_deveChamarRepositorio() {
     // Arrange
     FiltroProjetoDTO filtro =
-        new FiltroProjetoDTO(null, null, null, null, null, null, 3L, null, null, null, null);
+        new FiltroProjetoDTO(null, null, null, null, null, null, 3L, null, null, null, null, null);
     List<Projeto> listaResultado = List.of(projetoMock);
 
-    when(projetoRepository.findAll(any(Specification.class))).thenReturn(listaResultado);
+    when(projetoRepository.findAll(any(Specification.class), any(Sort.class)))
+        .thenReturn(listaResultado);
     when(modelMapper.map(any(Projeto.class), eq(ProjetoDTO.class))).thenReturn(projetoDTOMock);
 
     // Act
@@ -856,7 +879,44 @@ class ProjetoServiceImplTest {
     // Assert
     assertNotNull(resultado);
     assertFalse(resultado.isEmpty());
-    verify(projetoRepository).findAll(any(Specification.class));
+    verify(projetoRepository).findAll(any(Specification.class), any(Sort.class));
+  }
+
+  @Test
+  void buscarProjetosPorFiltro_quandoPaginado_limitaTamanhoEDesempataPorId() {
+    FiltroProjetoDTO filtro =
+        new FiltroProjetoDTO(
+            null, null, null, null, null, null, null, null, null, null, null, null);
+    when(projetoRepository.findAll(any(Specification.class), any(Pageable.class)))
+        .thenReturn(new PageImpl<>(List.of(projetoMock)));
+    when(modelMapper.map(projetoMock, ProjetoDTO.class)).thenReturn(projetoDTOMock);
+
+    Page<ProjetoDTO> resultado =
+        projetoService.buscarProjetosPorFiltro(filtro, PageRequest.of(2, 1000, Sort.by("titulo")));
+
+    ArgumentCaptor<Pageable> pageable = ArgumentCaptor.forClass(Pageable.class);
+    verify(projetoRepository).findAll(any(Specification.class), pageable.capture());
+    assertEquals(2, pageable.getValue().getPageNumber());
+    assertEquals(ProjetoServiceImpl.TAMANHO_MAXIMO_PAGINA, pageable.getValue().getPageSize());
+    assertEquals(
+        Sort.by(Sort.Order.asc("titulo"), Sort.Order.desc("id")), pageable.getValue().getSort());
+    assertEquals(List.of(projetoDTOMock), resultado.getContent());
+  }
+
+  @Test
+  void buscarProjetosPorFiltro_quandoOrdenacaoPorCampoNaoPermitido_lancaBadRequest() {
+    FiltroProjetoDTO filtro =
+        new FiltroProjetoDTO(
+            null, null, null, null, null, null, null, null, null, null, null, null);
+    PageRequest pageable = PageRequest.of(0, 20, Sort.by("justificativaCancelamento"));
+
+    ResponseStatusException exception =
+        assertThrows(
+            ResponseStatusException.class,
+            () -> projetoService.buscarProjetosPorFiltro(filtro, pageable));
+
+    assertEquals(HttpStatus.BAD_REQUEST, exception.getStatusCode());
+    verifyNoInteractions(projetoRepository);
   }
 
   @Test
@@ -919,6 +979,35 @@ class ProjetoServiceImplTest {
     verify(eventPublisher, never()).publishProjetoCriado(any());
   }
 
+  @Test
+  void buscarAlunosExecutores_consultaCadaProjetoUmaVez() {
+    // Arrange
+    when(projetoRepository.findAlunosExecutores(Set.of(1L, 2L)))
+        .thenReturn(Stream.of(new AlunoExecutor("Ana", "ana@alunos.utfpr.edu.br", "Projeto X")));
+
+    // Act
+    List<String> alunos = projetoService.buscarAlunosExecutores(List.of(1L, 2L, 1L));
+
+    // Assert
+    assertEquals(List.of("Ana - ana@alunos.utfpr.edu.br - Projeto X"), alunos);
+  }
+
+  @Test
+  void buscarAlunosExecutores_quandoProjetosDemais_lancaBadRequest() {
+    // Arrange
+    List<Long> ids =
+        LongStream.rangeClosed(1, IProjetoService.MAXIMO_PROJETOS_ALUNOS_EXECUTORES + 1)
+            .boxed()
+            .toList();
+
+    // Act & Assert
+    ResponseStatusException ex =
+        assertThrows(
+            ResponseStatusException.class, () -> projetoService.buscarAlunosExecutores(ids));
+    assertEquals(400, ex.getStatusCode().value());
+    verifyNoInteractions(projetoRepository);
+  }
+
   @NotNull private static Projeto criaProjetoGenerico() {
     Projeto projeto = new Projeto();
     projeto.setTitulo("Projeto Teste");
@@ -0,0 +1,131 @@
+package br.edu.utfpr.pb.ext.server.projeto;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import br.edu.utfpr.pb.ext.server.candidatura.Candidatura;
+import br.edu.utfpr.pb.ext.server.candidatura.CandidaturaRepository;
+import br.edu.utfpr.pb.ext.server.candidatura.StatusCandidatura;
+import br.edu.utfpr.pb.ext.server.projeto.enums.StatusProjeto;
+import br.edu.utfpr.pb.ext.server.usuario.Usuario;
+import br.edu.utfpr.pb.ext.server.usuario.UsuarioRepository;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class ProjetoVagasTest {
+
+  @Autowired private ProjetoVagas projetoVagas;
+  @Autowired private ProjetoRepository projetoRepository;
+  @Autowired private CandidaturaRepository candidaturaRepository;
+  @Autowired private UsuarioRepository usuarioRepository;
+  @Autowired private JdbcTemplate jdbcTemplate;
+
+  private Usuario membro;
+  private Usuario aluno;
+
+  @BeforeEach
+  void setUp() {
+    candidaturaRepository.deleteAll();
+    projetoRepository.deleteAll();
+    membro = salvarUsuario("vagas.membro@utfpr.edu.br");
+    aluno = salvarUsuario("vagas.aluno@alunos.utfpr.edu.br");
+  }
+
+  @AfterEach
+  void tearDown() {
+    candidaturaRepository.deleteAll();
+    projetoRepository.deleteAll();
+    usuarioRepository.deleteAll(List.of(membro, aluno));
+  }
+
+  private Usuario salvarUsuario(String email) {
+    return usuarioRepository.save(
+        Usuario.builder()
+            .nome("Usuário")
+            .email(email)
+            .cpf(String.valueOf(System.nanoTime()))
+            .build());
+  }
+
+  private Projeto salvarProjeto(List<Usuario> equipe) {
+    return projetoRepository.save(
+        Projeto.builder()
+            .titulo("Projeto")
+            .descricao("descrição")
+            .justificativa("justificativa")
+            .dataInicio(new Date())
+            .publicoAlvo("Todos")
+            .status(StatusProjeto.EM_ANDAMENTO)
+            .qtdeVagas(5L)
+            .equipeExecutora(new ArrayList<>(equipe))
+            .build());
+  }
+
+  private void salvarCandidatura(Projeto projeto, StatusCandidatura status) {
+    candidaturaRepository.save(
+        Candidatura.builder()
+            .projeto(projeto)
+            .aluno(aluno)
+            .status(status)
+            .dataCandidatura(LocalDateTime.now())
+            .build());
+  }
+
+  private long vagasOcupadas(Projeto projeto) {
+    return jdbcTemplate.queryForObject(
+        "SELECT vagas_ocupadas FROM tb_projeto WHERE id = ?", Long.class, projeto.getId());
+  }
+
+  @Test
+  void recontar_contaEquipeECandidaturasAprovadas() {
+    Projeto projeto = salvarProjeto(List.of(membro));
+    salvarCandidatura(projeto, StatusCandidatura.APROVADA);
+
+    assertEquals(2, projetoVagas.recontar(projeto.getId()));
+    assertEquals(2, vagasOcupadas(projeto));
+  }
+
+  @Test
+  void recontar_ignoraCandidaturasNaoAprovadas() {
+    Projeto projeto = salvarProjeto(List.of());
+    salvarCandidatura(projeto, StatusCandidatura.PENDENTE);
+
+    assertEquals(0, projetoVagas.recontar(projeto.getId()));
+  }
+
+  @Test
+  void ocupar_reservaApenasAsVagasDisponiveis() {
+    Projeto projeto = salvarProjeto(List.of(membro));
+    projetoVagas.recontar(projeto.getId());
+
+    assertTrue(projetoVagas.ocupar(projeto.getId(), 3));
+    assertFalse(projetoVagas.ocupar(projeto.getId(), 2));
+    assertTrue(projetoVagas.ocupar(projeto.getId(), 1));
+    assertFalse(projetoVagas.ocupar(projeto.getId(), 1));
+
+    assertEquals(5, vagasOcupadas(projeto));
+  }
+
+  @Test
+  void reconciliar_corrigeContadoresDivergentes() {
+    Projeto comEquipe = salvarProjeto(List.of(membro));
+    Projeto semEquipe = salvarProjeto(List.of());
+    projetoVagas.ocupar(semEquipe.getId(), 1);
+
+    assertEquals(2, projetoVagas.reconciliar());
+
+    assertEquals(1, vagasOcupadas(comEquipe));
+    assertEquals(0, vagasOcupadas(semEquipe));
+    assertEquals(0, projetoVagas.reconciliar());
+  }
+}
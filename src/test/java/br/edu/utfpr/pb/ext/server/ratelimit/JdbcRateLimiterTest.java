@@ -0,0 +1,82 @@
+package br.edu.utfpr.pb.ext.server.ratelimit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@SpringBootTest(properties = "app.rate-limit.store=jdbc")
+@ActiveProfiles("test")
+class JdbcRateLimiterTest {
+
+  private static final Limite CURTO = new Limite("curto", 5, Duration.ofMinutes(15));
+  private static final Limite DIARIO = new Limite("diario", 30, Duration.ofHours(24));
+
+  @Autowired private RateLimiter configurado;
+  @Autowired private JdbcTemplate jdbcTemplate;
+  @Autowired private PlatformTransactionManager transactionManager;
+
+  private final AtomicLong agora = new AtomicLong();
+  private JdbcRateLimiter rateLimiter;
+
+  @BeforeEach
+  void setUp() {
+    jdbcTemplate.update("DELETE FROM tb_rate_limit");
+    agora.set(Duration.ofDays(20_000).toMillis());
+    rateLimiter = new JdbcRateLimiter(jdbcTemplate, transactionManager, agora::get);
+  }
+
+  @Test
+  void contexto_quandoStoreJdbc_usaJdbcRateLimiter() {
+    assertInstanceOf(JdbcRateLimiter.class, configurado);
+  }
+
+  @Test
+  void tentarConsumir_quandoLimiteAtingido_retornaLimiteSemContabilizar() {
+    for (int i = 0; i < 5; i++) {
+      assertTrue(rateLimiter.tentarConsumir("chave", DIARIO, CURTO).isEmpty());
+    }
+
+    assertEquals(Optional.of(CURTO), rateLimiter.tentarConsumir("chave", DIARIO, CURTO));
+    assertEquals(
+        5,
+        jdbcTemplate.queryForObject(
+            "SELECT contador FROM tb_rate_limit WHERE chave = 'chave:diario'", Integer.class));
+  }
+
+  @Test
+  void tentarConsumir_quandoJanelaDesliza_liberaProporcionalmente() {
+    for (int i = 0; i < 5; i++) {
+      rateLimiter.tentarConsumir("chave", CURTO);
+    }
+
+    agora.addAndGet(Duration.ofMinutes(15 + 7).plusSeconds(30).toMillis());
+
+    for (int i = 0; i < 3; i++) {
+      assertTrue(rateLimiter.tentarConsumir("chave", CURTO).isEmpty());
+    }
+    assertTrue(rateLimiter.tentarConsumir("chave", CURTO).isPresent());
+  }
+
+  @Test
+  void removerExpirados_removeApenasPeriodosForaDaJanela() {
+    rateLimiter.tentarConsumir("antiga", CURTO);
+    agora.addAndGet(Duration.ofMinutes(30).toMillis());
+    rateLimiter.tentarConsumir("recente", CURTO);
+    agora.addAndGet(1);
+
+    rateLimiter.removerExpirados();
+
+    assertEquals(
+        "recente:curto",
+        jdbcTemplate.queryForObject("SELECT chave FROM tb_rate_limit", String.class));
+  }
+}
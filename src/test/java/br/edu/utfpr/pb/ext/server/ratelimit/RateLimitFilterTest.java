@@ -0,0 +1,50 @@
+package br.edu.utfpr.pb.ext.server.ratelimit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+class RateLimitFilterTest {
+
+  private final RateLimitFilter filtro =
+      new RateLimitFilter(
+          new SlidingWindowRateLimiter(1000, new SimpleMeterRegistry()),
+          true,
+          List.of("/api/auth/**", " /api/email/enviar"),
+          2,
+          Duration.ofMinutes(1));
+
+  @Test
+  void doFilter_quandoLimiteDoIpAtingido_respondeTooManyRequests() throws Exception {
+    assertEquals(200, filtrar("/api/auth/login", "10.0.0.1").getStatus());
+    assertEquals(200, filtrar("/api/email/enviar", "10.0.0.1").getStatus());
+
+    MockHttpServletResponse response = filtrar("/api/auth/solicitar-codigo", "10.0.0.1");
+
+    assertEquals(429, response.getStatus());
+    assertEquals("60", response.getHeader("Retry-After"));
+    assertEquals(RateLimitFilter.MENSAGEM_LIMITE, response.getContentAsString());
+    assertEquals(200, filtrar("/api/auth/login", "10.0.0.2").getStatus());
+  }
+
+  @Test
+  void doFilter_quandoCaminhoNaoLimitado_naoContabiliza() throws Exception {
+    for (int i = 0; i < 5; i++) {
+      assertEquals(200, filtrar("/api/projeto", "10.0.0.1").getStatus());
+    }
+  }
+
+  private MockHttpServletResponse filtrar(String caminho, String ip) throws Exception {
+    MockHttpServletRequest request = new MockHttpServletRequest("POST", caminho);
+    request.setRemoteAddr(ip);
+    MockHttpServletResponse response = new MockHttpServletResponse();
+    filtro.doFilter(request, response, new MockFilterChain());
+    return response;
+  }
+}
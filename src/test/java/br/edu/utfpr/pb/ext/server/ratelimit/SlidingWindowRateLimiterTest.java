@@ -0,0 +1,123 @@
+package br.edu.utfpr.pb.ext.server.ratelimit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class SlidingWindowRateLimiterTest {
+
+  private static final Limite CURTO = new Limite("curto", 5, Duration.ofMinutes(15));
+  private static final Limite DIARIO = new Limite("diario", 30, Duration.ofHours(24));
+
+  private final AtomicLong agora = new AtomicLong();
+  private SlidingWindowRateLimiter rateLimiter;
+
+  @BeforeEach
+  void setUp() {
+    // início de um período de 24 horas, e portanto também de um de 15 minutos
+    agora.set(Duration.ofDays(20_000).toMillis());
+    rateLimiter = new SlidingWindowRateLimiter(1000, new SimpleMeterRegistry(), agora::get);
+  }
+
+  @Test
+  void tentarConsumir_quandoLimiteAtingido_retornaLimite() {
+    for (int i = 0; i < 5; i++) {
+      assertTrue(rateLimiter.tentarConsumir("chave", CURTO, DIARIO).isEmpty());
+    }
+
+    assertEquals(Optional.of(CURTO), rateLimiter.tentarConsumir("chave", CURTO, DIARIO));
+  }
+
+  @Test
+  void tentarConsumir_quandoChavesDistintas_contaSeparadamente() {
+    for (int i = 0; i < 5; i++) {
+      rateLimiter.tentarConsumir("a", CURTO);
+    }
+
+    assertTrue(rateLimiter.tentarConsumir("b", CURTO).isEmpty());
+    assertTrue(rateLimiter.tentarConsumir("a", CURTO).isPresent());
+  }
+
+  @Test
+  void tentarConsumir_quandoJanelaDesliza_liberaProporcionalmente() {
+    for (int i = 0; i < 5; i++) {
+      rateLimiter.tentarConsumir("chave", CURTO);
+    }
+
+    // no meio do período seguinte, metade das ocorrências anteriores (2,5) ainda conta
+    agora.addAndGet(Duration.ofMinutes(15 + 7).plusSeconds(30).toMillis());
+
+    for (int i = 0; i < 3; i++) {
+      assertTrue(rateLimiter.tentarConsumir("chave", CURTO).isEmpty());
+    }
+    assertTrue(rateLimiter.tentarConsumir("chave", CURTO).isPresent());
+
+    // dois períodos depois, as ocorrências antigas não contam mais
+    agora.addAndGet(Duration.ofMinutes(30).toMillis());
+    assertTrue(rateLimiter.tentarConsumir("chave", CURTO).isEmpty());
+  }
+
+  @Test
+  void tentarConsumir_quandoLimiteDiarioAtingido_naoLiberaAposJanelaCurta() {
+    for (int i = 0; i < 30; i++) {
+      assertTrue(rateLimiter.tentarConsumir("chave", DIARIO, CURTO).isEmpty());
+      agora.addAndGet(Duration.ofMinutes(15).toMillis());
+    }
+
+    assertEquals(Optional.of(DIARIO), rateLimiter.tentarConsumir("chave", DIARIO, CURTO));
+  }
+
+  @Test
+  void tentarConsumir_quandoUmLimiteAtingido_naoContabilizaNosDemais() {
+    Limite diarioDeSeis = new Limite("diario", 6, Duration.ofHours(24));
+    for (int i = 0; i < 5; i++) {
+      rateLimiter.tentarConsumir("chave", CURTO, diarioDeSeis);
+    }
+    for (int i = 0; i < 10; i++) {
+      assertEquals(Optional.of(CURTO), rateLimiter.tentarConsumir("chave", CURTO, diarioDeSeis));
+    }
+
+    agora.addAndGet(Duration.ofMinutes(30).toMillis());
+
+    assertTrue(rateLimiter.tentarConsumir("chave", CURTO, diarioDeSeis).isEmpty());
+    assertEquals(
+        Optional.of(diarioDeSeis), rateLimiter.tentarConsumir("chave", CURTO, diarioDeSeis));
+  }
+
+  @Test
+  void tentarConsumir_quandoConcorrente_naoUltrapassaLimite() throws Exception {
+    Limite limite = new Limite("concorrente", 1000, Duration.ofHours(1));
+    ExecutorService executor = Executors.newFixedThreadPool(8);
+    try {
+      var tarefas =
+          IntStream.range(0, 8)
+              .mapToObj(
+                  t ->
+                      executor.submit(
+                          () ->
+                              (int)
+                                  IntStream.range(0, 500)
+                                      .filter(
+                                          i ->
+                                              rateLimiter.tentarConsumir("chave", limite).isEmpty())
+                                      .count()))
+              .toList();
+      int aceitas = 0;
+      for (Future<Integer> tarefa : tarefas) {
+        aceitas += tarefa.get();
+      }
+      assertEquals(1000, aceitas);
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+}
@@ -3,12 +3,8 @@ package br.edu.utfpr.pb.ext.server.security;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
-import br.edu.utfpr.pb.ext.server.projeto.Projeto;
 import br.edu.utfpr.pb.ext.server.projeto.ProjetoRepository;
 import br.edu.utfpr.pb.ext.server.usuario.Usuario;
-import java.util.Collections;
-import java.util.List;
-import java.util.Optional;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -16,9 +12,12 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
 
 @ExtendWith(MockitoExtension.class)
 class SecurityServiceTest {
@@ -54,18 +53,11 @@ class SecurityServiceTest {
     Usuario usuarioLogado = new Usuario();
     usuarioLogado.setId(10L);
 
-    Usuario outroMembro = new Usuario();
-    outroMembro.setId(20L);
-
-    Projeto projeto = new Projeto();
-    projeto.setId(1L);
-    projeto.setEquipeExecutora(List.of(usuarioLogado, outroMembro));
-
     // 2. Simula o usuário logado no SecurityContextHolder
     when(authentication.getPrincipal()).thenReturn(usuarioLogado);
 
-    // 3. Simula a busca do projeto no repositório
-    when(projetoRepository.findById(1L)).thenReturn(Optional.of(projeto));
+    // 3. Simula a consulta de pertinência à equipe
+    when(projetoRepository.existsMembroEquipe(1L, 10L)).thenReturn(true);
 
     // Act (Ação)
     boolean temPermissao = securityService.podeEditarProjeto(1L);
@@ -82,20 +74,12 @@ class SecurityServiceTest {
     Usuario usuarioNaoAutorizado = new Usuario();
     usuarioNaoAutorizado.setId(99L); // ID que não está na equipe
 
-    Usuario membroDaEquipe1 = new Usuario();
-    membroDaEquipe1.setId(10L);
-    Usuario membroDaEquipe2 = new Usuario();
-    membroDaEquipe2.setId(20L);
-
-    Projeto projeto = new Projeto();
-    projeto.setId(1L);
-    projeto.setEquipeExecutora(List.of(membroDaEquipe1, membroDaEquipe2));
-
     // 2. Simula o usuário NÃO AUTORIZADO como logado
     when(authentication.getPrincipal()).thenReturn(usuarioNaoAutorizado);
 
-    // 3. Simula a busca do projeto no repositório
-    when(projetoRepository.findById(1L)).thenReturn(Optional.of(projeto));
+    // 3. Simula o projeto existente sem o usuário na equipe
+    when(projetoRepository.existsMembroEquipe(1L, 99L)).thenReturn(false);
+    when(projetoRepository.existsById(1L)).thenReturn(true);
 
     // Act
     boolean temPermissao = securityService.podeEditarProjeto(1L);
@@ -115,7 +99,8 @@ class SecurityServiceTest {
     when(authentication.getPrincipal()).thenReturn(usuarioQualquer);
 
     // Simula o repositório NÃO encontrando o projeto
-    when(projetoRepository.findById(99L)).thenReturn(Optional.empty());
+    when(projetoRepository.existsMembroEquipe(99L, 1L)).thenReturn(false);
+    when(projetoRepository.existsById(99L)).thenReturn(false);
 
     // Act & Assert
     // Verifica se a chamada  lança a exceção esperada
@@ -129,19 +114,16 @@ class SecurityServiceTest {
   @Test
   void podeEditarProjeto_quandoEquipeExecutoraEstaVazia_deveRetornarFalse() {
     // Arrange
-    // 1. Cria um usuário e um projeto com equipe vazia
+    // 1. Cria um usuário; o projeto existe, mas nenhuma linha da equipe o referencia
     Usuario usuarioLogado = new Usuario();
     usuarioLogado.setId(10L);
 
-    Projeto projetoComEquipeVazia = new Projeto();
-    projetoComEquipeVazia.setId(1L);
-    projetoComEquipeVazia.setEquipeExecutora(Collections.emptyList()); // Equipe vazia
-
     // 2. Simula o usuário logado
     when(authentication.getPrincipal()).thenReturn(usuarioLogado);
 
-    // 3. Simula a busca do projeto
-    when(projetoRepository.findById(1L)).thenReturn(Optional.of(projetoComEquipeVazia));
+    // 3. Simula as consultas do projeto com equipe vazia
+    when(projetoRepository.existsMembroEquipe(1L, 10L)).thenReturn(false);
+    when(projetoRepository.existsById(1L)).thenReturn(true);
 
     // Act
     boolean temPermissao = securityService.podeEditarProjeto(1L);
@@ -149,4 +131,30 @@ class SecurityServiceTest {
     // Assert
     assertFalse(temPermissao);
   }
+
+  /** Testa se a decisão é reaproveitada nas verificações seguintes da mesma requisição. */
+  @Test
+  void podeEditarProjeto_quandoVerificadoDuasVezesNaRequisicao_deveConsultarUmaVez() {
+    // Arrange
+    Usuario usuarioLogado = new Usuario();
+    usuarioLogado.setId(10L);
+    when(authentication.getPrincipal()).thenReturn(usuarioLogado);
+    when(projetoRepository.existsMembroEquipe(1L, 10L)).thenReturn(true);
+    RequestContextHolder.setRequestAttributes(
+        new ServletRequestAttributes(new MockHttpServletRequest()));
+
+    try {
+      // Act
+      boolean primeira = securityService.podeEditarProjeto(1L);
+      boolean segunda = securityService.podeEditarProjeto(1L);
+
+      // Assert
+      assertTrue(primeira);
+      assertTrue(segunda);
+      verify(projetoRepository, times(1)).existsMembroEquipe(1L, 10L);
+      verifyNoMoreInteractions(projetoRepository);
+    } finally {
+      RequestContextHolder.resetRequestAttributes();
+    }
+  }
 }
@@ -0,0 +1,70 @@
+package br.edu.utfpr.pb.ext.server.usuario;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class UsuarioCacheTest {
+
+  private static final String EMAIL = "servidor@utfpr.edu.br";
+
+  @Mock private UsuarioRepository usuarioRepository;
+
+  private UsuarioCache usuarioCache;
+
+  @BeforeEach
+  void setUp() {
+    usuarioCache =
+        new UsuarioCache(usuarioRepository, 100, Duration.ofMinutes(5), new SimpleMeterRegistry());
+  }
+
+  @Test
+  void findByEmail_quandoChamadoRepetidamente_deveConsultarRepositorioUmaVez() {
+    Usuario usuario = Usuario.builder().id(1L).email(EMAIL).build();
+    when(usuarioRepository.findByEmail(EMAIL)).thenReturn(Optional.of(usuario));
+
+    assertSame(usuario, usuarioCache.findByEmail(EMAIL).orElseThrow());
+    assertSame(usuario, usuarioCache.findByEmail(EMAIL).orElseThrow());
+
+    verify(usuarioRepository, times(1)).findByEmail(EMAIL);
+  }
+
+  @Test
+  void findByEmail_quandoUsuarioNaoExiste_naoDeveArmazenarAusencia() {
+    when(usuarioRepository.findByEmail(EMAIL)).thenReturn(Optional.empty());
+
+    assertTrue(usuarioCache.findByEmail(EMAIL).isEmpty());
+    assertTrue(usuarioCache.findByEmail(EMAIL).isEmpty());
+
+    verify(usuarioRepository, times(2)).findByEmail(EMAIL);
+  }
+
+  @Test
+  void invalidate_quandoUsuarioAlterado_deveRecarregarDoRepositorio() {
+    Usuario antigo = Usuario.builder().id(1L).email(EMAIL).nome("Antigo").build();
+    Usuario atual = Usuario.builder().id(1L).email(EMAIL).nome("Atual").build();
+    when(usuarioRepository.findByEmail(EMAIL))
+        .thenReturn(Optional.of(antigo))
+        .thenReturn(Optional.of(atual));
+
+    usuarioCache.findByEmail(EMAIL);
+    usuarioCache.invalidate(EMAIL);
+
+    assertEquals("Atual", usuarioCache.findByEmail(EMAIL).orElseThrow().getNome());
+  }
+
+  @Test
+  void findByEmail_quandoEmailNulo_deveRetornarVazioSemConsultar() {
+    assertTrue(usuarioCache.findByEmail(null).isEmpty());
+    verifyNoInteractions(usuarioRepository);
+  }
+}
@@ -27,6 +27,8 @@ class UsuarioControllerTest {
 
   @Autowired private UsuarioRepository usuarioRepository;
 
+  @Autowired private UsuarioCache usuarioCache;
+
   @BeforeEach
   void cleanUp() {
     usuarioRepository.deleteAll();
@@ -338,6 +340,49 @@ class UsuarioControllerTest {
     assertEquals(1L, response.getBody().getDepartamentoId());
   }
 
+  @Test
+  void updateMeuPerfil_whenProfileIsUpdated_nextRequestsSeeUpdatedUser() {
+    UsuarioServidorRequestDTO createRequest = createUsuarioServidorRequestDTO();
+    ResponseEntity<RespostaLoginDTO> loginResponse =
+        testRestTemplate.postForEntity(API_USERS, createRequest, RespostaLoginDTO.class);
+
+    String token = loginResponse.getBody().getToken();
+
+    testRestTemplate
+        .getRestTemplate()
+        .getInterceptors()
+        .add(
+            (httpRequest, bytes, execution) -> {
+              httpRequest.getHeaders().add("Authorization", "Bearer " + token);
+              return execution.execute(httpRequest, bytes);
+            });
+
+    UsuarioLogadoInfoDTO updateRequest =
+        testRestTemplate
+            .getForEntity("/api/usuarios/meu-perfil", UsuarioLogadoInfoDTO.class)
+            .getBody();
+    Usuario emCache = usuarioCache.findByEmail(createRequest.getEmail()).orElseThrow();
+    assertEquals(createRequest.getNome(), emCache.getNome());
+    updateRequest.setNome("Nome Atualizado");
+
+    testRestTemplate.exchange(
+        "/api/usuarios/meu-perfil",
+        org.springframework.http.HttpMethod.PUT,
+        new org.springframework.http.HttpEntity<>(updateRequest),
+        UsuarioLogadoInfoDTO.class);
+
+    ResponseEntity<UsuarioLogadoInfoDTO> response =
+        testRestTemplate.getForEntity("/api/usuarios/meu-perfil", UsuarioLogadoInfoDTO.class);
+
+    assertEquals(200, response.getStatusCode().value());
+    assertEquals("Nome Atualizado", response.getBody().getNome());
+    assertEquals(
+        "Nome Atualizado",
+        usuarioCache.findByEmail(createRequest.getEmail()).orElseThrow().getNome());
+    // a instância compartilhada pelo cache não é alterada pela atualização
+    assertEquals(createRequest.getNome(), emCache.getNome());
+  }
+
   @Test
   void updateMeuPerfil_whenUserIsUnauthenticated_receiveForbidden() {
     testRestTemplate.getRestTemplate().getInterceptors().clear();
@@ -5,7 +5,9 @@ import static org.mockito.Mockito.*;
 
 import br.edu.utfpr.pb.ext.server.usuario.authority.Authority;
 import java.util.HashSet;
+import java.util.Optional;
 import java.util.Set;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -13,6 +15,7 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockedStatic;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -26,6 +29,12 @@ class UsuarioServiceImplTest {
 
   @Mock private Usuario usuario;
 
+  @Mock private UsuarioRepository usuarioRepository;
+
+  @Mock private VersaoSegurancaCache versaoSegurancaCache;
+
+  @Mock private UsuarioCache usuarioCache;
+
   @InjectMocks private UsuarioServiceImpl usuarioService;
 
   @BeforeEach
@@ -33,6 +42,11 @@ class UsuarioServiceImplTest {
     SecurityContextHolder.clearContext();
   }
 
+  @AfterEach
+  void tearDown() {
+    SecurityContextHolder.clearContext();
+  }
+
   @Test
   void obterUsuarioLogado_QuandoAuthenticationNull_DeveLancarIllegalStateException() {
     try (MockedStatic<SecurityContextHolder> mocked = mockStatic(SecurityContextHolder.class)) {
@@ -85,6 +99,32 @@ class UsuarioServiceImplTest {
     }
   }
 
+  @Test
+  void obterUsuarioLogado_QuandoPrincipalResumido_DeveCarregarUsuarioCompletoUmaVez() {
+    Usuario resumido = Usuario.builder().id(7L).resumido(true).build();
+    Usuario completo =
+        Usuario.builder().id(7L).cpf("12345678909").authorities(new HashSet<>()).build();
+    SecurityContextHolder.getContext()
+        .setAuthentication(
+            new UsernamePasswordAuthenticationToken(resumido, null, new HashSet<Authority>()));
+    when(usuarioRepository.findById(7L)).thenReturn(Optional.of(completo));
+
+    assertSame(completo, usuarioService.obterUsuarioLogado());
+    assertSame(completo, usuarioService.obterUsuarioLogado());
+    verify(usuarioRepository, times(1)).findById(7L);
+  }
+
+  @Test
+  void save_QuandoUsuarioExistente_DeveIncrementarVersaoSeguranca() {
+    Usuario existente = Usuario.builder().id(3L).versaoSeguranca(4L).build();
+    when(usuarioRepository.save(existente)).thenReturn(existente);
+
+    usuarioService.save(existente);
+
+    assertEquals(5L, existente.getVersaoSeguranca());
+    verify(versaoSegurancaCache).atualizar(3L, 5L);
+  }
+
   @Test
   void validarProfessor_QuandoProfessorSemRoleServidor_DeveLancarIllegalArgumentException() {
     Set<Authority> auths = new HashSet<>();